@@ -11,8 +11,11 @@
 package de.topicmapslab.tmql4j.components.interpreter;
 
 import java.lang.reflect.ParameterizedType;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.tmapi.core.TopicMap;
 
@@ -47,6 +50,11 @@ import de.topicmapslab.tmql4j.grammar.productions.IExpression;
  */
 public abstract class ExpressionInterpreterImpl<T extends IExpression> implements IExpressionInterpreter<T> {
 
+	/**
+	 * cache of the expression types of all interpreter classes
+	 */
+	private static final Map<Class<?>, Class<?>> expressionTypes = new ConcurrentHashMap<Class<?>, Class<?>>();
+
 	/**
 	 * the internal expression
 	 */
@@ -55,6 +63,14 @@ public abstract class ExpressionInterpreterImpl<T extends IExpression> implement
 	 * the type specified by type parameter T
 	 */
 	private final Class<T> clazz;
+	/**
+	 * the interpreters of all sub-expressions, created at the first call
+	 */
+	private volatile List<IExpressionInterpreter<?>> interpreters;
+	/**
+	 * the interpreters of the sub-expressions filtered by their type
+	 */
+	private final Map<Class<?>, List<?>> filteredInterpreters = new ConcurrentHashMap<Class<?>, List<?>>();
 
 	/**
 	 * base constructor to create a new instance.
@@ -66,14 +82,18 @@ public abstract class ExpressionInterpreterImpl<T extends IExpression> implement
 	public ExpressionInterpreterImpl(T ex) {
 		this.ex = ex;
 		/*
-		 * extract type information
+		 * extract type information only once per interpreter class
 		 */
-		Class<?> cla = getClass();
-		while (!(cla.getGenericSuperclass() instanceof ParameterizedType)) {
-			cla = cla.getSuperclass();
+		Class<?> type = expressionTypes.get(getClass());
+		if (type == null) {
+			Class<?> cla = getClass();
+			while (!(cla.getGenericSuperclass() instanceof ParameterizedType)) {
+				cla = cla.getSuperclass();
+			}
+			type = (Class<?>) ((ParameterizedType) cla.getGenericSuperclass()).getActualTypeArguments()[0];
+			expressionTypes.put(getClass(), type);
 		}
-
-		this.clazz = (Class<T>) ((ParameterizedType) cla.getGenericSuperclass()).getActualTypeArguments()[0];
+		this.clazz = (Class<T>) type;
 	}
 
 	/**
@@ -85,41 +105,48 @@ public abstract class ExpressionInterpreterImpl<T extends IExpression> implement
 
 	/**
 	 * {@inheritDoc}
+	 * <p>
+	 * The interpreters are bound to the sub-expressions of the parser tree and
+	 * created only once.
+	 * </p>
 	 */
 	public List<IExpressionInterpreter<?>> getInterpreters(final ITMQLRuntime runtime) throws TMQLRuntimeException {
-		/*
-		 * temporary list of results
-		 */
-		List<IExpressionInterpreter<?>> interpreters = new LinkedList<IExpressionInterpreter<?>>();
-		/*
-		 * iterate over expressions
-		 */
-		for (IExpression expression : ex.getExpressions()) {
+		List<IExpressionInterpreter<?>> interpreters = this.interpreters;
+		if (interpreters == null) {
+			List<IExpressionInterpreter<?>> list = new ArrayList<IExpressionInterpreter<?>>(ex.getExpressions().size());
 			/*
-			 * create new interpreter instance
+			 * iterate over expressions
 			 */
-			interpreters.add(runtime.getLanguageContext().getInterpreterRegistry().interpreterInstance(expression));
+			for (IExpression expression : ex.getExpressions()) {
+				list.add(expression.getInterpreter(runtime));
+			}
+			interpreters = Collections.unmodifiableList(list);
+			this.interpreters = interpreters;
 		}
 		return interpreters;
 	}
 
 	/**
 	 * {@inheritDoc}
+	 * <p>
+	 * The interpreters are bound to the sub-expressions of the parser tree and
+	 * created only once.
+	 * </p>
 	 */
 	@SuppressWarnings("unchecked")
 	public <E extends IExpression> List<IExpressionInterpreter<E>> getInterpretersFilteredByEypressionType(final ITMQLRuntime runtime, Class<E> type) throws TMQLRuntimeException {
-		/*
-		 * temporary list of results
-		 */
-		List<IExpressionInterpreter<E>> interpreters = new LinkedList<IExpressionInterpreter<E>>();
-		/*
-		 * iterate over expressions
-		 */
-		for (IExpression expression : ex.getExpressionFilteredByType(type)) {
+		List<IExpressionInterpreter<E>> interpreters = (List<IExpressionInterpreter<E>>) filteredInterpreters.get(type);
+		if (interpreters == null) {
+			List<E> expressions = ex.getExpressionFilteredByType(type);
+			List<IExpressionInterpreter<E>> list = new ArrayList<IExpressionInterpreter<E>>(expressions.size());
 			/*
-			 * create new interpreter instance
+			 * iterate over expressions
 			 */
-			interpreters.add((IExpressionInterpreter<E>) runtime.getLanguageContext().getInterpreterRegistry().interpreterInstance(expression));
+			for (IExpression expression : expressions) {
+				list.add((IExpressionInterpreter<E>) expression.getInterpreter(runtime));
+			}
+			interpreters = Collections.unmodifiableList(list);
+			filteredInterpreters.put(type, interpreters);
 		}
 		return interpreters;
 	}
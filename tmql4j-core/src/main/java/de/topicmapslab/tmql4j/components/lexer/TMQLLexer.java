@@ -10,11 +10,12 @@
  */
 package de.topicmapslab.tmql4j.components.lexer;
 
+import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 
 import de.topicmapslab.tmql4j.components.processor.runtime.ITMQLRuntime;
+import de.topicmapslab.tmql4j.components.processor.runtime.module.model.ITokenRegistry;
 import de.topicmapslab.tmql4j.exception.TMQLLexerException;
 import de.topicmapslab.tmql4j.grammar.lexical.IToken;
 import de.topicmapslab.tmql4j.query.IQuery;
@@ -31,11 +32,11 @@ public class TMQLLexer implements ILexer {
 	/**
 	 * the list of interpreted tokens
 	 */
-	private List<Class<? extends IToken>> tmqlTokens = new LinkedList<Class<? extends IToken>>();
+	private List<Class<? extends IToken>> tmqlTokens = new ArrayList<Class<? extends IToken>>();
 	/**
 	 * the list of string-represented tokens
 	 */
-	private List<String> tokens = new LinkedList<String>();
+	private List<String> tokens = new ArrayList<String>();
 	/**
 	 * the query to scan
 	 */
@@ -97,15 +98,14 @@ public class TMQLLexer implements ILexer {
 			 * tokens
 			 */
 			TMQLTokenizer tokenizer = new TMQLTokenizer(query.getQueryString());
+			ITokenRegistry registry = runtime.getLanguageContext().getTokenRegistry();
 			/*
 			 * iterate over all tokens and try to identify the language-specific
 			 * token
 			 */
 			while (tokenizer.hasMoreTokens()) {
 				String token = tokenizer.nextToken();
-				Class<? extends IToken> tmql = runtime.getLanguageContext()
-						.getTokenRegistry().getTokenClassByLiteral(token);
-				tmqlTokens.add(tmql);
+				tmqlTokens.add(registry.getTokenClassByLiteral(token));
 				tokens.add(token);
 			}
 		} catch (Exception ex) {
@@ -10,8 +10,8 @@
  */
 package de.topicmapslab.tmql4j.components.lexer;
 
+import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
@@ -80,7 +80,7 @@ public class TMQLTokenizer {
 	 */
 	public TMQLTokenizer(String origin) {
 		this.origin = origin;
-		this.tokens = new LinkedList<String>();
+		this.tokens = new ArrayList<String>();
 
 		/*
 		 * call method to tokenize
@@ -124,9 +124,9 @@ public class TMQLTokenizer {
 			 * whitespace and not protected
 			 */
 			if (c == ' ' && !isProtected) {
-				if (!buffer.toString().isEmpty()) {
+				if (buffer.length() != 0) {
 					tokens.add(buffer.toString().trim());
-					buffer = new StringBuilder();
+					buffer.setLength(0);
 				}
 				continue;
 			}
@@ -153,11 +153,10 @@ public class TMQLTokenizer {
 				throw new TMQLLexerException("Invalid character sequence at position '" + index + "'. Expected '\"' or '\\' but '" + next + "' was found!");
 			}
 			buffer.append(c);
-			String currentPattern = buffer.toString();
 			/*
 			 * is end of protection
 			 */
-			if (isProtected && currentPattern.endsWith(protectionPattern)) {
+			if (isProtected && endsWith(buffer, protectionPattern)) {
 				/*
 				 * special handling for XML end
 				 */
@@ -195,7 +194,7 @@ public class TMQLTokenizer {
 				}
 				if (buffer.length() != 0) {
 					tokens.add(buffer.toString().trim());
-					buffer = new StringBuilder();
+					buffer.setLength(0);
 				}
 				isProtected = false;
 				continue;
@@ -203,13 +202,13 @@ public class TMQLTokenizer {
 			/*
 			 * is single quoted string
 			 */
-			if (currentPattern.endsWith("'''")) {
+			if (endsWith(buffer, "'''")) {
 				String content = buffer.toString().trim();
 				if (content.length() > 3) {
 					tokens.add(content.substring(0, content.length() - 3));
 				}
 				tokens.add("'''");
-				buffer = new StringBuilder();
+				buffer.setLength(0);
 			}
 			/*
 			 * beginning of new protection?
@@ -218,14 +217,14 @@ public class TMQLTokenizer {
 				/*
 				 * is triple quoted string
 				 */
-				if ("\"\"\"".equalsIgnoreCase(currentPattern)) {
+				if (equals(buffer, "\"\"\"")) {
 					protectionPattern = "\"\"\"";
 					isProtected = true;
 				}
 				/*
 				 * could be XML
 				 */
-				else if ("<".equalsIgnoreCase(currentPattern)) {
+				else if (equals(buffer, "<")) {
 					/*
 					 * is XML if next char is not <
 					 */
@@ -237,11 +236,11 @@ public class TMQLTokenizer {
 				/*
 				 * could be simple double quote string
 				 */
-				else if ("\"".equalsIgnoreCase(currentPattern)) {
+				else if (equals(buffer, "\"")) {
 					/*
 					 * is XML if next char is not "
 					 */
-					if (origin.length() > index + 1 && !"\"".equalsIgnoreCase(String.valueOf(origin.charAt(index + 1)))) {
+					if (origin.length() > index + 1 && origin.charAt(index + 1) != '"') {
 						isProtected = true;
 						protectionPattern = "\"";
 					}
@@ -249,11 +248,11 @@ public class TMQLTokenizer {
 				/*
 				 * could be simple single quote string
 				 */
-				else if ("'".equalsIgnoreCase(currentPattern)) {
+				else if (equals(buffer, "'")) {
 					/*
 					 * is string if next char is not ' ( CTM token: ''' )
 					 */
-					if (origin.length() > index + 1 && !"'".equalsIgnoreCase(String.valueOf(origin.charAt(index + 1)))) {
+					if (origin.length() > index + 1 && origin.charAt(index + 1) != '\'') {
 						isProtected = true;
 						protectionPattern = "'";
 					}
@@ -263,9 +262,45 @@ public class TMQLTokenizer {
 		/*
 		 * add last string
 		 */
-		if (buffer.toString().length() != 0) {
+		if (buffer.length() != 0) {
 			tokens.add(buffer.toString().trim());
 		}
 	}
 
+	/**
+	 * Checks if the buffer ends with the given pattern without creating a
+	 * string of the whole buffer
+	 * 
+	 * @param buffer
+	 *            the buffer
+	 * @param pattern
+	 *            the pattern
+	 * @return <code>true</code> if the buffer ends with the pattern
+	 */
+	private static boolean endsWith(final StringBuilder buffer, final String pattern) {
+		int offset = buffer.length() - pattern.length();
+		if (offset < 0) {
+			return false;
+		}
+		for (int i = 0; i < pattern.length(); i++) {
+			if (buffer.charAt(offset + i) != pattern.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks if the buffer contains exactly the given pattern
+	 * 
+	 * @param buffer
+	 *            the buffer
+	 * @param pattern
+	 *            the pattern
+	 * @return <code>true</code> if the buffer is equal to the pattern
+	 */
+	private static boolean equals(final StringBuilder buffer, final String pattern) {
+		return buffer.length() == pattern.length() && endsWith(buffer, pattern);
+	}
+
 }
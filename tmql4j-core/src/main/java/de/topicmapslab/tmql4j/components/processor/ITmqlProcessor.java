@@ -14,6 +14,7 @@ import de.topicmapslab.tmql4j.components.lexer.ILexer;
 import de.topicmapslab.tmql4j.components.parser.IParser;
 import de.topicmapslab.tmql4j.components.parser.IParserTree;
 import de.topicmapslab.tmql4j.components.processor.prepared.IPreparedStatement;
+import de.topicmapslab.tmql4j.components.processor.results.model.IResultCursor;
 import de.topicmapslab.tmql4j.components.processor.results.model.IResultProcessor;
 import de.topicmapslab.tmql4j.components.processor.results.model.IResultSet;
 import de.topicmapslab.tmql4j.query.IQuery;
@@ -44,6 +45,40 @@ public interface ITmqlProcessor {
 	 */
 	public IResultSet<?> query(IQuery query, OutputStream stream);
 
+	/**
+	 * Executes the querying process for the given query object using the
+	 * given parser tree of the query
+	 * 
+	 * @param query
+	 *            the query
+	 * @param tree
+	 *            the parser tree of the query
+	 * @param stream
+	 *            the stream or <code>null</code>
+	 * @return the results of querying process
+	 * @since 3.2.0
+	 */
+	public IResultSet<?> query(IQuery query, IParserTree tree, OutputStream stream);
+
+	/**
+	 * Starts the querying process for the given query object using the given
+	 * parser tree of the query and returns a cursor over the results. The
+	 * results are produced in the background while the cursor is read. The
+	 * cursor has to be closed if it is not read until the end, otherwise the
+	 * background evaluation is only abandoned after the timeout of the
+	 * cursor.
+	 * 
+	 * @param query
+	 *            the query
+	 * @param tree
+	 *            the parser tree of the query
+	 * @param prefetch
+	 *            the maximum number of results produced in advance
+	 * @return the cursor
+	 * @since 3.2.0
+	 */
+	public IResultCursor cursor(IQuery query, IParserTree tree, int prefetch);
+
 	/**
 	 * Executes the querying process for the given statement object
 	 * 
@@ -90,12 +125,28 @@ public interface ITmqlProcessor {
 	public IParser getTmqlParser(ILexer lexer);
 
 	/**
-	 * Returns the result processor instance for the current TMQL processor
+	 * Fails because the TMQL processor has no result processor. Each query
+	 * execution uses its own result processor, which holds its results and
+	 * aliases.
 	 * 
-	 * @param query
-	 *            the query
-	 * @return the result processor
+	 * @return nothing, the method always fails
+	 * @throws IllegalStateException
+	 *             always thrown
+	 * @deprecated the result processor is bound to the query execution, use
+	 *             {@link de.topicmapslab.tmql4j.components.processor.core.IContext#getResultProcessor()} or
+	 *             {@link #createResultProcessor()} instead
 	 */
+	@Deprecated
 	public IResultProcessor getResultProcessor();
 
+	/**
+	 * Creates a new result processor instance for one query execution. Each
+	 * execution gets its own result processor, so one TMQL processor can
+	 * execute multiple queries concurrently.
+	 * 
+	 * @return the new result processor
+	 * @since 3.2.0
+	 */
+	public IResultProcessor createResultProcessor();
+
 }
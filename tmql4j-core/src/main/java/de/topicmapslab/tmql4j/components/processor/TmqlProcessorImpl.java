@@ -18,7 +18,9 @@ import de.topicmapslab.tmql4j.components.processor.core.Context;
 import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.components.processor.core.QueryMatches;
 import de.topicmapslab.tmql4j.components.processor.prepared.IPreparedStatement;
+import de.topicmapslab.tmql4j.components.processor.results.ResultCursor;
 import de.topicmapslab.tmql4j.components.processor.results.TmqlResultProcessor;
+import de.topicmapslab.tmql4j.components.processor.results.model.IResultCursor;
 import de.topicmapslab.tmql4j.components.processor.results.model.IResultProcessor;
 import de.topicmapslab.tmql4j.components.processor.results.model.IResultSet;
 import de.topicmapslab.tmql4j.components.processor.results.model.ResultSet;
@@ -36,8 +38,11 @@ public abstract class TmqlProcessorImpl implements ITmqlProcessor {
 	 * exception message
 	 */
 	private static final String ERROR_CANNOT_CREATE_NET_INSTANCE_OF_PREPARED_STATEMENT = "Cannot create net instance of prepared statement";
+	/**
+	 * exception message
+	 */
+	private static final String ERROR_RESULT_PROCESSOR_BOUND_TO_EXECUTION = "The result processor is bound to the query execution, use IContext.getResultProcessor() instead";
 	private final ITMQLRuntime runtime;
-	private IResultProcessor tmqlResultProcessor;
 
 	/**
 	 * constructor
@@ -56,14 +61,7 @@ public abstract class TmqlProcessorImpl implements ITmqlProcessor {
 	public IResultSet<?> query(IQuery query, OutputStream stream) {
 		IParserTree tree = parse(query);
 		if (tree != null) {
-			IContext context = new Context(this, query, stream);
-
-			QueryMatches results = tree.root().interpret(runtime, context);
-
-			IResultProcessor resultProcessor = getResultProcessor();
-			resultProcessor.proceed(context, results);
-
-			return resultProcessor.getResultSet();
+			return query(query, tree, stream);
 		}
 		return ResultSet.emptyResultSet();
 	}
@@ -73,18 +71,36 @@ public abstract class TmqlProcessorImpl implements ITmqlProcessor {
 	 */
 	@Override
 	public IResultSet<?> query(IQuery query) {
-		IParserTree tree = parse(query);
-		if (tree != null) {
-			IContext context = new Context(this, query);
+		return query(query, (OutputStream) null);
+	}
 
-			QueryMatches results = tree.root().interpret(runtime, context);
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public IResultSet<?> query(IQuery query, IParserTree tree, OutputStream stream) {
+		IResultProcessor resultProcessor = createResultProcessor();
+		IContext context = new Context(this, query, stream, resultProcessor);
 
-			IResultProcessor resultProcessor = getResultProcessor();
-			resultProcessor.proceed(context, results);
+		QueryMatches results = tree.root().interpret(runtime, context);
 
-			return resultProcessor.getResultSet();
-		}
-		return ResultSet.emptyResultSet();
+		resultProcessor.proceed(context, results);
+
+		return resultProcessor.getResultSet();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The evaluation runs in a background thread of the returned cursor. The
+	 * caller has to close the cursor if it is not read until the end, an
+	 * unclosed cursor stops its thread only after
+	 * {@link ResultCursor#DEFAULT_TIMEOUT} without reading.
+	 * </p>
+	 */
+	@Override
+	public IResultCursor cursor(IQuery query, IParserTree tree, int prefetch) {
+		return new ResultCursor(runtime, this, query, tree, prefetch).open();
 	}
 
 	/**
@@ -95,7 +111,8 @@ public abstract class TmqlProcessorImpl implements ITmqlProcessor {
 		/*
 		 * create context
 		 */
-		IContext context = new Context(this, statement);
+		IResultProcessor resultProcessor = createResultProcessor();
+		IContext context = new Context(this, statement, null, resultProcessor);
 		/*
 		 * execute query
 		 */
@@ -103,7 +120,6 @@ public abstract class TmqlProcessorImpl implements ITmqlProcessor {
 		/*
 		 * proceed results
 		 */
-		IResultProcessor resultProcessor = getResultProcessor();
 		resultProcessor.proceed(context, results);
 		/*
 		 * set results to statement and return it
@@ -170,22 +186,19 @@ public abstract class TmqlProcessorImpl implements ITmqlProcessor {
 	}
 
 	/**
-	 * Creates a new result processor
-	 * 
-	 * @return the new result processor
+	 * {@inheritDoc}
 	 */
-	protected IResultProcessor createResultProcessor() {
+	@Override
+	public IResultProcessor createResultProcessor() {
 		return new TmqlResultProcessor(runtime);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
+	@Deprecated
 	@Override
 	public IResultProcessor getResultProcessor() {
-		if (tmqlResultProcessor == null) {
-			tmqlResultProcessor = createResultProcessor();
-		}
-		return tmqlResultProcessor;
+		throw new IllegalStateException(ERROR_RESULT_PROCESSOR_BOUND_TO_EXECUTION);
 	}
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.components.processor.core;
+
+import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
+
+/**
+ * The aggregations of the aggregate functions. Each aggregation creates an
+ * {@link IAggregator} consuming the values incrementally.
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ * @since 3.2.0
+ */
+public enum Aggregation {
+
+	/**
+	 * the lowest value
+	 */
+	MIN {
+		/**
+		 * {@inheritDoc}
+		 */
+		public IAggregator createAggregator() {
+			return new ExtremumAggregator(false);
+		}
+	},
+
+	/**
+	 * the greatest value
+	 */
+	MAX {
+		/**
+		 * {@inheritDoc}
+		 */
+		public IAggregator createAggregator() {
+			return new ExtremumAggregator(true);
+		}
+	};
+
+	/**
+	 * exception messages
+	 */
+	private static final String NOT_COMPARABLE = "The values cannot be compared";
+
+	/**
+	 * Creates a new aggregation state
+	 *
+	 * @return the aggregator
+	 */
+	public abstract IAggregator createAggregator();
+
+	/**
+	 * Aggregator keeping the lowest or greatest value by their natural order.
+	 * Like a stable sorting, the first of equal lowest values respectively the
+	 * last of equal greatest values is kept.
+	 */
+	private static class ExtremumAggregator implements IAggregator {
+
+		/**
+		 * flag indicates if the greatest value is kept
+		 */
+		private final boolean greatest;
+		/**
+		 * the current lowest or greatest value
+		 */
+		private Object current;
+
+		/**
+		 * constructor
+		 *
+		 * @param greatest
+		 *            <code>true</code> to keep the greatest value,
+		 *            <code>false</code> to keep the lowest value
+		 */
+		private ExtremumAggregator(boolean greatest) {
+			this.greatest = greatest;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		public void add(Object value) throws TMQLRuntimeException {
+			if (current == null) {
+				current = value;
+			} else if (current instanceof Comparable<?> && value instanceof Comparable<?>) {
+				int compare = ((Comparable) value).compareTo(current);
+				if (greatest ? compare >= 0 : compare < 0) {
+					current = value;
+				}
+			} else {
+				throw new TMQLRuntimeException(NOT_COMPARABLE);
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public Object getResult() {
+			return current;
+		}
+	}
+}
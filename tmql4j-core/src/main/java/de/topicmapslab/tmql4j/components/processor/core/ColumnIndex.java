@@ -0,0 +1,107 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.components.processor.core;
+
+import java.util.Map;
+import java.util.Set;
+
+import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
+import de.topicmapslab.tmql4j.util.HashUtil;
+
+/**
+ * Hash index of the values bound to the variables of a {@link QueryMatches}
+ * instance. The value set of a variable is created at the first access, so
+ * checking whether a value is bound to a variable costs constant time instead
+ * of a scan of all tuples.
+ * <p>
+ * The index is a snapshot. It does not reflect modifications of the query
+ * matches after the value set of a variable was created.
+ * </p>
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ * @since 3.2.0
+ */
+public class ColumnIndex {
+
+	/**
+	 * the indexed query matches
+	 */
+	private final QueryMatches matches;
+	/**
+	 * the variables of the first tuple
+	 */
+	private Set<String> variables;
+	/**
+	 * the value sets by variable
+	 */
+	private final Map<String, Set<Object>> values = HashUtil.getHashMap();
+
+	/**
+	 * constructor
+	 *
+	 * @param matches
+	 *            the query matches to index
+	 */
+	public ColumnIndex(QueryMatches matches) {
+		this.matches = matches;
+	}
+
+	/**
+	 * Checks if the given variable is bound by the query matches. Like
+	 * {@link QueryMatches#getOrderedKeys()}, only the first tuple is taken
+	 * into account.
+	 *
+	 * @param variable
+	 *            the variable
+	 * @return <code>true</code> if the variable is bound, <code>false</code>
+	 *         otherwise
+	 */
+	public boolean isBound(final String variable) {
+		if (variables == null) {
+			variables = HashUtil.getHashSet(matches.getOrderedKeys());
+		}
+		return variables.contains(variable);
+	}
+
+	/**
+	 * Returns all values bound to the given variable
+	 *
+	 * @param variable
+	 *            the variable
+	 * @return the set of values
+	 * @throws TMQLRuntimeException
+	 *             thrown if the values cannot be extracted
+	 */
+	public Set<Object> getValues(final String variable) throws TMQLRuntimeException {
+		Set<Object> set = values.get(variable);
+		if (set == null) {
+			set = HashUtil.getHashSet(matches.getPossibleValuesForVariable(variable));
+			values.put(variable, set);
+		}
+		return set;
+	}
+
+	/**
+	 * Checks if the given value is bound to the given variable by at least one
+	 * tuple
+	 *
+	 * @param variable
+	 *            the variable
+	 * @param value
+	 *            the value
+	 * @return <code>true</code> if the value is bound to the variable,
+	 *         <code>false</code> otherwise
+	 * @throws TMQLRuntimeException
+	 *             thrown if the values cannot be extracted
+	 */
+	public boolean contains(final String variable, final Object value) throws TMQLRuntimeException {
+		return getValues(variable).contains(value);
+	}
+}
@@ -0,0 +1,799 @@
+/*
+ * TMQL4J - Javabased TMQL Engine
+ *
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.components.processor.core;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import de.topicmapslab.tmql4j.util.HashUtil;
+
+/**
+ * Columnar implementation of a tuple sequence used by {@link QueryMatches}.
+ * Instead of storing each tuple as its own hash map, the store keeps one value
+ * array per variable and a dictionary mapping each variable name to its
+ * column. Tuples are exposed as lightweight row views which implement the
+ * {@link Map} contract by reading from and writing through to the column
+ * arrays.
+ * <p>
+ * Row views are only handles of a row position. Structural modifications like
+ * removing, inserting or sorting tuples move the values behind existing views.
+ * Methods returning removed or replaced tuples therefore return detached
+ * copies.
+ * </p>
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ * @since 3.2.0
+ */
+public class ColumnarTupleStore extends AbstractList<Map<String, Object>> implements RandomAccess {
+
+	/**
+	 * marker of a variable which is not bound by a tuple
+	 */
+	static final Object ABSENT = new Object();
+	/**
+	 * the initial capacity of each column
+	 */
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/**
+	 * the dictionary mapping each variable to its column index
+	 */
+	private final Map<String, Integer> dictionary;
+	/**
+	 * the variable names by column index
+	 */
+	private String[] variables;
+	/**
+	 * the column arrays
+	 */
+	private Object[][] columns;
+	/**
+	 * the number of known columns
+	 */
+	private int columnCount;
+	/**
+	 * the number of tuples
+	 */
+	private int size;
+	/**
+	 * the allocated length of each column
+	 */
+	private int capacity;
+
+	/**
+	 * constructor
+	 */
+	public ColumnarTupleStore() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * constructor
+	 *
+	 * @param initialCapacity
+	 *            the expected number of tuples
+	 */
+	public ColumnarTupleStore(int initialCapacity) {
+		this.dictionary = HashUtil.getHashMap();
+		this.variables = new String[4];
+		this.columns = new Object[4][];
+		this.capacity = Math.max(initialCapacity, 1);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the column index of the given variable
+	 *
+	 * @param variable
+	 *            the variable
+	 * @return the column index or <code>-1</code> if the variable is unknown
+	 */
+	public int columnOf(final String variable) {
+		Integer column = dictionary.get(variable);
+		return column == null ? -1 : column.intValue();
+	}
+
+	/**
+	 * Returns the number of columns
+	 *
+	 * @return the number of columns
+	 */
+	public int getColumnCount() {
+		return columnCount;
+	}
+
+	/**
+	 * Returns the variable of the given column
+	 *
+	 * @param column
+	 *            the column index
+	 * @return the variable name
+	 */
+	public String getVariable(int column) {
+		return variables[column];
+	}
+
+	/**
+	 * Checks if the given tuple binds the given column
+	 *
+	 * @param row
+	 *            the tuple index
+	 * @param column
+	 *            the column index
+	 * @return <code>true</code> if the tuple binds the column,
+	 *         <code>false</code> otherwise
+	 */
+	public boolean isBound(int row, int column) {
+		return column >= 0 && columns[column][row] != ABSENT;
+	}
+
+	/**
+	 * Returns the value of the given tuple and column
+	 *
+	 * @param row
+	 *            the tuple index
+	 * @param column
+	 *            the column index
+	 * @return the value or <code>null</code> if the tuple does not bind the
+	 *         column
+	 */
+	public Object getValue(int row, int column) {
+		if (column < 0) {
+			return null;
+		}
+		Object value = columns[column][row];
+		return value == ABSENT ? null : value;
+	}
+
+	/**
+	 * Returns the value of the given tuple bound to the given variable
+	 *
+	 * @param row
+	 *            the tuple index
+	 * @param variable
+	 *            the variable
+	 * @return the value or <code>null</code>
+	 */
+	public Object getValue(int row, final String variable) {
+		return getValue(row, columnOf(variable));
+	}
+
+	/**
+	 * Returns all values bound to the given variable in tuple order. Tuples not
+	 * binding the variable are skipped.
+	 *
+	 * @param variable
+	 *            the variable
+	 * @return the values
+	 */
+	public List<Object> getColumnValues(final String variable) {
+		int column = columnOf(variable);
+		List<Object> values = HashUtil.getList(column == -1 ? 0 : size);
+		if (column == -1) {
+			return values;
+		}
+		Object[] array = columns[column];
+		for (int row = 0; row < size; row++) {
+			if (array[row] != ABSENT) {
+				values.add(array[row]);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Returns the column index of the variable and creates the column if
+	 * necessary
+	 *
+	 * @param variable
+	 *            the variable
+	 * @return the column index
+	 */
+	private int columnFor(final String variable) {
+		Integer column = dictionary.get(variable);
+		if (column != null) {
+			return column.intValue();
+		}
+		if (columnCount == columns.length) {
+			columns = Arrays.copyOf(columns, columnCount * 2);
+			variables = Arrays.copyOf(variables, columnCount * 2);
+		}
+		Object[] array = new Object[capacity];
+		Arrays.fill(array, ABSENT);
+		columns[columnCount] = array;
+		variables[columnCount] = variable;
+		dictionary.put(variable, columnCount);
+		return columnCount++;
+	}
+
+	/**
+	 * Ensure that each column can store the given number of tuples
+	 *
+	 * @param minCapacity
+	 *            the number of tuples
+	 */
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity <= capacity) {
+			return;
+		}
+		int newCapacity = Math.max(capacity + (capacity >> 1) + 1, minCapacity);
+		for (int column = 0; column < columnCount; column++) {
+			Object[] array = Arrays.copyOf(columns[column], newCapacity);
+			Arrays.fill(array, capacity, newCapacity, ABSENT);
+			columns[column] = array;
+		}
+		capacity = newCapacity;
+	}
+
+	/**
+	 * Writes the values of the given tuple to the given row. The row has to be
+	 * cleared before.
+	 *
+	 * @param row
+	 *            the row index
+	 * @param tuple
+	 *            the tuple
+	 */
+	private void write(int row, Map<String, Object> tuple) {
+		if (tuple instanceof Row && ((Row) tuple).store() == this) {
+			int source = ((Row) tuple).row;
+			for (int column = 0; column < columnCount; column++) {
+				columns[column][row] = columns[column][source];
+			}
+			return;
+		}
+		for (Map.Entry<String, Object> entry : tuple.entrySet()) {
+			columns[columnFor(entry.getKey())][row] = entry.getValue();
+		}
+	}
+
+	/**
+	 * Removes all values of the given row
+	 *
+	 * @param row
+	 *            the row
+	 */
+	private void clearRow(int row) {
+		for (int column = 0; column < columnCount; column++) {
+			columns[column][row] = ABSENT;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean add(Map<String, Object> tuple) {
+		ensureCapacity(size + 1);
+		write(size, tuple);
+		size++;
+		modCount++;
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void add(int index, Map<String, Object> tuple) {
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		if (index == size) {
+			add(tuple);
+			return;
+		}
+		/*
+		 * take a copy first, the tuple may be a view of a shifted row
+		 */
+		Map<String, Object> copy = HashUtil.getHashMap(tuple);
+		ensureCapacity(size + 1);
+		for (int column = 0; column < columnCount; column++) {
+			System.arraycopy(columns[column], index, columns[column], index + 1, size - index);
+		}
+		clearRow(index);
+		write(index, copy);
+		size++;
+		modCount++;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Map<String, Object> get(int index) {
+		rangeCheck(index);
+		return new Row(index);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The previous tuple is returned as detached copy.
+	 * </p>
+	 */
+	public Map<String, Object> set(int index, Map<String, Object> tuple) {
+		rangeCheck(index);
+		Map<String, Object> old = detach(index);
+		Map<String, Object> copy = tuple;
+		if (tuple instanceof Row && ((Row) tuple).store() == this) {
+			copy = detach(((Row) tuple).row);
+		}
+		clearRow(index);
+		write(index, copy);
+		return old;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The removed tuple is returned as detached copy.
+	 * </p>
+	 */
+	public Map<String, Object> remove(int index) {
+		rangeCheck(index);
+		Map<String, Object> old = detach(index);
+		int moved = size - index - 1;
+		for (int column = 0; column < columnCount; column++) {
+			if (moved > 0) {
+				System.arraycopy(columns[column], index + 1, columns[column], index, moved);
+			}
+			columns[column][size - 1] = ABSENT;
+		}
+		size--;
+		modCount++;
+		return old;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void clear() {
+		for (int column = 0; column < columnCount; column++) {
+			Arrays.fill(columns[column], 0, size, ABSENT);
+		}
+		size = 0;
+		modCount++;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean removeAll(Collection<?> c) {
+		return batchRemove(c, false);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean retainAll(Collection<?> c) {
+		return batchRemove(c, true);
+	}
+
+	/**
+	 * Removes all tuples contained (or not contained) by the given collection
+	 * in one compacting pass.
+	 *
+	 * @param c
+	 *            the collection
+	 * @param retain
+	 *            <code>true</code> to keep the contained tuples,
+	 *            <code>false</code> to remove them
+	 * @return <code>true</code> if the store was modified
+	 */
+	private boolean batchRemove(Collection<?> c, boolean retain) {
+		/*
+		 * views of this store are moved by compaction, so they are detached
+		 * before
+		 */
+		Set<Object> lookup = HashUtil.getHashSet();
+		for (Object o : c) {
+			if (o instanceof Row && ((Row) o).store() == this) {
+				lookup.add(detach(((Row) o).row));
+			} else {
+				lookup.add(o);
+			}
+		}
+		int target = 0;
+		for (int row = 0; row < size; row++) {
+			if (lookup.contains(new Row(row)) == retain) {
+				if (target != row) {
+					for (int column = 0; column < columnCount; column++) {
+						columns[column][target] = columns[column][row];
+					}
+				}
+				target++;
+			}
+		}
+		if (target == size) {
+			return false;
+		}
+		for (int column = 0; column < columnCount; column++) {
+			Arrays.fill(columns[column], target, size, ABSENT);
+		}
+		size = target;
+		modCount++;
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The array contains detached copies of the tuples.
+	 * </p>
+	 */
+	public Object[] toArray() {
+		Object[] array = new Object[size];
+		for (int row = 0; row < size; row++) {
+			array[row] = detach(row);
+		}
+		return array;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The array contains detached copies of the tuples.
+	 * </p>
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T[] toArray(T[] a) {
+		T[] array = a.length >= size ? a : (T[]) java.lang.reflect.Array.newInstance(a.getClass().getComponentType(), size);
+		for (int row = 0; row < size; row++) {
+			array[row] = (T) detach(row);
+		}
+		if (array.length > size) {
+			array[size] = null;
+		}
+		return array;
+	}
+
+	/**
+	 * Appends the tuples of the given range of another store by copying the
+	 * column arrays
+	 *
+	 * @param source
+	 *            the source store
+	 * @param from
+	 *            the first tuple index (inclusive)
+	 * @param to
+	 *            the last tuple index (exclusive)
+	 */
+	public void addRange(ColumnarTupleStore source, int from, int to) {
+		int length = to - from;
+		if (length <= 0) {
+			return;
+		}
+		ensureCapacity(size + length);
+		for (int column = 0; column < source.columnCount; column++) {
+			int target = columnFor(source.variables[column]);
+			System.arraycopy(source.columns[column], from, columns[target], size, length);
+		}
+		size += length;
+		modCount++;
+	}
+
+	/**
+	 * Sorts the tuples by the given comparator. Only the row order is
+	 * calculated by comparing row views, the values are moved once afterwards.
+	 *
+	 * @param comparator
+	 *            the comparator
+	 */
+	public void sort(final Comparator<? super Map<String, Object>> comparator) {
+		Integer[] order = new Integer[size];
+		final Row[] rows = new Row[size];
+		for (int row = 0; row < size; row++) {
+			order[row] = row;
+			rows[row] = new Row(row);
+		}
+		Arrays.sort(order, new Comparator<Integer>() {
+			public int compare(Integer o1, Integer o2) {
+				return comparator.compare(rows[o1], rows[o2]);
+			}
+		});
+		permute(order);
+	}
+
+	/**
+	 * Sorts the tuples by the values of the given variable.
+	 *
+	 * @param variable
+	 *            the variable
+	 * @param comparator
+	 *            the comparator of the values, has to handle
+	 *            <code>null</code> values
+	 */
+	public void sortByColumn(final String variable, final Comparator<Object> comparator) {
+		int column = columnOf(variable);
+		Integer[] order = new Integer[size];
+		for (int row = 0; row < size; row++) {
+			order[row] = row;
+		}
+		final Object[] values = new Object[size];
+		for (int row = 0; row < size; row++) {
+			values[row] = getValue(row, column);
+		}
+		Arrays.sort(order, new Comparator<Integer>() {
+			public int compare(Integer o1, Integer o2) {
+				return comparator.compare(values[o1], values[o2]);
+			}
+		});
+		permute(order);
+	}
+
+	/**
+	 * Reorders the tuples of the store by the given index order
+	 *
+	 * @param order
+	 *            the new order of the current row indexes
+	 */
+	private void permute(Integer[] order) {
+		for (int column = 0; column < columnCount; column++) {
+			Object[] source = columns[column];
+			Object[] target = new Object[capacity];
+			for (int row = 0; row < size; row++) {
+				target[row] = source[order[row]];
+			}
+			Arrays.fill(target, size, capacity, ABSENT);
+			columns[column] = target;
+		}
+		modCount++;
+	}
+
+	/**
+	 * Creates a detached copy of the given row
+	 *
+	 * @param row
+	 *            the row
+	 * @return the copy
+	 */
+	private Map<String, Object> detach(int row) {
+		Map<String, Object> copy = HashUtil.getHashMap();
+		for (int column = 0; column < columnCount; column++) {
+			Object value = columns[column][row];
+			if (value != ABSENT) {
+				copy.put(variables[column], value);
+			}
+		}
+		return copy;
+	}
+
+	/**
+	 * Checks the given index
+	 *
+	 * @param index
+	 *            the index
+	 */
+	private void rangeCheck(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	/**
+	 * Lightweight view of one tuple of the store. All read and write
+	 * operations are redirected to the column arrays.
+	 *
+	 * @author Sven Krosse
+	 * @email krosse@informatik.uni-leipzig.de
+	 *
+	 */
+	class Row extends AbstractMap<String, Object> {
+
+		/**
+		 * the row index
+		 */
+		final int row;
+
+		/**
+		 * constructor
+		 *
+		 * @param row
+		 *            the row index
+		 */
+		Row(int row) {
+			this.row = row;
+		}
+
+		/**
+		 * Returns the store of this view
+		 *
+		 * @return the store
+		 */
+		ColumnarTupleStore store() {
+			return ColumnarTupleStore.this;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public Object get(Object key) {
+			if (!(key instanceof String)) {
+				return null;
+			}
+			return getValue(row, columnOf((String) key));
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public boolean containsKey(Object key) {
+			if (!(key instanceof String)) {
+				return false;
+			}
+			return isBound(row, columnOf((String) key));
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public Object put(String key, Object value) {
+			int column = columnFor(key);
+			Object old = columns[column][row];
+			columns[column][row] = value;
+			return old == ABSENT ? null : old;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public Object remove(Object key) {
+			if (!(key instanceof String)) {
+				return null;
+			}
+			int column = columnOf((String) key);
+			if (column == -1) {
+				return null;
+			}
+			Object old = columns[column][row];
+			columns[column][row] = ABSENT;
+			return old == ABSENT ? null : old;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public int size() {
+			int count = 0;
+			for (int column = 0; column < columnCount; column++) {
+				if (columns[column][row] != ABSENT) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public boolean isEmpty() {
+			return size() == 0;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public Set<Map.Entry<String, Object>> entrySet() {
+			return new AbstractSet<Map.Entry<String, Object>>() {
+
+				public Iterator<Map.Entry<String, Object>> iterator() {
+					return new RowIterator(row);
+				}
+
+				public int size() {
+					return Row.this.size();
+				}
+			};
+		}
+	}
+
+	/**
+	 * Iterator over the bound entries of one row
+	 *
+	 * @author Sven Krosse
+	 * @email krosse@informatik.uni-leipzig.de
+	 *
+	 */
+	class RowIterator implements Iterator<Map.Entry<String, Object>> {
+
+		/**
+		 * the row index
+		 */
+		private final int row;
+		/**
+		 * the next column to return
+		 */
+		private int next;
+		/**
+		 * the column returned last
+		 */
+		private int last = -1;
+
+		/**
+		 * constructor
+		 *
+		 * @param row
+		 *            the row index
+		 */
+		RowIterator(int row) {
+			this.row = row;
+			this.next = seek(0);
+		}
+
+		/**
+		 * Returns the next bound column starting at the given one
+		 *
+		 * @param column
+		 *            the column to start with
+		 * @return the next bound column or the column count
+		 */
+		private int seek(int column) {
+			int c = column;
+			while (c < columnCount && columns[c][row] == ABSENT) {
+				c++;
+			}
+			return c;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public boolean hasNext() {
+			return next < columnCount;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public Map.Entry<String, Object> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			last = next;
+			next = seek(next + 1);
+			final int column = last;
+			return new AbstractMap.SimpleEntry<String, Object>(variables[column], columns[column][row]) {
+				private static final long serialVersionUID = 1L;
+
+				public Object setValue(Object value) {
+					columns[column][row] = value;
+					return super.setValue(value);
+				}
+			};
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public void remove() {
+			if (last == -1) {
+				throw new IllegalStateException();
+			}
+			columns[last][row] = ABSENT;
+			last = -1;
+		}
+	}
+}
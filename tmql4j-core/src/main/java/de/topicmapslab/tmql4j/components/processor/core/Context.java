@@ -13,6 +13,10 @@ import java.util.Collections;
 import java.util.Map;
 
 import de.topicmapslab.tmql4j.components.processor.ITmqlProcessor;
+import de.topicmapslab.tmql4j.components.processor.results.model.IResultProcessor;
+import de.topicmapslab.tmql4j.components.processor.results.model.IResultStream;
+import de.topicmapslab.tmql4j.components.processor.runtime.ConstructResolutionCache;
+import de.topicmapslab.tmql4j.components.processor.runtime.TypeHierarchyIndex;
 import de.topicmapslab.tmql4j.query.IQuery;
 import de.topicmapslab.tmql4j.util.HashUtil;
 
@@ -29,10 +33,15 @@ public class Context implements IContext {
 	private Map<String, Object> currentTuple;
 	private Object currentNode;
 	private boolean transitive;
+	private boolean parallel = true;
 	private Map<String, String> prefixes;
 	private final ITmqlProcessor processor;
 	private final OutputStream stream;
+	private final IResultProcessor resultProcessor;
+	private IResultStream resultStream;
 	private Map<String, Object> features;
+	private final ConstructResolutionCache resolutionCache;
+	private final TypeHierarchyIndex typeHierarchy;
 
 	/**
 	 * constructor
@@ -57,9 +66,29 @@ public class Context implements IContext {
 	 *            the stream
 	 */
 	public Context(ITmqlProcessor processor, IQuery query, OutputStream stream) {
+		this(processor, query, stream, processor == null ? null : processor.createResultProcessor());
+	}
+
+	/**
+	 * constructor
+	 * 
+	 * @param processor
+	 *            the TMQL processor
+	 * @param query
+	 *            the handled query
+	 * @param stream
+	 *            the stream
+	 * @param resultProcessor
+	 *            the result processor of this query execution
+	 * @since 3.2.0
+	 */
+	public Context(ITmqlProcessor processor, IQuery query, OutputStream stream, IResultProcessor resultProcessor) {
 		this.processor = processor;
 		this.query = query;
 		this.stream = stream;
+		this.resultProcessor = resultProcessor;
+		this.resolutionCache = new ConstructResolutionCache();
+		this.typeHierarchy = new TypeHierarchyIndex();
 	}
 
 	/**
@@ -77,9 +106,14 @@ public class Context implements IContext {
 		this.currentIndexInTuple = clone.getCurrentIndexInTuple();
 		this.currentNode = clone.getCurrentNode();
 		this.transitive = clone.isTransitive();
+		this.parallel = clone.isParallel();
 		this.prefixes = clone.getPrefixes();
 		this.stream = clone.getOutputStream();
+		this.resultProcessor = clone.getResultProcessor();
+		this.resultStream = clone.getResultStream();
 		this.features = clone.getCustomFeatures();
+		this.resolutionCache = clone.getResolutionCache();
+		this.typeHierarchy = clone.getTypeHierarchy();
 	}
 
 	/**
@@ -192,6 +226,22 @@ public class Context implements IContext {
 		this.transitive = transitive;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isParallel() {
+		return parallel;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setParallel(boolean parallel) {
+		this.parallel = parallel;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -223,6 +273,23 @@ public class Context implements IContext {
 			prefixes = HashUtil.getHashMap();
 		}
 		prefixes.put(qiri, reference);
+		resolutionCache.invalidateIdentifiers();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ConstructResolutionCache getResolutionCache() {
+		return resolutionCache;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public TypeHierarchyIndex getTypeHierarchy() {
+		return typeHierarchy;
 	}
 
 	/**
@@ -233,6 +300,14 @@ public class Context implements IContext {
 		return processor;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public IResultProcessor getResultProcessor() {
+		return resultProcessor;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -241,6 +316,25 @@ public class Context implements IContext {
 		return stream;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public IResultStream getResultStream() {
+		return resultStream;
+	}
+
+	/**
+	 * Sets the stream consuming the final results of the query
+	 * 
+	 * @param resultStream
+	 *            the result stream
+	 * @since 3.2.0
+	 */
+	public void setResultStream(IResultStream resultStream) {
+		this.resultStream = resultStream;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
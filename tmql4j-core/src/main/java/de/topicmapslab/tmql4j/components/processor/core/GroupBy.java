@@ -0,0 +1,294 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.components.processor.core;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import de.topicmapslab.tmql4j.components.processor.runtime.ITMQLRuntime;
+import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
+import de.topicmapslab.tmql4j.util.CollectionsUtility;
+import de.topicmapslab.tmql4j.util.HashUtil;
+
+/**
+ * Group operator combining all tuples with equal values of the grouping
+ * variables. The groups are stored in a hash table in the order of their first
+ * occurrence, the tuples are streamed once without creating the
+ * two-dimensional projection of the whole sequence.
+ * <p>
+ * If a tuple binds a collection to a variable, each value of the collection is
+ * handled like a tuple of its own. A tuple binding an empty collection does
+ * not contribute to any group.
+ * </p>
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ * @since 3.2.0
+ */
+public class GroupBy {
+
+	/**
+	 * the grouping variables
+	 */
+	private final String[] variables;
+
+	/**
+	 * constructor
+	 *
+	 * @param variables
+	 *            the grouping variables
+	 */
+	public GroupBy(Collection<String> variables) {
+		this.variables = variables.toArray(new String[variables.size()]);
+	}
+
+	/**
+	 * Groups the given tuples. Each result tuple contains the values of the
+	 * grouping variables and for each other variable the list of distinct
+	 * values in the order of their first occurrence, or <code>null</code> if
+	 * the group has no value for it.
+	 *
+	 * @param runtime
+	 *            the runtime
+	 * @param matches
+	 *            the tuples to group
+	 * @return the grouped tuples
+	 * @throws TMQLRuntimeException
+	 *             thrown if the result cannot be created
+	 */
+	public QueryMatches group(ITMQLRuntime runtime, QueryMatches matches) throws TMQLRuntimeException {
+		final List<String> others = getOtherVariables(matches);
+		Map<Object, Group> groups = new LinkedHashMap<Object, Group>();
+		for (Map<String, Object> tuple : matches) {
+			List<Collection<?>> values = HashUtil.getList(others.size());
+			if (!extractValues(tuple, others, values)) {
+				continue;
+			}
+			for (Group group : getGroups(groups, tuple)) {
+				if (group.values == null) {
+					group.values = HashUtil.getList(others.size());
+					for (int i = 0; i < others.size(); i++) {
+						group.values.add(new LinkedHashSet<Object>());
+					}
+				}
+				for (int i = 0; i < others.size(); i++) {
+					group.values.get(i).addAll(values.get(i));
+				}
+			}
+		}
+		/*
+		 * create the result tuples
+		 */
+		QueryMatches result = new QueryMatches(runtime, groups.size());
+		for (Group group : groups.values()) {
+			Map<String, Object> tuple = group.createTuple();
+			for (int i = 0; i < others.size(); i++) {
+				Set<Object> set = group.values.get(i);
+				if (set.isEmpty()) {
+					tuple.put(others.get(i), null);
+				} else {
+					List<Object> list = HashUtil.getList(set.size());
+					list.addAll(set);
+					tuple.put(others.get(i), list);
+				}
+			}
+			result.add(tuple);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the variables of the given tuples which are not grouping
+	 * variables
+	 *
+	 * @param matches
+	 *            the tuples
+	 * @return the other variables
+	 */
+	private List<String> getOtherVariables(QueryMatches matches) throws TMQLRuntimeException {
+		List<String> others = HashUtil.getList(matches.getOrderedKeys());
+		others.removeAll(Arrays.asList(variables));
+		return others;
+	}
+
+	/**
+	 * Extracts the values of the given variables from the given tuple.
+	 * Collections are flattened, <code>null</code> values result in an empty
+	 * collection.
+	 *
+	 * @param tuple
+	 *            the tuple
+	 * @param variables
+	 *            the variables
+	 * @param values
+	 *            the list to add the values of each variable to
+	 * @return <code>false</code> if the tuple binds an empty collection to any
+	 *         variable, <code>true</code> otherwise
+	 */
+	private boolean extractValues(Map<String, Object> tuple, List<String> variables, List<Collection<?>> values) {
+		for (String variable : variables) {
+			Collection<?> collection = asCollection(tuple.get(variable));
+			if (collection == null) {
+				return false;
+			}
+			values.add(collection);
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the groups of the given tuple and creates them if necessary. The
+	 * tuple belongs to more than one group if it binds a collection to any
+	 * grouping variable.
+	 *
+	 * @param groups
+	 *            the groups by key
+	 * @param tuple
+	 *            the tuple
+	 * @return the groups of the tuple, an empty list if the tuple binds an
+	 *         empty collection to any grouping variable
+	 */
+	private List<Group> getGroups(Map<Object, Group> groups, Map<String, Object> tuple) {
+		Object[] key = new Object[variables.length];
+		boolean single = true;
+		for (int i = 0; i < variables.length; i++) {
+			key[i] = tuple.get(variables[i]);
+			if (key[i] instanceof Collection<?>) {
+				if (((Collection<?>) key[i]).isEmpty()) {
+					return Collections.emptyList();
+				}
+				single = false;
+			}
+		}
+		if (single) {
+			return Collections.singletonList(getGroup(groups, key));
+		}
+		List<Group> result = HashUtil.getList();
+		addGroups(groups, tuple, key, 0, result);
+		return result;
+	}
+
+	/**
+	 * Adds the groups of all combinations of the values of the grouping
+	 * variables, starting with the variable of the given index
+	 *
+	 * @param groups
+	 *            the groups by key
+	 * @param tuple
+	 *            the tuple
+	 * @param key
+	 *            the current key
+	 * @param index
+	 *            the index of the current variable
+	 * @param result
+	 *            the list to add the groups to
+	 */
+	private void addGroups(Map<Object, Group> groups, Map<String, Object> tuple, Object[] key, int index, List<Group> result) {
+		if (index == variables.length) {
+			result.add(getGroup(groups, key.clone()));
+			return;
+		}
+		Object value = tuple.get(variables[index]);
+		if (value instanceof Collection<?>) {
+			for (Object o : asCollection(value)) {
+				key[index] = o;
+				addGroups(groups, tuple, key, index + 1, result);
+			}
+		} else {
+			key[index] = value;
+			addGroups(groups, tuple, key, index + 1, result);
+		}
+	}
+
+	/**
+	 * Returns the group of the given key and creates it if necessary
+	 *
+	 * @param groups
+	 *            the groups by key
+	 * @param key
+	 *            the values of the grouping variables
+	 * @return the group
+	 */
+	private Group getGroup(Map<Object, Group> groups, Object[] key) {
+		Object hashKey = key.length == 1 ? key[0] : Arrays.asList(key);
+		Group group = groups.get(hashKey);
+		if (group == null) {
+			group = new Group(key);
+			groups.put(hashKey, group);
+		}
+		return group;
+	}
+
+	/**
+	 * Returns the given value as flattened collection
+	 *
+	 * @param value
+	 *            the value
+	 * @return the flattened collection, an empty collection if the value is
+	 *         <code>null</code> or <code>null</code> if the value is an empty
+	 *         collection
+	 */
+	@SuppressWarnings("unchecked")
+	private Collection<?> asCollection(Object value) {
+		if (value == null) {
+			return Collections.emptyList();
+		}
+		if (value instanceof Collection<?>) {
+			Collection<?> collection = (Collection<?>) value;
+			if (collection.isEmpty()) {
+				return null;
+			}
+			return CollectionsUtility.asTwoDimension((Collection<Object>) collection);
+		}
+		return Collections.singletonList(value);
+	}
+
+	/**
+	 * One group of tuples
+	 */
+	private class Group {
+		/**
+		 * the values of the grouping variables
+		 */
+		private final Object[] key;
+		/**
+		 * the distinct values of the other variables
+		 */
+		private List<Set<Object>> values;
+
+		/**
+		 * constructor
+		 *
+		 * @param key
+		 *            the values of the grouping variables
+		 */
+		private Group(Object[] key) {
+			this.key = key;
+		}
+
+		/**
+		 * Creates a new tuple containing the values of the grouping variables
+		 *
+		 * @return the tuple
+		 */
+		private Map<String, Object> createTuple() {
+			Map<String, Object> tuple = HashUtil.getHashMap();
+			for (int i = 0; i < variables.length; i++) {
+				tuple.put(variables[i], key[i]);
+			}
+			return tuple;
+		}
+	}
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.components.processor.core;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import de.topicmapslab.tmql4j.util.HashUtil;
+
+/**
+ * Join operator combining two tuple sequences by the values of their shared
+ * variables. The smaller sequence is loaded into a hash table (build side),
+ * the larger one is iterated once (probe side), so the costs of the join are
+ * linear to the size of both sequences.
+ * <p>
+ * The combined tuple always contains all bindings of the left tuple
+ * overwritten by the bindings of the right tuple, independent from the chosen
+ * build side.
+ * </p>
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ * @since 3.2.0
+ */
+public class HashJoin {
+
+	/**
+	 * the join key of all tuples if there is no shared variable
+	 */
+	private static final Object EMPTY_KEY = new Object();
+
+	/**
+	 * the shared variables
+	 */
+	private final String[] variables;
+
+	/**
+	 * constructor
+	 *
+	 * @param variables
+	 *            the shared variables to join on
+	 */
+	public HashJoin(Collection<String> variables) {
+		this.variables = variables.toArray(new String[variables.size()]);
+	}
+
+	/**
+	 * Creates the inner join of both tuple sequences. Only combinations of
+	 * tuples with equal values for all shared variables are contained.
+	 *
+	 * @param left
+	 *            the left tuple sequence
+	 * @param right
+	 *            the right tuple sequence
+	 * @return the set of combined tuples
+	 */
+	public Set<Map<String, Object>> join(QueryMatches left, QueryMatches right) {
+		return join(left, right, false);
+	}
+
+	/**
+	 * Creates the full outer join of both tuple sequences. Tuples without any
+	 * join partner are added as they are.
+	 *
+	 * @param left
+	 *            the left tuple sequence
+	 * @param right
+	 *            the right tuple sequence
+	 * @return the set of combined and unmatched tuples
+	 */
+	public Set<Map<String, Object>> outerJoin(QueryMatches left, QueryMatches right) {
+		return join(left, right, true);
+	}
+
+	/**
+	 * Internal join method
+	 *
+	 * @param left
+	 *            the left tuple sequence
+	 * @param right
+	 *            the right tuple sequence
+	 * @param outer
+	 *            flag indicates if unmatched tuples are kept
+	 * @return the set of result tuples
+	 */
+	private Set<Map<String, Object>> join(QueryMatches left, QueryMatches right, boolean outer) {
+		final boolean buildLeft = left.size() <= right.size();
+		QueryMatches build = buildLeft ? left : right;
+		QueryMatches probe = buildLeft ? right : left;
+
+		Map<Object, Bucket> table = build(build);
+		Set<Map<String, Object>> result = HashUtil.getHashSet();
+		/*
+		 * stream the probe side
+		 */
+		for (Map<String, Object> tuple : probe) {
+			Bucket bucket = table.get(keyOf(tuple));
+			if (bucket == null) {
+				if (outer) {
+					result.add(HashUtil.getHashMap(tuple));
+				}
+				continue;
+			}
+			bucket.matched = true;
+			for (Map<String, Object> partner : bucket.tuples) {
+				if (buildLeft) {
+					result.add(combine(partner, tuple));
+				} else {
+					result.add(combine(tuple, partner));
+				}
+			}
+		}
+		/*
+		 * add build tuples without partner
+		 */
+		if (outer) {
+			for (Bucket bucket : table.values()) {
+				if (!bucket.matched) {
+					for (Map<String, Object> tuple : bucket.tuples) {
+						result.add(HashUtil.getHashMap(tuple));
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Creates the hash table of the build side
+	 *
+	 * @param build
+	 *            the build side
+	 * @return the hash table
+	 */
+	private Map<Object, Bucket> build(QueryMatches build) {
+		Map<Object, Bucket> table = HashUtil.getHashMap();
+		for (Map<String, Object> tuple : build) {
+			Object key = keyOf(tuple);
+			Bucket bucket = table.get(key);
+			if (bucket == null) {
+				bucket = new Bucket();
+				table.put(key, bucket);
+			}
+			bucket.tuples.add(tuple);
+		}
+		return table;
+	}
+
+	/**
+	 * Returns the join key of the given tuple
+	 *
+	 * @param tuple
+	 *            the tuple
+	 * @return the join key
+	 */
+	private Object keyOf(Map<String, Object> tuple) {
+		switch (variables.length) {
+			case 0:
+				return EMPTY_KEY;
+			case 1:
+				return tuple.get(variables[0]);
+			default:
+				Object[] key = new Object[variables.length];
+				for (int i = 0; i < variables.length; i++) {
+					key[i] = tuple.get(variables[i]);
+				}
+				return Arrays.asList(key);
+		}
+	}
+
+	/**
+	 * Combines the two tuples to a new one
+	 *
+	 * @param left
+	 *            the left tuple
+	 * @param right
+	 *            the right tuple, overwrites the bindings of the left one
+	 * @return the new tuple
+	 */
+	private Map<String, Object> combine(Map<String, Object> left, Map<String, Object> right) {
+		Map<String, Object> combine = HashUtil.getHashMap();
+		combine.putAll(left);
+		combine.putAll(right);
+		return combine;
+	}
+
+	/**
+	 * Entry of the hash table containing all build tuples of one join key
+	 */
+	private static class Bucket {
+		/**
+		 * the tuples of the build side
+		 */
+		final List<Map<String, Object>> tuples = HashUtil.getList();
+		/**
+		 * flag indicates if at least one probe tuple was found
+		 */
+		boolean matched = false;
+	}
+}
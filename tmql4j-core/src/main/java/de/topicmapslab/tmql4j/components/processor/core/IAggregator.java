@@ -0,0 +1,40 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.components.processor.core;
+
+import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
+
+/**
+ * Interface definition of an aggregation state. The values are added one by
+ * one, so the aggregation never needs all values at once.
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ * @since 3.2.0
+ */
+public interface IAggregator {
+
+	/**
+	 * Adds the given value to the aggregation
+	 *
+	 * @param value
+	 *            the value, never <code>null</code>
+	 * @throws TMQLRuntimeException
+	 *             thrown if the value cannot be aggregated
+	 */
+	public void add(Object value) throws TMQLRuntimeException;
+
+	/**
+	 * Returns the result of the aggregation of all added values
+	 *
+	 * @return the result or <code>null</code> if no value was added and the
+	 *         aggregation has no neutral result
+	 */
+	public Object getResult();
+}
@@ -12,6 +12,10 @@ import java.io.OutputStream;
 import java.util.Map;
 
 import de.topicmapslab.tmql4j.components.processor.ITmqlProcessor;
+import de.topicmapslab.tmql4j.components.processor.results.model.IResultProcessor;
+import de.topicmapslab.tmql4j.components.processor.results.model.IResultStream;
+import de.topicmapslab.tmql4j.components.processor.runtime.ConstructResolutionCache;
+import de.topicmapslab.tmql4j.components.processor.runtime.TypeHierarchyIndex;
 import de.topicmapslab.tmql4j.query.IQuery;
 
 /**
@@ -78,6 +82,24 @@ public interface IContext {
 	 */
 	public void setTransitive(boolean transitive);
 
+	/**
+	 * Checks if the interpreters may process independent items of the current
+	 * context in parallel by the execution pool of the runtime
+	 * 
+	 * @return <code>true</code> if parallel execution is allowed, which is the
+	 *         default, <code>false</code> if the pragma definition for
+	 *         sequential execution was set
+	 * @since 3.2.0
+	 */
+	public boolean isParallel();
+
+	/**
+	 * @param parallel
+	 *            <code>false</code> to disable the parallel execution
+	 * @since 3.2.0
+	 */
+	public void setParallel(boolean parallel);
+
 	/**
 	 * Returns the known prefix for the given reference
 	 * 
@@ -97,6 +119,24 @@ public interface IContext {
 	 */
 	public void setPrefix(final String qiri, final String reference);
 
+	/**
+	 * Returns the cache of the item references resolved during the current
+	 * query execution. The cache is shared by all contexts of the execution.
+	 * 
+	 * @return the resolution cache
+	 * @since 3.2.0
+	 */
+	public ConstructResolutionCache getResolutionCache();
+
+	/**
+	 * Returns the index of the type hierarchy of the queried topic map. The
+	 * index is shared by all contexts of the current query execution.
+	 * 
+	 * @return the type hierarchy index
+	 * @since 3.2.0
+	 */
+	public TypeHierarchyIndex getTypeHierarchy();
+
 	/**
 	 * Returns the all known prefixes
 	 * 
@@ -111,6 +151,16 @@ public interface IContext {
 	 */
 	public ITmqlProcessor getTmqlProcessor();
 
+	/**
+	 * Returns the result processor of this query execution. Each execution
+	 * owns its own result processor, so settings like the result type or the
+	 * column aliases never influences other queries.
+	 * 
+	 * @return the result processor
+	 * @since 3.2.0
+	 */
+	public IResultProcessor getResultProcessor();
+
 	/**
 	 * Returns the output stream or <code>null</code>
 	 * 
@@ -118,6 +168,15 @@ public interface IContext {
 	 */
 	public OutputStream getOutputStream();
 
+	/**
+	 * Returns the stream consuming the final results of the query if the query
+	 * is evaluated for a result cursor
+	 * 
+	 * @return the result stream or <code>null</code>
+	 * @since 3.2.0
+	 */
+	public IResultStream getResultStream();
+
 	/**
 	 * Method to store an custom feature in an internal map, for example proceed
 	 * by a user defined pragma.
@@ -47,6 +47,18 @@ public class ProjectionQueryMatches extends QueryMatches {
 		projection(origin, variables);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Projection tuples keep the references of their origin tuples, so they are
+	 * stored as they are.
+	 * </p>
+	 */
+	@Override
+	protected List<Map<String, Object>> createTupleStore() {
+		return HashUtil.getList();
+	}
+
 	/**
 	 * Internal method to create the projection of the origin tuple sequence. At
 	 * first the method extract all asymmetric keys of the given
@@ -20,8 +20,6 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
-import de.topicmapslab.tmql4j.components.processor.core.ProjectionQueryMatches.ProjectionQueryMatch;
-import de.topicmapslab.tmql4j.components.processor.results.model.ProjectionUtils;
 import de.topicmapslab.tmql4j.components.processor.runtime.ITMQLRuntime;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
 import de.topicmapslab.tmql4j.util.CollectionsUtility;
@@ -44,7 +42,9 @@ public class QueryMatches implements Iterable<Map<String, Object>> {
 	 */
 	private static final String AT_LEAST_ONE_OF_THE_GIVEN_VARIABLES_IS_MISSED_CANNOT_GROUP_BY_NON_EXISTING_VARIABLES = "At least one of the given variables is missed! Cannot group by non existing variables!";
 	/**
-	 * internal sequence of tuples
+	 * internal sequence of tuples, stored column-wise by default
+	 * 
+	 * @see #createTupleStore()
 	 */
 	private final List<Map<String, Object>> matches;
 	/**
@@ -87,10 +87,30 @@ public class QueryMatches implements Iterable<Map<String, Object>> {
 	 */
 	public QueryMatches(ITMQLRuntime runtime) throws TMQLRuntimeException {
 		this.runtime = runtime;
-		this.matches = HashUtil.getList();
+		this.matches = createTupleStore();
 		multiple = false;
 	}
 
+	/**
+	 * constructor to create a new empty instance which can store the given
+	 * number of tuples without resizing
+	 * 
+	 * @param runtime
+	 *            the TMQL4J runtime
+	 * @param expectedSize
+	 *            the expected number of tuples
+	 * @throws TMQLRuntimeException
+	 *             thrown if internal tuple sequence cannot be instantiate
+	 * @since 3.2.0
+	 */
+	public QueryMatches(ITMQLRuntime runtime, int expectedSize) throws TMQLRuntimeException {
+		this(runtime);
+		ColumnarTupleStore store = getColumnarStore();
+		if (store != null) {
+			store.ensureCapacity(expectedSize);
+		}
+	}
+
 	/**
 	 * base constructor to create a new tuple sequence containing the given
 	 * matches
@@ -107,7 +127,7 @@ public class QueryMatches implements Iterable<Map<String, Object>> {
 	 *             cannot be instantiate
 	 */
 	public QueryMatches(ITMQLRuntime runtime, QueryMatches queryMatches) throws TMQLRuntimeException {
-		this.matches = HashUtil.getList();
+		this.matches = createTupleStore();
 		this.runtime = runtime;
 		multiple = false;
 		add(queryMatches);
@@ -151,7 +171,7 @@ public class QueryMatches implements Iterable<Map<String, Object>> {
 	 */
 	public QueryMatches(ITMQLRuntime runtime, List<Map<String, Object>> matches) throws TMQLRuntimeException {
 		this.runtime = runtime;
-		this.matches = HashUtil.getList();
+		this.matches = createTupleStore();
 		multiple = false;
 		add(matches);
 	}
@@ -178,12 +198,37 @@ public class QueryMatches implements Iterable<Map<String, Object>> {
 	 */
 	public QueryMatches(ITMQLRuntime runtime, Collection<QueryMatches> queryMatches) throws TMQLRuntimeException {
 		this.runtime = runtime;
-		this.matches = HashUtil.getList();
+		this.matches = createTupleStore();
 		this.origins = HashUtil.getHashMap();
 		multiple = false;
 		addAll(queryMatches);
 	}
 
+	/**
+	 * Creates the internal tuple sequence. The default implementation returns a
+	 * {@link ColumnarTupleStore} storing one array per variable instead of one
+	 * hash map per tuple. Sub-classes storing special tuple instances have to
+	 * return a list keeping the tuple instances.
+	 * 
+	 * @return the new tuple sequence
+	 * @since 3.2.0
+	 */
+	protected List<Map<String, Object>> createTupleStore() {
+		return new ColumnarTupleStore();
+	}
+
+	/**
+	 * Returns the internal tuple sequence if it is stored column-wise.
+	 * 
+	 * @return the columnar store or <code>null</code>
+	 */
+	private ColumnarTupleStore getColumnarStore() {
+		if (matches instanceof ColumnarTupleStore) {
+			return (ColumnarTupleStore) matches;
+		}
+		return null;
+	}
+
 	/**
 	 * Method checks if the current instance contains at least one tuple.
 	 * 
@@ -418,29 +463,11 @@ public class QueryMatches implements Iterable<Map<String, Object>> {
 			// NOTHING TO DO
 		}
 		/*
-		 * otherwise project to topic set
+		 * otherwise join on the shared variables
 		 */
 		else {
 			symmetricKeys.remove(getNonScopedVariable());
-			Set<Map<String, Object>> set = HashUtil.getHashSet();
-
-			ProjectionQueryMatches projectionA = new ProjectionQueryMatches(this, symmetricKeys);
-			ProjectionQueryMatches projectionB = new ProjectionQueryMatches(queryMatches, symmetricKeys);
-
-			for (Map<String, Object> projectedTupleA : projectionA) {
-				if (projectionB.contains(projectedTupleA)) {
-					ProjectionQueryMatch projectionQueryMatchA = (ProjectionQueryMatch) projectedTupleA;
-					ProjectionQueryMatch projectionQueryMatchB = (ProjectionQueryMatch) projectionB.get(projectionB.indexOf(projectedTupleA));
-					for (Map<String, Object> tupleA : projectionQueryMatchA.getOrigins()) {
-						for (Map<String, Object> tupleB : projectionQueryMatchB.getOrigins()) {
-							Map<String, Object> combine = HashUtil.getHashMap();
-							combine.putAll(tupleA);
-							combine.putAll(tupleB);
-							set.add(combine);
-						}
-					}
-				}
-			}
+			Set<Map<String, Object>> set = new HashJoin(symmetricKeys).join(this, queryMatches);
 			/*
 			 * reset values
 			 */
@@ -467,37 +494,7 @@ public class QueryMatches implements Iterable<Map<String, Object>> {
 		symmetricKeys.addAll(getOrderedKeys());
 		symmetricKeys.retainAll(queryMatches.getOrderedKeys());
 
-		Set<Map<String, Object>> set = HashUtil.getHashSet();
-
-		ProjectionQueryMatches projectionA = new ProjectionQueryMatches(this, symmetricKeys);
-		ProjectionQueryMatches projectionB = new ProjectionQueryMatches(queryMatches, symmetricKeys);
-
-		for (Map<String, Object> projectedTupleA : projectionA) {
-			ProjectionQueryMatch projectionQueryMatchA = (ProjectionQueryMatch) projectedTupleA;
-			if (projectionB.contains(projectedTupleA)) {
-				ProjectionQueryMatch projectionQueryMatchB = (ProjectionQueryMatch) projectionB.get(projectionB.indexOf(projectedTupleA));
-				for (Map<String, Object> tupleA : projectionQueryMatchA.getOrigins()) {
-					for (Map<String, Object> tupleB : projectionQueryMatchB.getOrigins()) {
-						Map<String, Object> combine = HashUtil.getHashMap();
-						combine.putAll(tupleA);
-						combine.putAll(tupleB);
-						set.add(combine);
-					}
-				}
-			} else {
-				set.addAll(projectionQueryMatchA.getOrigins());
-			}
-		}
-
-		/*
-		 * add reverse tuples not contained by the left side
-		 */
-		for (Map<String, Object> projectedTupleB : projectionB) {
-			ProjectionQueryMatch projectionQueryMatchB = (ProjectionQueryMatch) projectedTupleB;
-			if (!projectionA.contains(projectedTupleB)) {
-				set.addAll(projectionQueryMatchB.getOrigins());
-			}
-		}
+		Set<Map<String, Object>> set = new HashJoin(symmetricKeys).outerJoin(this, queryMatches);
 
 		/*
 		 * reset values
@@ -553,11 +550,17 @@ public class QueryMatches implements Iterable<Map<String, Object>> {
 	 *             thrown if projection fails
 	 */
 	public List<Object> getPossibleValuesForVariable(final String variable) throws TMQLRuntimeException {
+		/*
+		 * read the column directly if possible
+		 */
+		ColumnarTupleStore store = getColumnarStore();
+		if (store != null && getOrigin(variable) == null) {
+			return store.getColumnValues(variable);
+		}
 		/*
 		 * create temporary sequence
 		 */
-		List<Object> sequence = HashUtil.getList();
-		;
+		List<Object> sequence = HashUtil.getList(size());
 
 		/*
 		 * iterate over all tuples
@@ -616,8 +619,17 @@ public class QueryMatches implements Iterable<Map<String, Object>> {
 			return this;
 		} else {
 			QueryMatches newMatch = new QueryMatches(runtime);
-			for (long index = begin; index < end && index < matches.size(); index++) {
-				newMatch.add(matches.get((int) index));
+			ColumnarTupleStore store = getColumnarStore();
+			ColumnarTupleStore target = newMatch.getColumnarStore();
+			if (store != null && target != null) {
+				/*
+				 * copy the column ranges, the tuples are already checked
+				 */
+				target.addRange(store, (int) Math.min(begin, size()), (int) Math.min(end, size()));
+			} else {
+				for (long index = begin; index < end && index < matches.size(); index++) {
+					newMatch.add(matches.get((int) index));
+				}
 			}
 			newMatch.setOrigins(origins);
 			return newMatch;
@@ -633,9 +645,10 @@ public class QueryMatches implements Iterable<Map<String, Object>> {
 	 *             thrown if operation failed
 	 */
 	public QueryMatches unify() throws TMQLRuntimeException {
-		List<Map<String, Object>> unified = HashUtil.getList();
+		List<Map<String, Object>> unified = HashUtil.getList(size());
+		Set<Map<String, Object>> known = HashUtil.getHashSet();
 		for (Map<String, Object> map : getMatches()) {
-			if (!unified.contains(map)) {
+			if (known.add(map)) {
 				unified.add(map);
 			}
 		}
@@ -1160,13 +1173,9 @@ public class QueryMatches implements Iterable<Map<String, Object>> {
 	public final QueryMatches orderBy(final boolean ascending, final String variable) throws TMQLRuntimeException {
 		QueryMatches matches = new QueryMatches(runtime, this);
 
-		Collections.sort(matches.matches, new Comparator<Map<String, Object>>() {
+		final Comparator<Object> comparator = new Comparator<Object>() {
 			@Override
-			public int compare(Map<String, Object> o1, Map<String, Object> o2) {
-
-				Object v1 = o1.get(variable);
-				Object v2 = o2.get(variable);
-
+			public int compare(Object v1, Object v2) {
 				if (v1 == null) {
 					return ascending ? -1 : 1;
 				}
@@ -1178,7 +1187,7 @@ public class QueryMatches implements Iterable<Map<String, Object>> {
 				 * is a number
 				 */
 				if (v1 instanceof Number && v2 instanceof Number) {
-					com = (int) Math.round(((Number) v1).doubleValue() - ((Number) v1).doubleValue());
+					com = Double.compare(((Number) v1).doubleValue(), ((Number) v2).doubleValue());
 				}
 				/*
 				 * is anything else
@@ -1188,7 +1197,22 @@ public class QueryMatches implements Iterable<Map<String, Object>> {
 				}
 				return ascending ? com : com * -1;
 			}
-		});
+		};
+
+		/*
+		 * sort the column values directly if possible
+		 */
+		ColumnarTupleStore store = matches.getColumnarStore();
+		if (store != null) {
+			store.sortByColumn(variable, comparator);
+		} else {
+			Collections.sort(matches.matches, new Comparator<Map<String, Object>>() {
+				@Override
+				public int compare(Map<String, Object> o1, Map<String, Object> o2) {
+					return comparator.compare(o1.get(variable), o2.get(variable));
+				}
+			});
+		}
 
 		return matches;
 	}
@@ -1276,6 +1300,10 @@ public class QueryMatches implements Iterable<Map<String, Object>> {
 		if (isEmpty()) {
 			return null;
 		}
+		ColumnarTupleStore store = getColumnarStore();
+		if (store != null) {
+			return store.getValue(0, variable);
+		}
 		Map<String, Object> tuple = get(0);
 		return tuple.get(variable);
 	}
@@ -1369,7 +1397,6 @@ public class QueryMatches implements Iterable<Map<String, Object>> {
 	 * @return the grouped query matches
 	 * @since 3.0.0
 	 */
-	@SuppressWarnings("unchecked")
 	public QueryMatches groupBy(final ITMQLRuntime runtime, final Set<String> variables) throws TMQLRuntimeException {
 		List<String> orderedKeys = getOrderedKeys();
 		if (!orderedKeys.containsAll(variables)) {
@@ -1382,85 +1409,9 @@ public class QueryMatches implements Iterable<Map<String, Object>> {
 			return this;
 		}
 		/*
-		 * store first position of key
-		 */
-		List<Map<String, Object>> positions = HashUtil.getList();
-		/*
-		 * store projections for a specific key
-		 */
-		Map<Map<String, Object>, Map<String, Object>> projections = HashUtil.getHashMap();
-
-		/*
-		 * iterate over content
-		 */
-		for (Map<String, Object> tuple : ProjectionUtils.asTwoDimensionalMap(this)) {
-			/*
-			 * extract current key
-			 */
-			Map<String, Object> key = HashUtil.getHashMap();
-			for (String variable : variables) {
-				key.put(variable, tuple.get(variable));
-			}
-			/*
-			 * create projection or load existing
-			 */
-			Map<String, Object> projection = projections.get(key);
-			if (projection == null) {
-				projection = HashUtil.getHashMap();
-				projections.put(key, projection);
-				positions.add(key);
-			}
-			/*
-			 * group values by by given variables
-			 */
-			for (String variable : tuple.keySet()) {
-				if (!variables.contains(variable)) {
-					Object value = tuple.get(variable);
-					Collection<Object> values = (Collection<Object>) projection.get(variable);
-					/*
-					 * if value is null
-					 */
-					if (value == null) {
-						/*
-						 * if no other value for projection exists add null
-						 * value
-						 */
-						if (values == null) {
-							projection.put(variable, null);
-						}
-					}
-					/*
-					 * value is not null
-					 */
-					else {
-						/*
-						 * create collection if not exists
-						 */
-						if (values == null) {
-							values = HashUtil.getList();
-							projection.put(variable, values);
-						}
-						/*
-						 * add value if not already contained
-						 */
-						if (!values.contains(value)) {
-							values.add(value);
-						}
-					}
-
-				}
-			}
-		}
-		/*
-		 * create new query match
+		 * group by a hash table of the grouping keys
 		 */
-		QueryMatches matches = new QueryMatches(runtime);
-		for (Map<String, Object> key : positions) {
-			Map<String, Object> projection = projections.get(key);
-			projection.putAll(key);
-			matches.add(projection);
-		}
-		return matches;
+		return new GroupBy(variables).group(runtime, this);
 	}
 
 	/**
@@ -0,0 +1,369 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.components.processor.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import de.topicmapslab.tmql4j.components.processor.runtime.ExecutionPool;
+import de.topicmapslab.tmql4j.components.processor.runtime.IPartitionTask;
+import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
+import de.topicmapslab.tmql4j.util.HashUtil;
+
+/**
+ * Sort operator ordering a tuple sequence by any number of sort keys. All sort
+ * keys of a tuple are evaluated exactly once and stored in a compact key
+ * array, afterwards the tuples are sorted once by a composite comparator.
+ * Tuples with equal keys keep their origin order.
+ * <p>
+ * Large sequences are split into partitions by the {@link ExecutionPool} of
+ * the runtime. Each partition is evaluated and sorted concurrently, the sorted
+ * partitions are merged afterwards. If only the first tuples are needed, each
+ * partition only keeps its first tuples by a bounded heap.
+ * </p>
+ * <p>
+ * Empty keys are lower than all other keys. Two numbers are compared
+ * numerically, all other values are compared by their string representation.
+ * </p>
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ * @since 3.2.0
+ */
+public abstract class TupleSorter {
+
+	/**
+	 * the sort directions of the keys
+	 */
+	private final boolean[] ascending;
+
+	/**
+	 * the composite comparator of all keys and the origin index
+	 */
+	private final Comparator<Row> comparator = new Comparator<Row>() {
+		/**
+		 * {@inheritDoc}
+		 */
+		public int compare(Row r1, Row r2) {
+			for (int i = 0; i < ascending.length; i++) {
+				int compare = SortKey.compare(r1.keys[i], r2.keys[i]);
+				if (compare != 0) {
+					return ascending[i] ? compare : -compare;
+				}
+			}
+			return r1.index < r2.index ? -1 : (r1.index == r2.index ? 0 : 1);
+		}
+	};
+
+	/**
+	 * constructor
+	 *
+	 * @param ascending
+	 *            the sort direction of each key, <code>true</code> for
+	 *            ascending order
+	 */
+	public TupleSorter(boolean... ascending) {
+		this.ascending = ascending.clone();
+	}
+
+	/**
+	 * Returns the value of the sort key with the given index for the given
+	 * tuple. The method may be called concurrently for different tuples.
+	 *
+	 * @param key
+	 *            the index of the sort key
+	 * @param tuple
+	 *            the tuple
+	 * @return the value or <code>null</code> if the key is empty
+	 * @throws TMQLRuntimeException
+	 *             thrown if the key cannot be evaluated
+	 */
+	protected abstract Object getValue(int key, Map<String, Object> tuple) throws TMQLRuntimeException;
+
+	/**
+	 * Sorts the given tuples.
+	 *
+	 * @param pool
+	 *            the execution pool
+	 * @param context
+	 *            the querying context or <code>null</code>
+	 * @param tuples
+	 *            the tuples to sort
+	 * @param number
+	 *            the number of first tuples to return or <code>-1</code> to
+	 *            return all tuples
+	 * @return the sorted tuples
+	 * @throws TMQLRuntimeException
+	 *             thrown if any sort key cannot be evaluated
+	 */
+	public List<Map<String, Object>> sort(ExecutionPool pool, IContext context, List<Map<String, Object>> tuples, long number) throws TMQLRuntimeException {
+		final int limit = number < 0 || number > tuples.size() ? tuples.size() : (int) number;
+		if (limit == 0) {
+			return HashUtil.getList();
+		}
+		List<List<Row>> partitions = pool.execute(context, tuples, new IPartitionTask<Map<String, Object>, List<Row>>() {
+			/**
+			 * {@inheritDoc}
+			 */
+			public List<Row> call(List<Map<String, Object>> partition, int fromIndex) throws TMQLRuntimeException {
+				return sort(partition, fromIndex, limit);
+			}
+		});
+		return merge(partitions, limit);
+	}
+
+	/**
+	 * Evaluates the sort keys of the given partition and sorts it. If only the
+	 * first tuples are needed, the partition is reduced by a bounded heap.
+	 *
+	 * @param partition
+	 *            the tuples of the partition
+	 * @param fromIndex
+	 *            the index of the first tuple of the partition
+	 * @param limit
+	 *            the number of first tuples to keep
+	 * @return the sorted rows
+	 * @throws TMQLRuntimeException
+	 *             thrown if any sort key cannot be evaluated
+	 */
+	private List<Row> sort(List<Map<String, Object>> partition, int fromIndex, int limit) throws TMQLRuntimeException {
+		List<Row> rows;
+		int index = fromIndex;
+		if (limit < partition.size()) {
+			/*
+			 * the head of the heap is the greatest kept row
+			 */
+			PriorityQueue<Row> heap = new PriorityQueue<Row>(limit, Collections.reverseOrder(comparator));
+			for (Map<String, Object> tuple : partition) {
+				Row row = createRow(tuple, index++);
+				if (heap.size() < limit) {
+					heap.add(row);
+				} else if (comparator.compare(row, heap.peek()) < 0) {
+					heap.poll();
+					heap.add(row);
+				}
+			}
+			rows = new ArrayList<Row>(heap);
+		} else {
+			rows = new ArrayList<Row>(partition.size());
+			for (Map<String, Object> tuple : partition) {
+				rows.add(createRow(tuple, index++));
+			}
+		}
+		Collections.sort(rows, comparator);
+		return rows;
+	}
+
+	/**
+	 * Creates the row of the given tuple by evaluating all sort keys
+	 *
+	 * @param tuple
+	 *            the tuple
+	 * @param index
+	 *            the origin index of the tuple
+	 * @return the row
+	 * @throws TMQLRuntimeException
+	 *             thrown if any sort key cannot be evaluated
+	 */
+	private Row createRow(Map<String, Object> tuple, int index) throws TMQLRuntimeException {
+		SortKey[] keys = new SortKey[ascending.length];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = SortKey.valueOf(getValue(i, tuple));
+		}
+		return new Row(tuple, index, keys);
+	}
+
+	/**
+	 * Merges the sorted partitions
+	 *
+	 * @param partitions
+	 *            the sorted partitions
+	 * @param limit
+	 *            the number of first tuples to return
+	 * @return the sorted tuples
+	 */
+	private List<Map<String, Object>> merge(List<List<Row>> partitions, int limit) {
+		List<Map<String, Object>> tuples = HashUtil.getList(limit);
+		if (partitions.size() == 1) {
+			for (Row row : partitions.get(0)) {
+				tuples.add(row.tuple);
+			}
+			return tuples;
+		}
+		/*
+		 * the head of the queue is the partition with the lowest next row
+		 */
+		PriorityQueue<Cursor> queue = new PriorityQueue<Cursor>(partitions.size(), new Comparator<Cursor>() {
+			/**
+			 * {@inheritDoc}
+			 */
+			public int compare(Cursor c1, Cursor c2) {
+				return comparator.compare(c1.current(), c2.current());
+			}
+		});
+		for (List<Row> partition : partitions) {
+			if (!partition.isEmpty()) {
+				queue.add(new Cursor(partition));
+			}
+		}
+		while (tuples.size() < limit && !queue.isEmpty()) {
+			Cursor cursor = queue.poll();
+			tuples.add(cursor.current().tuple);
+			if (cursor.next()) {
+				queue.add(cursor);
+			}
+		}
+		return tuples;
+	}
+
+	/**
+	 * A tuple with its evaluated sort keys
+	 */
+	private static final class Row {
+		/**
+		 * the tuple
+		 */
+		private final Map<String, Object> tuple;
+		/**
+		 * the origin index of the tuple
+		 */
+		private final int index;
+		/**
+		 * the sort keys
+		 */
+		private final SortKey[] keys;
+
+		/**
+		 * constructor
+		 *
+		 * @param tuple
+		 *            the tuple
+		 * @param index
+		 *            the origin index
+		 * @param keys
+		 *            the sort keys
+		 */
+		private Row(Map<String, Object> tuple, int index, SortKey[] keys) {
+			this.tuple = tuple;
+			this.index = index;
+			this.keys = keys;
+		}
+	}
+
+	/**
+	 * A sort key, extracted once from the value instead of at each of the
+	 * n*log(n) comparisons
+	 */
+	private static final class SortKey {
+		/**
+		 * the numerical value, <code>NaN</code> if the value is not a number
+		 */
+		private final double number;
+		/**
+		 * the string value
+		 */
+		private final String string;
+
+		/**
+		 * constructor
+		 *
+		 * @param number
+		 *            the numerical value
+		 * @param string
+		 *            the string value
+		 */
+		private SortKey(double number, String string) {
+			this.number = number;
+			this.string = string;
+		}
+
+		/**
+		 * Creates the sort key of the given value
+		 *
+		 * @param value
+		 *            the value
+		 * @return the sort key or <code>null</code> if the value is
+		 *         <code>null</code>
+		 */
+		private static SortKey valueOf(Object value) {
+			if (value == null) {
+				return null;
+			}
+			return new SortKey(value instanceof Number ? ((Number) value).doubleValue() : Double.NaN, value.toString());
+		}
+
+		/**
+		 * Compares two sort keys
+		 *
+		 * @param k1
+		 *            the first key or <code>null</code> if it is empty
+		 * @param k2
+		 *            the second key or <code>null</code> if it is empty
+		 * @return the comparison result
+		 */
+		private static int compare(SortKey k1, SortKey k2) {
+			if (k1 == null) {
+				return k2 == null ? 0 : -1;
+			}
+			if (k2 == null) {
+				return 1;
+			}
+			if (!Double.isNaN(k1.number) && !Double.isNaN(k2.number)) {
+				return Double.compare(k1.number, k2.number);
+			}
+			return k1.string.compareTo(k2.string);
+		}
+	}
+
+	/**
+	 * Position within a sorted partition during the merge
+	 */
+	private static final class Cursor {
+		/**
+		 * the sorted rows
+		 */
+		private final List<Row> rows;
+		/**
+		 * the current position
+		 */
+		private int position;
+
+		/**
+		 * constructor
+		 *
+		 * @param rows
+		 *            the sorted rows
+		 */
+		private Cursor(List<Row> rows) {
+			this.rows = rows;
+		}
+
+		/**
+		 * Returns the row at the current position
+		 *
+		 * @return the row
+		 */
+		private Row current() {
+			return rows.get(position);
+		}
+
+		/**
+		 * Moves to the next row
+		 *
+		 * @return <code>true</code> if there is a next row
+		 */
+		private boolean next() {
+			return ++position < rows.size();
+		}
+	}
+}
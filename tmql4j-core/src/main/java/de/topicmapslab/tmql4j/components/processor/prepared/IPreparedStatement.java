@@ -9,11 +9,13 @@
 package de.topicmapslab.tmql4j.components.processor.prepared;
 
 import java.util.Calendar;
+import java.util.List;
 
 import org.tmapi.core.Construct;
 import org.tmapi.core.Topic;
 
 import de.topicmapslab.tmql4j.components.parser.IParserTree;
+import de.topicmapslab.tmql4j.components.processor.results.model.IResultSet;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
 import de.topicmapslab.tmql4j.grammar.lexical.Wildcard;
 import de.topicmapslab.tmql4j.grammar.productions.IExpression;
@@ -206,6 +208,53 @@ public interface IPreparedStatement extends IQuery {
 	 */
 	public void run(Object... parameters);
 
+	/**
+	 * Creates a new binding of the prepared statement. The binding shares the
+	 * parsed query with this statement but stores its own parameter values and
+	 * results, so different bindings can be used concurrently.
+	 * 
+	 * @param parameters
+	 *            the optional parameters for the wildcards, in the order of
+	 *            their occurrence
+	 * @return the new binding
+	 * @throws TMQLRuntimeException
+	 *             thrown if there are more parameters than wildcards
+	 * @since 3.2.0
+	 */
+	public IPreparedStatement bind(Object... parameters) throws TMQLRuntimeException;
+
+	/**
+	 * Executes the prepared statement by a new binding of the given parameters.
+	 * In contrast to {@link #run(Object...)} the values of this statement are
+	 * not modified, so the method may be called concurrently.
+	 * 
+	 * @param parameters
+	 *            the parameters for all wildcards, in the order of their
+	 *            occurrence
+	 * @return the results
+	 * @throws TMQLRuntimeException
+	 *             thrown if at least one parameter is missing or the execution
+	 *             fails
+	 * @since 3.2.0
+	 */
+	public IResultSet<?> execute(Object... parameters) throws TMQLRuntimeException;
+
+	/**
+	 * Executes the prepared statement for each of the given parameter sets.
+	 * The statement is validated only once and the parameter sets are
+	 * processed by the execution pool of the runtime.
+	 * 
+	 * @param parameters
+	 *            the parameter sets, each containing the parameters for all
+	 *            wildcards in the order of their occurrence
+	 * @return the results, in the order of the parameter sets
+	 * @throws TMQLRuntimeException
+	 *             thrown if at least one parameter is missing or any execution
+	 *             fails
+	 * @since 3.2.0
+	 */
+	public List<IResultSet<?>> executeBatch(List<Object[]> parameters) throws TMQLRuntimeException;
+
 	/**
 	 * Get the value setting to the given index
 	 * 
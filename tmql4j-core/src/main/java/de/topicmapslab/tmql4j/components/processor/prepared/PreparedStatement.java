@@ -9,6 +9,7 @@
 package de.topicmapslab.tmql4j.components.processor.prepared;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.List;
@@ -20,6 +21,7 @@ import org.tmapi.core.TopicMap;
 
 import de.topicmapslab.tmql4j.components.parser.IParserTree;
 import de.topicmapslab.tmql4j.components.processor.results.model.IResultSet;
+import de.topicmapslab.tmql4j.components.processor.runtime.IPartitionTask;
 import de.topicmapslab.tmql4j.components.processor.runtime.ITMQLRuntime;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
 import de.topicmapslab.tmql4j.grammar.productions.IExpression;
@@ -28,6 +30,11 @@ import de.topicmapslab.tmql4j.query.IQuery;
 import de.topicmapslab.tmql4j.util.HashUtil;
 
 /**
+ * Base implementation of a prepared statement. The parsed query and the
+ * positions of the wildcards are immutable and shared by all bindings of the
+ * statement created by {@link #bind(Object...)}, only the parameter values and
+ * the results are stored per binding.
+ * 
  * @author Sven Krosse
  * 
  */
@@ -57,6 +64,10 @@ public abstract class PreparedStatement implements IPreparedStatement {
 	 * exception message
 	 */
 	private static final String THE_GIVEN_WILDCARD_IS_NOT_PRESENT = "The given wildcard {0} is not present.";
+	/**
+	 * exception message
+	 */
+	private static final String QUERYING_PROCESS_NOT_FINISHED_YET = "Querying process not finished yet.";
 	private Map<Integer, Object> values;
 	private final Map<IExpression, Integer> indexes;
 	private final Map<String, List<Integer>> namedWildcards;
@@ -64,6 +75,14 @@ public abstract class PreparedStatement implements IPreparedStatement {
 	private final ITMQLRuntime runtime;
 	private final IQuery query;
 	private String nonParametrizedQueryString = null;
+	/**
+	 * flag indicating if the statement is a binding of another statement
+	 */
+	private final boolean binding;
+	/**
+	 * the results of a binding
+	 */
+	private IResultSet<?> results;
 
 	/**
 	 * constructor
@@ -97,8 +116,36 @@ public abstract class PreparedStatement implements IPreparedStatement {
 			list.add(index);
 			index++;
 		}
+		this.binding = false;
 	}
 
+	/**
+	 * constructor of a binding sharing the parsed query with the given
+	 * statement
+	 * 
+	 * @param statement
+	 *            the prepared statement
+	 * @since 3.2.0
+	 */
+	protected PreparedStatement(PreparedStatement statement) {
+		this.runtime = statement.runtime;
+		this.tree = statement.tree;
+		this.query = statement.query;
+		this.indexes = statement.indexes;
+		this.namedWildcards = statement.namedWildcards;
+		this.binding = true;
+	}
+
+	/**
+	 * Creates a new instance of the prepared statement sharing the parsed
+	 * query with this statement. Implementations should call the constructor
+	 * {@link #PreparedStatement(PreparedStatement)}.
+	 * 
+	 * @return the new binding
+	 * @since 3.2.0
+	 */
+	protected abstract PreparedStatement createBinding();
+
 	/**
 	 * Utility method to check if the given index represent a valid place-holder
 	 * position
@@ -361,11 +408,38 @@ public abstract class PreparedStatement implements IPreparedStatement {
 		/*
 		 * first check if all indexes are set
 		 */
+		validateValues();
+		/*
+		 * check the query itself
+		 */
+		validateQuery();
+	}
+
+	/**
+	 * Validation method, to check if all place holders are set
+	 * 
+	 * @throws TMQLRuntimeException
+	 *             thrown if at least one value is missing
+	 * @since 3.2.0
+	 */
+	protected void validateValues() throws TMQLRuntimeException {
 		for (Integer index : indexes.values()) {
 			if (!getValues().containsKey(index) || getValues().get(index) == null) {
 				throw new TMQLRuntimeException(MessageFormat.format(MISSING_VALUE_FOR_INDEX, index));
 			}
 		}
+	}
+
+	/**
+	 * Validation method, to check if the query may be executed independent
+	 * from the values of the place holders
+	 * 
+	 * @throws TMQLRuntimeException
+	 *             thrown if the query contains a forbidden expression or the
+	 *             topic map is missing
+	 * @since 3.2.0
+	 */
+	protected void validateQuery() throws TMQLRuntimeException {
 		/*
 		 * check if the tree does not contains forbidden expression
 		 */
@@ -401,7 +475,15 @@ public abstract class PreparedStatement implements IPreparedStatement {
 	 */
 	@Override
 	public void setResults(IResultSet<?> results) {
-		query.setResults(results);
+		/*
+		 * bindings may be executed concurrently, so their results must not
+		 * be stored by the shared query
+		 */
+		if (binding) {
+			this.results = results;
+		} else {
+			query.setResults(results);
+		}
 	}
 
 	/**
@@ -409,6 +491,12 @@ public abstract class PreparedStatement implements IPreparedStatement {
 	 */
 	@Override
 	public IResultSet<?> getResults() throws TMQLRuntimeException {
+		if (binding) {
+			if (results == null) {
+				throw new TMQLRuntimeException(QUERYING_PROCESS_NOT_FINISHED_YET);
+			}
+			return results;
+		}
 		return query.getResults();
 	}
 
@@ -495,6 +583,76 @@ public abstract class PreparedStatement implements IPreparedStatement {
 		runtime.getTmqlProcessor().query(this);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public IPreparedStatement bind(Object... parameters) throws TMQLRuntimeException {
+		return newBinding(parameters);
+	}
+
+	/**
+	 * Creates a new binding and sets the given parameters
+	 * 
+	 * @param parameters
+	 *            the parameters
+	 * @return the binding
+	 * @throws TMQLRuntimeException
+	 *             thrown if there are more parameters than wildcards
+	 */
+	private PreparedStatement newBinding(Object... parameters) throws TMQLRuntimeException {
+		PreparedStatement statement = createBinding();
+		for (int index = 0; index < parameters.length; index++) {
+			statement.set(index, parameters[index]);
+		}
+		return statement;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public IResultSet<?> execute(Object... parameters) throws TMQLRuntimeException {
+		PreparedStatement statement = newBinding(parameters);
+		statement.validate();
+		return runtime.getTmqlProcessor().query(statement);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<IResultSet<?>> executeBatch(List<Object[]> parameters) throws TMQLRuntimeException {
+		/*
+		 * the query is the same for all parameter sets
+		 */
+		validateQuery();
+		List<PreparedStatement> statements = new ArrayList<PreparedStatement>(parameters.size());
+		for (Object[] values : parameters) {
+			PreparedStatement statement = newBinding(values);
+			statement.validateValues();
+			statements.add(statement);
+		}
+		List<List<IResultSet<?>>> partitions = runtime.getExecutionPool().execute(null, statements,
+				new IPartitionTask<PreparedStatement, List<IResultSet<?>>>() {
+					/**
+					 * {@inheritDoc}
+					 */
+					public List<IResultSet<?>> call(List<PreparedStatement> partition, int fromIndex) throws TMQLRuntimeException {
+						List<IResultSet<?>> results = new ArrayList<IResultSet<?>>(partition.size());
+						for (PreparedStatement statement : partition) {
+							results.add(runtime.getTmqlProcessor().query(statement));
+						}
+						return results;
+					}
+				});
+		List<IResultSet<?>> results = new ArrayList<IResultSet<?>>(parameters.size());
+		for (List<IResultSet<?>> partition : partitions) {
+			results.addAll(partition);
+		}
+		return results;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
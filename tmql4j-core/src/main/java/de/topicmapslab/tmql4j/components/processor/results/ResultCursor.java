@@ -0,0 +1,675 @@
+/*
+ * TMQL4J - Javabased TMQL Engine
+ *
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.components.processor.results;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.tmapi.core.Construct;
+import org.tmapi.core.TopicMap;
+import org.tmapi.core.TopicMapSystem;
+
+import de.topicmapslab.tmql4j.components.parser.IParserTree;
+import de.topicmapslab.tmql4j.components.processor.ITmqlProcessor;
+import de.topicmapslab.tmql4j.components.processor.core.Context;
+import de.topicmapslab.tmql4j.components.processor.core.IContext;
+import de.topicmapslab.tmql4j.components.processor.core.QueryMatches;
+import de.topicmapslab.tmql4j.components.processor.results.jtmqr.writer.JTMQRFormat;
+import de.topicmapslab.tmql4j.components.processor.results.jtmqr.writer.JTMQRWriter;
+import de.topicmapslab.tmql4j.components.processor.results.model.IResult;
+import de.topicmapslab.tmql4j.components.processor.results.model.IResultCursor;
+import de.topicmapslab.tmql4j.components.processor.results.model.IResultProcessor;
+import de.topicmapslab.tmql4j.components.processor.results.model.IResultSet;
+import de.topicmapslab.tmql4j.components.processor.results.model.IResultStream;
+import de.topicmapslab.tmql4j.components.processor.results.model.ProjectionUtils;
+import de.topicmapslab.tmql4j.components.processor.results.model.ResultSet;
+import de.topicmapslab.tmql4j.components.processor.results.tmdm.SimpleResult;
+import de.topicmapslab.tmql4j.components.processor.results.tmdm.SimpleResultSet;
+import de.topicmapslab.tmql4j.components.processor.runtime.ITMQLRuntime;
+import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
+import de.topicmapslab.tmql4j.query.IQuery;
+import de.topicmapslab.tmql4j.util.HashUtil;
+
+/**
+ * Base implementation of {@link IResultCursor}. The query is evaluated by a
+ * background thread, which transforms the query matches to results in the
+ * same way as the {@link TmqlResultProcessor} and puts them into a bounded
+ * prefetch buffer. The cursor is the {@link IResultStream} of the querying
+ * context, so top-level expressions may emit their results in chunks before
+ * the evaluation is finished. The results of all other expressions are
+ * transformed after the evaluation, but without creating a result set.
+ * <p>
+ * The cursor has to be closed if it is not read until the end. If the
+ * consumer does not read any result for longer than the timeout of the
+ * cursor, the evaluation is abandoned and the background thread terminates,
+ * so an unclosed cursor does not block it forever. The next call of
+ * {@link #next()} fails in this case.
+ * </p>
+ * <p>
+ * The after-execution call of the query is done by the cursor as soon as the
+ * evaluation is finished, failed or abandoned, or if the cursor is closed
+ * before the evaluation was started.
+ * </p>
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ * @since 3.2.0
+ */
+public class ResultCursor implements IResultCursor, IResultStream {
+
+	/**
+	 * the default size of the prefetch buffer
+	 */
+	public static final int DEFAULT_PREFETCH = 256;
+
+	/**
+	 * the default time in milliseconds the producer waits for the consumer to
+	 * read a result before the evaluation is abandoned
+	 */
+	public static final long DEFAULT_TIMEOUT = 5 * 60 * 1000;
+
+	/**
+	 * the time in milliseconds the producer waits for free space in the
+	 * buffer before it checks if the cursor was closed
+	 */
+	private static final long OFFER_TIMEOUT = 100;
+
+	/**
+	 * marker for the end of the results
+	 */
+	private static final Object END = new Object();
+
+	/**
+	 * counter for the names of the producer threads
+	 */
+	private static final AtomicInteger threadNumber = new AtomicInteger();
+
+	/**
+	 * the TMQL4J runtime
+	 */
+	private final ITMQLRuntime runtime;
+
+	/**
+	 * the query
+	 */
+	private final IQuery query;
+
+	/**
+	 * the parser tree of the query
+	 */
+	private final IParserTree tree;
+
+	/**
+	 * the result processor of the query execution
+	 */
+	private final IResultProcessor resultProcessor;
+
+	/**
+	 * the processor used by the querying context
+	 */
+	private final ITmqlProcessor processor;
+
+	/**
+	 * the prefetch buffer containing results, the end marker or an error
+	 */
+	private final BlockingQueue<Object> buffer;
+
+	/**
+	 * the size of the prefetch buffer
+	 */
+	private final int prefetch;
+
+	/**
+	 * the empty result set creating the results
+	 */
+	private IResultSet<?> factory;
+
+	/**
+	 * the columns of the first emitted matches
+	 */
+	private List<String> keys;
+
+	/**
+	 * the state of the cursor
+	 */
+	private volatile boolean closed = false;
+	private volatile boolean abandoned = false;
+	private boolean finished = false;
+	private boolean opened = false;
+
+	/**
+	 * flag indicates if the after-execution call to the query is done
+	 */
+	private final AtomicBoolean afterQueryCalled = new AtomicBoolean();
+
+	/**
+	 * the time in milliseconds the producer waits for the consumer
+	 */
+	private volatile long timeout = DEFAULT_TIMEOUT;
+
+	/**
+	 * the current result
+	 */
+	private IResult current;
+
+	/**
+	 * the index of the current result
+	 */
+	private int row = -1;
+
+	/**
+	 * constructor of a cursor evaluating the given parser tree
+	 *
+	 * @param runtime
+	 *            the TMQL4J runtime
+	 * @param processor
+	 *            the processor creating the result processor
+	 * @param query
+	 *            the query
+	 * @param tree
+	 *            the parser tree of the query
+	 * @param prefetch
+	 *            the maximum number of results produced in advance
+	 */
+	public ResultCursor(ITMQLRuntime runtime, ITmqlProcessor processor, IQuery query, IParserTree tree, int prefetch) {
+		if (prefetch < 1) {
+			throw new IllegalArgumentException("Prefetch size has to be positive.");
+		}
+		this.runtime = runtime;
+		this.processor = processor;
+		this.query = query;
+		this.tree = tree;
+		this.prefetch = prefetch;
+		this.buffer = new ArrayBlockingQueue<Object>(prefetch + 1);
+		this.resultProcessor = processor == null ? new TmqlResultProcessor(runtime) : processor.createResultProcessor();
+	}
+
+	/**
+	 * constructor of a cursor over an already materialized result set, used
+	 * by processors which does not evaluate the parser tree
+	 *
+	 * @param runtime
+	 *            the TMQL4J runtime
+	 * @param query
+	 *            the query
+	 * @param resultSet
+	 *            the result set
+	 */
+	public ResultCursor(ITMQLRuntime runtime, IQuery query, IResultSet<?> resultSet) {
+		this.runtime = runtime;
+		this.processor = null;
+		this.query = query;
+		this.tree = null;
+		this.resultProcessor = null;
+		this.factory = resultSet;
+		this.prefetch = resultSet.size() + 1;
+		this.buffer = new ArrayBlockingQueue<Object>(prefetch);
+		buffer.addAll(resultSet.getResults());
+		buffer.add(END);
+		this.opened = true;
+		/*
+		 * the results are already evaluated
+		 */
+		afterQuery();
+	}
+
+	/**
+	 * Starts the evaluation of the query in the background. The method has no
+	 * effect if the cursor is already opened.
+	 *
+	 * @return this cursor
+	 */
+	public synchronized ResultCursor open() {
+		if (!opened) {
+			opened = true;
+			Thread producer = new Thread(new Runnable() {
+				/**
+				 * {@inheritDoc}
+				 */
+				public void run() {
+					produce();
+				}
+			}, "tmql4j-cursor-" + threadNumber.incrementAndGet());
+			producer.setDaemon(true);
+			producer.start();
+		}
+		return this;
+	}
+
+	/**
+	 * Evaluates the query and puts the results and the end marker or the
+	 * error into the buffer
+	 */
+	private void produce() {
+		try {
+			try {
+				Context context = new Context(processor, query, null, resultProcessor);
+				context.setResultStream(this);
+				QueryMatches matches = interpret(context);
+				if (matches != null) {
+					emit(context, matches);
+				}
+			} finally {
+				afterQuery();
+			}
+			put(END);
+		} catch (Throwable e) {
+			/*
+			 * the evaluation is abandoned if the cursor was closed or not
+			 * read in time
+			 */
+			if (!closed && !abandoned) {
+				try {
+					put(e);
+				} catch (TMQLRuntimeException ex) {
+					// CLOSED IN THE MEANTIME
+				}
+			}
+		}
+	}
+
+	/**
+	 * Does the after-execution call to the query if it was not done before
+	 */
+	private void afterQuery() {
+		if (query != null && afterQueryCalled.compareAndSet(false, true)) {
+			query.afterQuery(runtime);
+		}
+	}
+
+	/**
+	 * Interprets the parser tree of the query. Results emitted to the stream of
+	 * the context are not contained by the returned matches.
+	 *
+	 * @param context
+	 *            the querying context
+	 * @return the remaining results
+	 * @throws TMQLRuntimeException
+	 *             thrown if interpretation fails
+	 */
+	protected QueryMatches interpret(IContext context) throws TMQLRuntimeException {
+		return tree.root().interpret(runtime, context);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void emit(IContext context, QueryMatches matches) throws TMQLRuntimeException {
+		if (closed) {
+			throw new TMQLRuntimeException("Result cursor was closed.");
+		}
+		if (matches.isEmpty()) {
+			return;
+		}
+		boolean autoReduction = true;
+		Class<? extends IResultSet<?>> resultType = SimpleResultSet.class;
+		if (resultProcessor instanceof TmqlResultProcessor) {
+			TmqlResultProcessor tmqlResultProcessor = (TmqlResultProcessor) resultProcessor;
+			autoReduction = tmqlResultProcessor.isAutoReduction();
+			resultType = tmqlResultProcessor.getResultType();
+		}
+		if (factory == null) {
+			factory = newResultSet(resultType);
+			keys = matches.getOrderedKeys();
+		}
+		/*
+		 * aliases may be registered by the interpretation of the last chunk
+		 */
+		if (factory instanceof ResultSet<?> && resultProcessor instanceof TmqlResultProcessor) {
+			((ResultSet<?>) factory).setAlias(((TmqlResultProcessor) resultProcessor).getAliasIndex());
+			((ResultSet<?>) factory).setIndexes(resultProcessor.getAliases());
+		}
+		/*
+		 * transform and buffer each tuple, the same way as the result processor
+		 */
+		for (Map<String, Object> tuple : matches) {
+			List<List<Object>> results = HashUtil.getList();
+			if (autoReduction) {
+				ProjectionUtils.asTwoDimensional(tuple, keys, HashUtil.<Object> getList(keys.size()), results);
+			} else {
+				List<Object> result = HashUtil.getList(keys.size());
+				for (String key : keys) {
+					result.add(tuple.get(key));
+				}
+				results.add(result);
+			}
+			for (List<Object> values : results) {
+				IResult result = factory.createResult();
+				result.add(values);
+				put(result);
+			}
+		}
+	}
+
+	/**
+	 * Puts the given element into the buffer and waits for free space if the
+	 * buffer is full. If the buffer stays full for longer than the timeout,
+	 * the buffered results are replaced by an error and the evaluation is
+	 * abandoned.
+	 *
+	 * @param element
+	 *            the element
+	 * @throws TMQLRuntimeException
+	 *             thrown if the cursor was closed or not read in time
+	 */
+	private void put(Object element) throws TMQLRuntimeException {
+		long start = System.currentTimeMillis();
+		try {
+			do {
+				if (closed || abandoned) {
+					throw new TMQLRuntimeException("Result cursor was closed.");
+				}
+				long limit = timeout;
+				if (limit > 0 && System.currentTimeMillis() - start >= limit) {
+					abandoned = true;
+					buffer.clear();
+					buffer.offer(new TMQLRuntimeException("Result cursor was not read for " + limit + " ms and was abandoned."));
+					throw new TMQLRuntimeException("Result cursor was abandoned.");
+				}
+			} while (!buffer.offer(element, OFFER_TIMEOUT, TimeUnit.MILLISECONDS));
+		} catch (InterruptedException e) {
+			throw new TMQLRuntimeException("Result cursor was interrupted.", e);
+		}
+	}
+
+	/**
+	 * Sets the time the evaluation waits for the consumer to read a result
+	 * before it is abandoned
+	 *
+	 * @param timeout
+	 *            the timeout in milliseconds, <code>0</code> to wait until the
+	 *            cursor is closed
+	 */
+	public void setTimeout(long timeout) {
+		if (timeout < 0) {
+			throw new IllegalArgumentException("Timeout must not be negative.");
+		}
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Returns the time the evaluation waits for the consumer to read a result
+	 * before it is abandoned
+	 *
+	 * @return the timeout in milliseconds, <code>0</code> if the evaluation
+	 *         waits until the cursor is closed
+	 */
+	public long getTimeout() {
+		return timeout;
+	}
+
+	/**
+	 * Creates a new empty result set of the given type
+	 *
+	 * @param resultType
+	 *            the type
+	 * @return the result set
+	 * @throws TMQLRuntimeException
+	 *             thrown if the result set cannot be instantiated
+	 */
+	private IResultSet<?> newResultSet(Class<? extends IResultSet<?>> resultType) throws TMQLRuntimeException {
+		try {
+			return resultType.getConstructor(TopicMapSystem.class, TopicMap.class).newInstance(getTopicMapSystem(), getTopicMap());
+		} catch (Exception e) {
+			throw new TMQLRuntimeException("Failed to generate result set", e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean isClosed() {
+		return closed;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean next() throws TMQLRuntimeException {
+		current = null;
+		if (closed || finished) {
+			return false;
+		}
+		open();
+		Object element;
+		try {
+			element = buffer.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new TMQLRuntimeException("Result cursor was interrupted.", e);
+		}
+		if (element == END || closed) {
+			finished = true;
+			return false;
+		}
+		if (element instanceof Throwable) {
+			finished = true;
+			if (element instanceof TMQLRuntimeException) {
+				throw (TMQLRuntimeException) element;
+			}
+			throw new TMQLRuntimeException("Evaluation of query failed.", (Throwable) element);
+		}
+		current = (IResult) element;
+		row++;
+		return true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public IResult getResult() throws NoSuchElementException {
+		if (current == null) {
+			throw new NoSuchElementException("Cursor does not point to a result.");
+		}
+		return current;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public <T> T get(int index) throws NoSuchElementException {
+		return getResult().<T> get(index);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public <T> T get(String alias) throws NoSuchElementException {
+		IResult result = getResult();
+		int index = getIndex(alias);
+		if (index == -1) {
+			throw new IllegalArgumentException("Unknown alias '" + alias + "'.");
+		}
+		return result.<T> get(index);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean isNullValue(int index) throws NoSuchElementException {
+		return getResult().isNullValue(index);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int getRow() {
+		return row;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Set<String> getAliases() {
+		if (resultProcessor == null) {
+			return factory.getAliases();
+		}
+		Map<Integer, String> aliases = resultProcessor.getAliases();
+		if (aliases == null) {
+			return Collections.emptySet();
+		}
+		return HashUtil.getHashSet(aliases.values());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int getIndex(String alias) {
+		if (resultProcessor == null) {
+			return factory.getIndex(alias);
+		}
+		return resultProcessor.getIndexOfAlias(alias);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void close() {
+		synchronized (this) {
+			closed = true;
+			/*
+			 * the evaluation will never be started
+			 */
+			if (!opened) {
+				opened = true;
+				afterQuery();
+			}
+		}
+		current = null;
+		buffer.clear();
+		/*
+		 * wakes up a consumer waiting for the next result
+		 */
+		buffer.offer(END);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void toJTMQR(OutputStream os, JTMQRFormat format) throws UnsupportedOperationException {
+		JTMQRWriter writer = new JTMQRWriter(os, format);
+		try {
+			writer.write(this);
+			writer.flush();
+		} catch (IOException e) {
+			throw new TMQLRuntimeException("An I/O error occured during transformation!", e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void toCTM(OutputStream os) throws UnsupportedOperationException {
+		Collection<Construct> constructs = getConstructs();
+		if (constructs == null) {
+			getRemainingResults().toCTM(os);
+		} else {
+			SimpleResultSet.toCTM(getTopicMap(), constructs, os);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void toXTM(OutputStream os) throws UnsupportedOperationException {
+		Collection<Construct> constructs = getConstructs();
+		if (constructs == null) {
+			getRemainingResults().toXTM(os);
+		} else {
+			SimpleResultSet.toXTM(getTopicMapSystem(), getTopicMap(), constructs, os);
+		}
+	}
+
+	/**
+	 * Reads the remaining results and returns the topics and associations
+	 * contained by them. The method stops reading at the first result which
+	 * is not a simple result.
+	 *
+	 * @return the constructs or <code>null</code> if the results are no
+	 *         simple results
+	 */
+	private Collection<Construct> getConstructs() {
+		Collection<Construct> constructs = HashUtil.getHashSet();
+		while (next()) {
+			if (!(current instanceof SimpleResult)) {
+				return null;
+			}
+			SimpleResultSet.addConstructs(current, constructs);
+		}
+		return constructs;
+	}
+
+	/**
+	 * Collects the current and all remaining results in a new result set of
+	 * the type created by the query
+	 *
+	 * @return the result set
+	 */
+	private IResultSet<?> getRemainingResults() {
+		@SuppressWarnings("unchecked")
+		IResultSet<?> resultSet = newResultSet((Class<? extends IResultSet<?>>) factory.getClass());
+		if (resultSet instanceof ResultSet<?> && factory instanceof ResultSet<?>) {
+			Map<String, Integer> alias = HashUtil.getHashMap();
+			Map<Integer, String> indexes = HashUtil.getHashMap();
+			for (String a : getAliases()) {
+				alias.put(a, getIndex(a));
+				indexes.put(getIndex(a), a);
+			}
+			((ResultSet<?>) resultSet).setAlias(alias);
+			((ResultSet<?>) resultSet).setIndexes(indexes);
+		}
+		if (current != null) {
+			resultSet.addResult(current);
+		}
+		while (next()) {
+			resultSet.addResult(current);
+		}
+		return resultSet;
+	}
+
+	/**
+	 * Returns the topic map of the query
+	 *
+	 * @return the topic map or <code>null</code>
+	 */
+	private TopicMap getTopicMap() {
+		return query == null ? null : query.getTopicMap();
+	}
+
+	/**
+	 * Returns the topic map system of the runtime
+	 *
+	 * @return the topic map system or <code>null</code>
+	 */
+	private TopicMapSystem getTopicMapSystem() {
+		return runtime == null ? null : runtime.getTopicMapSystem();
+	}
+
+	/**
+	 * Returns the size of the prefetch buffer
+	 *
+	 * @return the prefetch size
+	 */
+	public int getPrefetchSize() {
+		return prefetch;
+	}
+}
@@ -34,7 +34,8 @@ import de.topicmapslab.tmql4j.util.HashUtil;
 /**
  * Base implementation of {@link IResultProcessor}. A result processor transform
  * the tuple sequences generated by the interpretation task to a
- * {@link IResultSet}.
+ * {@link IResultSet}. Each query execution uses its own instance of the result
+ * processor.
  * 
  * @author Sven Krosse
  * @email krosse@informatik.uni-leipzig.de
@@ -146,6 +147,16 @@ public class TmqlResultProcessor implements IResultProcessor {
 		this.resultSetClass = clazz;
 	}
 
+	/**
+	 * Returns the result set class used to create the querying result
+	 * 
+	 * @return the result set class
+	 * @since 3.2.0
+	 */
+	public Class<? extends IResultSet<?>> getResultType() {
+		return resultSetClass;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -153,22 +164,34 @@ public class TmqlResultProcessor implements IResultProcessor {
 		this.autoReduction = autoReduction;
 	}
 
+	/**
+	 * Returns the internal state of the auto reduction mechanism
+	 * 
+	 * @return <code>true</code> if the results are transformed to a
+	 *         two-dimensional construct
+	 * @since 3.2.0
+	 */
+	public boolean isAutoReduction() {
+		return autoReduction;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	public void setColumnAlias(int index, String alias) {
-		while (!lock.tryLock()) {
-			// WAIT
-		}
-		if (columnAlias == null) {
-			columnAlias = HashUtil.getHashMap();
-		}
-		columnAlias.put(index, alias);
-		if (aliasIndex == null) {
-			aliasIndex = HashUtil.getHashMap();
+		lock.lock();
+		try {
+			if (columnAlias == null) {
+				columnAlias = HashUtil.getHashMap();
+			}
+			columnAlias.put(index, alias);
+			if (aliasIndex == null) {
+				aliasIndex = HashUtil.getHashMap();
+			}
+			aliasIndex.put(alias, index);
+		} finally {
+			lock.unlock();
 		}
-		aliasIndex.put(alias, index);
-		lock.unlock();
 	}
 
 	/**
@@ -4,10 +4,13 @@ import de.topicmapslab.tmql4j.components.processor.core.QueryMatches;
 import de.topicmapslab.tmql4j.components.processor.results.jtmqr.writer.v1.JTMQRMapper;
 import de.topicmapslab.tmql4j.components.processor.results.jtmqr.writer.v2.JTMQR2Mapper;
 import de.topicmapslab.tmql4j.components.processor.results.model.IResult;
+import de.topicmapslab.tmql4j.components.processor.results.model.IResultCursor;
 import de.topicmapslab.tmql4j.components.processor.results.model.IResultSet;
 import de.topicmapslab.tmql4j.components.processor.results.tmdm.SimpleResultSet;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
+import org.codehaus.jackson.JsonEncoding;
 import org.codehaus.jackson.JsonGenerationException;
+import org.codehaus.jackson.JsonGenerator;
 import org.codehaus.jackson.map.ObjectMapper;
 
 import java.io.ByteArrayOutputStream;
@@ -18,9 +21,15 @@ import java.io.OutputStream;
  * Author: mhoyer Created: 28.10.2010 02:26:45
  */
 public class JTMQRWriter {
-	private static final String UTF_8 = "UTF-8";
+	/**
+	 * the shared mappers of each JTMQR version, a configured mapper is
+	 * thread-safe and caches the serializers it has looked up
+	 */
+	private static final ObjectMapper JTMQR_1_MAPPER = new JTMQRMapper();
+	private static final ObjectMapper JTMQR_2_MAPPER = new JTMQR2Mapper();
 	private OutputStream out;
 	private ObjectMapper mapper;
+	private JTMQRFormat format;
 
 	public JTMQRWriter(OutputStream outputStream) {
 		this(outputStream, JTMQRFormat.JTMQR_1);
@@ -29,11 +38,19 @@ public class JTMQRWriter {
 	public JTMQRWriter(OutputStream outputStream, JTMQRFormat format) {
 		out = outputStream;
         mapper = getMapper(format);
+        this.format = format;
     }
 
+    /**
+     * Returns the shared mapper of the given JTMQR version. The mapper must not be
+     * reconfigured.
+     * 
+     * @param format the JTMQR version
+     * @return the mapper
+     */
     private static ObjectMapper getMapper(JTMQRFormat format) {
-        if(format.equals(JTMQRFormat.JTMQR_1)) return new JTMQRMapper();
-        if(format.equals(JTMQRFormat.JTMQR_2)) return new JTMQR2Mapper();
+        if(format.equals(JTMQRFormat.JTMQR_1)) return JTMQR_1_MAPPER;
+        if(format.equals(JTMQRFormat.JTMQR_2)) return JTMQR_2_MAPPER;
 
         throw new RuntimeException("Unexpected JTMQR Format");
     }
@@ -66,6 +83,86 @@ public class JTMQRWriter {
 		}
 	}
 
+	/**
+	 * Writes the remaining results of the given cursor to JTMQR. Each result
+	 * is written as soon as it is read from the cursor.
+	 * 
+	 * @param cursor
+	 *            the cursor to write
+	 * @throws IOException
+	 *             thrown if an I/O error occur
+	 * @since 3.2.0
+	 */
+	public void write(IResultCursor cursor) throws IOException {
+		JsonGenerator jgen = createGenerator();
+		if (format.equals(JTMQRFormat.JTMQR_1)) {
+			new de.topicmapslab.tmql4j.components.processor.results.jtmqr.writer.v1.SequenceSerializer().serialize(cursor, jgen);
+		} else {
+			new de.topicmapslab.tmql4j.components.processor.results.jtmqr.writer.v2.SequenceSerializer().serialize(cursor, jgen);
+		}
+		jgen.flush();
+	}
+
+	/**
+	 * Creates a generator writing directly to the output stream of this
+	 * writer. The generator does not close the stream.
+	 * 
+	 * @return the generator
+	 * @throws IOException
+	 *             thrown if an I/O error occur
+	 */
+	private JsonGenerator createGenerator() throws IOException {
+		JsonGenerator jgen = mapper.getJsonFactory().createJsonGenerator(out, JsonEncoding.UTF8);
+		jgen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		jgen.setCodec(mapper);
+		return jgen;
+	}
+
+	/**
+	 * Static method to write the given result set as JTMQR directly to the
+	 * given stream. Each result is written as soon as it is serialized, the
+	 * JSON is not buffered in memory. The stream is not closed.
+	 * 
+	 * @param outputStream
+	 *            the stream
+	 * @param resultSet
+	 *            the result set to write
+	 * @param format
+	 *            the JTMQR version to be used for serialization.
+	 * @throws IOException
+	 *             thrown if an I/O error occur
+	 * @since 3.2.0
+	 */
+	public static void write(OutputStream outputStream, IResultSet<?> resultSet, JTMQRFormat format) throws IOException {
+		if (!(resultSet instanceof SimpleResultSet)) {
+			throw new JsonGenerationException("Only simple query results are supported by now. (no CTM or XTM).");
+		}
+		JTMQRWriter writer = new JTMQRWriter(outputStream, format);
+		JsonGenerator jgen = writer.createGenerator();
+		writer.mapper.writeValue(jgen, resultSet);
+		jgen.flush();
+	}
+
+	/**
+	 * Static method to write the remaining results of the given cursor as
+	 * JTMQR directly to the given stream. Each result is written as soon as it
+	 * is read from the cursor, so the serialization overlaps the evaluation of
+	 * the query. The stream is not closed.
+	 * 
+	 * @param outputStream
+	 *            the stream
+	 * @param cursor
+	 *            the cursor to write
+	 * @param format
+	 *            the JTMQR version to be used for serialization.
+	 * @throws IOException
+	 *             thrown if an I/O error occur
+	 * @since 3.2.0
+	 */
+	public static void write(OutputStream outputStream, IResultCursor cursor, JTMQRFormat format) throws IOException {
+		new JTMQRWriter(outputStream, format).write(cursor);
+	}
+
 	/**
 	 * Flush the internal stream
 	 */
@@ -83,7 +180,7 @@ public class JTMQRWriter {
 	 *             thrown if an I/O error occur
 	 */
 	public static String getJson(IResult result, JTMQRFormat format) throws IOException {
-		return getJsonAsStream(result, format).toString(UTF_8);
+		return getMapper(format).writeValueAsString(result);
 	}
 
     /**
@@ -106,7 +203,7 @@ public class JTMQRWriter {
 	 *             thrown if an I/O error occur
 	 */
 	public static byte[] getJsonAsByteArray(IResult result, JTMQRFormat format) throws IOException {
-		return getJsonAsStream(result, format).toByteArray();
+		return getMapper(format).writeValueAsBytes(result);
 	}
 
     /**
@@ -155,7 +252,10 @@ public class JTMQRWriter {
 	 *             thrown if an I/O error occur
 	 */
 	public static String getJson(IResultSet<?> resultSet, JTMQRFormat format) throws IOException {
-		return getJsonAsStream(resultSet, format).toString();
+		if (!(resultSet instanceof SimpleResultSet)) {
+			throw new JsonGenerationException("Only simple query results are supported by now. (no CTM or XTM).");
+		}
+		return getMapper(format).writeValueAsString(resultSet);
 	}
 
     /**
@@ -178,7 +278,10 @@ public class JTMQRWriter {
 	 *             thrown if an I/O error occur
 	 */
 	public static byte[] getJsonAsByteArray(IResultSet<?> resultSet, JTMQRFormat format) throws IOException {
-		return getJsonAsStream(resultSet, format).toByteArray();
+		if (!(resultSet instanceof SimpleResultSet)) {
+			throw new JsonGenerationException("Only simple query results are supported by now. (no CTM or XTM).");
+		}
+		return getMapper(format).writeValueAsBytes(resultSet);
 	}
 
     /**
@@ -228,10 +331,7 @@ public class JTMQRWriter {
 	 */
 	public static String getJson(QueryMatches matches, JTMQRFormat format) throws TMQLRuntimeException {
 		try {
-			ByteArrayOutputStream stream = new ByteArrayOutputStream();
-			getJsonAsStream(stream, matches, format);
-			stream.flush();
-			return stream.toString(UTF_8);
+			return getMapper(format).writeValueAsString(matches);
 		} catch (IOException e) {
 			throw new TMQLRuntimeException("Cannot convert to JTMQR", e);
 		}
@@ -1,19 +1,30 @@
 package de.topicmapslab.tmql4j.components.processor.results.jtmqr.writer.v1;
 
 import java.io.IOException;
+import java.util.Map;
 
+import org.codehaus.jackson.JsonGenerationException;
 import org.codehaus.jackson.JsonGenerator;
 import org.codehaus.jackson.map.JsonSerializer;
 import org.codehaus.jackson.map.SerializerProvider;
 import org.codehaus.jackson.map.annotate.JsonSerialize;
 
+import de.topicmapslab.tmql4j.components.processor.results.model.IResult;
+import de.topicmapslab.tmql4j.components.processor.results.model.IResultCursor;
 import de.topicmapslab.tmql4j.components.processor.results.tmdm.SimpleResult;
 import de.topicmapslab.tmql4j.components.processor.results.tmdm.SimpleResultSet;
+import de.topicmapslab.tmql4j.util.HashUtil;
 
 /**
  * Author: mhoyer Created: 28.10.2010 11:27
  */
 public class SequenceSerializer extends JsonSerializer<SimpleResultSet> {
+	/**
+	 * the serializer of the tuples, called directly to avoid the look-up of
+	 * the serializer for each tuple
+	 */
+	private final TupleSerializer tupleSerializer = new TupleSerializer();
+
 	/**
 	 * Internal class representing the content serializer
 	 */
@@ -39,7 +50,7 @@ public class SequenceSerializer extends JsonSerializer<SimpleResultSet> {
 		 * write content
 		 */
 		for (SimpleResult result : sequence.getResults()) {
-			jgen.writeObject(result);
+			tupleSerializer.serialize(result, jgen, provider);
 		}
 
 		/*
@@ -94,4 +105,74 @@ public class SequenceSerializer extends JsonSerializer<SimpleResultSet> {
 		jgen.writeEndObject();
 	}
 
+	/**
+	 * Writes the remaining results of the given cursor. Each result is written
+	 * as soon as it is read from the cursor. The first result is read before
+	 * the meta data is written, because the aliases are registered during the
+	 * evaluation of the query. The number of rows is not known in advance, so
+	 * the meta data does not contain it.
+	 * 
+	 * @param cursor
+	 *            the cursor
+	 * @param jgen
+	 *            the generator
+	 * @throws IOException
+	 *             thrown if anything fails
+	 * @since 3.2.0
+	 */
+	public void serialize(IResultCursor cursor, JsonGenerator jgen) throws IOException {
+		boolean hasNext = cursor.next();
+		jgen.writeStartObject();
+		jgen.writeNumberField(IJtmQrKeys.VERSION, 1.0);
+		addMetadata(cursor, hasNext ? cursor.getResult().size() : 0, jgen);
+		jgen.writeFieldName(IJtmQrKeys.SEQUENCE);
+		jgen.writeStartArray();
+		while (hasNext) {
+			IResult result = cursor.getResult();
+			if (!(result instanceof SimpleResult)) {
+				throw new JsonGenerationException("Only simple query results are supported by now. (no CTM or XTM).");
+			}
+			tupleSerializer.serialize((SimpleResult) result, jgen, null);
+			hasNext = cursor.next();
+		}
+		jgen.writeEndArray();
+		jgen.writeEndObject();
+	}
+
+	/**
+	 * Utility method to write meta data field of a cursor
+	 * 
+	 * @param cursor
+	 *            the cursor
+	 * @param cols
+	 *            the number of columns
+	 * @param jgen
+	 *            the generator
+	 * @throws IOException
+	 *             thrown if anything fails
+	 */
+	private void addMetadata(IResultCursor cursor, int cols, JsonGenerator jgen) throws IOException {
+		jgen.writeFieldName(IJtmQrKeys.METADATA);
+		jgen.writeStartObject();
+		jgen.writeNumberField(IJtmQrKeys.COLUMNS, cols);
+		Map<Integer, String> aliases = HashUtil.getHashMap();
+		for (String alias : cursor.getAliases()) {
+			aliases.put(cursor.getIndex(alias), alias);
+		}
+		if (!aliases.isEmpty()) {
+			jgen.writeFieldName(IJtmQrKeys.ALIASES);
+			jgen.writeStartObject();
+			for (int col = 0; col < cols; col++) {
+				String alias = aliases.get(col);
+				if (alias != null) {
+					jgen.writeStringField(Integer.toString(col), alias);
+				} else {
+					jgen.writeNullField(Integer.toString(col));
+				}
+			}
+			jgen.writeEndObject();
+		}
+		jgen.writeEndObject();
+	}
+
 }
@@ -1,14 +1,19 @@
 package de.topicmapslab.tmql4j.components.processor.results.jtmqr.writer.v2;
 
 import java.io.IOException;
+import java.util.Map;
 
+import org.codehaus.jackson.JsonGenerationException;
 import org.codehaus.jackson.JsonGenerator;
 import org.codehaus.jackson.map.JsonSerializer;
 import org.codehaus.jackson.map.SerializerProvider;
 import org.codehaus.jackson.map.annotate.JsonSerialize;
 
+import de.topicmapslab.tmql4j.components.processor.results.model.IResult;
+import de.topicmapslab.tmql4j.components.processor.results.model.IResultCursor;
 import de.topicmapslab.tmql4j.components.processor.results.tmdm.SimpleResult;
 import de.topicmapslab.tmql4j.components.processor.results.tmdm.SimpleResultSet;
+import de.topicmapslab.tmql4j.util.HashUtil;
 
 /**
  * 
@@ -16,6 +21,12 @@ import de.topicmapslab.tmql4j.components.processor.results.tmdm.SimpleResultSet;
  *
  */
 public class SequenceSerializer extends JsonSerializer<SimpleResultSet> {
+	/**
+	 * the serializer of the tuples, called directly to avoid the look-up of
+	 * the serializer for each tuple
+	 */
+	private final TupleSerializer tupleSerializer = new TupleSerializer();
+
 	/**
 	 * Internal class representing the content serializer
 	 */
@@ -42,7 +53,7 @@ public class SequenceSerializer extends JsonSerializer<SimpleResultSet> {
 		 * write content
 		 */
 		for (SimpleResult result : sequence.getResults()) {
-			jgen.writeObject(result);
+			tupleSerializer.serialize(result, jgen, provider);
 		}
 
 		/*
@@ -98,4 +109,74 @@ public class SequenceSerializer extends JsonSerializer<SimpleResultSet> {
 		jgen.writeEndObject();
 	}
 
+	/**
+	 * Writes the remaining results of the given cursor. Each result is written
+	 * as soon as it is read from the cursor. The first result is read before
+	 * the meta data is written, because the aliases are registered during the
+	 * evaluation of the query. The number of rows is not known in advance, so
+	 * the meta data does not contain it.
+	 * 
+	 * @param cursor
+	 *            the cursor
+	 * @param jgen
+	 *            the generator
+	 * @throws IOException
+	 *             thrown if anything fails
+	 * @since 3.2.0
+	 */
+	public void serialize(IResultCursor cursor, JsonGenerator jgen) throws IOException {
+		boolean hasNext = cursor.next();
+		jgen.writeStartObject();
+		jgen.writeNumberField(IJtmQr2Keys.VERSION, 2.0);
+		addMetadata(cursor, hasNext ? cursor.getResult().size() : 0, jgen);
+		jgen.writeFieldName(IJtmQr2Keys.TUPLES);
+		jgen.writeStartArray();
+		while (hasNext) {
+			IResult result = cursor.getResult();
+			if (!(result instanceof SimpleResult)) {
+				throw new JsonGenerationException("Only simple query results are supported by now. (no CTM or XTM).");
+			}
+			tupleSerializer.serialize((SimpleResult) result, jgen, null);
+			hasNext = cursor.next();
+		}
+		jgen.writeEndArray();
+		jgen.writeEndObject();
+	}
+
+	/**
+	 * Utility method to write meta data field of a cursor
+	 * 
+	 * @param cursor
+	 *            the cursor
+	 * @param cols
+	 *            the number of columns
+	 * @param jgen
+	 *            the generator
+	 * @throws IOException
+	 *             thrown if anything fails
+	 */
+	private void addMetadata(IResultCursor cursor, int cols, JsonGenerator jgen) throws IOException {
+		jgen.writeFieldName(IJtmQr2Keys.METADATA);
+		jgen.writeStartObject();
+		jgen.writeNumberField(IJtmQr2Keys.COLUMNS, cols);
+		Map<Integer, String> aliases = HashUtil.getHashMap();
+		for (String alias : cursor.getAliases()) {
+			aliases.put(cursor.getIndex(alias), alias);
+		}
+		if (!aliases.isEmpty()) {
+			jgen.writeFieldName(IJtmQr2Keys.HEADERS);
+			jgen.writeStartArray();
+			for (int col = 0; col < cols; col++) {
+				String alias = aliases.get(col);
+				if (alias != null) {
+					jgen.writeString(alias);
+				} else {
+					jgen.writeNull();
+				}
+			}
+			jgen.writeEndArray();
+		}
+		jgen.writeEndObject();
+	}
+
 }
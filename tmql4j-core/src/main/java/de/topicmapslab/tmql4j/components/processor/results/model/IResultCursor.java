@@ -0,0 +1,188 @@
+/*
+ * TMQL4J - Javabased TMQL Engine
+ *
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.components.processor.results.model;
+
+import java.io.Closeable;
+import java.io.OutputStream;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import de.topicmapslab.tmql4j.components.processor.results.jtmqr.writer.JTMQRFormat;
+import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
+
+/**
+ * Interface definition of a pull-based cursor over the results of a query,
+ * similar to a JDBC result set. In contrast to an {@link IResultSet} the
+ * results are not materialized at once. They are produced by the query
+ * evaluation in the background and kept in a bounded prefetch buffer until
+ * they are read. The evaluation is blocked as long as the buffer is full.
+ * <p>
+ * A cursor has to be closed if it is not read until the end. Closing the
+ * cursor abandons the evaluation of the query.
+ * </p>
+ *
+ * <pre>
+ * IResultCursor cursor = runtime.cursor(topicMap, query);
+ * try {
+ * 	while (cursor.next()) {
+ * 		Object value = cursor.get(0);
+ * 	}
+ * } finally {
+ * 	cursor.close();
+ * }
+ * </pre>
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ * @since 3.2.0
+ */
+public interface IResultCursor extends Closeable {
+
+	/**
+	 * Moves the cursor to the next result. The method blocks until the next
+	 * result is produced by the query evaluation or the evaluation is
+	 * finished.
+	 *
+	 * @return <code>true</code> if the cursor points to the next result,
+	 *         <code>false</code> if there are no more results or the cursor is
+	 *         closed
+	 * @throws TMQLRuntimeException
+	 *             thrown if the evaluation of the query fails
+	 */
+	public boolean next() throws TMQLRuntimeException;
+
+	/**
+	 * Returns the result the cursor points to
+	 *
+	 * @return the current result
+	 * @throws NoSuchElementException
+	 *             thrown if {@link #next()} was not called or returns
+	 *             <code>false</code>
+	 */
+	public IResult getResult() throws NoSuchElementException;
+
+	/**
+	 * Returns the value of the current result at the given index
+	 *
+	 * @param <T>
+	 *            the type of the value
+	 * @param index
+	 *            the index
+	 * @return the value
+	 * @throws NoSuchElementException
+	 *             thrown if the cursor does not point to a result
+	 */
+	public <T extends Object> T get(int index) throws NoSuchElementException;
+
+	/**
+	 * Returns the value of the current result at the column with the given
+	 * alias
+	 *
+	 * @param <T>
+	 *            the type of the value
+	 * @param alias
+	 *            the alias
+	 * @return the value
+	 * @throws NoSuchElementException
+	 *             thrown if the cursor does not point to a result
+	 * @throws IllegalArgumentException
+	 *             thrown if the alias is unknown
+	 */
+	public <T extends Object> T get(String alias) throws NoSuchElementException;
+
+	/**
+	 * Checks if the value of the current result at the given index is
+	 * <code>null</code>
+	 *
+	 * @param index
+	 *            the index
+	 * @return <code>true</code> if the value is <code>null</code>
+	 * @throws NoSuchElementException
+	 *             thrown if the cursor does not point to a result
+	 */
+	public boolean isNullValue(int index) throws NoSuchElementException;
+
+	/**
+	 * Returns the index of the current result, starting with <code>0</code>
+	 *
+	 * @return the index or <code>-1</code> if {@link #next()} was not called
+	 */
+	public int getRow();
+
+	/**
+	 * Returns all aliases known at the moment. Aliases are registered during
+	 * the evaluation of the query, so the set may grow as long as the cursor
+	 * is not read until the end.
+	 *
+	 * @return the aliases
+	 */
+	public Set<String> getAliases();
+
+	/**
+	 * Returns the index of the column with the given alias
+	 *
+	 * @param alias
+	 *            the alias
+	 * @return the index or <code>-1</code> if the alias is unknown
+	 */
+	public int getIndex(String alias);
+
+	/**
+	 * Closes the cursor and abandons the evaluation of the query. The method
+	 * has no effect if the cursor is already closed.
+	 */
+	public void close();
+
+	/**
+	 * Checks if the cursor was closed
+	 *
+	 * @return <code>true</code> if the cursor was closed
+	 */
+	public boolean isClosed();
+
+	/**
+	 * Writes all remaining results as JTMQR to the given stream. Each result
+	 * is written as soon as it is produced. The number of rows is not known in
+	 * advance and therefore not contained by the meta data.
+	 *
+	 * @param os
+	 *            the output stream
+	 * @param format
+	 *            the JTMQR version
+	 * @throws UnsupportedOperationException
+	 *             thrown if the results cannot be transformed to JTMQR
+	 */
+	public void toJTMQR(OutputStream os, JTMQRFormat format) throws UnsupportedOperationException;
+
+	/**
+	 * Writes all topics and associations of the remaining results as CTM to
+	 * the given stream. Only the constructs are collected, the results are
+	 * released as soon as they are read.
+	 *
+	 * @param os
+	 *            the output stream
+	 * @throws UnsupportedOperationException
+	 *             thrown if the results cannot be transformed to CTM
+	 */
+	public void toCTM(OutputStream os) throws UnsupportedOperationException;
+
+	/**
+	 * Writes all topics and associations of the remaining results as XTM to
+	 * the given stream. Only the constructs are collected, the results are
+	 * released as soon as they are read.
+	 *
+	 * @param os
+	 *            the output stream
+	 * @throws UnsupportedOperationException
+	 *             thrown if the results cannot be transformed to XTM
+	 */
+	public void toXTM(OutputStream os) throws UnsupportedOperationException;
+}
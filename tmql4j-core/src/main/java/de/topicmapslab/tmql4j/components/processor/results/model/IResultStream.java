@@ -0,0 +1,51 @@
+/*
+ * TMQL4J - Javabased TMQL Engine
+ *
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.components.processor.results.model;
+
+import de.topicmapslab.tmql4j.components.processor.core.IContext;
+import de.topicmapslab.tmql4j.components.processor.core.QueryMatches;
+import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
+
+/**
+ * Interface definition of a consumer of the final results of a query, which
+ * is available by the context of a query evaluated for an
+ * {@link IResultCursor}. Interpreters of top-level expressions may emit their
+ * results in chunks to the stream instead of returning them at once. The
+ * emitted results are not returned by the interpreter.
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ * @since 3.2.0
+ */
+public interface IResultStream {
+
+	/**
+	 * Emits the next chunk of final results. The method blocks as long as the
+	 * consumer does not accept further results.
+	 *
+	 * @param context
+	 *            the querying context
+	 * @param matches
+	 *            the results
+	 * @throws TMQLRuntimeException
+	 *             thrown if the stream was closed by the consumer, to abandon
+	 *             the evaluation
+	 */
+	public void emit(IContext context, QueryMatches matches) throws TMQLRuntimeException;
+
+	/**
+	 * Checks if the consumer closed the stream. The evaluation may stop in
+	 * this case.
+	 *
+	 * @return <code>true</code> if the stream was closed
+	 */
+	public boolean isClosed();
+}
@@ -9,7 +9,6 @@
 package de.topicmapslab.tmql4j.components.processor.results.model;
 
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -32,10 +31,10 @@ public class ProjectionUtils {
 	 * @return the result tuples
 	 */
 	public static List<List<Object>> asNDimensional(QueryMatches matches) {
-		List<List<Object>> results = new LinkedList<List<Object>>();
+		List<List<Object>> results = HashUtil.getList(matches.size());
 		List<String> keys = matches.getOrderedKeys();
 		for (Map<String, Object> tuple : matches) {
-			List<Object> current = new LinkedList<Object>();
+			List<Object> current = HashUtil.getList(keys.size());
 			for (String key : keys) {
 				current.add(tuple.get(key));
 			}
@@ -53,10 +52,10 @@ public class ProjectionUtils {
 	 * @return the result tuples
 	 */
 	public static List<List<Object>> asTwoDimensional(QueryMatches matches) {
-		List<List<Object>> results = new LinkedList<List<Object>>();
+		List<List<Object>> results = HashUtil.getList(matches.size());
 		List<String> keys = matches.getOrderedKeys();
 		for (Map<String, Object> tuple : matches) {
-			List<Object> current = new LinkedList<Object>();
+			List<Object> current = HashUtil.getList(keys.size());
 			asTwoDimensional(tuple, keys, current, results);
 		}
 		return results;
@@ -84,8 +83,7 @@ public class ProjectionUtils {
 		/*
 		 * get next iteration lists
 		 */
-		List<String> keys_ = new LinkedList<String>(keys);
-		keys_.remove(key);
+		List<String> keys_ = keys.subList(1, keys.size());
 
 		Object value = tuple.get(key);
 		// if (value == null) {
@@ -99,7 +97,7 @@ public class ProjectionUtils {
 		 */
 		if (value instanceof Collection<?>) {
 			for (Object val : CollectionsUtility.asTwoDimension((Collection<Object>) value)) {
-				List<Object> current_ = new LinkedList<Object>(current);
+				List<Object> current_ = HashUtil.getList(current);
 				current_.add(val);
 				if (keys_.isEmpty()) {
 					results.add(current_);
@@ -108,7 +106,7 @@ public class ProjectionUtils {
 				}
 			}
 		} else {
-			List<Object> current_ = new LinkedList<Object>(current);
+			List<Object> current_ = HashUtil.getList(current);
 			current_.add(value);
 			if (keys_.isEmpty()) {
 				results.add(current_);
@@ -127,7 +125,7 @@ public class ProjectionUtils {
 	 * @return the result tuples
 	 */
 	public static List<Map<String, Object>> asTwoDimensionalMap(QueryMatches matches) {
-		List<Map<String, Object>> results = HashUtil.getList();
+		List<Map<String, Object>> results = HashUtil.getList(matches.size());
 		List<String> keys = matches.getOrderedKeys();
 		for (Map<String, Object> tuple : matches) {
 			Map<String, Object> current = HashUtil.getHashMap();
@@ -158,8 +156,7 @@ public class ProjectionUtils {
 		/*
 		 * get next iteration lists
 		 */
-		List<String> keys_ = new LinkedList<String>(keys);
-		keys_.remove(key);
+		List<String> keys_ = keys.subList(1, keys.size());
 
 		Object value = tuple.get(key);
 		// if (value == null) {
@@ -139,13 +139,27 @@ public class SimpleResultSet extends ResultSet<SimpleResult> {
 	 * {@inheritDoc}
 	 */
 	public void toCTM(OutputStream os) throws UnsupportedOperationException {
-		TopicMap topicMap = getTopicMap();
+		toCTM(getTopicMap(), getConstruct(), os);
+	}
+
+	/**
+	 * Writes the given constructs as CTM to the given stream
+	 * 
+	 * @param topicMap
+	 *            the topic map containing the constructs
+	 * @param constructs
+	 *            the topics and associations
+	 * @param os
+	 *            the output stream
+	 * @since 3.2.0
+	 */
+	public static void toCTM(TopicMap topicMap, Collection<Construct> constructs, OutputStream os) {
 		if (topicMap == null) {
 			throw new TMQLRuntimeException("Missing topic map!");
 		}
 		CTMTopicMapWriter writer = new CTMTopicMapWriter(os, topicMap.getLocator().getReference());
 		try {
-			writer.write(getConstruct());
+			writer.write(constructs);
 			os.flush();
 		} catch (IOException e) {
 			throw new TMQLRuntimeException("An I/O eror occur!", e);
@@ -160,15 +174,29 @@ public class SimpleResultSet extends ResultSet<SimpleResult> {
 	private Collection<Construct> getConstruct() {
 		Collection<Construct> constructs = HashUtil.getHashSet();
 		for (IResult r : getResults()) {
-			for (Object o : r.getResults()) {
-				if (o instanceof Topic || o instanceof Association) {
-					constructs.add((Construct) o);
-				}
-			}
+			addConstructs(r, constructs);
 		}
 		return constructs;
 	}
 
+	/**
+	 * Utility method to add the values of the given result representing a
+	 * topic or association to the given collection
+	 * 
+	 * @param result
+	 *            the result
+	 * @param constructs
+	 *            the collection to add the constructs to
+	 * @since 3.2.0
+	 */
+	public static void addConstructs(IResult result, Collection<Construct> constructs) {
+		for (Object o : result.getResults()) {
+			if (o instanceof Topic || o instanceof Association) {
+				constructs.add((Construct) o);
+			}
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -186,8 +214,24 @@ public class SimpleResultSet extends ResultSet<SimpleResult> {
 	 * {@inheritDoc}
 	 */
 	public void toXTM(OutputStream os) throws UnsupportedOperationException {
-		TopicMapSystem topicMapSystem = getTopicMapSystem();
-		TopicMap topicMap = getTopicMap();
+		toXTM(getTopicMapSystem(), getTopicMap(), getConstruct(), os);
+	}
+
+	/**
+	 * Writes the given constructs as XTM to the given stream. The constructs
+	 * are copied to a temporary topic map of the given topic map system.
+	 * 
+	 * @param topicMapSystem
+	 *            the topic map system
+	 * @param topicMap
+	 *            the topic map containing the constructs
+	 * @param constructs
+	 *            the topics and associations
+	 * @param os
+	 *            the output stream
+	 * @since 3.2.0
+	 */
+	public static void toXTM(TopicMapSystem topicMapSystem, TopicMap topicMap, Collection<Construct> constructs, OutputStream os) {
 		if (topicMap == null || topicMapSystem == null) {
 			throw new TMQLRuntimeException("Missing topic map system or topic map!");
 		}
@@ -198,7 +242,7 @@ public class SimpleResultSet extends ResultSet<SimpleResult> {
 		} catch (TopicMapExistsException e) {
 			throw new TMQLRuntimeException("An internal error occur. The base IRI already exists in topic map system!", e);
 		}
-		ConstructCopy.copyIn(xtm, getConstruct());
+		ConstructCopy.copyIn(xtm, constructs);
 		try {
 			XTM2TopicMapWriter writer = new XTM2TopicMapWriter(os, baseIRI, XTMVersion.XTM_2_1);
 			writer.write(xtm);
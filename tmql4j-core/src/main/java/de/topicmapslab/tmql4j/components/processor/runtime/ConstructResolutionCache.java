@@ -0,0 +1,168 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.components.processor.runtime;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.tmapi.core.Construct;
+
+/**
+ * Cache of the item references resolved during one query execution. The cache
+ * is created with the root context of the execution and shared by all
+ * contexts derived from it, so an anchor like <code>person</code> is resolved
+ * once per query instead of once per tuple.
+ * <p>
+ * The cache stores the absolute IRIs of the item references as well as the
+ * constructs they identify. Unknown references are not cached. The cache has
+ * to be invalidated if the prefixes of the query change or if the query
+ * modifies the topic map, because a modification may remove or merge a
+ * cached construct or change its identities.
+ * </p>
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ * @since 3.2.0
+ */
+public class ConstructResolutionCache {
+
+	/**
+	 * the absolute IRIs by item reference
+	 */
+	private final Map<String, String> identifiers = new ConcurrentHashMap<String, String>();
+	/**
+	 * the constructs by item reference
+	 */
+	private final Map<String, Construct> constructs = new ConcurrentHashMap<String, Construct>();
+
+	/**
+	 * the metrics
+	 */
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong invalidations = new AtomicLong();
+
+	/**
+	 * Returns the cached absolute IRI of the given item reference
+	 *
+	 * @param identifier
+	 *            the item reference
+	 * @return the absolute IRI or <code>null</code> if it is not cached
+	 */
+	public String getAbsoluteIdentifier(final String identifier) {
+		return identifiers.get(identifier);
+	}
+
+	/**
+	 * Stores the absolute IRI of the given item reference
+	 *
+	 * @param identifier
+	 *            the item reference
+	 * @param absoluteIdentifier
+	 *            the absolute IRI
+	 */
+	public void putAbsoluteIdentifier(final String identifier, final String absoluteIdentifier) {
+		identifiers.put(identifier, absoluteIdentifier);
+	}
+
+	/**
+	 * Returns the cached construct of the given item reference. Counts a hit
+	 * or miss of the cache.
+	 *
+	 * @param identifier
+	 *            the item reference
+	 * @return the construct or <code>null</code> if it is not cached
+	 */
+	public Construct getConstruct(final String identifier) {
+		Construct construct = constructs.get(identifier);
+		if (construct == null) {
+			misses.incrementAndGet();
+		} else {
+			hits.incrementAndGet();
+		}
+		return construct;
+	}
+
+	/**
+	 * Stores the construct of the given item reference
+	 *
+	 * @param identifier
+	 *            the item reference
+	 * @param construct
+	 *            the construct
+	 */
+	public void putConstruct(final String identifier, final Construct construct) {
+		constructs.put(identifier, construct);
+	}
+
+	/**
+	 * Clears the cached constructs because the topic map was modified
+	 */
+	public void invalidate() {
+		if (!constructs.isEmpty()) {
+			invalidations.incrementAndGet();
+			constructs.clear();
+		}
+	}
+
+	/**
+	 * Clears the cached IRIs and constructs because the prefixes were
+	 * modified
+	 */
+	public void invalidateIdentifiers() {
+		identifiers.clear();
+		invalidate();
+	}
+
+	/**
+	 * Returns the number of cached constructs
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		return constructs.size();
+	}
+
+	/**
+	 * Returns the number of item references resolved by the cache
+	 *
+	 * @return the number of hits
+	 */
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * Returns the number of item references resolved by the topic map
+	 *
+	 * @return the number of misses
+	 */
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * Returns the number of times the cache was cleared because of a
+	 * modification
+	 *
+	 * @return the number of invalidations
+	 */
+	public long getInvalidationCount() {
+		return invalidations.get();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "ConstructResolutionCache [size=" + constructs.size() + ", hits=" + hits + ", misses=" + misses + ", invalidations=" + invalidations + "]";
+	}
+}
@@ -0,0 +1,302 @@
+/*
+ * TMQL4J - Javabased TMQL Engine
+ *
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.components.processor.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import de.topicmapslab.tmql4j.components.processor.core.IContext;
+import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
+
+/**
+ * Bounded pool of worker threads shared by all queries executed by one
+ * runtime. Interpreters use the pool to process independent items, like the
+ * bindings of a return-clause, in parallel.
+ * <p>
+ * The items are split into at most as many partitions as the pool has
+ * workers, each containing at least {@link #getThreshold()} items. If there
+ * are not enough items for two partitions, the parallel execution is disabled
+ * for the query or the parallelism of the pool is <code>1</code>, the items
+ * are processed sequentially by the calling thread.
+ * </p>
+ * <p>
+ * The calling thread processes the first partition itself and afterwards any
+ * partition which is not yet started by a worker. It only waits for
+ * partitions which are already processed by other threads, so nested
+ * executions of sub-queries do not block each other even if all workers are
+ * busy.
+ * </p>
+ * <p>
+ * The parallel execution can be disabled for a query by the pragma
+ * <code>%pragma parallelism tm:sequential</code>.
+ * </p>
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ * @since 3.2.0
+ */
+public class ExecutionPool {
+
+	/**
+	 * the default minimum number of items of one partition
+	 */
+	public static final int DEFAULT_THRESHOLD = 64;
+
+	/**
+	 * the number of created worker threads
+	 */
+	private static final AtomicInteger threadNumber = new AtomicInteger();
+
+	/**
+	 * the workers, created at the first parallel execution
+	 */
+	private ThreadPoolExecutor executor;
+
+	/**
+	 * the maximum number of partitions
+	 */
+	private volatile int parallelism;
+
+	/**
+	 * the minimum number of items of one partition
+	 */
+	private volatile int threshold;
+
+	/**
+	 * constructor, using one partition for each available processor
+	 */
+	public ExecutionPool() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * constructor
+	 *
+	 * @param parallelism
+	 *            the maximum number of partitions, <code>1</code> disables the
+	 *            parallel execution
+	 */
+	public ExecutionPool(int parallelism) {
+		setParallelism(parallelism);
+		this.threshold = DEFAULT_THRESHOLD;
+	}
+
+	/**
+	 * Processes the given items by the given task. The results of the
+	 * partitions are returned in the order of the partitions.
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 * @param <R>
+	 *            the type of the result of one partition
+	 * @param context
+	 *            the querying context or <code>null</code>
+	 * @param items
+	 *            the items to process
+	 * @param task
+	 *            the task processing one partition
+	 * @return the results of all partitions
+	 * @throws TMQLRuntimeException
+	 *             thrown if the task fails for any partition
+	 */
+	public <T, R> List<R> execute(IContext context, List<T> items, IPartitionTask<T, R> task) throws TMQLRuntimeException {
+		final int partitions = getNumberOfPartitions(context, items.size());
+		List<R> results = new ArrayList<R>(partitions);
+		if (partitions < 2) {
+			results.add(task.call(items, 0));
+			return results;
+		}
+		final List<T> list = items instanceof RandomAccess ? items : new ArrayList<T>(items);
+		/*
+		 * submit all partitions except the first one
+		 */
+		List<FutureTask<R>> futures = new ArrayList<FutureTask<R>>(partitions - 1);
+		ThreadPoolExecutor executor = getExecutor();
+		for (int i = 1; i < partitions; i++) {
+			final int from = getBound(list.size(), partitions, i);
+			final int to = getBound(list.size(), partitions, i + 1);
+			final IPartitionTask<T, R> task_ = task;
+			FutureTask<R> future = new FutureTask<R>(new Callable<R>() {
+				/**
+				 * {@inheritDoc}
+				 */
+				public R call() throws Exception {
+					return task_.call(list.subList(from, to), from);
+				}
+			});
+			futures.add(future);
+			executor.execute(future);
+		}
+		try {
+			results.add(task.call(list.subList(0, getBound(list.size(), partitions, 1)), 0));
+			for (FutureTask<R> future : futures) {
+				/*
+				 * process the partition by the calling thread if it is not
+				 * started yet, otherwise wait for it
+				 */
+				future.run();
+				results.add(future.get());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new TMQLRuntimeException(e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof TMQLRuntimeException) {
+				throw (TMQLRuntimeException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new TMQLRuntimeException(cause);
+		} finally {
+			/*
+			 * abandon the remaining partitions if any partition fails
+			 */
+			for (FutureTask<R> future : futures) {
+				future.cancel(false);
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Returns the number of partitions for the given number of items
+	 *
+	 * @param context
+	 *            the querying context or <code>null</code>
+	 * @param size
+	 *            the number of items
+	 * @return the number of partitions, <code>1</code> if the items has to be
+	 *         processed sequentially
+	 */
+	public int getNumberOfPartitions(IContext context, int size) {
+		if (context != null && !context.isParallel()) {
+			return 1;
+		}
+		return Math.max(1, Math.min(parallelism, size / Math.max(1, threshold)));
+	}
+
+	/**
+	 * Returns the lower bound of the partition with the given index
+	 *
+	 * @param size
+	 *            the number of items
+	 * @param partitions
+	 *            the number of partitions
+	 * @param index
+	 *            the index of the partition
+	 * @return the index of the first item of the partition
+	 */
+	private int getBound(int size, int partitions, int index) {
+		return (int) ((long) size * index / partitions);
+	}
+
+	/**
+	 * Returns the workers and creates them if necessary
+	 *
+	 * @return the workers
+	 */
+	private synchronized ThreadPoolExecutor getExecutor() {
+		if (executor == null) {
+			executor = new ThreadPoolExecutor(parallelism, parallelism, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+				/**
+				 * {@inheritDoc}
+				 */
+				public Thread newThread(Runnable r) {
+					Thread thread = new Thread(r, "tmql4j-worker-" + threadNumber.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+			/*
+			 * idle workers of an unused runtime are released
+			 */
+			executor.allowCoreThreadTimeOut(true);
+		}
+		return executor;
+	}
+
+	/**
+	 * Returns the maximum number of partitions
+	 *
+	 * @return the parallelism
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * Changes the maximum number of partitions and the number of workers
+	 *
+	 * @param parallelism
+	 *            the parallelism, <code>1</code> disables the parallel
+	 *            execution
+	 */
+	public synchronized void setParallelism(int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism has to be positive.");
+		}
+		if (executor != null) {
+			if (parallelism > executor.getMaximumPoolSize()) {
+				executor.setMaximumPoolSize(parallelism);
+				executor.setCorePoolSize(parallelism);
+			} else {
+				executor.setCorePoolSize(parallelism);
+				executor.setMaximumPoolSize(parallelism);
+			}
+		}
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Returns the minimum number of items of one partition
+	 *
+	 * @return the threshold
+	 */
+	public int getThreshold() {
+		return threshold;
+	}
+
+	/**
+	 * Changes the minimum number of items of one partition. Items are
+	 * processed sequentially if there are less than two times the threshold.
+	 *
+	 * @param threshold
+	 *            the threshold
+	 */
+	public void setThreshold(int threshold) {
+		if (threshold < 1) {
+			throw new IllegalArgumentException("Threshold has to be positive.");
+		}
+		this.threshold = threshold;
+	}
+
+	/**
+	 * Stops all workers. Executions started afterwards create new workers.
+	 */
+	public synchronized void shutdown() {
+		if (executor != null) {
+			executor.shutdown();
+			executor = null;
+		}
+	}
+}
@@ -0,0 +1,45 @@
+/*
+ * TMQL4J - Javabased TMQL Engine
+ *
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.components.processor.runtime;
+
+import java.util.List;
+
+import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
+
+/**
+ * Interface definition of a task processing one partition of items, which is
+ * executed by the {@link ExecutionPool} of a runtime. The partitions of one
+ * execution may be processed concurrently, so the task must not modify any
+ * shared state without synchronization.
+ *
+ * @param <T>
+ *            the type of the items
+ * @param <R>
+ *            the type of the result of one partition
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ * @since 3.2.0
+ */
+public interface IPartitionTask<T, R> {
+
+	/**
+	 * Processes the given partition of items
+	 *
+	 * @param partition
+	 *            the items of the partition
+	 * @param fromIndex
+	 *            the index of the first item of the partition within all items
+	 * @return the result of the partition
+	 * @throws TMQLRuntimeException
+	 *             thrown if processing fails
+	 */
+	public R call(List<T> partition, int fromIndex) throws TMQLRuntimeException;
+}
@@ -18,6 +18,7 @@ import org.tmapi.core.TopicMapSystem;
 import de.topicmapslab.tmql4j.components.parser.IParserTree;
 import de.topicmapslab.tmql4j.components.processor.ITmqlProcessor;
 import de.topicmapslab.tmql4j.components.processor.prepared.IPreparedStatement;
+import de.topicmapslab.tmql4j.components.processor.results.model.IResultCursor;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
 import de.topicmapslab.tmql4j.extension.IExtensionPointAdapter;
 import de.topicmapslab.tmql4j.grammar.productions.IExpression;
@@ -29,6 +30,13 @@ import de.topicmapslab.tmql4j.query.QueryFactory;
  * encapsulate the whole TMQL process chain and store internal states and
  * results. An instance of {@link ITMQLRuntime} is used as public interface to
  * Java applications using the TMQL engine.
+ * <p>
+ * One runtime instance can serve multiple queries concurrently. Each query
+ * execution gets its own context and result processor, so the results of
+ * concurrent queries never influence each other. Modifications of the
+ * runtime, like registering functions, prefixes or forbidden expressions,
+ * are visible to all queries started afterwards.
+ * </p>
  * 
  * @author Sven Krosse
  * @email krosse@informatik.uni-leipzig.de
@@ -120,6 +128,60 @@ public interface ITMQLRuntime {
 	 */
 	public IQuery run(TopicMap topicMap, String query, OutputStream stream, Object... parameters) throws TMQLRuntimeException;
 
+	/**
+	 * Starts the execution of the given query and returns a cursor over its
+	 * results. The results are produced in the background while the cursor
+	 * is read, so they are not materialized at once. The cursor has to be
+	 * closed if it is not read until the end, preferably in a
+	 * <code>finally</code> block. An unclosed cursor keeps its background
+	 * evaluation alive until the consumer did not read a result for the
+	 * timeout of the cursor.
+	 * 
+	 * @param topicMap
+	 *            the topic map
+	 * @param query
+	 *            the query to execute
+	 * @return the cursor
+	 * @throws TMQLRuntimeException
+	 *             thrown if the query cannot be parsed
+	 * @since 3.2.0
+	 */
+	public IResultCursor cursor(TopicMap topicMap, String query) throws TMQLRuntimeException;
+
+	/**
+	 * Starts the execution of the given query and returns a cursor over its
+	 * results using the default prefetch size. The cursor has to be closed if
+	 * it is not read until the end.
+	 * 
+	 * @param query
+	 *            the query to execute
+	 * @return the cursor
+	 * @throws TMQLRuntimeException
+	 *             thrown if the query cannot be parsed
+	 * @see #cursor(IQuery, int)
+	 * @since 3.2.0
+	 */
+	public IResultCursor cursor(IQuery query) throws TMQLRuntimeException;
+
+	/**
+	 * Starts the execution of the given query and returns a cursor over its
+	 * results. The evaluation is suspended as soon as the given number of
+	 * results is produced but not read. The results of the query are not set
+	 * to the query instance. The cursor has to be closed if it is not read
+	 * until the end. The after-execution call to the query is done by the
+	 * cursor when the evaluation is finished.
+	 * 
+	 * @param query
+	 *            the query to execute
+	 * @param prefetch
+	 *            the maximum number of results produced in advance
+	 * @return the cursor
+	 * @throws TMQLRuntimeException
+	 *             thrown if the query cannot be parsed
+	 * @since 3.2.0
+	 */
+	public IResultCursor cursor(IQuery query, int prefetch) throws TMQLRuntimeException;
+
 	/**
 	 * Method return the internal instance of the language context containing
 	 * all interpreters, prefixes, functions and tokens used for querying.
@@ -215,6 +277,33 @@ public interface ITMQLRuntime {
 	 */
 	public ITmqlProcessor getTmqlProcessor();
 
+	/**
+	 * Returns the cache of the parser trees of the queries executed by this
+	 * runtime
+	 * 
+	 * @return the query plan cache
+	 * @since 3.2.0
+	 */
+	public QueryPlanCache getQueryPlanCache();
+
+	/**
+	 * Returns the pool of worker threads shared by all queries executed by
+	 * this runtime
+	 * 
+	 * @return the execution pool
+	 * @since 3.2.0
+	 */
+	public ExecutionPool getExecutionPool();
+
+	/**
+	 * Returns the sorted index of the characteristic values shared by all
+	 * queries executed by this runtime. The index is disabled by default.
+	 * 
+	 * @return the literal range index
+	 * @since 3.2.0
+	 */
+	public LiteralRangeIndex getLiteralRangeIndex();
+
 	/**
 	 * Returns the internal instance of the construct resolver
 	 * 
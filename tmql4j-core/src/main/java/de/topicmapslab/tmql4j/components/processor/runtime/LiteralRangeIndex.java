@@ -0,0 +1,383 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.components.processor.runtime;
+
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.tmapi.core.Construct;
+import org.tmapi.core.Name;
+import org.tmapi.core.Occurrence;
+import org.tmapi.core.Topic;
+import org.tmapi.core.TopicMap;
+import org.tmapi.core.Variant;
+import org.tmapi.index.TypeInstanceIndex;
+
+import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
+import de.topicmapslab.tmql4j.util.HashUtil;
+import de.topicmapslab.tmql4j.util.SortedLiterals;
+import de.topicmapslab.tmql4j.util.TypedLiteral;
+
+/**
+ * Optional sorted index of the values of the names, occurrences and variants
+ * of a topic map. The index answers range comparisons like
+ * <code>. / age > 30</code> by a binary search instead of comparing the value
+ * of every characteristic.
+ * <p>
+ * The values are typed like atomified values, i.e. by the pattern of their
+ * string representation, so the index returns exactly the characteristics a
+ * comparison of the atomified values would accept. The index of a type
+ * contains the names and occurrences of exactly this type, like the
+ * characteristics axis, the index without type contains all names,
+ * occurrences and variants. Each index is built on first request and kept
+ * separately for each of the last queried topic maps.
+ * </p>
+ * <p>
+ * The index is disabled by default and shared by all queries of a runtime.
+ * The TMAPI does not notify about modifications of the topic map, so the index
+ * is invalidated by every modification query of the runtime and has to be
+ * invalidated by the application if the topic map is modified otherwise.
+ * </p>
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ * @since 3.2.0
+ */
+public class LiteralRangeIndex {
+
+	/**
+	 * the maximum number of cached results
+	 */
+	private static final int CACHE_SIZE = 16;
+	/**
+	 * the maximum number of indexed topic maps
+	 */
+	private static final int TOPIC_MAP_CACHE_SIZE = 4;
+
+	/**
+	 * flag indicates if the index is used by the query processor
+	 */
+	private volatile boolean enabled = false;
+	/**
+	 * the sorted characteristics by type of the least recently queried topic
+	 * maps, only accessed with the monitor of the index
+	 */
+	private final Map<TopicMap, Map<Topic, SortedLiterals<Construct>>> literals = new LinkedHashMap<TopicMap, Map<Topic, SortedLiterals<Construct>>>(16,
+			0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		protected boolean removeEldestEntry(Map.Entry<TopicMap, Map<Topic, SortedLiterals<Construct>>> eldest) {
+			return size() > TOPIC_MAP_CACHE_SIZE;
+		}
+	};
+	/**
+	 * the number of modifications, used to detect a result computed before the
+	 * last modification
+	 */
+	private long modifications = 0;
+	/**
+	 * the cached numbers of satisfying characteristics by topic
+	 */
+	private final Map<List<Object>, Map<Topic, Integer>> counts = Collections.synchronizedMap(new LinkedHashMap<List<Object>, Map<Topic, Integer>>(16, 0.75f,
+			true) {
+		private static final long serialVersionUID = 1L;
+
+		protected boolean removeEldestEntry(Map.Entry<List<Object>, Map<Topic, Integer>> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	});
+
+	/**
+	 * the metrics
+	 */
+	private final AtomicLong builds = new AtomicLong();
+	private final AtomicLong scans = new AtomicLong();
+	private final AtomicLong invalidations = new AtomicLong();
+
+	/**
+	 * Checks if the index is used by the query processor
+	 *
+	 * @return <code>true</code> if the index is enabled
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Enables or disables the usage of the index by the query processor
+	 *
+	 * @param enabled
+	 *            <code>true</code> to enable the index
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Returns the characteristics of the given type whose value satisfies the
+	 * given comparison.
+	 *
+	 * @param map
+	 *            the topic map
+	 * @param type
+	 *            the type of the names and occurrences or <code>null</code>
+	 *            for all names, occurrences and variants
+	 * @param method
+	 *            the name of the comparison, e.g. <code>isLowerThan</code>
+	 * @param bound
+	 *            the right hand argument of the comparison
+	 * @return the characteristics
+	 * @throws TMQLRuntimeException
+	 *             thrown if the comparison is not a range comparison or any
+	 *             value cannot be parsed
+	 */
+	public List<Construct> getCharacteristics(final TopicMap map, final Topic type, final String method, final Object bound) throws TMQLRuntimeException {
+		scans.incrementAndGet();
+		return getLiterals(map, type).select(method, asTypedLiteral(bound));
+	}
+
+	/**
+	 * Returns the characteristics of the given type whose value satisfies both
+	 * comparisons, e.g. all values between two bounds.
+	 *
+	 * @param map
+	 *            the topic map
+	 * @param type
+	 *            the type of the names and occurrences or <code>null</code>
+	 *            for all names, occurrences and variants
+	 * @param lowerMethod
+	 *            the name of the first comparison
+	 * @param lower
+	 *            the right hand argument of the first comparison
+	 * @param upperMethod
+	 *            the name of the second comparison
+	 * @param upper
+	 *            the right hand argument of the second comparison
+	 * @return the characteristics
+	 * @throws TMQLRuntimeException
+	 *             thrown if any comparison is not a range comparison or any
+	 *             value cannot be parsed
+	 */
+	public List<Construct> getCharacteristics(final TopicMap map, final Topic type, final String lowerMethod, final Object lower, final String upperMethod,
+			final Object upper) throws TMQLRuntimeException {
+		scans.incrementAndGet();
+		return getLiterals(map, type).select(lowerMethod, asTypedLiteral(lower), upperMethod, asTypedLiteral(upper));
+	}
+
+	/**
+	 * Returns the number of characteristics of the given type whose value
+	 * satisfies the given comparison for each topic owning any of them. The
+	 * result is cached until the index is invalidated, so a filter comparing
+	 * the characteristics of many topics with the same value scans the index
+	 * only once.
+	 *
+	 * @param map
+	 *            the topic map
+	 * @param type
+	 *            the type of the names and occurrences or <code>null</code>
+	 *            for all names, occurrences and variants
+	 * @param method
+	 *            the name of the comparison, e.g. <code>isLowerThan</code>
+	 * @param bound
+	 *            the right hand argument of the comparison
+	 * @return an unmodifiable map of the numbers by topic
+	 * @throws TMQLRuntimeException
+	 *             thrown if the comparison is not a range comparison or any
+	 *             value cannot be parsed
+	 */
+	public Map<Topic, Integer> getCounts(final TopicMap map, final Topic type, final String method, final Object bound) throws TMQLRuntimeException {
+		TypedLiteral literal = asTypedLiteral(bound);
+		List<Object> key = Arrays.<Object> asList(map, type, method, literal.getType(), literal.getLexicalValue());
+		Map<Topic, Integer> result = counts.get(key);
+		if (result == null) {
+			long stamp = getModifications();
+			result = HashUtil.getHashMap();
+			for (Construct characteristic : getCharacteristics(map, type, method, literal)) {
+				Topic topic = getTopic(characteristic);
+				Integer count = result.get(topic);
+				result.put(topic, count == null ? 1 : count + 1);
+			}
+			result = Collections.unmodifiableMap(result);
+			/*
+			 * a result computed before a concurrent invalidation is not cached
+			 */
+			synchronized (this) {
+				if (stamp == modifications) {
+					counts.put(key, result);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Clears the index because the topic map was modified
+	 */
+	public synchronized void invalidate() {
+		modifications++;
+		if (!literals.isEmpty() || !counts.isEmpty()) {
+			invalidations.incrementAndGet();
+			literals.clear();
+			counts.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of modifications
+	 *
+	 * @return the number of calls of {@link #invalidate()}
+	 */
+	private synchronized long getModifications() {
+		return modifications;
+	}
+
+	/**
+	 * Returns the number of times the values of a type were read from the
+	 * topic map
+	 *
+	 * @return the number of builds
+	 */
+	public long getBuildCount() {
+		return builds.get();
+	}
+
+	/**
+	 * Returns the number of range scans
+	 *
+	 * @return the number of scans
+	 */
+	public long getScanCount() {
+		return scans.get();
+	}
+
+	/**
+	 * Returns the number of times the index was cleared because of a
+	 * modification
+	 *
+	 * @return the number of invalidations
+	 */
+	public long getInvalidationCount() {
+		return invalidations.get();
+	}
+
+	/**
+	 * Returns the sorted characteristics of the given type and reads them if
+	 * necessary
+	 *
+	 * @param map
+	 *            the topic map
+	 * @param type
+	 *            the type or <code>null</code>
+	 * @return the sorted characteristics
+	 * @throws TMQLRuntimeException
+	 *             thrown if any value cannot be parsed
+	 */
+	private synchronized SortedLiterals<Construct> getLiterals(final TopicMap map, final Topic type) throws TMQLRuntimeException {
+		Map<Topic, SortedLiterals<Construct>> types = literals.get(map);
+		if (types == null) {
+			types = HashUtil.getHashMap();
+			literals.put(map, types);
+		}
+		SortedLiterals<Construct> sorted = types.get(type);
+		if (sorted == null) {
+			sorted = new SortedLiterals<Construct>();
+			if (type == null) {
+				for (Topic topic : map.getTopics()) {
+					for (Name name : topic.getNames()) {
+						add(sorted, name, name.getValue());
+						for (Variant variant : name.getVariants()) {
+							add(sorted, variant, variant.getValue());
+						}
+					}
+					for (Occurrence occurrence : topic.getOccurrences()) {
+						add(sorted, occurrence, occurrence.getValue());
+					}
+				}
+			} else {
+				TypeInstanceIndex index = map.getIndex(TypeInstanceIndex.class);
+				if (!index.isOpen()) {
+					index.open();
+				}
+				for (Name name : index.getNames(type)) {
+					add(sorted, name, name.getValue());
+				}
+				for (Occurrence occurrence : index.getOccurrences(type)) {
+					add(sorted, occurrence, occurrence.getValue());
+				}
+			}
+			types.put(type, sorted);
+			builds.incrementAndGet();
+		}
+		return sorted;
+	}
+
+	/**
+	 * Adds the given characteristic keyed by its typed value
+	 *
+	 * @param sorted
+	 *            the sorted characteristics
+	 * @param characteristic
+	 *            the name, occurrence or variant
+	 * @param value
+	 *            the value
+	 * @throws TMQLRuntimeException
+	 *             thrown if the value cannot be parsed
+	 */
+	private static void add(SortedLiterals<Construct> sorted, Construct characteristic, String value) throws TMQLRuntimeException {
+		try {
+			sorted.add(TypedLiteral.valueOf(value), characteristic);
+		} catch (ParseException e) {
+			throw new TMQLRuntimeException(e);
+		}
+	}
+
+	/**
+	 * Returns the topic owning the given characteristic
+	 *
+	 * @param characteristic
+	 *            the name, occurrence or variant
+	 * @return the topic
+	 */
+	private static Topic getTopic(Construct characteristic) {
+		if (characteristic instanceof Variant) {
+			return ((Variant) characteristic).getParent().getParent();
+		}
+		return (Topic) characteristic.getParent();
+	}
+
+	/**
+	 * Types the given argument
+	 *
+	 * @param object
+	 *            the argument
+	 * @return the typed literal
+	 * @throws TMQLRuntimeException
+	 *             thrown if the argument cannot be parsed
+	 */
+	private static TypedLiteral asTypedLiteral(Object object) throws TMQLRuntimeException {
+		try {
+			return TypedLiteral.valueOf(object);
+		} catch (ParseException e) {
+			throw new TMQLRuntimeException(e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "LiteralRangeIndex [enabled=" + enabled + ", builds=" + builds + ", scans=" + scans + ", invalidations=" + invalidations + "]";
+	}
+}
@@ -0,0 +1,360 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.components.processor.runtime;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import de.topicmapslab.tmql4j.components.parser.IParserTree;
+import de.topicmapslab.tmql4j.components.processor.runtime.module.PrefixHandler;
+import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
+import de.topicmapslab.tmql4j.query.IQuery;
+
+/**
+ * Bounded cache of the parser trees of the queries executed by one runtime.
+ * The interpreters are bound to the nodes of the parser tree at their first
+ * execution, so a cached tree contains the interpreter tree too.
+ * <p>
+ * Each tree is stored by the query type and the normalized query string
+ * produced by the preprocessing of the query. Each query is preprocessed
+ * again, but if the normalized string is known, the lexical scanning and the
+ * parsing are skipped. The least recently used trees are removed if the
+ * capacity is exceeded.
+ * </p>
+ * <p>
+ * The cache is bound to the language context of its runtime. It is cleared
+ * if the prefixes of the prefix handler change or if tokens, functions or
+ * extensions are registered.
+ * </p>
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ * @since 3.2.0
+ */
+public class QueryPlanCache {
+
+	/**
+	 * the default number of cached parser trees
+	 */
+	public static final int DEFAULT_CAPACITY = 256;
+
+	/**
+	 * the runtime
+	 */
+	private final ITMQLRuntime runtime;
+
+	/**
+	 * the cached parser trees in access order
+	 */
+	private final LinkedHashMap<Key, IParserTree> trees;
+
+	/**
+	 * the maximum number of cached entries
+	 */
+	private int capacity;
+
+	/**
+	 * the number of invalidations, used to ignore parser trees created
+	 * before the last invalidation
+	 */
+	private long generation = 0;
+
+	/**
+	 * the modification count of the prefix handler at the last lookup
+	 */
+	private long prefixModificationCount = -1;
+
+	/**
+	 * the metrics
+	 */
+	private long hits = 0;
+	private long misses = 0;
+	private long evictions = 0;
+	private long invalidations = 0;
+
+	/**
+	 * constructor
+	 *
+	 * @param runtime
+	 *            the runtime
+	 */
+	public QueryPlanCache(ITMQLRuntime runtime) {
+		this(runtime, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * constructor
+	 *
+	 * @param runtime
+	 *            the runtime
+	 * @param capacity
+	 *            the maximum number of cached parser trees, <code>0</code>
+	 *            disables the cache
+	 */
+	public QueryPlanCache(ITMQLRuntime runtime, int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Capacity must not be negative.");
+		}
+		this.runtime = runtime;
+		this.capacity = capacity;
+		this.trees = new LinkedHashMap<Key, IParserTree>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			/**
+			 * {@inheritDoc}
+			 */
+			protected boolean removeEldestEntry(Map.Entry<Key, IParserTree> eldest) {
+				if (size() > QueryPlanCache.this.capacity) {
+					evictions++;
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Returns the parser tree of the given query. The query is preprocessed by
+	 * calling {@link IQuery#beforeQuery(ITMQLRuntime)} and parsed by the
+	 * processor of the runtime if the preprocessed query is unknown. Otherwise
+	 * the cached tree is returned.
+	 *
+	 * @param query
+	 *            the query, with the restrictions of the runtime already added
+	 * @return the parser tree or <code>null</code> if the query does not
+	 *         contain any token
+	 * @throws TMQLRuntimeException
+	 *             thrown if the query cannot be parsed
+	 */
+	public IParserTree getParserTree(IQuery query) throws TMQLRuntimeException {
+		/*
+		 * the preprocessing may be customized by the query, so it is executed
+		 * every time
+		 */
+		query.beforeQuery(runtime);
+		if (query.getQueryString().isEmpty()) {
+			return null;
+		}
+		final Key key = new Key(query.getClass(), query.getQueryString());
+		final long generation;
+		synchronized (this) {
+			generation = validate();
+			IParserTree tree = trees.get(key);
+			/*
+			 * the restrictions of the query may differ from the former query
+			 */
+			if (tree != null && tree.isValid(runtime, query)) {
+				hits++;
+				return tree;
+			}
+			misses++;
+		}
+		IParserTree tree = runtime.getTmqlProcessor().parse(query);
+		if (tree == null) {
+			return null;
+		}
+		synchronized (this) {
+			/*
+			 * ignore trees created with an out-dated language context
+			 */
+			if (capacity > 0 && generation == this.generation) {
+				trees.put(key, tree);
+			}
+		}
+		return tree;
+	}
+
+	/**
+	 * Clears the cache because of a modification of the language context.
+	 */
+	public synchronized void invalidate() {
+		generation++;
+		if (!trees.isEmpty()) {
+			invalidations++;
+			trees.clear();
+		}
+	}
+
+	/**
+	 * Checks if the prefixes were modified since the last lookup and clears
+	 * the cache in this case. The caller has to hold the monitor of this
+	 * cache.
+	 *
+	 * @return the current generation
+	 */
+	private long validate() {
+		/*
+		 * the language context is created after the cache
+		 */
+		ILanguageContext languageContext = runtime.getLanguageContext();
+		if (languageContext != null) {
+			PrefixHandler handler = languageContext.getPrefixHandler();
+			long count = handler.getModificationCount();
+			if (count != prefixModificationCount) {
+				prefixModificationCount = count;
+				invalidate();
+			}
+		}
+		return generation;
+	}
+
+	/**
+	 * Returns the maximum number of cached parser trees
+	 *
+	 * @return the capacity
+	 */
+	public synchronized int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Changes the maximum number of cached entries. The least recently used
+	 * entries are removed if the cache is larger than the new capacity.
+	 *
+	 * @param capacity
+	 *            the capacity, <code>0</code> disables the cache
+	 */
+	public synchronized void setCapacity(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Capacity must not be negative.");
+		}
+		this.capacity = capacity;
+		while (trees.size() > capacity) {
+			trees.remove(trees.keySet().iterator().next());
+			evictions++;
+		}
+	}
+
+	/**
+	 * Returns the number of cached entries
+	 *
+	 * @return the size
+	 */
+	public synchronized int size() {
+		return trees.size();
+	}
+
+	/**
+	 * Returns the number of queries answered by a cached parser tree
+	 *
+	 * @return the number of hits
+	 */
+	public synchronized long getHitCount() {
+		return hits;
+	}
+
+	/**
+	 * Returns the number of queries which has to be parsed
+	 *
+	 * @return the number of misses
+	 */
+	public synchronized long getMissCount() {
+		return misses;
+	}
+
+	/**
+	 * Returns the ratio of hits to all lookups
+	 *
+	 * @return the hit ratio between <code>0</code> and <code>1</code>
+	 */
+	public synchronized double getHitRatio() {
+		long lookups = hits + misses;
+		return lookups == 0 ? 0 : (double) hits / lookups;
+	}
+
+	/**
+	 * Returns the number of entries removed because the capacity was exceeded
+	 *
+	 * @return the number of evictions
+	 */
+	public synchronized long getEvictionCount() {
+		return evictions;
+	}
+
+	/**
+	 * Returns the number of times the cache was cleared because of a
+	 * modification of the language context
+	 *
+	 * @return the number of invalidations
+	 */
+	public synchronized long getInvalidationCount() {
+		return invalidations;
+	}
+
+	/**
+	 * Resets all metrics of the cache
+	 */
+	public synchronized void resetStatistics() {
+		hits = 0;
+		misses = 0;
+		evictions = 0;
+		invalidations = 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized String toString() {
+		return "QueryPlanCache [size=" + trees.size() + ", capacity=" + capacity + ", hits=" + hits + ", misses=" + misses + ", evictions=" + evictions
+				+ ", invalidations=" + invalidations + "]";
+	}
+
+	/**
+	 * Key of a cached parser tree
+	 */
+	private static final class Key {
+		/**
+		 * the query type
+		 */
+		private final Class<?> type;
+		/**
+		 * the query string
+		 */
+		private final String query;
+		/**
+		 * the cached hash code
+		 */
+		private final int hashCode;
+
+		/**
+		 * constructor
+		 *
+		 * @param type
+		 *            the query type
+		 * @param query
+		 *            the query string
+		 */
+		Key(Class<?> type, String query) {
+			this.type = type;
+			this.query = query;
+			this.hashCode = 31 * type.hashCode() + query.hashCode();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return type.equals(other.type) && query.equals(other.query);
+		}
+	}
+}
@@ -9,7 +9,10 @@
 package de.topicmapslab.tmql4j.components.processor.runtime;
 
 import java.net.URI;
+import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.tmapi.core.Construct;
 import org.tmapi.core.Locator;
@@ -34,6 +37,12 @@ import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
  * IRI is interpreted as subject indicator for a topic in the effective map. If no such topic exist an error will be
  * flagged.
  * </p>
+ * <p>
+ * The resolved constructs are cached by the {@link ConstructResolutionCache}
+ * of the current query execution. The absolute IRIs of item references are
+ * memorized by the resolver for all queries which do not define their own
+ * prefixes, until the prefixes of the runtime are modified.
+ * </p>
  * 
  * @author Sven Krosse
  * @email krosse@informatik.uni-leipzig.de
@@ -41,8 +50,32 @@ import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
  */
 public class TmqlConstructResolver implements IConstructResolver {
 
+	/**
+	 * the maximum number of absolute IRIs memorized by the resolver
+	 */
+	private static final int IDENTIFIER_CAPACITY = 4096;
+
 	private final ITMQLRuntime runtime;
 
+	/**
+	 * the absolute IRIs by item reference, if the item reference does not
+	 * depend on the prefixes of a query
+	 */
+	private final Map<String, String> identifiers = new ConcurrentHashMap<String, String>();
+	/**
+	 * the modification count of the prefix handler the memorized IRIs are
+	 * based on
+	 */
+	private volatile long prefixModificationCount = -1;
+
+	/**
+	 * the metrics
+	 */
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong identifierHits = new AtomicLong();
+	private final AtomicLong identifierMisses = new AtomicLong();
+
 	/**
 	 * constructor
 	 * 
@@ -59,10 +92,24 @@ public class TmqlConstructResolver implements IConstructResolver {
 	 */
 	@Override
 	public final Construct getConstructByIdentifier(final IContext context, final String identifier) throws TMQLRuntimeException {
+		/*
+		 * check if the identifier was already resolved by the current query
+		 */
+		ConstructResolutionCache cache = context.getResolutionCache();
+		Construct construct = cache.getConstruct(identifier);
+		if (construct != null) {
+			hits.incrementAndGet();
+			return construct;
+		}
+		misses.incrementAndGet();
 		/*
 		 * try to get element by identifier
 		 */
-		return tryToGetElementByIdentifier(context, getAbsoluteIdentifier(context, identifier));
+		construct = tryToGetElementByIdentifier(context, getAbsoluteIdentifier(context, identifier));
+		if (construct != null) {
+			cache.putConstruct(identifier, construct);
+		}
+		return construct;
 	}
 
 	/**
@@ -121,6 +168,56 @@ public class TmqlConstructResolver implements IConstructResolver {
 	 * @return the absolute identifier
 	 */
 	private final String getAbsoluteIdentifier(IContext context, final String identifier) {
+		/*
+		 * prefixes of the query may overwrite the prefixes of the runtime
+		 */
+		final boolean queryPrefixes = !context.getPrefixes().isEmpty();
+		String absolute;
+		if (queryPrefixes) {
+			absolute = context.getResolutionCache().getAbsoluteIdentifier(identifier);
+		} else {
+			validateIdentifiers();
+			absolute = identifiers.get(identifier);
+		}
+		if (absolute != null) {
+			identifierHits.incrementAndGet();
+			return absolute;
+		}
+		identifierMisses.incrementAndGet();
+		absolute = expandIdentifier(context, identifier);
+		if (queryPrefixes) {
+			context.getResolutionCache().putAbsoluteIdentifier(identifier, absolute);
+		} else if (identifiers.size() < IDENTIFIER_CAPACITY) {
+			identifiers.put(identifier, absolute);
+		}
+		return absolute;
+	}
+
+	/**
+	 * Clears the memorized IRIs if the prefixes of the runtime were modified
+	 */
+	private void validateIdentifiers() {
+		long count = runtime.getLanguageContext().getPrefixHandler().getModificationCount();
+		if (count != prefixModificationCount) {
+			synchronized (identifiers) {
+				if (count != prefixModificationCount) {
+					identifiers.clear();
+					prefixModificationCount = count;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Expands the given identifier to an absolute IRI identifier.
+	 * 
+	 * @param context
+	 *            the context
+	 * @param identifier
+	 *            the identifier
+	 * @return the absolute identifier
+	 */
+	private final String expandIdentifier(IContext context, final String identifier) {
 		/*
 		 * remove <...> if exists
 		 */
@@ -288,4 +385,59 @@ public class TmqlConstructResolver implements IConstructResolver {
 		return topicMap.getTopicBySubjectLocator(locator);
 	}
 
+	/**
+	 * Returns the number of item references resolved by the cache of the query
+	 * execution
+	 * 
+	 * @return the number of hits
+	 * @since 3.2.0
+	 */
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * Returns the number of item references resolved by the topic map
+	 * 
+	 * @return the number of misses
+	 * @since 3.2.0
+	 */
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * Returns the number of item references expanded to a memorized absolute
+	 * IRI
+	 * 
+	 * @return the number of hits
+	 * @since 3.2.0
+	 */
+	public long getIdentifierHitCount() {
+		return identifierHits.get();
+	}
+
+	/**
+	 * Returns the number of item references which has to be expanded to an
+	 * absolute IRI
+	 * 
+	 * @return the number of misses
+	 * @since 3.2.0
+	 */
+	public long getIdentifierMissCount() {
+		return identifierMisses.get();
+	}
+
+	/**
+	 * Resets all metrics of the resolver
+	 * 
+	 * @since 3.2.0
+	 */
+	public void resetStatistics() {
+		hits.set(0);
+		misses.set(0);
+		identifierHits.set(0);
+		identifierMisses.set(0);
+	}
+
 }
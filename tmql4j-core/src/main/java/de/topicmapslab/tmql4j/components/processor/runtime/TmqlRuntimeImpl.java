@@ -12,7 +12,9 @@ package de.topicmapslab.tmql4j.components.processor.runtime;
 
 import java.io.OutputStream;
 import java.text.MessageFormat;
+import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,6 +27,9 @@ import org.tmapi.core.TopicMapSystemFactory;
 import de.topicmapslab.tmql4j.components.parser.IParserTree;
 import de.topicmapslab.tmql4j.components.processor.ITmqlProcessor;
 import de.topicmapslab.tmql4j.components.processor.prepared.IPreparedStatement;
+import de.topicmapslab.tmql4j.components.processor.results.ResultCursor;
+import de.topicmapslab.tmql4j.components.processor.results.model.IResultCursor;
+import de.topicmapslab.tmql4j.components.processor.results.model.ResultSet;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
 import de.topicmapslab.tmql4j.grammar.productions.IExpression;
 import de.topicmapslab.tmql4j.query.IQuery;
@@ -36,6 +41,16 @@ import de.topicmapslab.tmql4j.util.HashUtil;
  * encapsulate the whole TMQL process chain and store internal states and
  * results. An instance of {@link TmqlRuntimeImpl} is used as public interface
  * to Java applications using the TMQL engine.
+ * <p>
+ * The runtime is thread-safe. The state of each query execution is bound to
+ * its context and result processor, the language context and the registries
+ * are only read during the execution.
+ * </p>
+ * <p>
+ * The parser trees of executed queries are kept by the
+ * {@link QueryPlanCache} of the runtime, so repeated executions of the same
+ * preprocessed query string skip the lexical scanning and the parsing.
+ * </p>
  * 
  * @author Sven Krosse
  * @email krosse@informatik.uni-leipzig.de
@@ -56,7 +71,8 @@ public abstract class TmqlRuntimeImpl implements ITMQLRuntime {
 	/**
 	 * a set holding all forbidden expression types
 	 */
-	private Set<Class<? extends IExpression>> forbiddenExpressionTypes;
+	private final Set<Class<? extends IExpression>> forbiddenExpressionTypes = Collections
+			.newSetFromMap(new ConcurrentHashMap<Class<? extends IExpression>, Boolean>());
 
 	/**
 	 * the internal reference of the language context
@@ -68,11 +84,26 @@ public abstract class TmqlRuntimeImpl implements ITMQLRuntime {
 	 */
 	private final ITmqlProcessor processor;
 
+	/**
+	 * the cache of parsed queries, created before the language context
+	 */
+	private final QueryPlanCache queryPlanCache = new QueryPlanCache(this);
+
+	/**
+	 * the pool of worker threads for the parallel interpretation
+	 */
+	private final ExecutionPool executionPool = new ExecutionPool();
+
+	/**
+	 * the optional index of the characteristic values
+	 */
+	private final LiteralRangeIndex literalRangeIndex = new LiteralRangeIndex();
+
 	/**
 	 * the topic map system used to create new temporary topic maps to interpret
 	 * XTM or CTM
 	 */
-	private TopicMapSystem topicMapSystem;
+	private volatile TopicMapSystem topicMapSystem;
 
 	/**
 	 * constructor
@@ -100,12 +131,16 @@ public abstract class TmqlRuntimeImpl implements ITMQLRuntime {
 	 */
 	public TopicMapSystem getTopicMapSystem() {
 		if (topicMapSystem == null) {
-			try {
-				topicMapSystem = TopicMapSystemFactory.newInstance().newTopicMapSystem();
-			} catch (FactoryConfigurationException e) {
-				throw new TMQLRuntimeException(e);
-			} catch (TMAPIException e) {
-				throw new TMQLRuntimeException(e);
+			synchronized (this) {
+				if (topicMapSystem == null) {
+					try {
+						topicMapSystem = TopicMapSystemFactory.newInstance().newTopicMapSystem();
+					} catch (FactoryConfigurationException e) {
+						throw new TMQLRuntimeException(e);
+					} catch (TMAPIException e) {
+						throw new TMQLRuntimeException(e);
+					}
+				}
 			}
 		}
 		return topicMapSystem;
@@ -151,11 +186,8 @@ public abstract class TmqlRuntimeImpl implements ITMQLRuntime {
 		 */
 		addRestrictions(query);
 		/*
-		 * before-execution call to query
-		 */
-		query.beforeQuery(this);
-		/*
-		 * redirect to real implementation
+		 * redirect to real implementation, the before-execution call to
+		 * query is done by the query plan cache
 		 */
 		doRun(query, null);
 		/*
@@ -218,11 +250,8 @@ public abstract class TmqlRuntimeImpl implements ITMQLRuntime {
 		 */
 		addRestrictions(query);
 		/*
-		 * before-execution call to query
-		 */
-		query.beforeQuery(this);
-		/*
-		 * redirect to real implementation
+		 * redirect to real implementation, the before-execution call to
+		 * query is done by the query plan cache
 		 */
 		doRun(query, stream);
 		/*
@@ -259,6 +288,67 @@ public abstract class TmqlRuntimeImpl implements ITMQLRuntime {
 		return q;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public IResultCursor cursor(TopicMap topicMap, String query) throws TMQLRuntimeException {
+		IQuery q = toQuery(topicMap, query);
+		if (q == null) {
+			q = QueryFactory.getFactory().getTmqlQuery(topicMap, query);
+		}
+		if (q == null) {
+			throw new TMQLRuntimeException(MessageFormat.format(GIVEN_QUERY_IS_NOT_A_TMQL_QUERY_OR_CANNOT_TRANSFORM_TO_TMQL, query));
+		}
+		return cursor(q);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public IResultCursor cursor(IQuery query) throws TMQLRuntimeException {
+		return cursor(query, ResultCursor.DEFAULT_PREFETCH);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public IResultCursor cursor(IQuery query, int prefetch) throws TMQLRuntimeException {
+		if (query.getTopicMap() == null) {
+			throw new TMQLRuntimeException("Topic map not set to query instance!");
+		}
+		/*
+		 * add restrictions
+		 */
+		addRestrictions(query);
+		/*
+		 * preprocess the query and get its parser tree of the cache or parse it
+		 */
+		IParserTree tree = getQueryPlanCache().getParserTree(query);
+		IResultCursor cursor;
+		if (tree != null) {
+			cursor = getTmqlProcessor().cursor(query, tree, prefetch);
+		} else {
+			cursor = new ResultCursor(this, query, ResultSet.emptyResultSet());
+		}
+		/*
+		 * the after-execution call to query is done by the cursor when the
+		 * evaluation is finished
+		 */
+		return cursor;
+	}
+
+	/**
+	 * Executes the given query. The query has to be preprocessed and parsed
+	 * by the query plan cache of this runtime.
+	 * 
+	 * @param query
+	 *            the query
+	 * @param stream
+	 *            the output stream or <code>null</code>
+	 * @throws TMQLRuntimeException
+	 *             thrown if the execution fails
+	 * @see #getQueryPlanCache()
+	 */
 	protected abstract void doRun(IQuery query, OutputStream stream) throws TMQLRuntimeException;
 
 	/**
@@ -295,6 +385,27 @@ public abstract class TmqlRuntimeImpl implements ITMQLRuntime {
 		return processor;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public QueryPlanCache getQueryPlanCache() {
+		return queryPlanCache;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public ExecutionPool getExecutionPool() {
+		return executionPool;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public LiteralRangeIndex getLiteralRangeIndex() {
+		return literalRangeIndex;
+	}
+
 	/**
 	 * Method to create a new TMQl processor
 	 * 
@@ -335,9 +446,6 @@ public abstract class TmqlRuntimeImpl implements ITMQLRuntime {
 	 * {@inheritDoc}
 	 */
 	public void forbidExpression(Class<? extends IExpression> forbiddenExpressionType) {
-		if (forbiddenExpressionTypes == null) {
-			forbiddenExpressionTypes = HashUtil.getHashSet();
-		}
 		forbiddenExpressionTypes.add(forbiddenExpressionType);
 	}
 
@@ -354,9 +462,7 @@ public abstract class TmqlRuntimeImpl implements ITMQLRuntime {
 	 * {@inheritDoc}
 	 */
 	public void allowExpression(Class<? extends IExpression> allowedExpressionType) {
-		if (forbiddenExpressionTypes != null) {
-			forbiddenExpressionTypes.remove(allowedExpressionType);
-		}
+		forbiddenExpressionTypes.remove(allowedExpressionType);
 	}
 
 	/**
@@ -403,10 +509,8 @@ public abstract class TmqlRuntimeImpl implements ITMQLRuntime {
 	 *            the query instance
 	 */
 	protected void addRestrictions(IQuery query) {
-		if (forbiddenExpressionTypes != null) {
-			for (Class<? extends IExpression> forbiddenExpressionType : forbiddenExpressionTypes) {
-				query.forbidExpression(forbiddenExpressionType);
-			}
+		for (Class<? extends IExpression> forbiddenExpressionType : forbiddenExpressionTypes) {
+			query.forbidExpression(forbiddenExpressionType);
 		}
 	}
 
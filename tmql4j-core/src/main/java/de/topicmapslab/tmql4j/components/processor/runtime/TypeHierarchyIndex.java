@@ -0,0 +1,372 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.components.processor.runtime;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.tmapi.core.Association;
+import org.tmapi.core.Role;
+import org.tmapi.core.Topic;
+import org.tmapi.core.TopicMap;
+import org.tmapi.index.TypeInstanceIndex;
+
+import de.topicmapslab.tmql4j.util.AssociationUtils;
+import de.topicmapslab.tmql4j.util.HashUtil;
+import de.topicmapslab.tmql4j.util.TmdmSubjectIdentifier;
+
+/**
+ * Index of the type hierarchy of a topic map. The direct supertypes and
+ * subtypes of all types are read in bulk by one scan of the
+ * <code>tm:supertype-subtype</code> associations. The transitive closure of a
+ * type is computed once on first request by a breadth-first search which
+ * visits each type only once, so cyclic hierarchies are supported, and is
+ * kept for all further requests.
+ * <p>
+ * The index is created with the root context of a query execution and shared
+ * by all contexts derived from it, like the {@link ConstructResolutionCache}.
+ * The TMAPI does not notify about modifications of the topic map, so the
+ * index has to be invalidated if the query modifies the topic map. An
+ * invalidated index is built again on the next request.
+ * </p>
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ * @since 3.2.0
+ */
+public class TypeHierarchyIndex {
+
+	/**
+	 * the indexed topic map
+	 */
+	private TopicMap topicMap;
+	/**
+	 * the direct supertypes by type
+	 */
+	private Map<Topic, Set<Topic>> supertypes;
+	/**
+	 * the direct subtypes by type
+	 */
+	private Map<Topic, Set<Topic>> subtypes;
+	/**
+	 * the transitive supertypes by type
+	 */
+	private final Map<Topic, Set<Topic>> ancestors = new ConcurrentHashMap<Topic, Set<Topic>>();
+	/**
+	 * the transitive subtypes by type
+	 */
+	private final Map<Topic, Set<Topic>> descendants = new ConcurrentHashMap<Topic, Set<Topic>>();
+
+	/**
+	 * the metrics
+	 */
+	private final AtomicLong builds = new AtomicLong();
+	private final AtomicLong invalidations = new AtomicLong();
+
+	/**
+	 * Returns the supertypes of the given type.
+	 *
+	 * @param type
+	 *            the type
+	 * @param transitive
+	 *            flag indicates if the type hierarchy is handled transitive
+	 * @return an unmodifiable set of the supertypes, which contains the type
+	 *         itself only if the hierarchy is cyclic
+	 */
+	public Set<Topic> getSupertypes(final Topic type, final boolean transitive) {
+		if (transitive) {
+			return getClosure(type, true);
+		}
+		return get(getHierarchy(type.getTopicMap(), true), type);
+	}
+
+	/**
+	 * Returns the subtypes of the given type.
+	 *
+	 * @param type
+	 *            the type
+	 * @param transitive
+	 *            flag indicates if the type hierarchy is handled transitive
+	 * @return an unmodifiable set of the subtypes, which contains the type
+	 *         itself only if the hierarchy is cyclic
+	 */
+	public Set<Topic> getSubtypes(final Topic type, final boolean transitive) {
+		if (transitive) {
+			return getClosure(type, false);
+		}
+		return get(getHierarchy(type.getTopicMap(), false), type);
+	}
+
+	/**
+	 * Returns the types of the given topic and, if the type hierarchy is
+	 * handled transitive, their supertypes.
+	 *
+	 * @param instance
+	 *            the instance
+	 * @param transitive
+	 *            flag indicates if the type hierarchy is handled transitive
+	 * @return the types in the order of the types of the topic
+	 */
+	public Set<Topic> getTypes(final Topic instance, final boolean transitive) {
+		Set<Topic> types = new LinkedHashSet<Topic>(instance.getTypes());
+		if (transitive) {
+			for (Topic type : instance.getTypes()) {
+				types.addAll(getClosure(type, true));
+			}
+		}
+		return types;
+	}
+
+	/**
+	 * Returns the instances of the given type and, if the type hierarchy is
+	 * handled transitive, the instances of all its subtypes. An instance of
+	 * more than one of these types is contained once for each type.
+	 *
+	 * @param type
+	 *            the type
+	 * @param transitive
+	 *            flag indicates if the type hierarchy is handled transitive
+	 * @return the instances
+	 */
+	public List<Topic> getInstances(final Topic type, final boolean transitive) {
+		TypeInstanceIndex index = type.getTopicMap().getIndex(TypeInstanceIndex.class);
+		if (!index.isOpen()) {
+			index.open();
+		}
+		List<Topic> instances = new LinkedList<Topic>(index.getTopics(type));
+		if (transitive) {
+			for (Topic subtype : getClosure(type, false)) {
+				instances.addAll(index.getTopics(subtype));
+			}
+		}
+		return instances;
+	}
+
+	/**
+	 * Checks if the first type is a subtype of the second one.
+	 *
+	 * @param subtype
+	 *            the subtype
+	 * @param supertype
+	 *            the supertype
+	 * @param transitive
+	 *            flag indicates if the type hierarchy is handled transitive
+	 * @return <code>true</code> if the first type is a subtype of the second
+	 *         one
+	 */
+	public boolean isSubtypeOf(final Topic subtype, final Topic supertype, final boolean transitive) {
+		return getSupertypes(subtype, transitive).contains(supertype);
+	}
+
+	/**
+	 * Checks if the given topic is an instance of the given type.
+	 *
+	 * @param instance
+	 *            the instance
+	 * @param type
+	 *            the type
+	 * @param transitive
+	 *            flag indicates if the type hierarchy is handled transitive
+	 * @return <code>true</code> if the topic is an instance of the type or,
+	 *         if the hierarchy is handled transitive, of any subtype
+	 */
+	public boolean isInstanceOf(final Topic instance, final Topic type, final boolean transitive) {
+		for (Topic t : instance.getTypes()) {
+			if (t.equals(type) || (transitive && getClosure(t, true).contains(type))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Clears the index because the topic map was modified
+	 */
+	public synchronized void invalidate() {
+		if (topicMap != null) {
+			invalidations.incrementAndGet();
+			clear();
+		}
+	}
+
+	/**
+	 * Removes all indexed types
+	 */
+	private void clear() {
+		topicMap = null;
+		supertypes = null;
+		subtypes = null;
+		ancestors.clear();
+		descendants.clear();
+	}
+
+	/**
+	 * Returns the number of times the direct hierarchy was read from the topic
+	 * map
+	 *
+	 * @return the number of builds
+	 */
+	public long getBuildCount() {
+		return builds.get();
+	}
+
+	/**
+	 * Returns the number of times the index was cleared because of a
+	 * modification
+	 *
+	 * @return the number of invalidations
+	 */
+	public long getInvalidationCount() {
+		return invalidations.get();
+	}
+
+	/**
+	 * Returns the transitive supertypes or subtypes of the given type and
+	 * computes them if necessary
+	 *
+	 * @param type
+	 *            the type
+	 * @param upwards
+	 *            <code>true</code> for the supertypes, <code>false</code> for
+	 *            the subtypes
+	 * @return an unmodifiable set of the types in breadth-first order
+	 */
+	private Set<Topic> getClosure(final Topic type, final boolean upwards) {
+		Map<Topic, Set<Topic>> hierarchy = getHierarchy(type.getTopicMap(), upwards);
+		Map<Topic, Set<Topic>> closures = upwards ? ancestors : descendants;
+		Set<Topic> closure = closures.get(type);
+		if (closure == null) {
+			closure = new LinkedHashSet<Topic>();
+			LinkedList<Topic> queue = new LinkedList<Topic>();
+			queue.add(type);
+			while (!queue.isEmpty()) {
+				for (Topic next : get(hierarchy, queue.poll())) {
+					/*
+					 * each type is visited once, even in cyclic hierarchies
+					 */
+					if (closure.add(next)) {
+						queue.add(next);
+					}
+				}
+			}
+			closure = Collections.unmodifiableSet(closure);
+			/*
+			 * the closure is not stored if the hierarchy was cleared by a
+			 * concurrent invalidation
+			 */
+			synchronized (this) {
+				if (hierarchy == (upwards ? supertypes : subtypes)) {
+					closures.put(type, closure);
+				}
+			}
+		}
+		return closure;
+	}
+
+	/**
+	 * Returns the direct supertypes or subtypes of all types of the given
+	 * topic map and reads them if the index was not built yet for this topic
+	 * map
+	 *
+	 * @param map
+	 *            the topic map
+	 * @param upwards
+	 *            <code>true</code> for the supertypes, <code>false</code> for
+	 *            the subtypes
+	 * @return the types by type
+	 */
+	private synchronized Map<Topic, Set<Topic>> getHierarchy(final TopicMap map, final boolean upwards) {
+		if (!map.equals(topicMap)) {
+			clear();
+			build(map);
+		}
+		return upwards ? supertypes : subtypes;
+	}
+
+	/**
+	 * Reads the direct supertypes and subtypes of all types by one scan of the
+	 * supertype-subtype associations
+	 *
+	 * @param map
+	 *            the topic map
+	 */
+	private void build(final TopicMap map) {
+		Map<Topic, Set<Topic>> supertypes = HashUtil.getHashMap();
+		Map<Topic, Set<Topic>> subtypes = HashUtil.getHashMap();
+		Topic kindOf = map.getTopicBySubjectIdentifier(map.createLocator(TmdmSubjectIdentifier.TMDM_SUPERTYPE_SUBTYPE_ASSOCIATION));
+		Topic supertypeRole = map.getTopicBySubjectIdentifier(map.createLocator(TmdmSubjectIdentifier.TMDM_SUPERTYPE_ROLE_TYPE));
+		Topic subtypeRole = map.getTopicBySubjectIdentifier(map.createLocator(TmdmSubjectIdentifier.TMDM_SUBTYPE_ROLE_TYPE));
+		if (kindOf != null && supertypeRole != null && subtypeRole != null) {
+			for (Association association : AssociationUtils.getAssociations(map, kindOf)) {
+				Collection<Role> supertypeRoles = association.getRoles(supertypeRole);
+				for (Role subtype : association.getRoles(subtypeRole)) {
+					for (Role supertype : supertypeRoles) {
+						add(supertypes, subtype.getPlayer(), supertype.getPlayer());
+						add(subtypes, supertype.getPlayer(), subtype.getPlayer());
+					}
+				}
+			}
+		}
+		this.supertypes = supertypes;
+		this.subtypes = subtypes;
+		this.topicMap = map;
+		builds.incrementAndGet();
+	}
+
+	/**
+	 * Adds the given value to the set of the given key
+	 *
+	 * @param map
+	 *            the sets by key
+	 * @param key
+	 *            the key
+	 * @param value
+	 *            the value
+	 */
+	private static void add(Map<Topic, Set<Topic>> map, Topic key, Topic value) {
+		Set<Topic> set = map.get(key);
+		if (set == null) {
+			set = new LinkedHashSet<Topic>();
+			map.put(key, set);
+		}
+		set.add(value);
+	}
+
+	/**
+	 * Returns the set of the given key
+	 *
+	 * @param map
+	 *            the sets by key
+	 * @param key
+	 *            the key
+	 * @return an unmodifiable set, empty if the key is unknown
+	 */
+	private static Set<Topic> get(Map<Topic, Set<Topic>> map, Topic key) {
+		Set<Topic> set = map.get(key);
+		if (set == null) {
+			return Collections.emptySet();
+		}
+		return Collections.unmodifiableSet(set);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "TypeHierarchyIndex [builds=" + builds + ", invalidations=" + invalidations + "]";
+	}
+}
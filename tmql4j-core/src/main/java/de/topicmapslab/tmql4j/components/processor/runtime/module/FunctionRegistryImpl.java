@@ -9,11 +9,11 @@
 package de.topicmapslab.tmql4j.components.processor.runtime.module;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import de.topicmapslab.tmql4j.components.processor.runtime.ITMQLRuntime;
 import de.topicmapslab.tmql4j.components.processor.runtime.module.model.IFunctionRegistry;
 import de.topicmapslab.tmql4j.grammar.productions.IFunction;
-import de.topicmapslab.tmql4j.util.HashUtil;
 
 /**
  * Internal registry for function classes. Provides access to registered
@@ -28,7 +28,7 @@ public abstract class FunctionRegistryImpl implements IFunctionRegistry {
 	/**
 	 * internal store of all known function interpreter
 	 */
-	private final Map<String, Class<? extends IFunction>> functions = HashUtil.getHashMap();
+	private final Map<String, Class<? extends IFunction>> functions = new ConcurrentHashMap<String, Class<? extends IFunction>>();
 
 	/**
 	 * the TMQL runtime instance
@@ -52,6 +52,10 @@ public abstract class FunctionRegistryImpl implements IFunctionRegistry {
 	 */
 	public void registerFunction(String itemIdentifier, Class<? extends IFunction> interpreter) {
 		functions.put(itemIdentifier, interpreter);
+		/*
+		 * cached parser trees may depend on the former functions
+		 */
+		runtime.getQueryPlanCache().invalidate();
 	}
 
 	/**
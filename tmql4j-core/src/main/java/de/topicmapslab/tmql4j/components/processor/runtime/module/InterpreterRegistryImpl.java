@@ -8,8 +8,10 @@
  */
 package de.topicmapslab.tmql4j.components.processor.runtime.module;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import de.topicmapslab.tmql4j.components.interpreter.IExpressionInterpreter;
 import de.topicmapslab.tmql4j.components.interpreter.PragmaInterpreter;
@@ -36,6 +38,10 @@ public abstract class InterpreterRegistryImpl implements IInterpreterRegistry {
 	 * internal registry cache containing all mappings
 	 */
 	private final Map<Class<? extends IExpression>, Class<? extends IExpressionInterpreter<?>>> registry = HashUtil.getHashMap();
+	/**
+	 * cache of the constructors of the interpreter classes
+	 */
+	private final Map<Class<? extends IExpression>, Constructor<? extends IExpressionInterpreter<?>>> constructors = new ConcurrentHashMap<Class<? extends IExpression>, Constructor<? extends IExpressionInterpreter<?>>>();
 
 	/**
 	 * constructor
@@ -58,7 +64,12 @@ public abstract class InterpreterRegistryImpl implements IInterpreterRegistry {
 	public IExpressionInterpreter<?> interpreterInstance(IExpression ex) throws TMQLRuntimeException {
 		if (registry.containsKey(ex.getClass())) {
 			try {
-				return registry.get(ex.getClass()).getConstructor(ex.getClass()).newInstance(ex);
+				Constructor<? extends IExpressionInterpreter<?>> constructor = constructors.get(ex.getClass());
+				if (constructor == null) {
+					constructor = registry.get(ex.getClass()).getConstructor(ex.getClass());
+					constructors.put(ex.getClass(), constructor);
+				}
+				return constructor.newInstance(ex);
 			} catch (IllegalArgumentException e) {
 				throw new TMQLRuntimeException("Cannot create interpreter instance for expression-type " + ex.getClass().getSimpleName(), e);
 			} catch (SecurityException e) {
@@ -85,5 +96,6 @@ public abstract class InterpreterRegistryImpl implements IInterpreterRegistry {
 			throw new TMQLInitializationException("parameters may not be null.");
 		}
 		registry.put(expressionClass, interpreterClass);
+		constructors.remove(expressionClass);
 	}
 }
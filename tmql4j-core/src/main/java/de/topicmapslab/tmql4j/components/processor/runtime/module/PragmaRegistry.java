@@ -9,14 +9,15 @@
 package de.topicmapslab.tmql4j.components.processor.runtime.module;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import de.topicmapslab.tmql4j.components.interpreter.IPragma;
 import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.components.processor.runtime.ITMQLRuntime;
 import de.topicmapslab.tmql4j.components.processor.runtime.module.model.IPragmaRegistry;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
+import de.topicmapslab.tmql4j.grammar.pragma.Parallelism;
 import de.topicmapslab.tmql4j.grammar.pragma.Taxonometry;
-import de.topicmapslab.tmql4j.util.HashUtil;
 
 /**
  * Implementation of {@link IPragma}
@@ -33,22 +34,20 @@ public class PragmaRegistry implements IPragmaRegistry {
 	/**
 	 * internal storage
 	 */
-	private Map<String, IPragma> pragmas;
+	private final Map<String, IPragma> pragmas = new ConcurrentHashMap<String, IPragma>();
 	
 	/**
 	 * constructor
 	 */
 	public PragmaRegistry() {
 		register(new Taxonometry());
+		register(new Parallelism());
 	}
 	
 	/**
 	 * {@inheritDoc}
 	 */
 	public void register(IPragma pragma) {
-		if ( pragmas == null ){
-			pragmas = HashUtil.getHashMap();
-		}
 		pragmas.put(pragma.getIdentifier().toLowerCase(), pragma);
 	}
 
@@ -56,7 +55,7 @@ public class PragmaRegistry implements IPragmaRegistry {
 	 * {@inheritDoc}
 	 */
 	public boolean isKnownPragma(String identifier) {
-		return pragmas != null && pragmas.containsKey(identifier.toLowerCase());
+		return pragmas.containsKey(identifier.toLowerCase());
 	}
 
 	/**
@@ -10,6 +10,8 @@ package de.topicmapslab.tmql4j.components.processor.runtime.module;
 
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import de.topicmapslab.tmql4j.exception.TMQLInitializationException;
 import de.topicmapslab.tmql4j.util.HashUtil;
@@ -28,17 +30,22 @@ public class PrefixHandler {
 	/**
 	 * the default prefix
 	 */
-	private String defaultPrefix = null;
+	private volatile String defaultPrefix = null;
 
 	/**
 	 * internal store of all known prefixes
 	 */
-	private final Map<String, String> prefixes = HashUtil.getHashMap();
+	private final Map<String, String> prefixes = new ConcurrentHashMap<String, String>();
+
+	/**
+	 * the number of modifications of the prefixes
+	 */
+	private final AtomicLong modificationCount = new AtomicLong();
 
 	/**
 	 * store of all known IRI shortcuts of the TMDM
 	 */
-	private static Map<String, String> knownSystemIdentifiers = HashUtil.getHashMap();
+	private static final Map<String, String> knownSystemIdentifiers = HashUtil.getHashMap();
 	/**
 	 * insert all known IRI shortcuts of the TMDM
 	 */
@@ -88,6 +95,7 @@ public class PrefixHandler {
 	 */
 	public void registerPrefix(final String prefix, final String uri) {
 		prefixes.put(prefix, uri);
+		modificationCount.incrementAndGet();
 	}
 
 	/**
@@ -153,6 +161,19 @@ public class PrefixHandler {
 	 */
 	public void setDefaultPrefix(String defaultPrefix) {
 		this.defaultPrefix = defaultPrefix;
+		modificationCount.incrementAndGet();
+	}
+
+	/**
+	 * Returns the number of modifications of the registered prefixes and the
+	 * default prefix. Modifications of the map returned by
+	 * {@link #getPrefixMap()} are not counted.
+	 * 
+	 * @return the modification count
+	 * @since 3.2.0
+	 */
+	public long getModificationCount() {
+		return modificationCount.get();
 	}
 
 	/**
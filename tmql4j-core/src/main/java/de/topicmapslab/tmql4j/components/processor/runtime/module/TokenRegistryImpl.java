@@ -8,8 +8,9 @@
  */
 package de.topicmapslab.tmql4j.components.processor.runtime.module;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import de.topicmapslab.tmql4j.components.processor.runtime.ITMQLRuntime;
 import de.topicmapslab.tmql4j.components.processor.runtime.module.model.ITokenRegistry;
@@ -17,11 +18,19 @@ import de.topicmapslab.tmql4j.exception.TMQLExtensionRegistryException;
 import de.topicmapslab.tmql4j.exception.TMQLInitializationException;
 import de.topicmapslab.tmql4j.grammar.lexical.IToken;
 import de.topicmapslab.tmql4j.grammar.lexical.Pragma;
+import de.topicmapslab.tmql4j.grammar.lexical.Token;
 import de.topicmapslab.tmql4j.grammar.lexical.Wildcard;
+import de.topicmapslab.tmql4j.util.HashUtil;
 
 /**
  * Registry class to handle all tokens of different languages extensions and the
  * core implementation.
+ * <p>
+ * Tokens only identified by their fixed literal are stored in a hash table
+ * using the lower-case literal as key. Only the remaining pattern-based tokens,
+ * like variables, literals or IRIs, are checked one after another. The result
+ * is the same as checking all tokens in the order of their registration.
+ * </p>
  * 
  * @author Sven Krosse
  * @email krosse@informatik.uni-leipzig.de
@@ -36,11 +45,15 @@ public abstract class TokenRegistryImpl implements ITokenRegistry {
 	/**
 	 * a token type store
 	 */
-	private final List<Class<? extends IToken>> tokenClasses = new ArrayList<Class<? extends IToken>>();
+	private final Set<Class<? extends IToken>> tokenClasses = HashUtil.getHashSet();
 	/**
-	 * the token store
+	 * the number of registered tokens
 	 */
-	private final List<IToken> tokens = new ArrayList<IToken>();
+	private int size = 0;
+	/**
+	 * the lookup index, replaced by every registration
+	 */
+	private volatile TokenIndex index = new TokenIndex(HashUtil.<String, IndexedToken> getHashMap(), new IndexedToken[0]);
 
 	/**
 	 * constructor
@@ -80,11 +93,35 @@ public abstract class TokenRegistryImpl implements ITokenRegistry {
 	 * 
 	 */
 	@Override
-	public final void register(final IToken token) {
-		if (!tokenClasses.contains(token.getClass())) {
-			tokenClasses.add(token.getClass());
-			tokens.add(token);
+	public final synchronized void register(final IToken token) {
+		if (!tokenClasses.add(token.getClass())) {
+			return;
+		}
+		IndexedToken indexed = new IndexedToken(size++, token);
+		TokenIndex current = index;
+		/*
+		 * copy the current index, so running lookups are not affected
+		 */
+		if (isKeyword(token)) {
+			String key = toKey(token.getLiteral());
+			/*
+			 * the first registered token wins
+			 */
+			if (!current.keywords.containsKey(key)) {
+				Map<String, IndexedToken> keywords = HashUtil.getHashMap(current.keywords);
+				keywords.put(key, indexed);
+				index = new TokenIndex(keywords, current.patterns);
+			}
+		} else {
+			IndexedToken[] patterns = new IndexedToken[current.patterns.length + 1];
+			System.arraycopy(current.patterns, 0, patterns, 0, current.patterns.length);
+			patterns[current.patterns.length] = indexed;
+			index = new TokenIndex(current.keywords, patterns);
 		}
+		/*
+		 * cached parser trees may depend on the former tokens
+		 */
+		runtime.getQueryPlanCache().invalidate();
 	}
 
 	/**
@@ -93,19 +130,21 @@ public abstract class TokenRegistryImpl implements ITokenRegistry {
 	 */
 	@Override
 	public final IToken getTokenByLiteral(final String literal) {
+		TokenIndex current = index;
+		IndexedToken keyword = current.keywords.get(toKey(literal));
 		/*
-		 * iterate over tokens
+		 * check all pattern-based tokens registered before the keyword
 		 */
-		for (IToken token : tokens) {
-			/*
-			 * check if token is known for literal
-			 */
-			if (token.isToken(runtime, literal)) {
-				/*
-				 * return token
-				 */
-				return token;
+		for (IndexedToken pattern : current.patterns) {
+			if (keyword != null && pattern.position > keyword.position) {
+				break;
 			}
+			if (pattern.token.isToken(runtime, literal)) {
+				return pattern.token;
+			}
+		}
+		if (keyword != null) {
+			return keyword.token;
 		}
 		/*
 		 * return default
@@ -126,4 +165,89 @@ public abstract class TokenRegistryImpl implements ITokenRegistry {
 	 * Initialization method
 	 */
 	protected abstract void initialize();
+
+	/**
+	 * Checks if the given token is only identified by its fixed literal. This
+	 * is the case if the token does not override the implementation of
+	 * {@link Token#isToken(ITMQLRuntime, String)}.
+	 * 
+	 * @param token
+	 *            the token
+	 * @return <code>true</code> if the token can be stored in the hash table
+	 */
+	private boolean isKeyword(final IToken token) {
+		if (!(token instanceof Token) || token.getLiteral() == null) {
+			return false;
+		}
+		try {
+			return Token.class.equals(token.getClass().getMethod("isToken", ITMQLRuntime.class, String.class).getDeclaringClass());
+		} catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Returns the key of the given literal used by the hash table
+	 * 
+	 * @param literal
+	 *            the literal
+	 * @return the key
+	 */
+	private static String toKey(final String literal) {
+		return literal.toLowerCase(Locale.ENGLISH);
+	}
+
+	/**
+	 * Registered token and its position in the order of registration
+	 */
+	private static class IndexedToken {
+		/**
+		 * the position of registration
+		 */
+		final int position;
+		/**
+		 * the token
+		 */
+		final IToken token;
+
+		/**
+		 * constructor
+		 * 
+		 * @param position
+		 *            the position of registration
+		 * @param token
+		 *            the token
+		 */
+		IndexedToken(int position, IToken token) {
+			this.position = position;
+			this.token = token;
+		}
+	}
+
+	/**
+	 * Immutable lookup index of all registered tokens
+	 */
+	private static class TokenIndex {
+		/**
+		 * the tokens identified by their fixed literal
+		 */
+		final Map<String, IndexedToken> keywords;
+		/**
+		 * the pattern-based tokens in the order of registration
+		 */
+		final IndexedToken[] patterns;
+
+		/**
+		 * constructor
+		 * 
+		 * @param keywords
+		 *            the tokens identified by their fixed literal
+		 * @param patterns
+		 *            the pattern-based tokens
+		 */
+		TokenIndex(Map<String, IndexedToken> keywords, IndexedToken[] patterns) {
+			this.keywords = keywords;
+			this.patterns = patterns;
+		}
+	}
 }
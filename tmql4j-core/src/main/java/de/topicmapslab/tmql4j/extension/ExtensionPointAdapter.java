@@ -128,6 +128,10 @@ public class ExtensionPointAdapter implements IExtensionPointAdapter {
 					set.add(languageExtension);
 				}
 			}
+			/*
+			 * cached parser trees may depend on the former extensions
+			 */
+			runtime.getQueryPlanCache().invalidate();
 		}
 	}
 
@@ -188,6 +192,7 @@ public class ExtensionPointAdapter implements IExtensionPointAdapter {
 	public final void enableExtensionPoint(final String extensionPointId) {
 		if (extensionPoints.containsKey(extensionPointId)) {
 			disabledExtensionPoints.remove(extensionPointId);
+			runtime.getQueryPlanCache().invalidate();
 		}
 	}
 
@@ -200,6 +205,7 @@ public class ExtensionPointAdapter implements IExtensionPointAdapter {
 	public final void disableExtensionPoint(final String extensionPointId) {
 		if (extensionPoints.containsKey(extensionPointId)) {
 			disabledExtensionPoints.add(extensionPointId);
+			runtime.getQueryPlanCache().invalidate();
 		}
 	}
 
@@ -0,0 +1,74 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/    
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *  
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.grammar.pragma;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.topicmapslab.tmql4j.components.interpreter.IPragma;
+import de.topicmapslab.tmql4j.components.processor.core.IContext;
+import de.topicmapslab.tmql4j.components.processor.runtime.ExecutionPool;
+import de.topicmapslab.tmql4j.components.processor.runtime.ITMQLRuntime;
+import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
+
+/**
+ * Pragma to enable or disable the parallel interpretation of a query by the
+ * {@link ExecutionPool} of the runtime, e.g.
+ * <code>%pragma parallelism tm:sequential</code>
+ * 
+ * @author Sven Krosse
+ * @since 3.2.0
+ */
+public class Parallelism implements IPragma {
+
+	/**
+	 * 
+	 */
+	private static final String TM_PARALLEL = "tm:parallel";
+	/**
+	 * 
+	 */
+	private static final String TM_SEQUENTIAL = "tm:sequential";
+	/**
+	 * 
+	 */
+	private static final String PARALLELISM = "parallelism";
+	/**
+	 * the Logger
+	 */
+	private Logger logger = LoggerFactory.getLogger(getClass().getSimpleName());
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public String getIdentifier() {
+		return PARALLELISM;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void interpret(ITMQLRuntime runtime, IContext context, String value) throws TMQLRuntimeException {
+		/*
+		 * check if value is tm:sequential
+		 */
+		if (value.equalsIgnoreCase(TM_SEQUENTIAL)) {
+			context.setParallel(false);
+		}
+		/*
+		 * check if value is tm:parallel
+		 */
+		else if (value.equalsIgnoreCase(TM_PARALLEL)) {
+			context.setParallel(true);
+		} else {
+			logger.warn("Value '" + value + "' is unknown for pragma '" + getIdentifier() + "'");
+		}
+	}
+
+}
@@ -66,6 +66,10 @@ public abstract class ExpressionImpl implements IExpression {
 	 * the TMQL runtime
 	 */
 	private final ITMQLRuntime runtime;
+	/**
+	 * the interpreter bound to this node, created at the first interpretation
+	 */
+	private transient volatile IExpressionInterpreter<?> interpreter;
 
 	/**
 	 * base constructor to create a new expression without sub-nodes
@@ -331,8 +335,20 @@ public abstract class ExpressionImpl implements IExpression {
 	 */
 	@Override
 	public QueryMatches interpret(ITMQLRuntime runtime, IContext context, Object... optionalArguments) throws TMQLRuntimeException {
-		IExpressionInterpreter<?> interpreter = runtime.getLanguageContext().getInterpreterRegistry().interpreterInstance(this);
-		return interpreter.interpret(runtime, context, optionalArguments);
+		return getInterpreter(runtime).interpret(runtime, context, optionalArguments);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public IExpressionInterpreter<?> getInterpreter(ITMQLRuntime runtime) throws TMQLRuntimeException {
+		IExpressionInterpreter<?> interpreter = this.interpreter;
+		if (interpreter == null) {
+			interpreter = runtime.getLanguageContext().getInterpreterRegistry().interpreterInstance(this);
+			this.interpreter = interpreter;
+		}
+		return interpreter;
 	}
 
 	/**
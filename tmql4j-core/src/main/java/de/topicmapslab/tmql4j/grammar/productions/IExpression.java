@@ -12,6 +12,7 @@ package de.topicmapslab.tmql4j.grammar.productions;
 
 import java.util.List;
 
+import de.topicmapslab.tmql4j.components.interpreter.IExpressionInterpreter;
 import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.components.processor.core.QueryMatches;
 import de.topicmapslab.tmql4j.components.processor.runtime.ITMQLRuntime;
@@ -177,6 +178,20 @@ public interface IExpression {
 	 */
 	public QueryMatches interpret(ITMQLRuntime runtime, IContext context, Object... optionalArguments) throws TMQLRuntimeException;
 
+	/**
+	 * Returns the interpreter bound to this node of the parser tree. The
+	 * interpreter is created by the interpreter registry of the given runtime
+	 * at the first call and reused by all following calls.
+	 * 
+	 * @param runtime
+	 *            the runtime
+	 * @return the interpreter of this expression
+	 * @throws TMQLRuntimeException
+	 *             thrown if there is no interpreter for this expression type
+	 * @since 3.2.0
+	 */
+	public IExpressionInterpreter<?> getInterpreter(ITMQLRuntime runtime) throws TMQLRuntimeException;
+
 	/**
 	 * Method checks if the current expression is a child of the specified
 	 * expression type. The method walks up to the tree root and check all
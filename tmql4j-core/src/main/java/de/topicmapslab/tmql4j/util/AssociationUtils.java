@@ -0,0 +1,120 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.util;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.tmapi.core.Association;
+import org.tmapi.core.Role;
+import org.tmapi.core.Topic;
+import org.tmapi.core.TopicMap;
+import org.tmapi.index.TypeInstanceIndex;
+
+/**
+ * Utility class to access the associations of a topic map. The associations
+ * of a type are read from the {@link TypeInstanceIndex}, the associations of
+ * a player from the roles played by the topic, which are the player index of
+ * every TMAPI engine. So the associations adjacent to a known topic are found
+ * without scanning all associations of the topic map.
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ * @since 3.2.0
+ */
+public final class AssociationUtils {
+
+	/**
+	 * private and hidden constructor
+	 */
+	private AssociationUtils() {
+	}
+
+	/**
+	 * Returns all associations of the given type. If the topic map does not
+	 * support the type-instance index, all associations are scanned.
+	 *
+	 * @param topicMap
+	 *            the topic map
+	 * @param type
+	 *            the association type or <code>null</code> for all
+	 *            associations
+	 * @return the associations
+	 */
+	public static Collection<Association> getAssociations(final TopicMap topicMap, final Topic type) {
+		if (type == null) {
+			return topicMap.getAssociations();
+		}
+		try {
+			TypeInstanceIndex index = topicMap.getIndex(TypeInstanceIndex.class);
+			if (!index.isOpen()) {
+				index.open();
+			}
+			return index.getAssociations(type);
+		} catch (UnsupportedOperationException e) {
+			/*
+			 * index is not supported
+			 */
+			Set<Association> associations = HashUtil.getHashSet();
+			for (Association association : topicMap.getAssociations()) {
+				if (association.getType().equals(type)) {
+					associations.add(association);
+				}
+			}
+			return associations;
+		}
+	}
+
+	/**
+	 * Returns the associations of the given type played by the given topic.
+	 * Each association is contained once, even if the topic plays more than
+	 * one role in it.
+	 *
+	 * @param player
+	 *            the player
+	 * @param type
+	 *            the association type or <code>null</code> for all
+	 *            associations
+	 * @return the associations in the order of the roles played
+	 */
+	public static Set<Association> getPlayedAssociations(final Topic player, final Topic type) {
+		Set<Association> associations = new LinkedHashSet<Association>();
+		for (Role role : player.getRolesPlayed()) {
+			Association association = role.getParent();
+			if (type == null || type.equals(association.getType())) {
+				associations.add(association);
+			}
+		}
+		return associations;
+	}
+
+	/**
+	 * Returns the roles played by any of the given topics, except the roles of
+	 * the given associations.
+	 *
+	 * @param players
+	 *            the players
+	 * @param excluded
+	 *            the associations whose roles are ignored
+	 * @return the roles, one for each role played
+	 */
+	public static List<Role> getRolesPlayed(final Collection<Topic> players, final Set<Association> excluded) {
+		List<Role> roles = HashUtil.getList();
+		for (Topic player : players) {
+			for (Role role : player.getRolesPlayed()) {
+				if (!excluded.contains(role.getParent())) {
+					roles.add(role);
+				}
+			}
+		}
+		return roles;
+	}
+}
@@ -8,7 +8,6 @@
  */
 package de.topicmapslab.tmql4j.util;
 
-import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.text.ParseException;
@@ -25,7 +24,9 @@ import java.util.regex.PatternSyntaxException;
 public class ComparisonUtils {
 
 	/**
-	 * Generic method to call comparison operation by method name.
+	 * Generic method to call comparison operation by method name. To compare
+	 * many values with the same right hand argument, use
+	 * {@link CompiledComparison#compile(String, Object)} instead.
 	 * 
 	 * @param method
 	 *            the name of the method
@@ -39,14 +40,7 @@ public class ComparisonUtils {
 	 */
 	public static boolean compare(final String method, Object left, Object right)
 			throws Exception {
-		Method m = ComparisonUtils.class.getMethod(method, Object.class,
-				Object.class);
-		Object bool = m.invoke(null, left, right);
-		if (bool instanceof Boolean) {
-			return ((Boolean) bool).booleanValue();
-		} else {
-			return false;
-		}
+		return CompiledComparison.compile(method, right).satisfies(left);
 	}
 
 	/**
@@ -61,128 +55,7 @@ public class ComparisonUtils {
 	 */
 	public static boolean isLowerThan(Object left, Object right)
 			throws ParseException {
-		String l = LiteralUtils.asString(left);
-		String r = LiteralUtils.asString(right);
-		/*
-		 * left is date literal
-		 */
-		if (LiteralUtils.isDate(l)) {
-			/*
-			 * right is date literal
-			 */
-			if (LiteralUtils.isDate(r)) {
-				return isLowerThan(LiteralUtils.asDate(l), LiteralUtils
-						.asDate(r));
-			}
-			/*
-			 * right is time literal
-			 */
-			else if (LiteralUtils.isTime(r)) {
-				return isLowerThan(LiteralUtils.asDate(l), LiteralUtils
-						.asTime(r));
-			}
-			/*
-			 * right is dateTime literal
-			 */
-			else if (LiteralUtils.isDateTime(r)) {
-				return isLowerThan(LiteralUtils.asDate(l), LiteralUtils
-						.asDateTime(r));
-			}
-		}
-		/*
-		 * left is time literal
-		 */
-		else if (LiteralUtils.isTime(l)) {
-			/*
-			 * right is date literal
-			 */
-			if (LiteralUtils.isDate(r)) {
-				return isLowerThan(LiteralUtils.asTime(l), LiteralUtils
-						.asDate(r));
-			}
-			/*
-			 * right is time literal
-			 */
-			else if (LiteralUtils.isTime(r)) {
-				return isLowerThan(LiteralUtils.asTime(l), LiteralUtils
-						.asTime(r));
-			}
-			/*
-			 * right is dateTime literal
-			 */
-			else if (LiteralUtils.isDateTime(r)) {
-				return isLowerThan(LiteralUtils.asTime(l), LiteralUtils
-						.asDateTime(r));
-			}
-		}
-		/*
-		 * left is dateTime literal
-		 */
-		else if (LiteralUtils.isDateTime(l)) {
-			/*
-			 * right is date literal
-			 */
-			if (LiteralUtils.isDate(r)) {
-				return isLowerThan(LiteralUtils.asDateTime(l), LiteralUtils
-						.asDate(r));
-			}
-			/*
-			 * right is time literal
-			 */
-			else if (LiteralUtils.isTime(r)) {
-				return isLowerThan(LiteralUtils.asDateTime(l), LiteralUtils
-						.asTime(r));
-			}
-			/*
-			 * right is dateTime literal
-			 */
-			else if (LiteralUtils.isDateTime(r)) {
-				return isLowerThan(LiteralUtils.asDateTime(l), LiteralUtils
-						.asDateTime(r));
-			}
-		}
-		/*
-		 * left is integer literal
-		 */
-		else if (LiteralUtils.isInteger(l)) {
-			/*
-			 * right is integer literal
-			 */
-			if (LiteralUtils.isInteger(r)) {
-				return isLowerThan(LiteralUtils.asInteger(l), LiteralUtils
-						.asInteger(r));
-			}
-			/*
-			 * right is decimal literal
-			 */
-			else if (LiteralUtils.isDecimal(r)) {
-				return isLowerThan(LiteralUtils.asInteger(l), LiteralUtils
-						.asDecimal(r));
-			}
-		}
-		/*
-		 * left is decimal literal
-		 */
-		else if (LiteralUtils.isDecimal(l)) {
-			/*
-			 * right is integer literal
-			 */
-			if (LiteralUtils.isInteger(r)) {
-				return isLowerThan(LiteralUtils.asDecimal(l), LiteralUtils
-						.asInteger(r));
-			}
-			/*
-			 * right is decimal literal
-			 */
-			else if (LiteralUtils.isDecimal(r)) {
-				return isLowerThan(LiteralUtils.asDecimal(l), LiteralUtils
-						.asDecimal(r));
-			}
-		}
-		/*
-		 * left is string literal
-		 */
-		return isLowerThan(l, r);
+		return TypedLiteral.valueOf(left).compare(TypedLiteral.valueOf(right)) < 0;
 	}
 
 	/**
@@ -282,128 +155,7 @@ public class ComparisonUtils {
 	 */
 	public static boolean isLowerOrEquals(Object left, Object right)
 			throws ParseException {
-		String l = LiteralUtils.asString(left);
-		String r = LiteralUtils.asString(right);
-		/*
-		 * left is date literal
-		 */
-		if (LiteralUtils.isDate(l)) {
-			/*
-			 * right is date literal
-			 */
-			if (LiteralUtils.isDate(r)) {
-				return isLowerOrEquals(LiteralUtils.asDate(l), LiteralUtils
-						.asDate(r));
-			}
-			/*
-			 * right is time literal
-			 */
-			else if (LiteralUtils.isTime(r)) {
-				return isLowerOrEquals(LiteralUtils.asDate(l), LiteralUtils
-						.asTime(r));
-			}
-			/*
-			 * right is dateTime literal
-			 */
-			else if (LiteralUtils.isDateTime(r)) {
-				return isLowerOrEquals(LiteralUtils.asDate(l), LiteralUtils
-						.asDateTime(r));
-			}
-		}
-		/*
-		 * left is time literal
-		 */
-		else if (LiteralUtils.isTime(l)) {
-			/*
-			 * right is date literal
-			 */
-			if (LiteralUtils.isDate(r)) {
-				return isLowerOrEquals(LiteralUtils.asTime(l), LiteralUtils
-						.asDate(r));
-			}
-			/*
-			 * right is time literal
-			 */
-			else if (LiteralUtils.isTime(r)) {
-				return isLowerOrEquals(LiteralUtils.asTime(l), LiteralUtils
-						.asTime(r));
-			}
-			/*
-			 * right is dateTime literal
-			 */
-			else if (LiteralUtils.isDateTime(r)) {
-				return isLowerOrEquals(LiteralUtils.asTime(l), LiteralUtils
-						.asDateTime(r));
-			}
-		}
-		/*
-		 * left is dateTime literal
-		 */
-		else if (LiteralUtils.isDateTime(l)) {
-			/*
-			 * right is date literal
-			 */
-			if (LiteralUtils.isDate(r)) {
-				return isLowerOrEquals(LiteralUtils.asDateTime(l), LiteralUtils
-						.asDate(r));
-			}
-			/*
-			 * right is time literal
-			 */
-			else if (LiteralUtils.isTime(r)) {
-				return isLowerOrEquals(LiteralUtils.asDateTime(l), LiteralUtils
-						.asTime(r));
-			}
-			/*
-			 * right is dateTime literal
-			 */
-			else if (LiteralUtils.isDateTime(r)) {
-				return isLowerOrEquals(LiteralUtils.asDateTime(l), LiteralUtils
-						.asDateTime(r));
-			}
-		}
-		/*
-		 * left is integer literal
-		 */
-		else if (LiteralUtils.isInteger(l)) {
-			/*
-			 * right is integer literal
-			 */
-			if (LiteralUtils.isInteger(r)) {
-				return isLowerOrEquals(LiteralUtils.asInteger(l), LiteralUtils
-						.asInteger(r));
-			}
-			/*
-			 * right is decimal literal
-			 */
-			else if (LiteralUtils.isDecimal(r)) {
-				return isLowerOrEquals(LiteralUtils.asInteger(l), LiteralUtils
-						.asDecimal(r));
-			}
-		}
-		/*
-		 * left is decimal literal
-		 */
-		else if (LiteralUtils.isDecimal(l)) {
-			/*
-			 * right is integer literal
-			 */
-			if (LiteralUtils.isInteger(r)) {
-				return isLowerOrEquals(LiteralUtils.asDecimal(l), LiteralUtils
-						.asInteger(r));
-			}
-			/*
-			 * right is decimal literal
-			 */
-			else if (LiteralUtils.isDecimal(r)) {
-				return isLowerOrEquals(LiteralUtils.asDecimal(l), LiteralUtils
-						.asDecimal(r));
-			}
-		}
-		/*
-		 * left is string literal
-		 */
-		return isLowerOrEquals(l, r);
+		return TypedLiteral.valueOf(left).compare(TypedLiteral.valueOf(right)) <= 0;
 	}
 
 	/**
@@ -509,128 +261,7 @@ public class ComparisonUtils {
 	 */
 	public static boolean isGreaterThan(Object left, Object right)
 			throws ParseException {
-		String l = LiteralUtils.asString(left);
-		String r = LiteralUtils.asString(right);
-		/*
-		 * left is date literal
-		 */
-		if (LiteralUtils.isDate(l)) {
-			/*
-			 * right is date literal
-			 */
-			if (LiteralUtils.isDate(r)) {
-				return isGreaterThan(LiteralUtils.asDate(l), LiteralUtils
-						.asDate(r));
-			}
-			/*
-			 * right is time literal
-			 */
-			else if (LiteralUtils.isTime(r)) {
-				return isGreaterThan(LiteralUtils.asDate(l), LiteralUtils
-						.asTime(r));
-			}
-			/*
-			 * right is dateTime literal
-			 */
-			else if (LiteralUtils.isDateTime(r)) {
-				return isGreaterThan(LiteralUtils.asDate(l), LiteralUtils
-						.asDateTime(r));
-			}
-		}
-		/*
-		 * left is time literal
-		 */
-		else if (LiteralUtils.isTime(l)) {
-			/*
-			 * right is date literal
-			 */
-			if (LiteralUtils.isDate(r)) {
-				return isGreaterThan(LiteralUtils.asTime(l), LiteralUtils
-						.asDate(r));
-			}
-			/*
-			 * right is time literal
-			 */
-			else if (LiteralUtils.isTime(r)) {
-				return isGreaterThan(LiteralUtils.asTime(l), LiteralUtils
-						.asTime(r));
-			}
-			/*
-			 * right is dateTime literal
-			 */
-			else if (LiteralUtils.isDateTime(r)) {
-				return isGreaterThan(LiteralUtils.asTime(l), LiteralUtils
-						.asDateTime(r));
-			}
-		}
-		/*
-		 * left is dateTime literal
-		 */
-		else if (LiteralUtils.isDateTime(l)) {
-			/*
-			 * right is date literal
-			 */
-			if (LiteralUtils.isDate(r)) {
-				return isGreaterThan(LiteralUtils.asDateTime(l), LiteralUtils
-						.asDate(r));
-			}
-			/*
-			 * right is time literal
-			 */
-			else if (LiteralUtils.isTime(r)) {
-				return isGreaterThan(LiteralUtils.asDateTime(l), LiteralUtils
-						.asTime(r));
-			}
-			/*
-			 * right is dateTime literal
-			 */
-			else if (LiteralUtils.isDateTime(r)) {
-				return isGreaterThan(LiteralUtils.asDateTime(l), LiteralUtils
-						.asDateTime(r));
-			}
-		}
-		/*
-		 * left is integer literal
-		 */
-		else if (LiteralUtils.isInteger(l)) {
-			/*
-			 * right is integer literal
-			 */
-			if (LiteralUtils.isInteger(r)) {
-				return isGreaterThan(LiteralUtils.asInteger(l), LiteralUtils
-						.asInteger(r));
-			}
-			/*
-			 * right is decimal literal
-			 */
-			else if (LiteralUtils.isDecimal(r)) {
-				return isGreaterThan(LiteralUtils.asInteger(l), LiteralUtils
-						.asDecimal(r));
-			}
-		}
-		/*
-		 * left is decimal literal
-		 */
-		else if (LiteralUtils.isDecimal(l)) {
-			/*
-			 * right is integer literal
-			 */
-			if (LiteralUtils.isInteger(r)) {
-				return isGreaterThan(LiteralUtils.asDecimal(l), LiteralUtils
-						.asInteger(r));
-			}
-			/*
-			 * right is decimal literal
-			 */
-			else if (LiteralUtils.isDecimal(r)) {
-				return isGreaterThan(LiteralUtils.asDecimal(l), LiteralUtils
-						.asDecimal(r));
-			}
-		}
-		/*
-		 * left is string literal
-		 */
-		return isGreaterThan(l, r);
+		return TypedLiteral.valueOf(left).compare(TypedLiteral.valueOf(right)) > 0;
 	}
 
 	/**
@@ -736,128 +367,7 @@ public class ComparisonUtils {
 	 */
 	public static boolean isGreaterOrEquals(Object left, Object right)
 			throws ParseException {
-		String l = LiteralUtils.asString(left);
-		String r = LiteralUtils.asString(right);
-		/*
-		 * left is date literal
-		 */
-		if (LiteralUtils.isDate(l)) {
-			/*
-			 * right is date literal
-			 */
-			if (LiteralUtils.isDate(r)) {
-				return isGreaterOrEquals(LiteralUtils.asDate(l), LiteralUtils
-						.asDate(r));
-			}
-			/*
-			 * right is time literal
-			 */
-			else if (LiteralUtils.isTime(r)) {
-				return isGreaterOrEquals(LiteralUtils.asDate(l), LiteralUtils
-						.asTime(r));
-			}
-			/*
-			 * right is dateTime literal
-			 */
-			else if (LiteralUtils.isDateTime(r)) {
-				return isGreaterOrEquals(LiteralUtils.asDate(l), LiteralUtils
-						.asDateTime(r));
-			}
-		}
-		/*
-		 * left is time literal
-		 */
-		else if (LiteralUtils.isTime(l)) {
-			/*
-			 * right is date literal
-			 */
-			if (LiteralUtils.isDate(r)) {
-				return isGreaterOrEquals(LiteralUtils.asTime(l), LiteralUtils
-						.asDate(r));
-			}
-			/*
-			 * right is time literal
-			 */
-			else if (LiteralUtils.isTime(r)) {
-				return isGreaterOrEquals(LiteralUtils.asTime(l), LiteralUtils
-						.asTime(r));
-			}
-			/*
-			 * right is dateTime literal
-			 */
-			else if (LiteralUtils.isDateTime(r)) {
-				return isGreaterOrEquals(LiteralUtils.asTime(l), LiteralUtils
-						.asDateTime(r));
-			}
-		}
-		/*
-		 * left is dateTime literal
-		 */
-		else if (LiteralUtils.isDateTime(l)) {
-			/*
-			 * right is date literal
-			 */
-			if (LiteralUtils.isDate(r)) {
-				return isGreaterOrEquals(LiteralUtils.asDateTime(l),
-						LiteralUtils.asDate(r));
-			}
-			/*
-			 * right is time literal
-			 */
-			else if (LiteralUtils.isTime(r)) {
-				return isGreaterOrEquals(LiteralUtils.asDateTime(l),
-						LiteralUtils.asTime(r));
-			}
-			/*
-			 * right is dateTime literal
-			 */
-			else if (LiteralUtils.isDateTime(r)) {
-				return isGreaterOrEquals(LiteralUtils.asDateTime(l),
-						LiteralUtils.asDateTime(r));
-			}
-		}
-		/*
-		 * left is integer literal
-		 */
-		else if (LiteralUtils.isInteger(l)) {
-			/*
-			 * right is integer literal
-			 */
-			if (LiteralUtils.isInteger(r)) {
-				return isGreaterOrEquals(LiteralUtils.asInteger(l),
-						LiteralUtils.asInteger(r));
-			}
-			/*
-			 * right is decimal literal
-			 */
-			else if (LiteralUtils.isDecimal(r)) {
-				return isGreaterOrEquals(LiteralUtils.asInteger(l),
-						LiteralUtils.asDecimal(r));
-			}
-		}
-		/*
-		 * left is decimal literal
-		 */
-		else if (LiteralUtils.isDecimal(l)) {
-			/*
-			 * right is integer literal
-			 */
-			if (LiteralUtils.isInteger(r)) {
-				return isGreaterOrEquals(LiteralUtils.asDecimal(l),
-						LiteralUtils.asInteger(r));
-			}
-			/*
-			 * right is decimal literal
-			 */
-			else if (LiteralUtils.isDecimal(r)) {
-				return isGreaterOrEquals(LiteralUtils.asDecimal(l),
-						LiteralUtils.asDecimal(r));
-			}
-		}
-		/*
-		 * left is string literal
-		 */
-		return isGreaterOrEquals(l, r);
+		return TypedLiteral.valueOf(left).compare(TypedLiteral.valueOf(right)) >= 0;
 	}
 
 	/**
@@ -0,0 +1,183 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.util;
+
+import java.text.MessageFormat;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
+
+/**
+ * Comparison operation with a constant right hand argument. The right hand
+ * argument is typed respectively compiled to a regular expression only once,
+ * so the comparison can be applied to many left hand arguments efficiently.
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ * @since 3.2.0
+ */
+public abstract class CompiledComparison {
+
+	/**
+	 * exception message
+	 */
+	private static final String UNKNOWN_COMPARISON = "Unknown comparison operation {0}.";
+
+	/**
+	 * the maximum number of cached comparisons
+	 */
+	private static final int CACHE_SIZE = 256;
+
+	/**
+	 * the cached comparisons with constant literals as right hand argument
+	 */
+	private static final Map<List<Object>, CompiledComparison> cache = Collections.synchronizedMap(new LinkedHashMap<List<Object>, CompiledComparison>(16,
+			0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		protected boolean removeEldestEntry(Map.Entry<List<Object>, CompiledComparison> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	});
+
+	/**
+	 * Returns the comparison operation of the given name. If the right hand
+	 * argument is a string or number, the comparison is compiled only once
+	 * and reused by all further queries comparing with the same literal.
+	 *
+	 * @param method
+	 *            the name of the method of {@link ComparisonUtils} realizing
+	 *            the comparison, e.g. <code>isLowerThan</code>
+	 * @param right
+	 *            the right hand argument
+	 * @return the comparison
+	 * @throws TMQLRuntimeException
+	 *             thrown if the operation is unknown, the right hand argument
+	 *             is not a valid regular expression or cannot be parsed
+	 */
+	public static CompiledComparison get(String method, Object right) throws TMQLRuntimeException {
+		if (!(right instanceof String || right instanceof Number)) {
+			return compile(method, right);
+		}
+		List<Object> key = Arrays.asList(method, right);
+		CompiledComparison comparison = cache.get(key);
+		if (comparison == null) {
+			comparison = compile(method, right);
+			cache.put(key, comparison);
+		}
+		return comparison;
+	}
+
+	/**
+	 * Creates the comparison operation of the given name.
+	 *
+	 * @param method
+	 *            the name of the method of {@link ComparisonUtils} realizing
+	 *            the comparison, e.g. <code>isLowerThan</code>
+	 * @param right
+	 *            the right hand argument
+	 * @return the comparison
+	 * @throws TMQLRuntimeException
+	 *             thrown if the operation is unknown, the right hand argument
+	 *             is not a valid regular expression or cannot be parsed
+	 */
+	public static CompiledComparison compile(String method, Object right) throws TMQLRuntimeException {
+		if ("matchesRegExp".equals(method)) {
+			try {
+				final Pattern pattern = Pattern.compile(LiteralUtils.asString(right));
+				return new CompiledComparison() {
+					protected boolean satisfies(TypedLiteral left) {
+						return pattern.matcher(left.getLexicalValue()).matches();
+					}
+
+					public boolean satisfies(Object left) {
+						return pattern.matcher(LiteralUtils.asString(left)).matches();
+					}
+				};
+			} catch (PatternSyntaxException e) {
+				throw new TMQLRuntimeException(e);
+			}
+		}
+		final TypedLiteral literal = asTypedLiteral(right);
+		if ("isLowerThan".equals(method)) {
+			return new CompiledComparison() {
+				protected boolean satisfies(TypedLiteral left) {
+					return left.compare(literal) < 0;
+				}
+			};
+		} else if ("isLowerOrEquals".equals(method)) {
+			return new CompiledComparison() {
+				protected boolean satisfies(TypedLiteral left) {
+					return left.compare(literal) <= 0;
+				}
+			};
+		} else if ("isGreaterThan".equals(method)) {
+			return new CompiledComparison() {
+				protected boolean satisfies(TypedLiteral left) {
+					return left.compare(literal) > 0;
+				}
+			};
+		} else if ("isGreaterOrEquals".equals(method)) {
+			return new CompiledComparison() {
+				protected boolean satisfies(TypedLiteral left) {
+					return left.compare(literal) >= 0;
+				}
+			};
+		}
+		throw new TMQLRuntimeException(MessageFormat.format(UNKNOWN_COMPARISON, method));
+	}
+
+	/**
+	 * Checks if the given left hand argument satisfies the comparison
+	 *
+	 * @param left
+	 *            the left hand argument
+	 * @return <code>true</code> if the comparison is satisfied,
+	 *         <code>false</code> otherwise
+	 * @throws TMQLRuntimeException
+	 *             thrown if the argument cannot be parsed
+	 */
+	public boolean satisfies(Object left) throws TMQLRuntimeException {
+		return satisfies(asTypedLiteral(left));
+	}
+
+	/**
+	 * Checks if the given typed left hand argument satisfies the comparison
+	 *
+	 * @param left
+	 *            the left hand argument
+	 * @return <code>true</code> if the comparison is satisfied,
+	 *         <code>false</code> otherwise
+	 */
+	protected abstract boolean satisfies(TypedLiteral left);
+
+	/**
+	 * Types the given argument
+	 *
+	 * @param object
+	 *            the argument
+	 * @return the typed literal
+	 * @throws TMQLRuntimeException
+	 *             thrown if the argument cannot be parsed
+	 */
+	private static TypedLiteral asTypedLiteral(Object object) throws TMQLRuntimeException {
+		try {
+			return TypedLiteral.valueOf(object);
+		} catch (ParseException e) {
+			throw new TMQLRuntimeException(e);
+		}
+	}
+}
@@ -11,10 +11,10 @@
 package de.topicmapslab.tmql4j.util;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -173,14 +173,30 @@ public class HashUtil {
 	}
 
 	/**
-	 * Returns a new list instance
+	 * Returns a new list instance. The list is array-backed, so the items can
+	 * be accessed by their position in constant time.
 	 * 
 	 * @param <T>
 	 *            the type of list items
 	 * @return the new list
 	 */
 	public static <T> List<T> getList() {
-		return new LinkedList<T>();
+		return new ArrayList<T>();
+	}
+
+	/**
+	 * Returns a new list instance which can store the given number of items
+	 * without resizing
+	 * 
+	 * @param <T>
+	 *            the type of list items
+	 * @param expectedSize
+	 *            the expected number of items
+	 * @return the new list
+	 * @since 3.2.0
+	 */
+	public static <T> List<T> getList(int expectedSize) {
+		return new ArrayList<T>(Math.max(expectedSize, 0));
 	}
 
 	/**
@@ -193,6 +209,6 @@ public class HashUtil {
 	 * @return the new list
 	 */
 	public static <T> List<T> getList(List<T> initial) {
-		return new LinkedList<T>(initial);
+		return new ArrayList<T>(initial);
 	}
 }
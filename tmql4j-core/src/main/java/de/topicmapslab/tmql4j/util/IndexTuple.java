@@ -7,8 +7,10 @@ import de.topicmapslab.tmql4j.components.processor.core.QueryMatches;
 /**
  * Tuple enables order in context of an order by clause
  * @author Sven Krosse
- *
+ * @deprecated since 3.2.0, order-by clauses use the
+ *             {@link de.topicmapslab.tmql4j.components.processor.core.TupleSorter}
  */
+@Deprecated
 public class IndexTuple implements Comparable<IndexTuple> {
 	/**
 	 * the index at the tuple-sequence
@@ -18,6 +20,14 @@ public class IndexTuple implements Comparable<IndexTuple> {
 	 * the tuple
 	 */
 	public Map<String, Object> tuple;
+	/**
+	 * the numerical sort key, <code>null</code> if the value is not a number
+	 */
+	private Double number;
+	/**
+	 * the string sort key, extracted once at the first comparison
+	 */
+	private String string;
 
 	/**
 	 * {@inheritDoc}
@@ -33,12 +43,25 @@ public class IndexTuple implements Comparable<IndexTuple> {
 		if (o.tuple.isEmpty()) {
 			return 1;
 		}
-		Object value = tuple.get(QueryMatches.getNonScopedVariable());
-		Object value2 = o.tuple.get(QueryMatches.getNonScopedVariable());
-		if (value instanceof Number && value2 instanceof Number) {
-			return (int) Math.round(((Number) value).doubleValue()
-					- ((Number) value2).doubleValue());
+		initializeKeys();
+		o.initializeKeys();
+		if (number != null && o.number != null) {
+			return Double.compare(number, o.number);
+		}
+		return string.compareTo(o.string);
+	}
+
+	/**
+	 * Extracts the sort keys of the value only once, instead of at each of the
+	 * n*log(n) comparisons of the sorting
+	 */
+	private void initializeKeys() {
+		if (string == null) {
+			Object value = tuple.get(QueryMatches.getNonScopedVariable());
+			if (value instanceof Number) {
+				number = ((Number) value).doubleValue();
+			}
+			string = value.toString();
 		}
-		return value.toString().compareTo(value2.toString());
 	}
 }
@@ -14,6 +14,7 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Date;
@@ -111,6 +112,49 @@ public class LiteralUtils {
 		timePatterns.add("HH:mm:ss.SSSSS+HH:mm");
 	}
 
+	/**
+	 * the date formats of the date patterns, created once per thread because
+	 * date formats are not thread-safe
+	 */
+	private static final ThreadLocal<List<SimpleDateFormat>> dateFormats = new ThreadLocal<List<SimpleDateFormat>>() {
+		protected List<SimpleDateFormat> initialValue() {
+			List<SimpleDateFormat> formats = new ArrayList<SimpleDateFormat>(datePatterns.size());
+			for (String pattern : datePatterns) {
+				formats.add(new SimpleDateFormat(pattern));
+			}
+			return formats;
+		}
+	};
+
+	/**
+	 * the date formats of the time patterns, created once per thread
+	 */
+	private static final ThreadLocal<List<SimpleDateFormat>> timeFormats = new ThreadLocal<List<SimpleDateFormat>>() {
+		protected List<SimpleDateFormat> initialValue() {
+			List<SimpleDateFormat> formats = new ArrayList<SimpleDateFormat>(timePatterns.size());
+			for (String pattern : timePatterns) {
+				formats.add(new SimpleDateFormat(pattern));
+			}
+			return formats;
+		}
+	};
+
+	/**
+	 * the date formats of all combinations of date and time patterns, created
+	 * once per thread
+	 */
+	private static final ThreadLocal<List<SimpleDateFormat>> dateTimeFormats = new ThreadLocal<List<SimpleDateFormat>>() {
+		protected List<SimpleDateFormat> initialValue() {
+			List<SimpleDateFormat> formats = new ArrayList<SimpleDateFormat>(datePatterns.size() * timePatterns.size());
+			for (String dp : datePatterns) {
+				for (String tp : timePatterns) {
+					formats.add(new SimpleDateFormat(dp + "'T'" + tp));
+				}
+			}
+			return formats;
+		}
+	};
+
 	/**
 	 * Method checks if the given string literal can be represented as integer
 	 * literal.
@@ -301,14 +345,7 @@ public class LiteralUtils {
 	 *             thrown if literal cannot be format as date
 	 */
 	public static final Calendar asDate(final String literal) throws ParseException {
-		Date date = null;
-		for (String pattern : datePatterns) {
-			try {
-				date = new SimpleDateFormat(pattern).parse(literal);
-			} catch (ParseException e) {
-				// VOID
-			}
-		}
+		Date date = parse(dateFormats.get(), literal);
 		if (date == null) {
 			throw new ParseException("Invalid date pattern", -1);
 		}
@@ -318,23 +355,38 @@ public class LiteralUtils {
 	}
 
 	/**
-	 * Method formats the given literal as time literal.
+	 * Parses the given literal by all given formats
 	 * 
+	 * @param formats
+	 *            the formats
 	 * @param literal
-	 *            the string literal
-	 * @return the time literal
-	 * @throws ParseException
-	 *             thrown if literal cannot be format as time
+	 *            the literal
+	 * @return the date parsed by the last matching format or
+	 *         <code>null</code> if no format matches
 	 */
-	public static final Calendar asTime(final String literal) throws ParseException {
+	private static final Date parse(final List<SimpleDateFormat> formats, final String literal) {
 		Date date = null;
-		for (String pattern : timePatterns) {
+		for (SimpleDateFormat format : formats) {
 			try {
-				date = new SimpleDateFormat(pattern).parse(literal);
+				date = format.parse(literal);
 			} catch (ParseException e) {
 				// VOID
 			}
 		}
+		return date;
+	}
+
+	/**
+	 * Method formats the given literal as time literal.
+	 * 
+	 * @param literal
+	 *            the string literal
+	 * @return the time literal
+	 * @throws ParseException
+	 *             thrown if literal cannot be format as time
+	 */
+	public static final Calendar asTime(final String literal) throws ParseException {
+		Date date = parse(timeFormats.get(), literal);
 		if (date == null) {
 			throw new ParseException("Invalid time pattern", -1);
 		}
@@ -353,16 +405,7 @@ public class LiteralUtils {
 	 *             thrown if literal cannot be format as dateTime
 	 */
 	public static final Calendar asDateTime(final String literal) throws ParseException {
-		Date date = null;
-		for (String dp : datePatterns) {
-			for (String tp : timePatterns) {
-				try {
-					date = new SimpleDateFormat(dp + "'T'" + tp).parse(literal);
-				} catch (ParseException e) {
-					// VOID
-				}
-			}
-		}
+		Date date = parse(dateTimeFormats.get(), literal);
 		if (date == null) {
 			throw new ParseException("Invalid dateTime pattern", -1);
 		}
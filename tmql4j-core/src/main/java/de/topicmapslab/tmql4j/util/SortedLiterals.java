@@ -0,0 +1,376 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.util;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
+
+/**
+ * Sorted sequence of items keyed by typed literals, answering the comparison
+ * operations of {@link CompiledComparison} by binary search instead of
+ * comparing each item.
+ * <p>
+ * {@link TypedLiteral#compare(TypedLiteral)} compares two temporal or two
+ * numerical literals by their values and any other pair by their string
+ * representation. The items are therefore kept in three groups, temporal,
+ * numerical and string literals, each sorted by value and by string
+ * representation. A comparison with a literal scans the value order of the
+ * group of the literal and the string order of the other groups, so the result
+ * is exactly the same as comparing each item.
+ * </p>
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ * @since 3.2.0
+ * @param <T>
+ *            the type of the items
+ */
+public class SortedLiterals<T> {
+
+	/**
+	 * exception message
+	 */
+	private static final String UNKNOWN_COMPARISON = "Unknown range comparison operation {0}.";
+
+	/**
+	 * the number of groups
+	 */
+	private static final int GROUPS = 3;
+
+	/**
+	 * order by value
+	 */
+	private static final Comparator<Entry<?>> BY_VALUE = new Comparator<Entry<?>>() {
+		/**
+		 * {@inheritDoc}
+		 */
+		public int compare(Entry<?> o1, Entry<?> o2) {
+			return o1.literal.compare(o2.literal);
+		}
+	};
+
+	/**
+	 * order by string representation
+	 */
+	private static final Comparator<Entry<?>> BY_LEXICAL_VALUE = new Comparator<Entry<?>>() {
+		/**
+		 * {@inheritDoc}
+		 */
+		public int compare(Entry<?> o1, Entry<?> o2) {
+			return o1.literal.getLexicalValue().compareTo(o2.literal.getLexicalValue());
+		}
+	};
+
+	/**
+	 * the added items by group
+	 */
+	private final List<List<Entry<T>>> added = HashUtil.getList(GROUPS);
+	/**
+	 * the items of each group sorted by value
+	 */
+	private final Entry<T>[][] byValue = newArray(GROUPS);
+	/**
+	 * the items of each group sorted by string representation
+	 */
+	private final Entry<T>[][] byLexicalValue = newArray(GROUPS);
+	/**
+	 * flag indicates if items were added since the last sort
+	 */
+	private boolean modified;
+
+	/**
+	 * constructor
+	 */
+	public SortedLiterals() {
+		for (int i = 0; i < GROUPS; i++) {
+			added.add(HashUtil.<Entry<T>> getList());
+		}
+	}
+
+	/**
+	 * Checks if the given comparison operation can be answered by a range
+	 * scan
+	 *
+	 * @param method
+	 *            the name of the comparison, e.g. <code>isLowerThan</code>
+	 * @return <code>true</code> for lower-than, lower-or-equals, greater-than
+	 *         and greater-or-equals
+	 */
+	public static boolean isRangeComparison(final String method) {
+		return "isLowerThan".equals(method) || "isLowerOrEquals".equals(method) || "isGreaterThan".equals(method) || "isGreaterOrEquals".equals(method);
+	}
+
+	/**
+	 * Adds an item
+	 *
+	 * @param literal
+	 *            the key of the item
+	 * @param item
+	 *            the item
+	 */
+	public synchronized void add(final TypedLiteral literal, final T item) {
+		added.get(getGroup(literal)).add(new Entry<T>(literal, item));
+		modified = true;
+	}
+
+	/**
+	 * Returns the number of items
+	 *
+	 * @return the number of items
+	 */
+	public synchronized int size() {
+		int size = 0;
+		for (List<Entry<T>> group : added) {
+			size += group.size();
+		}
+		return size;
+	}
+
+	/**
+	 * Returns all items whose key satisfies the given comparison with the
+	 * given literal, e.g. all items lower than the literal.
+	 *
+	 * @param method
+	 *            the name of the comparison, e.g. <code>isLowerThan</code>
+	 * @param literal
+	 *            the right hand argument of the comparison
+	 * @return the items, ordered by group and key
+	 * @throws TMQLRuntimeException
+	 *             thrown if the comparison is not a range comparison
+	 */
+	public List<T> select(final String method, final TypedLiteral literal) throws TMQLRuntimeException {
+		List<T> items = HashUtil.getList();
+		for (int group = 0; group < GROUPS; group++) {
+			Entry<T>[] entries = getEntries(group, literal);
+			int[] range = getRange(entries, method, literal);
+			for (int i = range[0]; i < range[1]; i++) {
+				items.add(entries[i].item);
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * Returns all items whose key satisfies both comparisons, e.g. all items
+	 * greater than the first and lower than the second literal.
+	 *
+	 * @param lowerMethod
+	 *            the name of the first comparison
+	 * @param lower
+	 *            the right hand argument of the first comparison
+	 * @param upperMethod
+	 *            the name of the second comparison
+	 * @param upper
+	 *            the right hand argument of the second comparison
+	 * @return the items, ordered by group and key
+	 * @throws TMQLRuntimeException
+	 *             thrown if any comparison is not a range comparison
+	 */
+	public List<T> select(final String lowerMethod, final TypedLiteral lower, final String upperMethod, final TypedLiteral upper) throws TMQLRuntimeException {
+		List<T> items = HashUtil.getList();
+		CompiledComparison comparison = null;
+		for (int group = 0; group < GROUPS; group++) {
+			Entry<T>[] entries = getEntries(group, lower);
+			int[] range = getRange(entries, lowerMethod, lower);
+			/*
+			 * both bounds scan the same order, so the ranges are intersected
+			 */
+			if (entries == getEntries(group, upper)) {
+				int[] other = getRange(entries, upperMethod, upper);
+				for (int i = Math.max(range[0], other[0]); i < Math.min(range[1], other[1]); i++) {
+					items.add(entries[i].item);
+				}
+			}
+			/*
+			 * bounds of different groups, so the second one is checked for
+			 * each item of the first range
+			 */
+			else {
+				if (comparison == null) {
+					comparison = CompiledComparison.compile(upperMethod, upper);
+				}
+				for (int i = range[0]; i < range[1]; i++) {
+					if (comparison.satisfies(entries[i].literal)) {
+						items.add(entries[i].item);
+					}
+				}
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * Returns the sorted items of the given group in the order used for
+	 * comparisons with the given literal and sorts the groups if necessary
+	 *
+	 * @param group
+	 *            the group
+	 * @param literal
+	 *            the right hand argument of the comparison
+	 * @return the items sorted by value if the literal belongs to the group,
+	 *         by string representation otherwise
+	 */
+	private synchronized Entry<T>[] getEntries(final int group, final TypedLiteral literal) {
+		if (modified) {
+			sort();
+		}
+		return getGroup(literal) == group ? byValue[group] : byLexicalValue[group];
+	}
+
+	/**
+	 * Sorts the items of all groups
+	 */
+	@SuppressWarnings("unchecked")
+	private void sort() {
+		for (int group = 0; group < GROUPS; group++) {
+			List<Entry<T>> entries = added.get(group);
+			byValue[group] = entries.toArray(new Entry[entries.size()]);
+			Arrays.sort(byValue[group], BY_VALUE);
+			/*
+			 * string literals are compared by their string representation
+			 */
+			if (group == 2) {
+				byLexicalValue[group] = byValue[group];
+			} else {
+				byLexicalValue[group] = byValue[group].clone();
+				Arrays.sort(byLexicalValue[group], BY_LEXICAL_VALUE);
+			}
+		}
+		modified = false;
+	}
+
+	/**
+	 * Returns the index range of the sorted items satisfying the comparison
+	 *
+	 * @param entries
+	 *            the sorted items
+	 * @param method
+	 *            the name of the comparison
+	 * @param literal
+	 *            the right hand argument of the comparison
+	 * @return the first index and the index after the last one
+	 * @throws TMQLRuntimeException
+	 *             thrown if the comparison is not a range comparison
+	 */
+	private int[] getRange(final Entry<T>[] entries, final String method, final TypedLiteral literal) throws TMQLRuntimeException {
+		if ("isLowerThan".equals(method)) {
+			return new int[] { 0, search(entries, literal, false) };
+		} else if ("isLowerOrEquals".equals(method)) {
+			return new int[] { 0, search(entries, literal, true) };
+		} else if ("isGreaterThan".equals(method)) {
+			return new int[] { search(entries, literal, true), entries.length };
+		} else if ("isGreaterOrEquals".equals(method)) {
+			return new int[] { search(entries, literal, false), entries.length };
+		}
+		throw new TMQLRuntimeException(MessageFormat.format(UNKNOWN_COMPARISON, method));
+	}
+
+	/**
+	 * Returns the index of the first item greater than, respectively greater
+	 * than or equal to, the given literal
+	 *
+	 * @param entries
+	 *            the sorted items
+	 * @param literal
+	 *            the literal
+	 * @param skipEquals
+	 *            <code>true</code> to skip the items equal to the literal
+	 * @return the index
+	 */
+	private int search(final Entry<T>[] entries, final TypedLiteral literal, final boolean skipEquals) {
+		int low = 0;
+		int high = entries.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			int compare = entries[middle].literal.compare(literal);
+			if (compare < 0 || (skipEquals && compare == 0)) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Returns the group of the given literal
+	 *
+	 * @param literal
+	 *            the literal
+	 * @return 0 for temporal, 1 for numerical and 2 for string literals
+	 */
+	private static int getGroup(final TypedLiteral literal) {
+		if (literal.isTemporal()) {
+			return 0;
+		} else if (literal.isNumerical()) {
+			return 1;
+		}
+		return 2;
+	}
+
+	/**
+	 * Creates the array of groups
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 * @param groups
+	 *            the number of groups
+	 * @return the array of empty groups
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> Entry<T>[][] newArray(final int groups) {
+		Entry<T>[][] array = new Entry[groups][];
+		for (int i = 0; i < groups; i++) {
+			array[i] = new Entry[0];
+		}
+		return array;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "SortedLiterals [size=" + size() + "]";
+	}
+
+	/**
+	 * An item and its key
+	 *
+	 * @param <T>
+	 *            the type of the item
+	 */
+	private static class Entry<T> {
+		/**
+		 * the key
+		 */
+		private final TypedLiteral literal;
+		/**
+		 * the item
+		 */
+		private final T item;
+
+		/**
+		 * constructor
+		 *
+		 * @param literal
+		 *            the key
+		 * @param item
+		 *            the item
+		 */
+		private Entry(TypedLiteral literal, T item) {
+			this.literal = literal;
+			this.item = item;
+		}
+	}
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.ParseException;
+import java.util.Calendar;
+
+import org.tmapi.core.DatatypeAware;
+
+/**
+ * A literal value typed once by its data-type or by its string
+ * representation. The comparison operations of {@link ComparisonUtils} are
+ * dispatched by the types of the literals, so a literal which is compared
+ * several times is converted only once.
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ * @since 3.2.0
+ */
+public class TypedLiteral {
+
+	/**
+	 * the types of literals
+	 */
+	public enum Type {
+		/**
+		 * date literal
+		 */
+		DATE,
+		/**
+		 * time literal
+		 */
+		TIME,
+		/**
+		 * dateTime literal
+		 */
+		DATETIME,
+		/**
+		 * integer literal
+		 */
+		INTEGER,
+		/**
+		 * decimal literal
+		 */
+		DECIMAL,
+		/**
+		 * any other literal
+		 */
+		STRING
+	}
+
+	/**
+	 * the type of the literal
+	 */
+	private final Type type;
+	/**
+	 * the string representation
+	 */
+	private final String lexicalValue;
+	/**
+	 * the milliseconds of a temporal literal or the value of an integer
+	 * literal
+	 */
+	private final long longValue;
+	/**
+	 * the value of a numerical literal
+	 */
+	private final double doubleValue;
+
+	/**
+	 * constructor
+	 *
+	 * @param type
+	 *            the type
+	 * @param lexicalValue
+	 *            the string representation
+	 * @param longValue
+	 *            the milliseconds of a temporal literal or the value of an
+	 *            integer literal
+	 * @param doubleValue
+	 *            the value of a numerical literal
+	 */
+	private TypedLiteral(Type type, String lexicalValue, long longValue, double doubleValue) {
+		this.type = type;
+		this.lexicalValue = lexicalValue;
+		this.longValue = longValue;
+		this.doubleValue = doubleValue;
+	}
+
+	/**
+	 * Returns the typed literal of the given object. The type of occurrences
+	 * and variants is taken from their data-type if it is a date, time,
+	 * dateTime, integer or decimal type and the value is valid. Numbers and
+	 * calendars are typed by their class. Any other object is typed by the
+	 * pattern its string representation matches.
+	 *
+	 * @param object
+	 *            the object
+	 * @return the typed literal
+	 * @throws ParseException
+	 *             thrown if a temporal literal cannot be parsed
+	 */
+	public static TypedLiteral valueOf(Object object) throws ParseException {
+		if (object instanceof TypedLiteral) {
+			return (TypedLiteral) object;
+		}
+		/*
+		 * object is a number
+		 */
+		if (object instanceof BigInteger || object instanceof Long || object instanceof Integer || object instanceof Short || object instanceof Byte) {
+			long value = ((Number) object).longValue();
+			return new TypedLiteral(Type.INTEGER, object.toString(), value, value);
+		} else if (object instanceof Number) {
+			return new TypedLiteral(Type.DECIMAL, object.toString(), 0, ((Number) object).doubleValue());
+		}
+		/*
+		 * object is a calendar
+		 */
+		else if (object instanceof Calendar) {
+			return new TypedLiteral(Type.DATETIME, object.toString(), ((Calendar) object).getTimeInMillis(), 0);
+		}
+		final String literal = LiteralUtils.asString(object);
+		/*
+		 * object has a data-type
+		 */
+		if (object instanceof DatatypeAware) {
+			TypedLiteral typed = valueOf(literal, ((DatatypeAware) object).getDatatype().getReference());
+			if (typed != null) {
+				return typed;
+			}
+		}
+		return valueOf(literal);
+	}
+
+	/**
+	 * Returns the typed literal of the given value of the given data-type.
+	 *
+	 * @param literal
+	 *            the value
+	 * @param datatype
+	 *            the IRI of the data-type
+	 * @return the typed literal or <code>null</code> if the data-type is not
+	 *         a temporal or numerical type or the value is not valid
+	 * @throws ParseException
+	 *             thrown if a temporal literal cannot be parsed
+	 */
+	private static TypedLiteral valueOf(String literal, String datatype) throws ParseException {
+		if (XmlSchemeDatatypes.XSD_DATE.equals(datatype) && LiteralUtils.isDate(literal)) {
+			return new TypedLiteral(Type.DATE, literal, LiteralUtils.asDate(literal).getTimeInMillis(), 0);
+		} else if (XmlSchemeDatatypes.XSD_TIME.equals(datatype) && LiteralUtils.isTime(literal)) {
+			return new TypedLiteral(Type.TIME, literal, LiteralUtils.asTime(literal).getTimeInMillis(), 0);
+		} else if (XmlSchemeDatatypes.XSD_DATETIME.equals(datatype) && LiteralUtils.isDateTime(literal)) {
+			return new TypedLiteral(Type.DATETIME, literal, LiteralUtils.asDateTime(literal).getTimeInMillis(), 0);
+		} else if ((XmlSchemeDatatypes.XSD_INTEGER.equals(datatype) || XmlSchemeDatatypes.XSD_INT.equals(datatype) || XmlSchemeDatatypes.XSD_LONG.equals(datatype))
+				&& LiteralUtils.isInteger(literal)) {
+			long value = LiteralUtils.asInteger(literal).longValue();
+			return new TypedLiteral(Type.INTEGER, literal, value, value);
+		} else if ((XmlSchemeDatatypes.XSD_DECIMAL.equals(datatype) || XmlSchemeDatatypes.XSD_FLOAT.equals(datatype)) && LiteralUtils.isDecimal(literal)) {
+			return new TypedLiteral(Type.DECIMAL, literal, 0, LiteralUtils.asDecimal(literal).doubleValue());
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the typed literal of the given string literal. The type is
+	 * detected by the pattern the literal matches.
+	 *
+	 * @param literal
+	 *            the string literal
+	 * @return the typed literal
+	 * @throws ParseException
+	 *             thrown if a temporal literal cannot be parsed
+	 */
+	public static TypedLiteral valueOf(String literal) throws ParseException {
+		if (LiteralUtils.isDate(literal)) {
+			return new TypedLiteral(Type.DATE, literal, LiteralUtils.asDate(literal).getTimeInMillis(), 0);
+		} else if (LiteralUtils.isTime(literal)) {
+			return new TypedLiteral(Type.TIME, literal, LiteralUtils.asTime(literal).getTimeInMillis(), 0);
+		} else if (LiteralUtils.isDateTime(literal)) {
+			return new TypedLiteral(Type.DATETIME, literal, LiteralUtils.asDateTime(literal).getTimeInMillis(), 0);
+		} else if (LiteralUtils.isInteger(literal)) {
+			long value = LiteralUtils.asInteger(literal).longValue();
+			return new TypedLiteral(Type.INTEGER, literal, value, value);
+		} else if (LiteralUtils.isDecimal(literal)) {
+			return new TypedLiteral(Type.DECIMAL, literal, 0, LiteralUtils.asDecimal(literal).doubleValue());
+		}
+		return new TypedLiteral(Type.STRING, literal, 0, 0);
+	}
+
+	/**
+	 * Compares this literal with the given one. Two temporal literals are
+	 * compared by their time, two numerical literals by their values and any
+	 * other literals by their string representation.
+	 *
+	 * @param other
+	 *            the other literal
+	 * @return a negative integer, zero, or a positive integer as this literal
+	 *         is lower than, equal to, or greater than the given one
+	 */
+	public int compare(TypedLiteral other) {
+		if (isTemporal() && other.isTemporal()) {
+			return compare(longValue, other.longValue);
+		} else if (isNumerical() && other.isNumerical()) {
+			if (type == Type.INTEGER && other.type == Type.INTEGER) {
+				return compare(longValue, other.longValue);
+			}
+			return doubleValue < other.doubleValue ? -1 : (doubleValue > other.doubleValue ? 1 : 0);
+		}
+		return lexicalValue.compareTo(other.lexicalValue);
+	}
+
+	/**
+	 * Compares the given values
+	 *
+	 * @param left
+	 *            the left value
+	 * @param right
+	 *            the right value
+	 * @return the result of the comparison
+	 */
+	private static int compare(long left, long right) {
+		return left < right ? -1 : (left > right ? 1 : 0);
+	}
+
+	/**
+	 * Checks if the literal is a date, time or dateTime literal
+	 *
+	 * @return <code>true</code> if the literal is temporal
+	 */
+	public boolean isTemporal() {
+		return type == Type.DATE || type == Type.TIME || type == Type.DATETIME;
+	}
+
+	/**
+	 * Checks if the literal is an integer or decimal literal
+	 *
+	 * @return <code>true</code> if the literal is numerical
+	 */
+	public boolean isNumerical() {
+		return type == Type.INTEGER || type == Type.DECIMAL;
+	}
+
+	/**
+	 * Returns the type of the literal
+	 *
+	 * @return the type
+	 */
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * Returns the string representation of the literal
+	 *
+	 * @return the string representation
+	 */
+	public String getLexicalValue() {
+		return lexicalValue;
+	}
+
+	/**
+	 * Returns the value of the literal as number, calendar or string according
+	 * to its type
+	 *
+	 * @return the value
+	 */
+	public Object getValue() {
+		switch (type) {
+		case DATE:
+		case TIME:
+		case DATETIME: {
+			Calendar calendar = Calendar.getInstance();
+			calendar.setTimeInMillis(longValue);
+			return calendar;
+		}
+		case INTEGER:
+			return BigInteger.valueOf(longValue);
+		case DECIMAL:
+			return BigDecimal.valueOf(doubleValue);
+		default:
+			return lexicalValue;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public String toString() {
+		return lexicalValue;
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.tests;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Calendar;
+
+import org.junit.Test;
+
+import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
+import de.topicmapslab.tmql4j.util.CompiledComparison;
+import de.topicmapslab.tmql4j.util.ComparisonUtils;
+import de.topicmapslab.tmql4j.util.LiteralUtils;
+import de.topicmapslab.tmql4j.util.TypedLiteral;
+
+/**
+ * Test class for the {@link ComparisonUtils}, {@link TypedLiteral} and
+ * {@link CompiledComparison}
+ *
+ * @author Sven Krosse
+ *
+ */
+public class TestComparisonUtils {
+
+	@Test
+	public void testTypes() throws Exception {
+		assertEquals(TypedLiteral.Type.DATE, TypedLiteral.valueOf("2010-01-01").getType());
+		assertEquals(TypedLiteral.Type.TIME, TypedLiteral.valueOf("12:00:00").getType());
+		assertEquals(TypedLiteral.Type.DATETIME, TypedLiteral.valueOf("2010-01-01T12:00:00").getType());
+		assertEquals(TypedLiteral.Type.INTEGER, TypedLiteral.valueOf("42").getType());
+		assertEquals(TypedLiteral.Type.DECIMAL, TypedLiteral.valueOf("4.2").getType());
+		assertEquals(TypedLiteral.Type.STRING, TypedLiteral.valueOf("abc").getType());
+		assertEquals(TypedLiteral.Type.INTEGER, TypedLiteral.valueOf((Object) BigInteger.TEN).getType());
+		assertEquals(TypedLiteral.Type.DECIMAL, TypedLiteral.valueOf((Object) 1.5d).getType());
+		assertEquals(TypedLiteral.Type.DATETIME, TypedLiteral.valueOf((Object) Calendar.getInstance()).getType());
+		TypedLiteral literal = TypedLiteral.valueOf("1");
+		assertSame(literal, TypedLiteral.valueOf((Object) literal));
+	}
+
+	@Test
+	public void testComparisons() throws Exception {
+		assertTrue(ComparisonUtils.isLowerThan((Object) "2009-12-31", "2010-01-01"));
+		assertTrue(ComparisonUtils.isGreaterThan((Object) "2010-01-01T00:00:01", "2010-01-01"));
+		assertTrue(ComparisonUtils.isLowerThan((Object) "9", "10"));
+		assertTrue(ComparisonUtils.isLowerThan((Object) "9", "10.5"));
+		assertTrue(ComparisonUtils.isGreaterOrEquals(BigDecimal.valueOf(10), "10"));
+		assertTrue(ComparisonUtils.isLowerOrEquals("10", 10));
+		assertTrue(ComparisonUtils.isLowerThan((Object) "abc", "abd"));
+		/*
+		 * different types are compared as strings
+		 */
+		assertTrue(ComparisonUtils.isLowerThan((Object) "10", "9a"));
+		assertTrue(ComparisonUtils.isGreaterThan((Object) "2010-01-01", "100"));
+
+		Calendar calendar = LiteralUtils.asDate("2010-06-01");
+		assertTrue(ComparisonUtils.isGreaterThan(calendar, "2010-01-01"));
+		assertTrue(ComparisonUtils.compare("isLowerThan", "1", "2"));
+		assertFalse(ComparisonUtils.compare("isGreaterThan", "1", "2"));
+	}
+
+	@Test
+	public void testCompiledComparison() {
+		CompiledComparison comparison = CompiledComparison.get("isGreaterThan", "2010-01-01");
+		assertSame(comparison, CompiledComparison.get("isGreaterThan", "2010-01-01"));
+		assertTrue(comparison.satisfies("2010-01-02"));
+		assertFalse(comparison.satisfies("2009-01-02"));
+
+		CompiledComparison regExp = CompiledComparison.get("matchesRegExp", "^John.*");
+		assertTrue(regExp.satisfies("John Doe"));
+		assertFalse(regExp.satisfies("Jane Doe"));
+		assertTrue(regExp.satisfies(new StringBuilder("John")));
+
+		try {
+			CompiledComparison.compile("isUnknown", "1");
+			fail("Unknown comparison should fail.");
+		} catch (TMQLRuntimeException e) {
+			// EXPECTED
+		}
+		try {
+			CompiledComparison.compile("matchesRegExp", "[");
+			fail("Invalid regular expression should fail.");
+		} catch (TMQLRuntimeException e) {
+			// EXPECTED
+		}
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.tests;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.junit.Test;
+import org.tmapi.core.Construct;
+
+import de.topicmapslab.tmql4j.components.processor.core.Context;
+import de.topicmapslab.tmql4j.components.processor.runtime.ConstructResolutionCache;
+
+/**
+ * Test class for the {@link ConstructResolutionCache}
+ *
+ * @author Sven Krosse
+ *
+ */
+public class TestConstructResolutionCache {
+
+	/**
+	 * Creates a construct without any behavior
+	 *
+	 * @return the construct
+	 */
+	private Construct createConstruct() {
+		return (Construct) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Construct.class }, new InvocationHandler() {
+			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+				if ("equals".equals(method.getName())) {
+					return proxy == args[0];
+				} else if ("hashCode".equals(method.getName())) {
+					return System.identityHashCode(proxy);
+				}
+				return null;
+			}
+		});
+	}
+
+	@Test
+	public void testSharedByDerivedContexts() {
+		Context context = new Context(null, null);
+		Context derived = new Context(new Context(context));
+		assertSame(context.getResolutionCache(), derived.getResolutionCache());
+		/*
+		 * each execution has its own cache
+		 */
+		Context other = new Context(null, null);
+		assertEquals(false, context.getResolutionCache() == other.getResolutionCache());
+	}
+
+	@Test
+	public void testHitsAndMisses() {
+		ConstructResolutionCache cache = new Context(null, null).getResolutionCache();
+		Construct construct = createConstruct();
+		assertNull(cache.getConstruct("person"));
+		cache.putConstruct("person", construct);
+		for (int i = 0; i < 5; i++) {
+			assertSame(construct, cache.getConstruct("person"));
+		}
+		assertEquals(5, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void testInvalidation() {
+		Context context = new Context(null, null);
+		ConstructResolutionCache cache = context.getResolutionCache();
+		cache.putConstruct("person", createConstruct());
+		cache.putAbsoluteIdentifier("person", "http://psi.example.org/person");
+		/*
+		 * modification of the topic map keeps the IRIs
+		 */
+		cache.invalidate();
+		assertNull(cache.getConstruct("person"));
+		assertEquals("http://psi.example.org/person", cache.getAbsoluteIdentifier("person"));
+		assertEquals(1, cache.getInvalidationCount());
+		/*
+		 * new prefix of the query clears the IRIs
+		 */
+		cache.putConstruct("person", createConstruct());
+		context.setPrefix("ex", "http://psi.example.org/");
+		assertNull(cache.getConstruct("person"));
+		assertNull(cache.getAbsoluteIdentifier("person"));
+		assertEquals(2, cache.getInvalidationCount());
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.tests;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import de.topicmapslab.tmql4j.components.processor.core.Context;
+import de.topicmapslab.tmql4j.components.processor.runtime.ExecutionPool;
+import de.topicmapslab.tmql4j.components.processor.runtime.IPartitionTask;
+import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
+import de.topicmapslab.tmql4j.util.HashUtil;
+
+/**
+ * Test class for the {@link ExecutionPool}
+ *
+ * @author Sven Krosse
+ *
+ */
+public class TestExecutionPool {
+
+	private ExecutionPool pool;
+
+	@Before
+	public void setUp() {
+		pool = new ExecutionPool(4);
+		pool.setThreshold(10);
+	}
+
+	@After
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	private List<Integer> items(int number) {
+		List<Integer> items = new ArrayList<Integer>(number);
+		for (int i = 0; i < number; i++) {
+			items.add(i);
+		}
+		return items;
+	}
+
+	/**
+	 * Task returning the items of the partition after checking their index
+	 */
+	private static class CopyTask implements IPartitionTask<Integer, List<Integer>> {
+
+		final Set<Thread> threads = HashUtil.getHashSet();
+
+		public List<Integer> call(List<Integer> partition, int fromIndex) throws TMQLRuntimeException {
+			synchronized (threads) {
+				threads.add(Thread.currentThread());
+			}
+			List<Integer> result = new ArrayList<Integer>(partition.size());
+			int index = fromIndex;
+			for (Integer item : partition) {
+				assertEquals(index++, item.intValue());
+				result.add(item);
+			}
+			return result;
+		}
+	}
+
+	@Test
+	public void testOrderOfPartitions() {
+		CopyTask task = new CopyTask();
+		List<List<Integer>> partitions = pool.execute(null, items(1000), task);
+		assertEquals(4, partitions.size());
+		List<Integer> all = new ArrayList<Integer>();
+		for (List<Integer> partition : partitions) {
+			all.addAll(partition);
+		}
+		assertEquals(items(1000), all);
+	}
+
+	@Test
+	public void testSequentialBelowThreshold() {
+		CopyTask task = new CopyTask();
+		List<List<Integer>> partitions = pool.execute(null, items(19), task);
+		assertEquals(1, partitions.size());
+		assertEquals(items(19), partitions.get(0));
+		assertEquals(1, task.threads.size());
+		assertTrue(task.threads.contains(Thread.currentThread()));
+
+		assertEquals(2, pool.getNumberOfPartitions(null, 20));
+		assertEquals(4, pool.getNumberOfPartitions(null, 100000));
+	}
+
+	@Test
+	public void testSequentialContext() {
+		Context context = new Context(null, null);
+		assertTrue(context.isParallel());
+		context.setParallel(false);
+		assertEquals(false, new Context(context).isParallel());
+
+		CopyTask task = new CopyTask();
+		List<List<Integer>> partitions = pool.execute(context, items(1000), task);
+		assertEquals(1, partitions.size());
+		assertEquals(1, task.threads.size());
+		assertTrue(task.threads.contains(Thread.currentThread()));
+	}
+
+	@Test
+	public void testErrorPropagation() {
+		try {
+			pool.execute(null, items(1000), new IPartitionTask<Integer, Object>() {
+				public Object call(List<Integer> partition, int fromIndex) throws TMQLRuntimeException {
+					if (fromIndex > 0) {
+						throw new TMQLRuntimeException("failure");
+					}
+					return null;
+				}
+			});
+			fail("Error should be propagated to the caller.");
+		} catch (TMQLRuntimeException e) {
+			assertEquals("failure", e.getMessage());
+		}
+	}
+
+	@Test(timeout = 10000)
+	public void testNestedExecution() {
+		pool.setParallelism(2);
+		List<List<Integer>> partitions = pool.execute(null, items(100), new IPartitionTask<Integer, List<Integer>>() {
+			public List<Integer> call(List<Integer> partition, int fromIndex) throws TMQLRuntimeException {
+				int sum = 0;
+				for (List<Integer> inner : pool.execute(null, items(100), new CopyTask())) {
+					sum += inner.size();
+				}
+				List<Integer> result = new ArrayList<Integer>();
+				result.add(sum);
+				return result;
+			}
+		});
+		assertEquals(2, partitions.size());
+		for (List<Integer> partition : partitions) {
+			assertEquals(Integer.valueOf(100), partition.get(0));
+		}
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.tests;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import de.topicmapslab.tmql4j.components.processor.core.Aggregation;
+import de.topicmapslab.tmql4j.components.processor.core.GroupBy;
+import de.topicmapslab.tmql4j.components.processor.core.IAggregator;
+import de.topicmapslab.tmql4j.components.processor.core.QueryMatches;
+import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
+import de.topicmapslab.tmql4j.util.HashUtil;
+
+/**
+ * Test class for the {@link GroupBy} operator and the {@link Aggregation}s
+ *
+ * @author Sven Krosse
+ *
+ */
+public class TestGroupBy {
+
+	private Map<String, Object> tuple(Object a, Object b) {
+		Map<String, Object> tuple = HashUtil.getHashMap();
+		tuple.put("$0", a);
+		tuple.put("$1", b);
+		return tuple;
+	}
+
+	private QueryMatches matches(Map<String, Object>... tuples) {
+		QueryMatches matches = new QueryMatches(null);
+		for (Map<String, Object> tuple : tuples) {
+			matches.add(tuple);
+		}
+		return matches;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testGroup() throws Exception {
+		QueryMatches matches = matches(tuple("x", 3), tuple("y", 1), tuple("x", 1), tuple("x", 3), tuple("y", null), tuple("z", null));
+		QueryMatches grouped = matches.groupBy(null, HashUtil.getHashSet(Collections.singleton("$0")));
+		assertEquals(3, grouped.size());
+		assertEquals("x", grouped.get(0).get("$0"));
+		assertEquals(Arrays.asList(3, 1), grouped.get(0).get("$1"));
+		assertEquals("y", grouped.get(1).get("$0"));
+		assertEquals(Arrays.asList(1), grouped.get(1).get("$1"));
+		assertEquals("z", grouped.get(2).get("$0"));
+		assertNull(grouped.get(2).get("$1"));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testGroupCollections() throws Exception {
+		QueryMatches matches = matches(tuple(Arrays.asList("x", "y"), Arrays.asList(1, 2)), tuple("y", Arrays.asList(2, 3)), tuple("z", Collections.emptyList()),
+				tuple(Collections.emptyList(), 4));
+		QueryMatches grouped = new GroupBy(Collections.singleton("$0")).group(null, matches);
+		assertEquals(2, grouped.size());
+		assertEquals("x", grouped.get(0).get("$0"));
+		assertEquals(Arrays.asList(1, 2), grouped.get(0).get("$1"));
+		assertEquals("y", grouped.get(1).get("$0"));
+		assertEquals(Arrays.asList(1, 2, 3), grouped.get(1).get("$1"));
+	}
+
+	@Test
+	public void testAggregation() throws Exception {
+		IAggregator min = Aggregation.MIN.createAggregator();
+		IAggregator max = Aggregation.MAX.createAggregator();
+		assertNull(min.getResult());
+		for (Object value : Arrays.asList(3, 1, 4, 1)) {
+			min.add(value);
+			max.add(value);
+		}
+		assertEquals(1, min.getResult());
+		assertEquals(4, max.getResult());
+
+		try {
+			min.add(new Object());
+			fail("Objects cannot be compared.");
+		} catch (TMQLRuntimeException e) {
+			// EXPECTED
+		}
+	}
+
+	/**
+	 * Checks the linear scaling of the grouping of one million tuples into
+	 * groups with many distinct values. Ignored by default because it is a
+	 * performance measurement.
+	 */
+	@Ignore
+	@Test
+	public void testGroupScaling() throws Exception {
+		for (int rows = 10000; rows <= 1000000; rows *= 10) {
+			QueryMatches matches = new QueryMatches(null, rows);
+			for (int i = 0; i < rows; i++) {
+				matches.add(tuple(i % 10, i));
+			}
+			long time = System.currentTimeMillis();
+			QueryMatches grouped = new GroupBy(Collections.singleton("$0")).group(null, matches);
+			System.out.println("Grouping of " + rows + " tuples: " + (System.currentTimeMillis() - time) + " ms");
+			assertEquals(10, grouped.size());
+			assertEquals(rows / 10, ((List<?>) grouped.get(0).get("$1")).size());
+		}
+	}
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.tests;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import de.topicmapslab.tmql4j.components.processor.core.ColumnIndex;
+import de.topicmapslab.tmql4j.components.processor.core.ColumnarTupleStore;
+import de.topicmapslab.tmql4j.components.processor.core.QueryMatches;
+import de.topicmapslab.tmql4j.util.HashUtil;
+
+/**
+ * Test class for the columnar tuple store of {@link QueryMatches}
+ *
+ * @author Sven Krosse
+ *
+ */
+public class TestQueryMatches {
+
+	private static final int ROWS = 100000;
+
+	private Map<String, Object> tuple(Object... keyValues) {
+		Map<String, Object> tuple = HashUtil.getHashMap();
+		for (int i = 0; i < keyValues.length; i += 2) {
+			tuple.put((String) keyValues[i], keyValues[i + 1]);
+		}
+		return tuple;
+	}
+
+	@Test
+	public void testAddAndGet() {
+		ColumnarTupleStore store = new ColumnarTupleStore();
+		store.add(tuple("$a", 1, "$b", "x"));
+		store.add(tuple("$a", 2));
+		store.add(tuple("$c", 3));
+
+		assertEquals(3, store.size());
+		assertEquals(3, store.getColumnCount());
+		assertEquals(tuple("$a", 1, "$b", "x"), store.get(0));
+		assertEquals(tuple("$a", 2), store.get(1));
+		assertEquals(tuple("$c", 3), store.get(2));
+		assertFalse(store.get(1).containsKey("$b"));
+		assertFalse(store.isBound(2, store.columnOf("$a")));
+		assertEquals(-1, store.columnOf("$unknown"));
+		assertEquals(2, store.getColumnValues("$a").size());
+	}
+
+	@Test
+	public void testNullValues() {
+		ColumnarTupleStore store = new ColumnarTupleStore();
+		store.add(tuple("$a", null));
+		assertTrue(store.get(0).containsKey("$a"));
+		assertNull(store.get(0).get("$a"));
+		assertEquals(1, store.get(0).size());
+	}
+
+	@Test
+	public void testWriteThrough() {
+		ColumnarTupleStore store = new ColumnarTupleStore();
+		store.add(tuple("$a", 1));
+		store.add(tuple("$a", 2));
+		for (Map<String, Object> row : store) {
+			row.put("$b", ((Integer) row.get("$a")) * 10);
+		}
+		assertEquals(10, store.getValue(0, "$b"));
+		assertEquals(20, store.getValue(1, "$b"));
+
+		store.get(0).remove("$a");
+		assertEquals(tuple("$b", 10), store.get(0));
+
+		for (Map.Entry<String, Object> entry : store.get(1).entrySet()) {
+			entry.setValue("v");
+		}
+		assertEquals(tuple("$a", "v", "$b", "v"), store.get(1));
+	}
+
+	@Test
+	public void testRemoveDetachesTuple() {
+		ColumnarTupleStore store = new ColumnarTupleStore();
+		store.add(tuple("$a", 1));
+		store.add(tuple("$a", 2));
+		store.add(tuple("$a", 3));
+		Map<String, Object> removed = store.remove(0);
+		assertEquals(tuple("$a", 1), removed);
+		assertEquals(2, store.size());
+		assertEquals(tuple("$a", 2), store.get(0));
+
+		store.removeAll(Collections.singleton(tuple("$a", 3)));
+		assertEquals(1, store.size());
+		assertEquals(tuple("$a", 2), store.get(0));
+	}
+
+	@Test
+	public void testSelect() throws Exception {
+		QueryMatches matches = new QueryMatches(null);
+		for (int i = 0; i < 10; i++) {
+			matches.add(tuple("$a", i));
+		}
+		QueryMatches selection = matches.select(2, 5);
+		assertEquals(3, selection.size());
+		assertEquals(2, selection.get(0).get("$a"));
+		assertEquals(4, selection.get(2).get("$a"));
+		assertEquals(0, matches.select(20, 30).size());
+	}
+
+	@Test
+	public void testOrderBy() throws Exception {
+		QueryMatches matches = new QueryMatches(null);
+		matches.add(tuple("$a", 3, "$b", "c"));
+		matches.add(tuple("$a", 1, "$b", "a"));
+		matches.add(tuple("$a", 2, "$b", "b"));
+
+		QueryMatches ordered = matches.orderBy(true, "$a");
+		assertEquals(tuple("$a", 1, "$b", "a"), ordered.get(0));
+		assertEquals(tuple("$a", 2, "$b", "b"), ordered.get(1));
+		assertEquals(tuple("$a", 3, "$b", "c"), ordered.get(2));
+
+		ordered = matches.orderBy(false, "$a");
+		assertEquals(3, ordered.get(0).get("$a"));
+		assertEquals(1, ordered.get(2).get("$a"));
+		/*
+		 * source is not modified
+		 */
+		assertEquals(3, matches.get(0).get("$a"));
+	}
+
+	@Test
+	public void testCollectionsSort() {
+		ColumnarTupleStore store = new ColumnarTupleStore();
+		store.add(tuple("$a", 3));
+		store.add(tuple("$a", 1));
+		store.add(tuple("$a", 2));
+		Collections.sort(store, new Comparator<Map<String, Object>>() {
+			public int compare(Map<String, Object> o1, Map<String, Object> o2) {
+				return ((Integer) o1.get("$a")).compareTo((Integer) o2.get("$a"));
+			}
+		});
+		assertEquals(1, store.getValue(0, "$a"));
+		assertEquals(2, store.getValue(1, "$a"));
+		assertEquals(3, store.getValue(2, "$a"));
+	}
+
+	@Test
+	public void testConjunction() throws Exception {
+		QueryMatches left = new QueryMatches(null);
+		left.add(tuple("$x", 1, "$a", "a1"));
+		left.add(tuple("$x", 2, "$a", "a2"));
+		left.add(tuple("$x", 3, "$a", "a3"));
+		QueryMatches right = new QueryMatches(null);
+		right.add(tuple("$x", 2, "$b", "b2"));
+		right.add(tuple("$x", 3, "$b", "b3"));
+		right.add(tuple("$x", 3, "$b", "b3'"));
+		right.add(tuple("$x", 4, "$b", "b4"));
+
+		left.conjunction(right);
+		assertEquals(3, left.size());
+		assertTrue(left.contains(tuple("$x", 2, "$a", "a2", "$b", "b2")));
+		assertTrue(left.contains(tuple("$x", 3, "$a", "a3", "$b", "b3")));
+		assertTrue(left.contains(tuple("$x", 3, "$a", "a3", "$b", "b3'")));
+	}
+
+	@Test
+	public void testConjunctionRightBindingsWin() throws Exception {
+		String nonScoped = QueryMatches.getNonScopedVariable();
+		QueryMatches left = new QueryMatches(null);
+		left.add(tuple("$x", 1, nonScoped, "left"));
+		QueryMatches right = new QueryMatches(null);
+		for (int i = 0; i < 10; i++) {
+			right.add(tuple("$x", 1, nonScoped, "right" + i));
+		}
+		left.conjunction(right);
+		assertEquals(10, left.size());
+		for (Map<String, Object> tuple : left) {
+			assertTrue(((String) tuple.get(nonScoped)).startsWith("right"));
+		}
+	}
+
+	@Test
+	public void testDisjunction() throws Exception {
+		QueryMatches left = new QueryMatches(null);
+		left.add(tuple("$x", 1));
+		left.add(tuple("$x", 2));
+		QueryMatches right = new QueryMatches(null);
+		right.add(tuple("$x", 2));
+		right.add(tuple("$x", 3));
+
+		left.disjunction(right);
+		assertEquals(3, left.size());
+		assertTrue(left.contains(tuple("$x", 1)));
+		assertTrue(left.contains(tuple("$x", 2)));
+		assertTrue(left.contains(tuple("$x", 3)));
+	}
+
+	/**
+	 * Measures the conjunction of two large sequences. Ignored by default
+	 * because it is a performance measurement.
+	 */
+	@Ignore
+	@Test
+	public void testConjunctionPerformance() throws Exception {
+		QueryMatches left = new QueryMatches(null);
+		QueryMatches right = new QueryMatches(null);
+		for (int i = 0; i < ROWS; i++) {
+			left.add(tuple("$x", i, "$a", "a" + i));
+			right.add(tuple("$x", i * 2, "$b", "b" + i));
+		}
+		long time = System.currentTimeMillis();
+		left.conjunction(right);
+		System.out.println("Conjunction of " + ROWS + " tuples: " + (System.currentTimeMillis() - time) + " ms");
+		assertEquals(ROWS / 2, left.size());
+	}
+
+	@Test
+	public void testColumnIndex() throws Exception {
+		QueryMatches matches = new QueryMatches(null);
+		for (int i = 0; i < 10; i++) {
+			matches.add(tuple("$a", i, "$b", "b" + i % 3));
+		}
+		ColumnIndex index = new ColumnIndex(matches);
+		assertTrue(index.isBound("$a"));
+		assertFalse(index.isBound("$c"));
+		assertTrue(index.contains("$a", 9));
+		assertFalse(index.contains("$a", 10));
+		assertEquals(3, index.getValues("$b").size());
+		assertTrue(index.contains("$b", "b2"));
+		assertFalse(index.contains("$c", 1));
+	}
+
+	/**
+	 * Checks the linear scaling of the membership tests of the column index up
+	 * to one million bindings. Ignored by default because it is a performance
+	 * measurement.
+	 */
+	@Ignore
+	@Test
+	public void testColumnIndexScaling() throws Exception {
+		for (int rows = 10000; rows <= 1000000; rows *= 10) {
+			QueryMatches matches = new QueryMatches(null);
+			for (int i = 0; i < rows; i++) {
+				matches.add(tuple("$a", i));
+			}
+			long time = System.currentTimeMillis();
+			ColumnIndex index = new ColumnIndex(matches);
+			int found = 0;
+			for (int i = 0; i < rows; i++) {
+				if (index.contains("$a", i * 2)) {
+					found++;
+				}
+			}
+			System.out.println("Membership tests of " + rows + " bindings: " + (System.currentTimeMillis() - time) + " ms");
+			assertEquals(rows / 2, found);
+		}
+	}
+
+	@Test
+	public void testSizeHint() throws Exception {
+		QueryMatches matches = new QueryMatches(null, 100);
+		assertTrue(matches.isEmpty());
+		for (int i = 0; i < 200; i++) {
+			matches.add(tuple("$a", i));
+		}
+		assertEquals(200, matches.size());
+		assertEquals(199, matches.get(199).get("$a"));
+		assertTrue(HashUtil.getList() instanceof RandomAccess);
+		assertTrue(HashUtil.getList(10) instanceof RandomAccess);
+	}
+
+	/**
+	 * Checks the linear scaling of positional access to tuples and values up
+	 * to one million tuples. Ignored by default because it is a performance
+	 * measurement.
+	 */
+	@Ignore
+	@Test
+	public void testRandomAccessScaling() throws Exception {
+		for (int rows = 10000; rows <= 1000000; rows *= 10) {
+			QueryMatches matches = new QueryMatches(null, rows);
+			for (int i = 0; i < rows; i++) {
+				matches.add(tuple("$a", i));
+			}
+			long time = System.currentTimeMillis();
+			long sum = 0;
+			for (int index = 0; index < matches.size(); index++) {
+				sum += (Integer) matches.get(index).get("$a");
+			}
+			List<Object> values = matches.getPossibleValuesForVariable("$a");
+			for (int index = 0; index < values.size(); index++) {
+				sum += (Integer) values.get(index);
+			}
+			System.out.println("Positional access to " + rows + " tuples: " + (System.currentTimeMillis() - time) + " ms");
+			assertEquals((long) rows * (rows - 1), sum);
+		}
+		/*
+		 * former linked list, only measured for the smallest size
+		 */
+		List<Object> values = new LinkedList<Object>();
+		for (int i = 0; i < 10000; i++) {
+			values.add(i);
+		}
+		long time = System.currentTimeMillis();
+		for (int index = 0; index < values.size(); index++) {
+			values.get(index);
+		}
+		System.out.println("Positional access to 10000 values of a linked list: " + (System.currentTimeMillis() - time) + " ms");
+	}
+
+	/**
+	 * Compares the memory footprint and scan time of the columnar store with
+	 * the former list of hash maps. Ignored by default because it is a
+	 * performance measurement.
+	 */
+	@Ignore
+	@Test
+	public void testColumnarVersusRowLayout() {
+		System.gc();
+		long memory = usedMemory();
+		long time = System.currentTimeMillis();
+		List<Map<String, Object>> rows = new LinkedList<Map<String, Object>>();
+		for (int i = 0; i < ROWS; i++) {
+			Map<String, Object> tuple = new HashMap<String, Object>();
+			tuple.put("$a", i);
+			tuple.put("$b", "b" + (i % 100));
+			tuple.put("$c", (long) i);
+			rows.add(tuple);
+		}
+		long count = 0;
+		for (Map<String, Object> tuple : rows) {
+			count += (Integer) tuple.get("$a");
+		}
+		System.out.println("Row layout:      " + (System.currentTimeMillis() - time) + " ms, " + (usedMemory() - memory) / 1024 + " KB");
+		rows = null;
+
+		System.gc();
+		memory = usedMemory();
+		time = System.currentTimeMillis();
+		ColumnarTupleStore store = new ColumnarTupleStore();
+		for (int i = 0; i < ROWS; i++) {
+			Map<String, Object> tuple = new HashMap<String, Object>();
+			tuple.put("$a", i);
+			tuple.put("$b", "b" + (i % 100));
+			tuple.put("$c", (long) i);
+			store.add(tuple);
+		}
+		long columnarCount = 0;
+		for (Object value : store.getColumnValues("$a")) {
+			columnarCount += (Integer) value;
+		}
+		System.out.println("Columnar layout: " + (System.currentTimeMillis() - time) + " ms, " + (usedMemory() - memory) / 1024 + " KB");
+		assertEquals(count, columnarCount);
+		assertEquals(ROWS, store.size());
+	}
+
+	private long usedMemory() {
+		Runtime runtime = Runtime.getRuntime();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.tests;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import de.topicmapslab.tmql4j.components.processor.core.IContext;
+import de.topicmapslab.tmql4j.components.processor.core.QueryMatches;
+import de.topicmapslab.tmql4j.components.processor.results.ResultCursor;
+import de.topicmapslab.tmql4j.components.processor.results.tmdm.SimpleResult;
+import de.topicmapslab.tmql4j.components.processor.results.tmdm.SimpleResultSet;
+import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
+import de.topicmapslab.tmql4j.query.IQuery;
+import de.topicmapslab.tmql4j.util.HashUtil;
+
+/**
+ * Test class for the {@link ResultCursor}
+ *
+ * @author Sven Krosse
+ *
+ */
+public class TestResultCursor {
+
+	private QueryMatches matches(int from, int to) {
+		QueryMatches matches = new QueryMatches(null);
+		for (int i = from; i < to; i++) {
+			Map<String, Object> tuple = HashUtil.getHashMap();
+			tuple.put("$0", i);
+			matches.add(tuple);
+		}
+		return matches;
+	}
+
+	@Test
+	public void testEmittedAndReturnedResults() {
+		ResultCursor cursor = new ResultCursor(null, null, null, null, 4) {
+			protected QueryMatches interpret(IContext context) throws TMQLRuntimeException {
+				context.getResultStream().emit(context, matches(0, 5));
+				context.getResultStream().emit(context, matches(5, 10));
+				return matches(10, 12);
+			}
+		}.open();
+		assertEquals(-1, cursor.getRow());
+		for (int i = 0; i < 12; i++) {
+			assertTrue(cursor.next());
+			assertEquals(i, cursor.getRow());
+			assertEquals(Integer.valueOf(i), cursor.get(0));
+			assertFalse(cursor.isNullValue(0));
+		}
+		assertFalse(cursor.next());
+		assertFalse(cursor.next());
+		cursor.close();
+	}
+
+	@Test
+	public void testPrefetchBound() throws Exception {
+		final AtomicInteger produced = new AtomicInteger();
+		ResultCursor cursor = new ResultCursor(null, null, null, null, 8) {
+			protected QueryMatches interpret(IContext context) throws TMQLRuntimeException {
+				for (int i = 0; i < 1000; i++) {
+					context.getResultStream().emit(context, matches(i, i + 1));
+					produced.incrementAndGet();
+				}
+				return null;
+			}
+		}.open();
+		Thread.sleep(200);
+		/*
+		 * the buffer and the result blocked by the full buffer
+		 */
+		assertTrue(produced.get() <= 9);
+		assertTrue(cursor.next());
+		assertEquals(Integer.valueOf(0), cursor.get(0));
+		cursor.close();
+	}
+
+	@Test
+	public void testCloseAbandonsEvaluation() throws Exception {
+		final CountDownLatch finished = new CountDownLatch(1);
+		ResultCursor cursor = new ResultCursor(null, null, null, null, 2) {
+			protected QueryMatches interpret(IContext context) throws TMQLRuntimeException {
+				try {
+					int i = 0;
+					while (true) {
+						context.getResultStream().emit(context, matches(i, ++i));
+					}
+				} finally {
+					finished.countDown();
+				}
+			}
+		}.open();
+		assertTrue(cursor.next());
+		assertTrue(cursor.next());
+		cursor.close();
+		assertTrue(cursor.isClosed());
+		assertFalse(cursor.next());
+		assertTrue(finished.await(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testUnreadCursorIsAbandoned() throws Exception {
+		final CountDownLatch finished = new CountDownLatch(1);
+		ResultCursor cursor = new ResultCursor(null, null, null, null, 2) {
+			protected QueryMatches interpret(IContext context) throws TMQLRuntimeException {
+				try {
+					int i = 0;
+					while (true) {
+						context.getResultStream().emit(context, matches(i, ++i));
+					}
+				} finally {
+					finished.countDown();
+				}
+			}
+		};
+		cursor.setTimeout(200);
+		cursor.open();
+		assertTrue(finished.await(5, TimeUnit.SECONDS));
+		try {
+			cursor.next();
+			fail("An abandoned evaluation should be reported to the consumer.");
+		} catch (TMQLRuntimeException e) {
+			// EXPECTED
+		}
+		cursor.close();
+	}
+
+	/**
+	 * Creates a query counting its after-execution calls
+	 *
+	 * @param calls
+	 *            the counter
+	 * @return the query
+	 */
+	private IQuery query(final AtomicInteger calls) {
+		return (IQuery) Proxy.newProxyInstance(IQuery.class.getClassLoader(), new Class<?>[] { IQuery.class }, new InvocationHandler() {
+			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+				if (method.getName().equals("afterQuery")) {
+					calls.incrementAndGet();
+				} else if (method.getReturnType().equals(boolean.class)) {
+					return false;
+				}
+				return null;
+			}
+		});
+	}
+
+	@Test
+	public void testAfterQueryIsCalledOnce() throws Exception {
+		AtomicInteger calls = new AtomicInteger();
+		ResultCursor cursor = new ResultCursor(null, null, query(calls), null, 2) {
+			protected QueryMatches interpret(IContext context) throws TMQLRuntimeException {
+				context.getResultStream().emit(context, matches(0, 4));
+				return null;
+			}
+		};
+		cursor.open();
+		int count = 0;
+		while (cursor.next()) {
+			count++;
+		}
+		assertEquals(4, count);
+		assertEquals(1, calls.get());
+		cursor.close();
+		assertEquals(1, calls.get());
+
+		/*
+		 * a cursor closed before the evaluation is started
+		 */
+		calls.set(0);
+		cursor = new ResultCursor(null, null, query(calls), null, 2);
+		cursor.close();
+		assertEquals(1, calls.get());
+		assertFalse(cursor.next());
+		assertEquals(1, calls.get());
+	}
+
+	@Test
+	public void testErrorPropagation() {
+		ResultCursor cursor = new ResultCursor(null, null, null, null, 16) {
+			protected QueryMatches interpret(IContext context) throws TMQLRuntimeException {
+				context.getResultStream().emit(context, matches(0, 2));
+				throw new TMQLRuntimeException("failure");
+			}
+		}.open();
+		assertTrue(cursor.next());
+		assertTrue(cursor.next());
+		try {
+			cursor.next();
+			fail("Error should be propagated to the consumer.");
+		} catch (TMQLRuntimeException e) {
+			assertEquals("failure", e.getMessage());
+		}
+		cursor.close();
+	}
+
+	@Test
+	public void testAlias() {
+		ResultCursor cursor = new ResultCursor(null, null, null, null, 16) {
+			protected QueryMatches interpret(IContext context) throws TMQLRuntimeException {
+				context.getResultProcessor().setColumnAlias(0, "value");
+				return matches(0, 3);
+			}
+		}.open();
+		assertTrue(cursor.next());
+		assertEquals(0, cursor.getIndex("value"));
+		assertTrue(cursor.getAliases().contains("value"));
+		assertEquals(Integer.valueOf(0), cursor.get("value"));
+		cursor.close();
+	}
+
+	@Test
+	public void testMaterializedResultSet() {
+		SimpleResultSet set = new SimpleResultSet(null, null);
+		for (int i = 0; i < 3; i++) {
+			SimpleResult result = new SimpleResult(set);
+			result.add(i);
+			set.addResult(result);
+		}
+		ResultCursor cursor = new ResultCursor(null, null, set);
+		for (int i = 0; i < 3; i++) {
+			assertTrue(cursor.next());
+			assertEquals(Integer.valueOf(i), cursor.get(0));
+		}
+		assertFalse(cursor.next());
+		cursor.close();
+	}
+}
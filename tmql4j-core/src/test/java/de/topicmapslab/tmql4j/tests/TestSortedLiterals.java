@@ -0,0 +1,165 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.tests;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.fail;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
+import de.topicmapslab.tmql4j.util.CompiledComparison;
+import de.topicmapslab.tmql4j.util.HashUtil;
+import de.topicmapslab.tmql4j.util.SortedLiterals;
+import de.topicmapslab.tmql4j.util.TypedLiteral;
+
+/**
+ * Test class for the range scans of {@link SortedLiterals}
+ *
+ * @author Sven Krosse
+ *
+ */
+public class TestSortedLiterals {
+
+	private static final String[] METHODS = new String[] { "isLowerThan", "isLowerOrEquals", "isGreaterThan", "isGreaterOrEquals" };
+
+	private static final String[] BOUNDS = new String[] { "30", "-1", "2.5", "100000", "2010-01-01", "12:00:00", "2010-06-01T12:00:00", "abc", "", "9" };
+
+	private String value(Random random) {
+		switch (random.nextInt(6)) {
+		case 0:
+			return Integer.toString(random.nextInt(200) - 50);
+		case 1:
+			return Double.toString(random.nextInt(1000) / 10.0);
+		case 2:
+			return "20" + (10 + random.nextInt(10)) + "-0" + (1 + random.nextInt(9)) + "-1" + random.nextInt(10);
+		case 3:
+			return "1" + random.nextInt(10) + ":00:00";
+		case 4:
+			return "20" + (10 + random.nextInt(10)) + "-01-01T0" + random.nextInt(10) + ":00:00";
+		default:
+			return "v" + random.nextInt(100);
+		}
+	}
+
+	private SortedLiterals<String> literals(List<String> values) throws Exception {
+		SortedLiterals<String> literals = new SortedLiterals<String>();
+		for (String value : values) {
+			literals.add(TypedLiteral.valueOf(value), value);
+		}
+		return literals;
+	}
+
+	private List<String> values(int number, long seed) {
+		Random random = new Random(seed);
+		List<String> values = HashUtil.getList(number);
+		for (int i = 0; i < number; i++) {
+			values.add(value(random));
+		}
+		return values;
+	}
+
+	private Set<String> filter(List<String> values, String method, String bound) throws Exception {
+		CompiledComparison comparison = CompiledComparison.compile(method, bound);
+		Set<String> result = HashUtil.getHashSet();
+		for (String value : values) {
+			if (comparison.satisfies(value)) {
+				result.add(value);
+			}
+		}
+		return result;
+	}
+
+	@Test
+	public void testRangeScan() throws Exception {
+		List<String> values = values(2000, 1);
+		SortedLiterals<String> literals = literals(values);
+		assertEquals(values.size(), literals.size());
+		for (String method : METHODS) {
+			for (String bound : BOUNDS) {
+				List<String> selected = literals.select(method, TypedLiteral.valueOf(bound));
+				assertEquals(method + " " + bound, filter(values, method, bound), HashUtil.getHashSet(selected));
+			}
+		}
+	}
+
+	@Test
+	public void testBetween() throws Exception {
+		List<String> values = values(2000, 2);
+		SortedLiterals<String> literals = literals(values);
+		for (String lowerMethod : new String[] { "isGreaterThan", "isGreaterOrEquals" }) {
+			for (String upperMethod : new String[] { "isLowerThan", "isLowerOrEquals" }) {
+				for (String lower : BOUNDS) {
+					for (String upper : BOUNDS) {
+						Set<String> expected = filter(values, lowerMethod, lower);
+						expected.retainAll(filter(values, upperMethod, upper));
+						List<String> selected = literals.select(lowerMethod, TypedLiteral.valueOf(lower), upperMethod, TypedLiteral.valueOf(upper));
+						assertEquals(lower + " " + upper, expected, HashUtil.getHashSet(selected));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testAddAfterSelect() throws Exception {
+		SortedLiterals<String> literals = new SortedLiterals<String>();
+		literals.add(TypedLiteral.valueOf("5"), "5");
+		assertEquals(1, literals.select("isLowerThan", TypedLiteral.valueOf("10")).size());
+		literals.add(TypedLiteral.valueOf("7"), "7");
+		assertEquals(2, literals.select("isLowerThan", TypedLiteral.valueOf("10")).size());
+		try {
+			literals.select("matchesRegExp", TypedLiteral.valueOf("5"));
+			fail("Regular expressions are not range comparisons.");
+		} catch (TMQLRuntimeException e) {
+			// EXPECTED
+		}
+	}
+
+	/**
+	 * Compares the range scans with the comparison of each value for one
+	 * million literals. Ignored by default because it is a performance
+	 * measurement.
+	 */
+	@Ignore
+	@Test
+	public void testRangeScanPerformance() throws Exception {
+		final int number = 1000000;
+		List<String> values = HashUtil.getList(number);
+		for (int i = 0; i < number; i++) {
+			values.add(Integer.toString(i));
+		}
+		long time = System.currentTimeMillis();
+		SortedLiterals<String> literals = literals(values);
+		literals.select("isLowerThan", TypedLiteral.valueOf("0"));
+		System.out.println("Sorting of " + number + " literals: " + (System.currentTimeMillis() - time) + " ms");
+
+		for (String method : new String[] { "isLowerThan", "isGreaterOrEquals" }) {
+			time = System.currentTimeMillis();
+			int expected = filter(values, method, "1000").size();
+			System.out.println("Comparison " + method + " of " + number + " literals: " + (System.currentTimeMillis() - time) + " ms");
+			time = System.currentTimeMillis();
+			assertEquals(expected, literals.select(method, TypedLiteral.valueOf("1000")).size());
+			System.out.println("Range scan " + method + " of " + number + " literals: " + (System.currentTimeMillis() - time) + " ms");
+		}
+
+		time = System.currentTimeMillis();
+		Set<String> expected = filter(values, "isGreaterOrEquals", "500000");
+		expected.retainAll(filter(values, "isLowerThan", "501000"));
+		System.out.println("Comparison between of " + number + " literals: " + (System.currentTimeMillis() - time) + " ms");
+		time = System.currentTimeMillis();
+		assertEquals(expected.size(), literals.select("isGreaterOrEquals", TypedLiteral.valueOf("500000"), "isLowerThan", TypedLiteral.valueOf("501000")).size());
+		System.out.println("Range scan between of " + number + " literals: " + (System.currentTimeMillis() - time) + " ms");
+	}
+}
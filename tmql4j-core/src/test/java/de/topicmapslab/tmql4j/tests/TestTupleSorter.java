@@ -0,0 +1,178 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.tests;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import de.topicmapslab.tmql4j.components.processor.core.Context;
+import de.topicmapslab.tmql4j.components.processor.core.TupleSorter;
+import de.topicmapslab.tmql4j.components.processor.runtime.ExecutionPool;
+import de.topicmapslab.tmql4j.util.HashUtil;
+
+/**
+ * Test class for the {@link TupleSorter}
+ *
+ * @author Sven Krosse
+ *
+ */
+public class TestTupleSorter {
+
+	private ExecutionPool pool;
+
+	@Before
+	public void setUp() {
+		pool = new ExecutionPool(4);
+		pool.setThreshold(10);
+	}
+
+	@After
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	/**
+	 * Sorter using the values of the variables $a and $b as keys
+	 */
+	private static class VariableSorter extends TupleSorter {
+
+		private VariableSorter(boolean... ascending) {
+			super(ascending);
+		}
+
+		protected Object getValue(int key, Map<String, Object> tuple) {
+			return tuple.get(key == 0 ? "$a" : "$b");
+		}
+	}
+
+	private List<Map<String, Object>> tuples(int number, long seed) {
+		Random random = new Random(seed);
+		List<Map<String, Object>> tuples = new ArrayList<Map<String, Object>>(number);
+		for (int i = 0; i < number; i++) {
+			Map<String, Object> tuple = HashUtil.getHashMap();
+			tuple.put("$a", random.nextInt(10));
+			tuple.put("$b", "b" + random.nextInt(100));
+			tuple.put("$i", i);
+			tuples.add(tuple);
+		}
+		return tuples;
+	}
+
+	private void assertOrdered(List<Map<String, Object>> tuples, boolean ascendingA, boolean ascendingB) {
+		for (int i = 1; i < tuples.size(); i++) {
+			Map<String, Object> previous = tuples.get(i - 1);
+			Map<String, Object> current = tuples.get(i);
+			int compare = ((Integer) previous.get("$a")).compareTo((Integer) current.get("$a"));
+			if (compare == 0) {
+				compare = ((String) previous.get("$b")).compareTo((String) current.get("$b"));
+				if (compare == 0) {
+					/*
+					 * equal keys keep their origin order
+					 */
+					assertTrue((Integer) previous.get("$i") < (Integer) current.get("$i"));
+				} else {
+					assertTrue(ascendingB ? compare < 0 : compare > 0);
+				}
+			} else {
+				assertTrue(ascendingA ? compare < 0 : compare > 0);
+			}
+		}
+	}
+
+	@Test
+	public void testMultipleKeys() throws Exception {
+		List<Map<String, Object>> tuples = tuples(1000, 1);
+		List<Map<String, Object>> sorted = new VariableSorter(true, false).sort(pool, null, tuples, -1);
+		assertEquals(tuples.size(), sorted.size());
+		assertOrdered(sorted, true, false);
+
+		sorted = new VariableSorter(false, true).sort(pool, null, tuples, -1);
+		assertEquals(tuples.size(), sorted.size());
+		assertOrdered(sorted, false, true);
+	}
+
+	@Test
+	public void testParallelAndSequential() throws Exception {
+		List<Map<String, Object>> tuples = tuples(1000, 2);
+		Context context = new Context(null, null);
+		context.setParallel(false);
+		List<Map<String, Object>> sequential = new VariableSorter(true, true).sort(pool, context, tuples, -1);
+		List<Map<String, Object>> parallel = new VariableSorter(true, true).sort(pool, null, tuples, -1);
+		assertEquals(sequential, parallel);
+	}
+
+	@Test
+	public void testFirst() throws Exception {
+		List<Map<String, Object>> tuples = tuples(1000, 3);
+		List<Map<String, Object>> sorted = new VariableSorter(false, true).sort(pool, null, tuples, -1);
+		for (int number : new int[] { 0, 1, 7, 100, 999, 1000, 2000 }) {
+			List<Map<String, Object>> first = new VariableSorter(false, true).sort(pool, null, tuples, number);
+			assertEquals(sorted.subList(0, Math.min(number, tuples.size())), first);
+		}
+	}
+
+	@Test
+	public void testEmptyKeys() throws Exception {
+		List<Map<String, Object>> tuples = new ArrayList<Map<String, Object>>();
+		for (Object value : new Object[] { "b", null, 10, 9, null, "a" }) {
+			Map<String, Object> tuple = HashUtil.getHashMap();
+			tuple.put("$a", value);
+			tuples.add(tuple);
+		}
+		TupleSorter sorter = new TupleSorter(true) {
+			protected Object getValue(int key, Map<String, Object> tuple) {
+				return tuple.get("$a");
+			}
+		};
+		List<Map<String, Object>> sorted = sorter.sort(pool, null, tuples, -1);
+		assertEquals(tuples.get(1), sorted.get(0));
+		assertEquals(tuples.get(4), sorted.get(1));
+		assertEquals(9, sorted.get(2).get("$a"));
+		assertEquals(10, sorted.get(3).get("$a"));
+	}
+
+	/**
+	 * Measures the ordering of one million tuples by two keys. Ignored by
+	 * default because it is a performance measurement.
+	 */
+	@Ignore
+	@Test
+	public void testSortPerformance() throws Exception {
+		pool.setThreshold(ExecutionPool.DEFAULT_THRESHOLD);
+		final int number = 1000000;
+		List<Map<String, Object>> tuples = tuples(number, 4);
+		Context context = new Context(null, null);
+		context.setParallel(false);
+
+		long time = System.currentTimeMillis();
+		List<Map<String, Object>> sorted = new VariableSorter(true, false).sort(pool, context, tuples, -1);
+		System.out.println("Sequential ordering of " + number + " tuples: " + (System.currentTimeMillis() - time) + " ms");
+		assertEquals(number, sorted.size());
+
+		time = System.currentTimeMillis();
+		sorted = new VariableSorter(true, false).sort(pool, null, tuples, -1);
+		System.out.println("Parallel ordering of " + number + " tuples: " + (System.currentTimeMillis() - time) + " ms");
+		assertEquals(number, sorted.size());
+
+		time = System.currentTimeMillis();
+		sorted = new VariableSorter(true, false).sort(pool, null, tuples, 10);
+		System.out.println("First 10 of " + number + " tuples: " + (System.currentTimeMillis() - time) + " ms");
+		assertEquals(10, sorted.size());
+	}
+}
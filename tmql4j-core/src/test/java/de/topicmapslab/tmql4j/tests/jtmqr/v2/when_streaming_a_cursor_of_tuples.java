@@ -0,0 +1,61 @@
+package de.topicmapslab.tmql4j.tests.jtmqr.v2;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.codehaus.jackson.JsonNode;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.junit.Before;
+import org.junit.Test;
+
+import de.topicmapslab.tmql4j.components.processor.results.ResultCursor;
+import de.topicmapslab.tmql4j.components.processor.results.jtmqr.writer.JTMQRFormat;
+import de.topicmapslab.tmql4j.components.processor.results.jtmqr.writer.JTMQRWriter;
+import de.topicmapslab.tmql4j.components.processor.results.tmdm.SimpleResult;
+import de.topicmapslab.tmql4j.components.processor.results.tmdm.SimpleResultSet;
+
+public class when_streaming_a_cursor_of_tuples {
+	private SimpleResultSet resultSet;
+	private JsonNode rootNode;
+	private JsonNode sequenceNode;
+
+	@Before
+	public void given_a_cursor_of_tuples_written_to_a_stream() throws IOException {
+		resultSet = new SimpleResultSet(null, null);
+		for (int i = 0; i < 3; i++) {
+			SimpleResult result = new SimpleResult(resultSet);
+			result.add("value" + i);
+			result.add(i);
+			resultSet.addResult(result);
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		JTMQRWriter.write(out, new ResultCursor(null, null, resultSet), JTMQRFormat.JTMQR_2);
+		this.rootNode = new ObjectMapper().readTree(out.toString("UTF-8"));
+		this.sequenceNode = rootNode.get("tuples");
+		assertNotNull(this.sequenceNode);
+	}
+
+	@Test
+	public void it_should_write_the_version() {
+		assertEquals(2.0, rootNode.get("version").getNumberValue());
+	}
+
+	@Test
+	public void it_should_write_the_columns_but_not_the_rows() {
+		JsonNode metadata = rootNode.get("metadata");
+		assertEquals(2, metadata.get("columns").getIntValue());
+		assertFalse(metadata.has("rows"));
+	}
+
+	@Test
+	public void it_should_write_the_same_tuples_as_the_result_set() throws IOException {
+		JsonNode expected = new ObjectMapper().readTree(JTMQRWriter.getJson(resultSet, JTMQRFormat.JTMQR_2));
+		assertTrue(sequenceNode.isArray());
+		assertEquals(expected.get("tuples"), sequenceNode);
+	}
+}
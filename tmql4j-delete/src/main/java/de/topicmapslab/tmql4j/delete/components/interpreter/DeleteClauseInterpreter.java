@@ -186,7 +186,7 @@ public class DeleteClauseInterpreter extends ExpressionInterpreterImpl<DeleteCla
 		/*
 		 * disable auto reduction
 		 */
-		context.getTmqlProcessor().getResultProcessor().setAutoReduction(false);
+		context.getResultProcessor().setAutoReduction(false);
 		return results;
 	}
 }
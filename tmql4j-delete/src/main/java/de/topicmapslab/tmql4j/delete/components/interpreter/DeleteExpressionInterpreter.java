@@ -70,7 +70,7 @@ public class DeleteExpressionInterpreter extends ExpressionInterpreterImpl<Delet
 		 */
 		case TYPE_ALL: {
 			Set<String> ids = new DeletionHandler(runtime, context).deleteAll();
-			context.getTmqlProcessor().getResultProcessor().setAutoReduction(false);
+			context.getResultProcessor().setAutoReduction(false);
 			QueryMatches matches = new QueryMatches(runtime);
 			Map<String, Object> tuple = HashUtil.getHashMap();
 			tuple.put("$0", ids.size());
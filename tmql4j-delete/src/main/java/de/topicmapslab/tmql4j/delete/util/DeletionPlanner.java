@@ -0,0 +1,461 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.delete.util;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.tmapi.core.Association;
+import org.tmapi.core.Construct;
+import org.tmapi.core.Locator;
+import org.tmapi.core.Name;
+import org.tmapi.core.Occurrence;
+import org.tmapi.core.Reifiable;
+import org.tmapi.core.Role;
+import org.tmapi.core.Topic;
+import org.tmapi.core.TopicMap;
+import org.tmapi.core.Variant;
+import org.tmapi.index.ScopedIndex;
+import org.tmapi.index.TypeInstanceIndex;
+
+import de.topicmapslab.tmql4j.components.processor.runtime.TypeHierarchyIndex;
+import de.topicmapslab.tmql4j.delete.exception.DeletionException;
+import de.topicmapslab.tmql4j.util.HashUtil;
+import de.topicmapslab.tmql4j.util.TmdmSubjectIdentifier;
+
+/**
+ * Planner of a deletion. The planner computes the complete set of constructs
+ * to remove before the topic map is modified and removes them afterwards in an
+ * order which never removes a topic still used by another construct of the
+ * set.
+ * <p>
+ * If the deletion cascades, the dependent constructs of all added constructs
+ * are collected by one breadth-first traversal which visits each construct
+ * only once. The dependent constructs of a topic are its names, occurrences,
+ * instances and direct subtypes, the associations it plays a role in or is the
+ * type of a role of, the construct it reifies and all constructs typed or
+ * scoped by it. The dependent constructs of a name are its variants.
+ * </p>
+ * <p>
+ * Locators added to the deletion only remove the identifier from the
+ * construct it identifies. The identifiers are removed after the closure is
+ * computed, followed by the constructs in the order variants, names and
+ * occurrences, associations and topics. The topics are removed before their
+ * types.
+ * </p>
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ * @since 3.2.0
+ */
+public class DeletionPlanner {
+
+	/**
+	 * the topic map containing the items to delete
+	 */
+	private final TopicMap topicMap;
+	/**
+	 * the type hierarchy index of the query execution
+	 */
+	private final TypeHierarchyIndex typeHierarchy;
+	/**
+	 * flag if dependent content shall also removed
+	 */
+	private final boolean cascade;
+	/**
+	 * all constructs to remove in order of their discovery
+	 */
+	private final Set<Construct> planned = new LinkedHashSet<Construct>();
+	/**
+	 * the constructs whose dependent constructs are not collected yet
+	 */
+	private final LinkedList<Construct> queue = new LinkedList<Construct>();
+	/**
+	 * the identifiers to remove
+	 */
+	private final Set<Locator> locators = new LinkedHashSet<Locator>();
+	/**
+	 * the type-instance index or <code>null</code> if not opened yet
+	 */
+	private TypeInstanceIndex typeInstanceIndex;
+	/**
+	 * flag indicates if the type-instance index is not supported
+	 */
+	private boolean typeInstanceIndexUnsupported = false;
+	/**
+	 * the scoped index or <code>null</code> if not opened yet
+	 */
+	private ScopedIndex scopedIndex;
+
+	/**
+	 * constructor
+	 *
+	 * @param topicMap
+	 *            the topic map containing the items to delete
+	 * @param typeHierarchy
+	 *            the type hierarchy index of the query execution
+	 * @param cascade
+	 *            flag if dependent content shall also removed
+	 */
+	public DeletionPlanner(TopicMap topicMap, TypeHierarchyIndex typeHierarchy, boolean cascade) {
+		this.topicMap = topicMap;
+		this.typeHierarchy = typeHierarchy;
+		this.cascade = cascade;
+	}
+
+	/**
+	 * Adds the given topics, associations, names, occurrences, variants and
+	 * locators to the deletion. Collections are added element by element, any
+	 * other object is ignored.
+	 *
+	 * @param match
+	 *            the construct, locator or collection of them to remove
+	 */
+	public void add(Object match) {
+		if (match instanceof Topic || match instanceof Association || match instanceof Name || match instanceof Occurrence || match instanceof Variant) {
+			plan((Construct) match);
+		} else if (match instanceof Locator) {
+			locators.add((Locator) match);
+		} else if (match instanceof Collection<?>) {
+			for (Object obj : (Collection<?>) match) {
+				add(obj);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of constructs to remove, including the dependent
+	 * constructs collected so far
+	 *
+	 * @return the number of constructs
+	 */
+	public int size() {
+		return planned.size();
+	}
+
+	/**
+	 * Collects the dependent constructs of all added constructs if the
+	 * deletion cascades and removes all identifiers and constructs from the
+	 * topic map.
+	 *
+	 * @return a set containing all IDs of removed constructs
+	 * @throws DeletionException
+	 *             thrown if deletion fails
+	 */
+	public Set<String> execute() throws DeletionException {
+		try {
+			/*
+			 * compute the closure before the first modification
+			 */
+			while (!queue.isEmpty()) {
+				Construct construct = queue.poll();
+				if (cascade) {
+					planDependants(construct);
+				}
+			}
+			Set<String> ids = getIds();
+			for (Locator locator : locators) {
+				removeLocator(locator);
+			}
+			/*
+			 * remove dependent constructs first
+			 */
+			List<Topic> topics = HashUtil.getList();
+			List<Association> associations = HashUtil.getList();
+			List<Construct> characteristics = HashUtil.getList();
+			for (Construct construct : planned) {
+				if (construct instanceof Topic) {
+					topics.add((Topic) construct);
+				} else if (construct instanceof Association) {
+					associations.add((Association) construct);
+				} else if (construct instanceof Variant) {
+					/*
+					 * variants of a removed name are removed with the name
+					 */
+					if (!planned.contains(((Variant) construct).getParent())) {
+						construct.remove();
+					}
+				} else {
+					characteristics.add(construct);
+				}
+			}
+			for (Construct characteristic : characteristics) {
+				characteristic.remove();
+			}
+			for (Association association : associations) {
+				association.remove();
+			}
+			for (Topic topic : getRemovalOrder(topics)) {
+				topic.remove();
+			}
+			return ids;
+		} catch (DeletionException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new DeletionException(e);
+		} finally {
+			planned.clear();
+			queue.clear();
+			locators.clear();
+		}
+	}
+
+	/**
+	 * Removes the given locator from the construct it identifies as item
+	 * identifier, subject identifier or subject locator
+	 *
+	 * @param locator
+	 *            the locator
+	 */
+	private void removeLocator(Locator locator) {
+		Construct construct = topicMap.getConstructByItemIdentifier(locator);
+		if (construct != null) {
+			construct.removeItemIdentifier(locator);
+		}
+		Topic topic = topicMap.getTopicBySubjectIdentifier(locator);
+		if (topic != null) {
+			topic.removeSubjectIdentifier(locator);
+		}
+		topic = topicMap.getTopicBySubjectLocator(locator);
+		if (topic != null) {
+			topic.removeSubjectLocator(locator);
+		}
+	}
+
+	/**
+	 * Adds the given construct to the deletion if it was not added before
+	 *
+	 * @param construct
+	 *            the construct
+	 */
+	private void plan(Construct construct) {
+		if (planned.add(construct)) {
+			queue.add(construct);
+		}
+	}
+
+	/**
+	 * Adds all given constructs to the deletion
+	 *
+	 * @param constructs
+	 *            the constructs
+	 */
+	private void planAll(Collection<? extends Construct> constructs) {
+		for (Construct construct : constructs) {
+			plan(construct);
+		}
+	}
+
+	/**
+	 * Adds the dependent constructs of the given construct to the deletion
+	 *
+	 * @param construct
+	 *            the construct
+	 */
+	private void planDependants(Construct construct) {
+		if (construct instanceof Name) {
+			planAll(((Name) construct).getVariants());
+		} else if (construct instanceof Topic) {
+			Topic topic = (Topic) construct;
+			planAll(topic.getNames());
+			planAll(topic.getOccurrences());
+			/*
+			 * associations played by the topic
+			 */
+			for (Role role : topic.getRolesPlayed()) {
+				plan(role.getParent());
+			}
+			/*
+			 * the reified construct
+			 */
+			Reifiable reifiable = topic.getReified();
+			if (reifiable instanceof Association || reifiable instanceof Name || reifiable instanceof Occurrence || reifiable instanceof Variant) {
+				plan(reifiable);
+			}
+			/*
+			 * constructs scoped by the topic
+			 */
+			ScopedIndex scoped = getScopedIndex();
+			planAll(scoped.getAssociations(topic));
+			planAll(scoped.getNames(topic));
+			planAll(scoped.getOccurrences(topic));
+			planAll(scoped.getVariants(topic));
+			/*
+			 * instances, sub-types and constructs typed by the topic
+			 */
+			TypeInstanceIndex typed = getTypeInstanceIndex();
+			if (typed != null) {
+				if (isTopicType(topic)) {
+					planAll(topicMap.getTopics());
+				} else {
+					planAll(typed.getTopics(topic));
+				}
+				planAll(typeHierarchy.getSubtypes(topic, false));
+				planAll(typed.getNames(topic));
+				planAll(typed.getOccurrences(topic));
+				for (Role role : typed.getRoles(topic)) {
+					plan(role.getParent());
+				}
+				planAll(typed.getAssociations(topic));
+			}
+		}
+	}
+
+	/**
+	 * Returns the IDs of all constructs to remove, including their roles and
+	 * reifiers
+	 *
+	 * @return the IDs
+	 */
+	private Set<String> getIds() {
+		Set<String> ids = HashUtil.getHashSet();
+		for (Construct construct : planned) {
+			ids.add(construct.getId());
+			if (construct instanceof Association) {
+				for (Role role : ((Association) construct).getRoles()) {
+					ids.add(role.getId());
+					addReifier(ids, role);
+				}
+			}
+			if (construct instanceof Reifiable) {
+				addReifier(ids, (Reifiable) construct);
+			}
+		}
+		return ids;
+	}
+
+	/**
+	 * Adds the ID of the reifier of the given construct
+	 *
+	 * @param ids
+	 *            the IDs
+	 * @param reifiable
+	 *            the construct
+	 */
+	private static void addReifier(Set<String> ids, Reifiable reifiable) {
+		Topic reifier = reifiable.getReifier();
+		if (reifier != null) {
+			ids.add(reifier.getId());
+		}
+	}
+
+	/**
+	 * Orders the given topics so each topic is contained before its types
+	 *
+	 * @param topics
+	 *            the topics to remove
+	 * @return the topics in order of removal
+	 */
+	private List<Topic> getRemovalOrder(List<Topic> topics) {
+		Set<Topic> remaining = new LinkedHashSet<Topic>(topics);
+		LinkedList<Topic> order = new LinkedList<Topic>();
+		for (Topic topic : topics) {
+			if (remaining.contains(topic)) {
+				addTypesFirst(topic, remaining, order);
+			}
+		}
+		/*
+		 * types are contained before their instances, so the order is reversed
+		 */
+		LinkedList<Topic> reversed = new LinkedList<Topic>();
+		for (Topic topic : order) {
+			reversed.addFirst(topic);
+		}
+		return reversed;
+	}
+
+	/**
+	 * Adds the types of the given topic to the given order, followed by the
+	 * topic itself. A cyclic type hierarchy is broken at the topic visited
+	 * first.
+	 *
+	 * @param topic
+	 *            the topic
+	 * @param remaining
+	 *            the topics to remove which are not ordered yet
+	 * @param order
+	 *            the order
+	 */
+	private void addTypesFirst(Topic topic, Set<Topic> remaining, List<Topic> order) {
+		remaining.remove(topic);
+		for (Topic type : topic.getTypes()) {
+			if (remaining.contains(type)) {
+				addTypesFirst(type, remaining, order);
+			}
+		}
+		order.add(topic);
+	}
+
+	/**
+	 * Checks if the given topic is the topic type of the topic maps data
+	 * model, which is the type of every topic
+	 *
+	 * @param topic
+	 *            the topic
+	 * @return <code>true</code> if the topic is the topic type
+	 */
+	private static boolean isTopicType(Topic topic) {
+		for (Locator locator : topic.getSubjectIdentifiers()) {
+			if (locator.getReference().equalsIgnoreCase(TmdmSubjectIdentifier.TMDM_TOPIC_TYPE)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the opened type-instance index of the topic map
+	 *
+	 * @return the index or <code>null</code> if the index is not supported
+	 */
+	private TypeInstanceIndex getTypeInstanceIndex() {
+		if (typeInstanceIndex == null && !typeInstanceIndexUnsupported) {
+			try {
+				TypeInstanceIndex index = topicMap.getIndex(TypeInstanceIndex.class);
+				if (!index.isOpen()) {
+					index.open();
+				}
+				typeInstanceIndex = index;
+			} catch (UnsupportedOperationException e) {
+				typeInstanceIndexUnsupported = true;
+				Logger.getLogger(getClass().getName()).warning(
+						"TypeInstanceIndex not supported by the current topic map system. Deletion of cascaded typed objects not possible!");
+			}
+		}
+		return typeInstanceIndex;
+	}
+
+	/**
+	 * Returns the opened scoped index of the topic map
+	 *
+	 * @return the index
+	 */
+	private ScopedIndex getScopedIndex() {
+		if (scopedIndex == null) {
+			ScopedIndex index = topicMap.getIndex(ScopedIndex.class);
+			if (!index.isOpen()) {
+				index.open();
+			}
+			scopedIndex = index;
+		}
+		return scopedIndex;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "DeletionPlanner [cascade=" + cascade + ", planned=" + planned.size() + ", locators=" + locators.size() + "]";
+	}
+}
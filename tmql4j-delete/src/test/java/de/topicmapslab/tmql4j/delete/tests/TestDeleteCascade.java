@@ -0,0 +1,133 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.delete.tests;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+import java.util.Set;
+
+import org.junit.Ignore;
+import org.junit.Test;
+import org.tmapi.core.Association;
+import org.tmapi.core.Name;
+import org.tmapi.core.Occurrence;
+import org.tmapi.core.Role;
+import org.tmapi.core.Topic;
+import org.tmapi.core.Variant;
+
+import de.topicmapslab.tmql4j.components.processor.results.tmdm.SimpleResultSet;
+
+/**
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+public class TestDeleteCascade extends Tmql4JTestCase {
+
+	@Test
+	public void testDeleteCascadeType() throws Exception {
+		Topic type = createTopicBySI("myType");
+		Topic subtype = createTopicBySI("mySubtype");
+		addSupertype(subtype, type);
+		Topic instance = createTopicBySI("myInstance");
+		instance.addType(type);
+		Topic subInstance = createTopicBySI("mySubInstance");
+		subInstance.addType(subtype);
+		Topic other = createTopicBySI("other");
+		Occurrence occurrence = other.createOccurrence(type, "Value");
+		Name scoped = other.createName("Scoped", type);
+		Name name = other.createName("Name");
+		Association association = createAssociation(createTopicBySI("associationType"));
+		Role role = association.createRole(createTopicBySI("roleType"), subInstance);
+
+		SimpleResultSet set = execute("DELETE CASCADE myType");
+		assertEquals(1, set.size());
+		@SuppressWarnings("unchecked")
+		Set<String> ids = (Set<String>) set.first().get(1);
+		assertEquals(ids.size(), ((Integer) set.first().first()).intValue());
+		for (String id : new String[] { type.getId(), subtype.getId(), instance.getId(), subInstance.getId(), occurrence.getId(), scoped.getId(),
+				association.getId(), role.getId() }) {
+			assertTrue(ids.contains(id));
+		}
+
+		assertNull(topicMap.getTopicBySubjectIdentifier(createLocator("myType")));
+		assertNull(topicMap.getTopicBySubjectIdentifier(createLocator("mySubtype")));
+		assertNull(topicMap.getTopicBySubjectIdentifier(createLocator("myInstance")));
+		assertNull(topicMap.getTopicBySubjectIdentifier(createLocator("mySubInstance")));
+		assertEquals(0, other.getOccurrences().size());
+		assertEquals(1, other.getNames().size());
+		assertEquals(name, other.getNames().iterator().next());
+		assertEquals(0, topicMap.getAssociations().size());
+	}
+
+	@Test
+	public void testDeleteCascadeSharedDependants() throws Exception {
+		Topic type = createTopicBySI("myType");
+		Topic theme = createTopicBySI("theme");
+		Topic first = createTopicBySI("first");
+		first.addType(type);
+		Topic second = createTopicBySI("second");
+		second.addType(type);
+		Name name = first.createName("Name", theme);
+		Variant variant = name.createVariant("Variant", second);
+		Association association = createAssociation(createTopicBySI("associationType"));
+		Role firstRole = association.createRole(createTopicBySI("roleType"), first);
+		Role secondRole = association.createRole(createTopicBySI("roleType"), second);
+
+		SimpleResultSet set = execute("DELETE CASCADE $t WHERE $t ISA myType");
+		assertEquals(1, set.size());
+		@SuppressWarnings("unchecked")
+		Set<String> ids = (Set<String>) set.first().get(1);
+		assertEquals(ids.size(), ((Integer) set.first().first()).intValue());
+		for (String id : new String[] { first.getId(), second.getId(), name.getId(), variant.getId(), association.getId(), firstRole.getId(),
+				secondRole.getId() }) {
+			assertTrue(ids.contains(id));
+		}
+		assertNull(topicMap.getTopicBySubjectIdentifier(createLocator("first")));
+		assertNull(topicMap.getTopicBySubjectIdentifier(createLocator("second")));
+		assertEquals(0, topicMap.getAssociations().size());
+		assertEquals(type, topicMap.getTopicBySubjectIdentifier(createLocator("myType")));
+		assertEquals(theme, topicMap.getTopicBySubjectIdentifier(createLocator("theme")));
+	}
+
+	/**
+	 * Measures the deletion of 100,000 instances of a type with cascade.
+	 * Ignored by default because it is a performance measurement.
+	 */
+	@Ignore
+	@Test
+	public void testDeleteCascadePerformance() throws Exception {
+		final int number = 100000;
+		Topic type = createTopicBySI("myType");
+		Topic occurrenceType = createTopicBySI("myOccurrenceType");
+		Topic associationType = createTopicBySI("myAssociationType");
+		Topic roleType = createTopicBySI("myRoleType");
+		Topic previous = null;
+		for (int i = 0; i < number; i++) {
+			Topic topic = createTopic();
+			topic.addType(type);
+			topic.createName("Name " + i);
+			topic.createOccurrence(occurrenceType, "Value " + i);
+			if (previous != null) {
+				Association association = createAssociation(associationType);
+				association.createRole(roleType, previous);
+				association.createRole(roleType, topic);
+			}
+			previous = topic;
+		}
+		long time = System.currentTimeMillis();
+		SimpleResultSet set = execute("DELETE CASCADE myType");
+		System.out.println("Cascading deletion of " + number + " topics: " + (System.currentTimeMillis() - time) + " ms");
+		assertEquals(1, set.size());
+		assertNull(topicMap.getTopicBySubjectIdentifier(createLocator("myType")));
+		assertEquals(0, topicMap.getAssociations().size());
+	}
+}
@@ -63,4 +63,15 @@ public class TestFordbiddenExpression extends Tmql4JTestCase {
 		runtime.run(new TMQLQuery(topicMap, QUERY));
 	}
 
+	@Test(expected = TMQLParserException.class)
+	public void forbiddenExpressionAfterCachedExecution() {
+		createTopicBySI("myTopic");
+		runtime.run(topicMap, QUERY);
+		/*
+		 * the cached parser tree has to be checked too
+		 */
+		runtime.forbidExpression(forbiddenExpressionType);
+		runtime.run(topicMap, QUERY);
+	}
+
 }
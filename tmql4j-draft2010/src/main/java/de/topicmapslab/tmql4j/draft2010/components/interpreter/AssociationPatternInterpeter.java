@@ -101,7 +101,7 @@ public class AssociationPatternInterpeter extends ExpressionInterpreterImpl<Asso
 		List<Topic> topics = new LinkedList<Topic>();
 		for (Object o : context.getContextBindings().getPossibleValuesForVariable()) {
 			if (o instanceof Topic) {
-				topics.addAll(getTraversalPlayers((Topic) o, associationType, roleType, otherRoleType));
+				topics.addAll(getTraversalPlayers(context, (Topic) o, associationType, roleType, otherRoleType));
 			}
 		}
 		return QueryMatches.asQueryMatchNS(runtime, topics.toArray());
@@ -115,6 +115,8 @@ public class AssociationPatternInterpeter extends ExpressionInterpreterImpl<Asso
 	 * is the role type the traversal player has to play, if it is
 	 * <code>null</code> it will be ignored.
 	 * 
+	 * @param context
+	 *            the querying context
 	 * @param topic
 	 *            the topic
 	 * @param associationType
@@ -125,7 +127,7 @@ public class AssociationPatternInterpeter extends ExpressionInterpreterImpl<Asso
 	 *            the role type of the traversal player or <code>null</code>
 	 * @return a collection of all traversal players
 	 */
-	public static Collection<Topic> getTraversalPlayers(final Topic topic, final Topic associationType, final Topic roleType, final Topic otherRoleType) {
+	public static Collection<Topic> getTraversalPlayers(final IContext context, final Topic topic, final Topic associationType, final Topic roleType, final Topic otherRoleType) {
 		List<Topic> topics = new LinkedList<Topic>();
 
 		/*
@@ -143,7 +145,7 @@ public class AssociationPatternInterpeter extends ExpressionInterpreterImpl<Asso
 		 */
 		List<Topic> associationTypes = null;
 		if (associationType != null) {
-			associationTypes = TypeHierarchyUtils.getSubtypes(associationType, true);
+			associationTypes = TypeHierarchyUtils.getSubtypes(context, associationType, true);
 			associationTypes.add(associationType);
 		}
 
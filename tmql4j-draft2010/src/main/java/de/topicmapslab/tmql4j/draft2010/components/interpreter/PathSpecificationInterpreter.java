@@ -127,7 +127,7 @@ public class PathSpecificationInterpreter extends ExpressionInterpreterImpl<Path
 		 */
 		List<Object> values = HashUtil.getList();
 		for (Object o : context.getContextBindings().getPossibleValuesForVariable()) {
-			values.addAll(axis.navigate((Construct) o, type));
+			values.addAll(axis.navigate(context, (Construct) o, type));
 		}
 		return QueryMatches.asQueryMatchNS(runtime, values.toArray());
 	}
@@ -9,6 +9,7 @@ import org.tmapi.core.Topic;
 import org.tmapi.core.TopicMap;
 import org.tmapi.index.TypeInstanceIndex;
 
+import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.draft2010.components.navigation.model.IAxis;
 import de.topicmapslab.tmql4j.draft2010.grammar.lexical.Association;
 import de.topicmapslab.tmql4j.draft2010.util.TypeHierarchyUtils;
@@ -32,13 +33,13 @@ public class AssociationAxis implements IAxis {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigate(Construct source, final Topic type)
+	public Collection<?> navigate(IContext context, Construct source, final Topic type)
 			throws TMQLRuntimeException {
 		Set<org.tmapi.core.Association> associations = HashUtil.getHashSet();
 
 		if (source instanceof TopicMap) {
 			if (type != null) {
-				final List<Topic> types = TypeHierarchyUtils.getSubtypes(type,
+				final List<Topic> types = TypeHierarchyUtils.getSubtypes(context, type,
 						true);
 				types.add(type);
 				for (Topic t : types) {
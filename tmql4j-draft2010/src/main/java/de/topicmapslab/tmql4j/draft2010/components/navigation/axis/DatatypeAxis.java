@@ -7,6 +7,7 @@ import org.tmapi.core.Construct;
 import org.tmapi.core.DatatypeAware;
 import org.tmapi.core.Topic;
 
+import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.draft2010.components.navigation.model.IAxis;
 import de.topicmapslab.tmql4j.draft2010.grammar.lexical.Datatype;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
@@ -30,7 +31,7 @@ public class DatatypeAxis implements IAxis {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigate(Construct source, Topic type)
+	public Collection<?> navigate(IContext context, Construct source, Topic type)
 			throws TMQLRuntimeException {
 		Set<String> locators = HashUtil.getHashSet();
 
@@ -10,6 +10,7 @@ import org.tmapi.core.Role;
 import org.tmapi.core.Topic;
 import org.tmapi.core.TopicMap;
 
+import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.draft2010.components.navigation.model.IAxis;
 import de.topicmapslab.tmql4j.draft2010.grammar.lexical.AxisDefault;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
@@ -33,23 +34,23 @@ public class DefaultAxis implements IAxis {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigate(Construct source, Topic type)
+	public Collection<?> navigate(IContext context, Construct source, Topic type)
 			throws TMQLRuntimeException {
 		Set<Object> results = HashUtil.getHashSet();
 
 		if (source instanceof TopicMap) {
-			results.addAll(new TopicAxis().navigate(source, type));
-			results.addAll(new AssociationAxis().navigate(source, type));
+			results.addAll(new TopicAxis().navigate(context, source, type));
+			results.addAll(new AssociationAxis().navigate(context, source, type));
 		} else if (source instanceof Topic) {
-			results.addAll(new NameAxis().navigate(source, type));
-			results.addAll(new OccurrenceAxis().navigate(source, type));
-			results.addAll(new RoleAxis().navigate(source, type));
+			results.addAll(new NameAxis().navigate(context, source, type));
+			results.addAll(new OccurrenceAxis().navigate(context, source, type));
+			results.addAll(new RoleAxis().navigate(context, source, type));
 		} else if (source instanceof Name) {
-			results.addAll(new VariantAxis().navigate(source, type));
+			results.addAll(new VariantAxis().navigate(context, source, type));
 		} else if (source instanceof Association) {
-			results.addAll(new RoleAxis().navigate(source, type));
+			results.addAll(new RoleAxis().navigate(context, source, type));
 		} else if (source instanceof Role) {
-			results.addAll(new PlayerAxis().navigate(source, type));
+			results.addAll(new PlayerAxis().navigate(context, source, type));
 		}
 
 		return results;
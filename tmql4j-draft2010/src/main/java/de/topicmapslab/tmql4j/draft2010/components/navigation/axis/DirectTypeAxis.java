@@ -9,6 +9,7 @@ import org.tmapi.core.Topic;
 import org.tmapi.core.Typed;
 import org.tmapi.core.Variant;
 
+import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.draft2010.components.navigation.model.IAxis;
 import de.topicmapslab.tmql4j.draft2010.grammar.lexical.DirectType;
 import de.topicmapslab.tmql4j.draft2010.util.TypeHierarchyUtils;
@@ -32,7 +33,7 @@ public class DirectTypeAxis implements IAxis {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigate(Construct source, Topic type)
+	public Collection<?> navigate(IContext context, Construct source, Topic type)
 			throws TMQLRuntimeException {
 		Set<Topic> types = HashUtil.getHashSet();
 
@@ -50,7 +51,7 @@ public class DirectTypeAxis implements IAxis {
 		 * filter by type
 		 */
 		if (type != null) {
-			List<Topic> filters = TypeHierarchyUtils.getSupertypes(type, true);
+			List<Topic> filters = TypeHierarchyUtils.getSupertypes(context, type, true);
 			filters.add(type);
 			types.retainAll(filters);
 		}
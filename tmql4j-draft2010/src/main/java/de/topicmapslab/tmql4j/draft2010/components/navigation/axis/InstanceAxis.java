@@ -7,6 +7,7 @@ import java.util.Set;
 import org.tmapi.core.Construct;
 import org.tmapi.core.Topic;
 
+import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.draft2010.components.navigation.model.IAxis;
 import de.topicmapslab.tmql4j.draft2010.grammar.lexical.Instance;
 import de.topicmapslab.tmql4j.draft2010.util.TypeHierarchyUtils;
@@ -31,12 +32,12 @@ public class InstanceAxis implements IAxis {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigate(Construct source, Topic type)
+	public Collection<?> navigate(IContext context, Construct source, Topic type)
 			throws TMQLRuntimeException {
 		Set<Topic> instances = HashUtil.getHashSet();
 
 		if (source instanceof Topic) {
-			instances.addAll(TypeHierarchyUtils.getInstances((Topic) source,
+			instances.addAll(TypeHierarchyUtils.getInstances(context, (Topic) source,
 					true));
 		}
 
@@ -44,7 +45,7 @@ public class InstanceAxis implements IAxis {
 		 * filter by type
 		 */
 		if (type != null) {
-			List<Topic> filters = TypeHierarchyUtils.getSupertypes(type, true);
+			List<Topic> filters = TypeHierarchyUtils.getSupertypes(context, type, true);
 			filters.add(type);
 			instances.retainAll(filters);
 		}
@@ -8,6 +8,7 @@ import org.tmapi.core.Construct;
 import org.tmapi.core.Occurrence;
 import org.tmapi.core.Topic;
 
+import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.draft2010.components.navigation.model.IAxis;
 import de.topicmapslab.tmql4j.draft2010.util.TypeHierarchyUtils;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
@@ -31,14 +32,14 @@ public class OccurrenceAxis implements IAxis {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigate(Construct source, Topic type)
+	public Collection<?> navigate(IContext context, Construct source, Topic type)
 			throws TMQLRuntimeException {
 		Set<Occurrence> occurrences = HashUtil.getHashSet();
 
 		if (source instanceof Topic) {
 			Topic topic = (Topic) source;
 			if (type != null) {
-				List<Topic> types = TypeHierarchyUtils.getSupertypes(type, true);
+				List<Topic> types = TypeHierarchyUtils.getSupertypes(context, type, true);
 				types.add(type);
 				for (Occurrence occurrence : topic.getOccurrences()) {
 					if (types.contains(occurrence.getType())) {
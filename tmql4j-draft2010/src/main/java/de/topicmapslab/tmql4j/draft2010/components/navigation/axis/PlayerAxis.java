@@ -9,6 +9,7 @@ import org.tmapi.core.Construct;
 import org.tmapi.core.Role;
 import org.tmapi.core.Topic;
 
+import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.draft2010.components.navigation.model.IAxis;
 import de.topicmapslab.tmql4j.draft2010.grammar.lexical.Player;
 import de.topicmapslab.tmql4j.draft2010.util.TypeHierarchyUtils;
@@ -33,14 +34,14 @@ public class PlayerAxis implements IAxis {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigate(Construct source, Topic type)
+	public Collection<?> navigate(IContext context, Construct source, Topic type)
 			throws TMQLRuntimeException {
 		Set<Topic> players = HashUtil.getHashSet();
 		if (source instanceof Association) {
 			Association association = (Association) source;
 			List<Topic> types = HashUtil.getList();
 			if (type != null) {
-				types = TypeHierarchyUtils.getSupertypes(type, true);
+				types = TypeHierarchyUtils.getSupertypes(context, type, true);
 				types.add(type);
 			}
 			for (Role role : association.getRoles()) {
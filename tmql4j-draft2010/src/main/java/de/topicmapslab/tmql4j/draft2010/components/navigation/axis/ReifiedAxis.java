@@ -9,6 +9,7 @@ import org.tmapi.core.Topic;
 import org.tmapi.core.Typed;
 import org.tmapi.core.Variant;
 
+import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.draft2010.components.navigation.model.IAxis;
 import de.topicmapslab.tmql4j.draft2010.grammar.lexical.Reified;
 import de.topicmapslab.tmql4j.draft2010.util.TypeHierarchyUtils;
@@ -33,7 +34,7 @@ public class ReifiedAxis implements IAxis {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigate(Construct source, Topic type)
+	public Collection<?> navigate(IContext context, Construct source, Topic type)
 			throws TMQLRuntimeException {
 		Set<Reifiable> reifiables = HashUtil.getHashSet();
 
@@ -47,11 +48,11 @@ public class ReifiedAxis implements IAxis {
 			Reifiable reifiable = ((Topic) source).getReified();
 			if (type != null) {
 				if (reifiable instanceof Typed
-						&& TypeHierarchyUtils.getTypes((Typed) reifiable, true)
+						&& TypeHierarchyUtils.getTypes(context, (Typed) reifiable, true)
 								.equals(type)) {
 					reifiables.add(reifiable);
 				} else if (reifiable instanceof Variant
-						&& TypeHierarchyUtils.getTypes(
+						&& TypeHierarchyUtils.getTypes(context, 
 								((Variant) reifiable).getParent(), true)
 								.equals(type)) {
 					reifiables.add(reifiable);
@@ -7,6 +7,7 @@ import org.tmapi.core.Construct;
 import org.tmapi.core.Reifiable;
 import org.tmapi.core.Topic;
 
+import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.draft2010.components.navigation.model.IAxis;
 import de.topicmapslab.tmql4j.draft2010.grammar.lexical.AxisReifier;
 import de.topicmapslab.tmql4j.draft2010.util.TypeHierarchyUtils;
@@ -31,14 +32,14 @@ public class ReifierAxis implements IAxis {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigate(Construct source, Topic type)
+	public Collection<?> navigate(IContext context, Construct source, Topic type)
 			throws TMQLRuntimeException {
 		Set<Topic> reifiers = HashUtil.getHashSet();
 
 		if (source instanceof Reifiable) {
 			Topic reifier = ((Reifiable) source).getReifier();
 			if (type != null
-					&& TypeHierarchyUtils.getTypes(reifier, true)
+					&& TypeHierarchyUtils.getTypes(context, reifier, true)
 							.contains(type)) {
 				reifiers.add(reifier);
 			} else if (type == null) {
@@ -9,6 +9,7 @@ import org.tmapi.core.Construct;
 import org.tmapi.core.Role;
 import org.tmapi.core.Topic;
 
+import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.draft2010.components.navigation.model.IAxis;
 import de.topicmapslab.tmql4j.draft2010.util.TypeHierarchyUtils;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
@@ -32,14 +33,14 @@ public class RoleAxis implements IAxis {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigate(Construct source, Topic type)
+	public Collection<?> navigate(IContext context, Construct source, Topic type)
 			throws TMQLRuntimeException {
 		Set<Role> roles = HashUtil.getHashSet();
 
 		if (source instanceof Topic) {
 			Topic topic = (Topic) source;
 			if (type != null) {
-				List<Topic> types = TypeHierarchyUtils.getSupertypes(type, true);
+				List<Topic> types = TypeHierarchyUtils.getSupertypes(context, type, true);
 				types.add(type);
 				for (Role role : topic.getRolesPlayed()) {
 					if (types.contains(role.getType())) {
@@ -52,7 +53,7 @@ public class RoleAxis implements IAxis {
 		} else if (source instanceof Association) {
 			Association association = (Association) source;
 			if (type != null) {
-				List<Topic> types = TypeHierarchyUtils.getSupertypes(type, true);
+				List<Topic> types = TypeHierarchyUtils.getSupertypes(context, type, true);
 				types.add(type);
 				for (Role role : association.getRoles()) {
 					if (types.contains(role.getType())) {
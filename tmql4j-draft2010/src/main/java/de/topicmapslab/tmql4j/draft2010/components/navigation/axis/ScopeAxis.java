@@ -8,6 +8,7 @@ import org.tmapi.core.Construct;
 import org.tmapi.core.Scoped;
 import org.tmapi.core.Topic;
 
+import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.draft2010.components.navigation.model.IAxis;
 import de.topicmapslab.tmql4j.draft2010.grammar.lexical.AxisScope;
 import de.topicmapslab.tmql4j.draft2010.util.TypeHierarchyUtils;
@@ -32,13 +33,13 @@ public class ScopeAxis implements IAxis {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigate(Construct source, Topic type)
+	public Collection<?> navigate(IContext context, Construct source, Topic type)
 			throws TMQLRuntimeException {
 		Set<Topic> themes = HashUtil.getHashSet();
 
 		if (source instanceof Scoped) {
 			if (type != null) {
-				List<Topic> types = TypeHierarchyUtils.getSupertypes(type, true);
+				List<Topic> types = TypeHierarchyUtils.getSupertypes(context, type, true);
 				types.add(type);
 				for (Topic theme : ((Scoped) source).getScope()) {
 					for (Topic t : theme.getTypes()) {
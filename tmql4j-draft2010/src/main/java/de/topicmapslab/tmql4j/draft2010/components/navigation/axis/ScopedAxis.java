@@ -13,6 +13,7 @@ import org.tmapi.core.Topic;
 import org.tmapi.core.Variant;
 import org.tmapi.index.ScopedIndex;
 
+import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.draft2010.components.navigation.model.IAxis;
 import de.topicmapslab.tmql4j.draft2010.util.TypeHierarchyUtils;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
@@ -36,7 +37,7 @@ public class ScopedAxis implements IAxis {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigate(Construct source, Topic type)
+	public Collection<?> navigate(IContext context, Construct source, Topic type)
 			throws TMQLRuntimeException {
 		Set<Scoped> scoped = HashUtil.getHashSet();
 
@@ -48,7 +49,7 @@ public class ScopedAxis implements IAxis {
 			}
 
 			if (type != null) {
-				List<Topic> types = TypeHierarchyUtils.getSupertypes(type, true);
+				List<Topic> types = TypeHierarchyUtils.getSupertypes(context, type, true);
 				types.add(type);
 				for (Association a : index.getAssociations((Topic) source)) {
 					if (types.contains(a.getType())) {
@@ -7,6 +7,7 @@ import java.util.Set;
 import org.tmapi.core.Construct;
 import org.tmapi.core.Topic;
 
+import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.draft2010.components.navigation.model.IAxis;
 import de.topicmapslab.tmql4j.draft2010.grammar.lexical.Supertype;
 import de.topicmapslab.tmql4j.draft2010.util.TypeHierarchyUtils;
@@ -30,13 +31,13 @@ public class SupertypeAxis implements IAxis {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigate(Construct source, Topic type)
+	public Collection<?> navigate(IContext context, Construct source, Topic type)
 			throws TMQLRuntimeException {
 		Set<Topic> types = HashUtil.getHashSet();
 
 		if (source instanceof Topic) {
 			types
-					.addAll(TypeHierarchyUtils.getSupertypes((Topic) source,
+					.addAll(TypeHierarchyUtils.getSupertypes(context, (Topic) source,
 							true));
 		}
 
@@ -44,7 +45,7 @@ public class SupertypeAxis implements IAxis {
 		 * filter by type
 		 */
 		if (type != null) {
-			List<Topic> filters = TypeHierarchyUtils.getSupertypes(type, true);
+			List<Topic> filters = TypeHierarchyUtils.getSupertypes(context, type, true);
 			filters.add(type);
 			types.retainAll(filters);
 		}
@@ -9,6 +9,7 @@ import org.tmapi.core.Topic;
 import org.tmapi.core.TopicMap;
 import org.tmapi.index.TypeInstanceIndex;
 
+import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.draft2010.components.navigation.model.IAxis;
 import de.topicmapslab.tmql4j.draft2010.util.TypeHierarchyUtils;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
@@ -32,12 +33,12 @@ public class TopicAxis implements IAxis {
 	/**
 	 * {@inheritDoc}
 	 */	
-	public Collection<?> navigate(Construct source,
+	public Collection<?> navigate(IContext context, Construct source,
 			final org.tmapi.core.Topic type) throws TMQLRuntimeException {
 		Set<Topic> topics = HashUtil.getHashSet();
 		if (source instanceof TopicMap) {
 			if (type != null) {
-				final List<Topic> types = TypeHierarchyUtils.getSubtypes(type,
+				final List<Topic> types = TypeHierarchyUtils.getSubtypes(context, type,
 						true);
 				types.add(type);
 				for (Topic t : types) {
@@ -8,6 +8,7 @@ import org.tmapi.core.Topic;
 import org.tmapi.core.Typed;
 import org.tmapi.core.Variant;
 
+import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.draft2010.components.navigation.model.IAxis;
 import de.topicmapslab.tmql4j.draft2010.grammar.lexical.Type;
 import de.topicmapslab.tmql4j.draft2010.util.TypeHierarchyUtils;
@@ -32,18 +33,18 @@ public class TypeAxis implements IAxis {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigate(Construct source, Topic type)
+	public Collection<?> navigate(IContext context, Construct source, Topic type)
 			throws TMQLRuntimeException {
 		List<Topic> types = HashUtil.getList();
 
 		if (source instanceof Typed) {
-			types.addAll(TypeHierarchyUtils.getTypes((Typed) source, true));
+			types.addAll(TypeHierarchyUtils.getTypes(context, (Typed) source, true));
 		} else if (source instanceof Topic) {
-			types.addAll(TypeHierarchyUtils.getTypes((Topic) source, true));
+			types.addAll(TypeHierarchyUtils.getTypes(context, (Topic) source, true));
 		}
 		// to be discussed
 		else if (source instanceof Variant) {
-			types.addAll(TypeHierarchyUtils.getTypes(((Variant) source)
+			types.addAll(TypeHierarchyUtils.getTypes(context, ((Variant) source)
 					.getParent(), true));
 		}
 
@@ -51,7 +52,7 @@ public class TypeAxis implements IAxis {
 		 * filter by type
 		 */
 		if (type != null) {
-			List<Topic> filters = TypeHierarchyUtils.getSupertypes(type, true);
+			List<Topic> filters = TypeHierarchyUtils.getSupertypes(context, type, true);
 			filters.add(type);
 			types.retainAll(filters);
 		}
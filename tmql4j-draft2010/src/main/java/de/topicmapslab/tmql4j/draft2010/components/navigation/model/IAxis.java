@@ -5,6 +5,7 @@ import java.util.Collection;
 import org.tmapi.core.Construct;
 import org.tmapi.core.Topic;
 
+import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
 import de.topicmapslab.tmql4j.grammar.lexical.IToken;
 
@@ -19,6 +20,8 @@ public interface IAxis {
 	/**
 	 * Method called to execute navigation
 	 * 
+	 * @param context
+	 *            the querying context
 	 * @param source
 	 *            the source
 	 * @param type
@@ -27,7 +30,7 @@ public interface IAxis {
 	 * @throws TMQLRuntimeException
 	 *             thrown if execution fails
 	 */
-	public Collection<?> navigate(final Construct source, final Topic type) throws TMQLRuntimeException;
+	public Collection<?> navigate(final IContext context, final Construct source, final Topic type) throws TMQLRuntimeException;
 
 	/**
 	 * Give the token represent this axis
@@ -36,6 +36,25 @@ public class PreparedStatement2010 extends PreparedStatement {
 		super(runtime, query, tree);
 	}
 
+	/**
+	 * constructor of a binding
+	 * 
+	 * @param statement
+	 *            the prepared statement
+	 * @since 3.2.0
+	 */
+	protected PreparedStatement2010(PreparedStatement2010 statement) {
+		super(statement);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected PreparedStatement createBinding() {
+		return new PreparedStatement2010(this);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -95,9 +95,13 @@ public class TmqlRuntime extends TmqlRuntimeImpl {
 		if (query.getTopicMap() == null) {
 			throw new TMQLRuntimeException("Topic map not set to query instance!");
 		}
-		if (!query.getQueryString().isEmpty()) {
+		/*
+		 * preprocess the query and get its parser tree of the cache or parse it
+		 */
+		IParserTree tree = getQueryPlanCache().getParserTree(query);
+		if (tree != null) {
 			ITmqlProcessor processor = getTmqlProcessor();
-			IResultSet<?> results = processor.query(query, stream);
+			IResultSet<?> results = processor.query(query, tree, stream);
 			query.setResults(results);
 		} else {
 			query.setResults(ResultSet.emptyResultSet());
@@ -107,7 +107,7 @@ public class AssociationPatternFct extends FunctionImpl {
 		Set<Topic> topics = HashUtil.getHashSet();
 		for (Object o : context.getContextBindings().getPossibleValuesForVariable()) {
 			if (o instanceof Topic) {
-				topics.addAll(AssociationPatternInterpeter.getTraversalPlayers((Topic) o, associationType, roleType, otherRoleType));
+				topics.addAll(AssociationPatternInterpeter.getTraversalPlayers(context, (Topic) o, associationType, roleType, otherRoleType));
 			}
 		}
 		return topics;
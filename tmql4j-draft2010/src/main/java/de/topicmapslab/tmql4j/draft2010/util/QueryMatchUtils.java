@@ -29,7 +29,7 @@ import de.topicmapslab.tmql4j.draft2010.grammar.lexical.Star;
 import de.topicmapslab.tmql4j.draft2010.grammar.lexical.Unequals;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
 import de.topicmapslab.tmql4j.grammar.lexical.IToken;
-import de.topicmapslab.tmql4j.util.ComparisonUtils;
+import de.topicmapslab.tmql4j.util.CompiledComparison;
 import de.topicmapslab.tmql4j.util.HashUtil;
 import de.topicmapslab.tmql4j.util.MathematicUtils;
 
@@ -473,11 +473,15 @@ public class QueryMatchUtils {
 
 		if (!rightHand.isEmpty() && rightHand.getOrderedKeys().contains(QueryMatches.getNonScopedVariable())) {
 			Object obj = rightHand.getPossibleValuesForVariable().get(0);
+			/*
+			 * type the right hand argument only once
+			 */
+			CompiledComparison comparison = CompiledComparison.get(method, obj);
 			for (Map<String, Object> other : leftHand) {
 				Iterator<String> variables = other.keySet().iterator();
 				try {
 					if (other.containsKey(QueryMatches.getNonScopedVariable())) {
-						if (ComparisonUtils.compare(method, other.get(QueryMatches.getNonScopedVariable()), obj)) {
+						if (comparison.satisfies(other.get(QueryMatches.getNonScopedVariable()))) {
 							Map<String, Object> tuple = HashUtil.getHashMap();
 
 							if (other.size() > 1) {
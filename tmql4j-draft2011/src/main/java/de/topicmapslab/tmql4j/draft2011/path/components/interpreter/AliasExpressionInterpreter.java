@@ -50,7 +50,7 @@ public class AliasExpressionInterpreter extends ExpressionInterpreterImpl<AliasE
 		 * get token and register as alias
 		 */
 		final String token = getTokens().get(1);
-		context.getTmqlProcessor().getResultProcessor().setColumnAlias(index, LiteralUtils.asString(token));
+		context.getResultProcessor().setColumnAlias(index, LiteralUtils.asString(token));
 		/*
 		 * return empty match
 		 */
@@ -15,7 +15,6 @@ import java.math.BigInteger;
 import de.topicmapslab.tmql4j.components.interpreter.IExpressionInterpreter;
 import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.components.processor.core.QueryMatches;
-import de.topicmapslab.tmql4j.components.processor.results.model.IResultSet;
 import de.topicmapslab.tmql4j.components.processor.runtime.ITMQLRuntime;
 import de.topicmapslab.tmql4j.draft2011.path.grammar.lexical.Least;
 import de.topicmapslab.tmql4j.draft2011.path.grammar.lexical.Most;
@@ -55,10 +54,6 @@ public class ExistsClauseInterpreter extends QuantifiedExpression<ExistsClause>
 	 * language-specific token identifies the quantifier of exists-clause
 	 */
 	private final Class<? extends IToken> quantifier;
-	/**
-	 * the numerical restriction
-	 */
-	private BigInteger amount;
 
 	/**
 	 * base constructor to create a new instance
@@ -82,8 +77,8 @@ public class ExistsClauseInterpreter extends QuantifiedExpression<ExistsClause>
 		 * boolean-expression
 		 */
 		case 0: {
-			amount = (BigInteger) getInterpretersFilteredByEypressionType(runtime, ExistsQuantifiers.class).get(0).interpret(runtime, context, optionalArguments);
-			return super.interpret(runtime, context, optionalArguments);
+			BigInteger amount = (BigInteger) getInterpretersFilteredByEypressionType(runtime, ExistsQuantifiers.class).get(0).interpret(runtime, context, optionalArguments);
+			return interpretQuantified(runtime, context, amount.longValue());
 		}
 			/*
 			 * is exists-clause ::= exists content
@@ -103,33 +98,46 @@ public class ExistsClauseInterpreter extends QuantifiedExpression<ExistsClause>
 	 * {@inheritDoc}
 	 */
 	@Override
-	protected synchronized boolean doSatisfy(ITMQLRuntime runtime, IContext context, IResultSet<?> results) {
+	protected Boolean isSatisfied(long amount, long bindings, long checked, long satisfying) {
+		final long remaining = bindings - checked;
 		/*
 		 * keyword is SOME or LEAST
 		 */
 		if (quantifier.equals(Least.class) || quantifier.equals(Some.class)) {
 			/*
-			 * number of content is greater or equal as necessary
+			 * stop as soon as enough bindings satisfy or cannot satisfy
+			 * anymore
 			 */
-			return results.size() >= amount.longValue();
+			if (satisfying >= amount) {
+				return Boolean.TRUE;
+			} else if (satisfying + remaining < amount) {
+				return Boolean.FALSE;
+			}
+			return null;
 		}
 		/*
 		 * keyword is MOST
 		 */
 		else if (quantifier.equals(Most.class)) {
 			/*
-			 * content is smaller or equal as necessary
+			 * stop as soon as too many bindings satisfy or cannot satisfy
+			 * anymore
 			 */
-			return results.size() <= amount.longValue();
+			if (satisfying > amount) {
+				return Boolean.FALSE;
+			} else if (satisfying + remaining <= amount) {
+				return Boolean.TRUE;
+			}
+			return null;
 		}
-		return false;
+		return Boolean.FALSE;
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	protected boolean doSatisfy(QueryMatches context, QueryMatches results) {
+	protected boolean doSatisfy(QueryMatches context, QueryMatches results, long amount) {
 		/*
 		 * keyword is SOME or LEAST
 		 */
@@ -137,7 +145,7 @@ public class ExistsClauseInterpreter extends QuantifiedExpression<ExistsClause>
 			/*
 			 * number of content is greater or equal as necessary
 			 */
-			return results.size() >= amount.longValue();
+			return results.size() >= amount;
 		}
 		/*
 		 * keyword is MOST
@@ -146,7 +154,7 @@ public class ExistsClauseInterpreter extends QuantifiedExpression<ExistsClause>
 			/*
 			 * content is smaller or equal as necessary
 			 */
-			return results.size() <= amount.longValue();
+			return results.size() <= amount;
 		}
 		return false;
 	}
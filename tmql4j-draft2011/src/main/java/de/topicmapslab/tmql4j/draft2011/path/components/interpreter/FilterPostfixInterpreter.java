@@ -161,14 +161,16 @@ public class FilterPostfixInterpreter extends ExpressionInterpreterImpl<FilterPo
 		 * Iterate over all tuple of current sequence
 		 */
 		QueryMatches storedMatches = context.getContextBindings();
-		QueryMatches filteredMatches = new QueryMatches(runtime);
+		QueryMatches filteredMatches = new QueryMatches(runtime, storedMatches.size());
+		final List<String> variables = storedMatches.getOrderedKeys();
 
-		for (int index = 0; index < storedMatches.getMatches().size(); index++) {
+		int index = 0;
+		for (Map<String, Object> tuple : storedMatches) {
 
 			Map<String, Object> filteredTuple = HashUtil.getHashMap();
 
-			for (final String variable : storedMatches.getOrderedKeys()) {
-				Object object = storedMatches.getMatches().get(index).get(variable);
+			for (final String variable : variables) {
+				Object object = tuple.get(variable);
 				List<Object> results = HashUtil.getList();
 				Context newContext = new Context(context);
 				newContext.setCurrentIndexInSequence(index);
@@ -218,6 +220,7 @@ public class FilterPostfixInterpreter extends ExpressionInterpreterImpl<FilterPo
 			if (!filteredTuple.isEmpty()) {
 				filteredMatches.add(filteredTuple);
 			}
+			index++;
 		}
 		return filteredMatches;
 	}
@@ -40,9 +40,13 @@ import de.topicmapslab.tmql4j.grammar.productions.IFunction;
 public class FunctionInvocationInterpreter extends ExpressionInterpreterImpl<FunctionInvocation> {
 
 	/**
-	 * internal function interpreter
+	 * internal function interpreter, created by the first interpretation. The
+	 * interpreter is shared by concurrent executions of the same parsing-tree,
+	 * so the function is published by a volatile field. Functions are
+	 * stateless, so a function created twice by concurrent executions does no
+	 * harm.
 	 */
-	private IFunction interpreter;
+	private volatile IFunction interpreter;
 
 	/**
 	 * base constructor to create a new instance
@@ -64,14 +68,15 @@ public class FunctionInvocationInterpreter extends ExpressionInterpreterImpl<Fun
 		/*
 		 * try to extract interpreter for given identifier
 		 */
-		if (interpreter == null) {
+		IFunction function = interpreter;
+		if (function == null) {
 			Class<? extends IFunction> clazz = runtime.getLanguageContext().getFunctionRegistry().getFunction(identifier);
 			try {
 				/*
 				 * try to instantiate the responsible function interpreter
 				 */
 				Constructor<? extends IFunction> constructor = clazz.getConstructor();
-				interpreter = constructor.newInstance();
+				function = constructor.newInstance();
 			} catch (SecurityException e) {
 				throw new TMQLRuntimeException("Internal error, during initilaization of function-invocation-interpreter of " + getTokens().get(0), e);
 			} catch (NoSuchMethodException e) {
@@ -85,7 +90,8 @@ public class FunctionInvocationInterpreter extends ExpressionInterpreterImpl<Fun
 			} catch (InvocationTargetException e) {
 				throw new TMQLRuntimeException("Internal error, during initilaization of function-invocation-interpreter of " + getTokens().get(0), e);
 			}
+			interpreter = function;
 		}
-		return interpreter.interpret(runtime, context, this);
+		return function.interpret(runtime, context, this);
 	}
 }
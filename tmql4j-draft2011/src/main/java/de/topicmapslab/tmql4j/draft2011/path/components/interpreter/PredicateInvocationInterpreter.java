@@ -10,10 +10,11 @@
  */
 package de.topicmapslab.tmql4j.draft2011.path.components.interpreter;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadPoolExecutor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,12 +23,12 @@ import org.tmapi.core.Construct;
 import org.tmapi.core.Role;
 import org.tmapi.core.Topic;
 import org.tmapi.core.TopicMap;
-import org.tmapi.index.TypeInstanceIndex;
 
 import de.topicmapslab.tmql4j.components.interpreter.ExpressionInterpreterImpl;
 import de.topicmapslab.tmql4j.components.interpreter.IExpressionInterpreter;
 import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.components.processor.core.QueryMatches;
+import de.topicmapslab.tmql4j.components.processor.runtime.IPartitionTask;
 import de.topicmapslab.tmql4j.components.processor.runtime.ITMQLRuntime;
 import de.topicmapslab.tmql4j.draft2011.path.grammar.productions.FilterPostfix;
 import de.topicmapslab.tmql4j.draft2011.path.grammar.productions.PredicateInvocation;
@@ -35,6 +36,7 @@ import de.topicmapslab.tmql4j.draft2011.path.grammar.productions.PredicateInvoca
 import de.topicmapslab.tmql4j.draft2011.path.util.Restriction;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
 import de.topicmapslab.tmql4j.grammar.productions.PreparedExpression;
+import de.topicmapslab.tmql4j.util.AssociationUtils;
 import de.topicmapslab.tmql4j.util.HashUtil;
 import de.topicmapslab.tmql4j.util.TmdmSubjectIdentifier;
 
@@ -77,7 +79,10 @@ public class PredicateInvocationInterpreter extends ExpressionInterpreterImpl<Pr
 	@SuppressWarnings("unchecked")
 	public QueryMatches interpret(ITMQLRuntime runtime, IContext context, Object... optionalArguments) throws TMQLRuntimeException {
 		TopicMap topicMap = context.getQuery().getTopicMap();
-		Set<Association> associations = HashUtil.getHashSet();
+		/*
+		 * the association type, null for all associations
+		 */
+		Topic type = null;
 		/*
 		 * is wildcard as type
 		 */
@@ -88,23 +93,17 @@ public class PredicateInvocationInterpreter extends ExpressionInterpreterImpl<Pr
 			}
 			Object obj = matches.getFirstValue();
 			if (obj instanceof Topic) {
-				TypeInstanceIndex index = topicMap.getIndex(TypeInstanceIndex.class);
-				if (!index.isOpen()) {
-					index.open();
-				}
-				associations.addAll(index.getAssociations((Topic) obj));
+				type = (Topic) obj;
 			} else {
 				throw new TMQLRuntimeException("Invalid result of prepared statement, expects a topic");
 			}
 		}
 		/*
-		 * extract all associations of the specified type
+		 * extract the association type
 		 */
 		else {
 			final String anchor = getTokens().get(0);
-			if (anchor.equals(TmdmSubjectIdentifier.TM_SUBJECT)) {
-				associations.addAll(topicMap.getAssociations());
-			} else {
+			if (!anchor.equals(TmdmSubjectIdentifier.TM_SUBJECT)) {
 				Construct c = runtime.getConstructResolver().getConstructByIdentifier(context, anchor);
 				/*
 				 * association type is unknown
@@ -113,11 +112,7 @@ public class PredicateInvocationInterpreter extends ExpressionInterpreterImpl<Pr
 					logger.warn("Cannot read topic type of assocaition '" + anchor);
 					return QueryMatches.emptyMatches();
 				}
-				TypeInstanceIndex index = topicMap.getIndex(TypeInstanceIndex.class);
-				if (!index.isOpen()) {
-					index.open();
-				}
-				associations.addAll(index.getAssociations((Topic) c));
+				type = (Topic) c;
 			}
 		}
 
@@ -147,145 +142,191 @@ public class PredicateInvocationInterpreter extends ExpressionInterpreterImpl<Pr
 		}
 
 		/*
-		 * extract all satisfying associations
+		 * if any player is known, only the associations played by the player
+		 * with the lowest number of roles can satisfy the predicate
+		 */
+		Topic anchorPlayer = null;
+		for (Restriction restriction : restrictions) {
+			Object player = restriction.getPlayer();
+			if (player instanceof Topic && !TmdmSubjectIdentifier.isTmdmSubject(player)) {
+				if (anchorPlayer == null || ((Topic) player).getRolesPlayed().size() < anchorPlayer.getRolesPlayed().size()) {
+					anchorPlayer = (Topic) player;
+				}
+			}
+		}
+		Collection<Association> associations;
+		if (anchorPlayer != null) {
+			associations = AssociationUtils.getPlayedAssociations(anchorPlayer, type);
+		} else {
+			associations = AssociationUtils.getAssociations(topicMap, type);
+		}
+
+		/*
+		 * extract all satisfying associations, partitioned by the execution
+		 * pool of the runtime
 		 */
-		ThreadPoolExecutor threadPool = (ThreadPoolExecutor) Executors.newFixedThreadPool(4 * Runtime.getRuntime().availableProcessors());
 		final boolean strict = strict_;
 		final QueryMatches matches = new QueryMatches(runtime);
-		for (final Association association : associations) {
-			Thread thread = new Thread() {
-
-				public void run() {
-					/*
-					 * check if predicate is strict
-					 */
-					if (strict && association.getRoles().size() != restrictions.size()) {
-						return;
-					}
-
-					/*
-					 * check if association satisfies all restrictions
-					 */
-					for (Restriction restriction : restrictions) {
-						if (!restriction.satisfy(association)) {
-							return;
-						}
+		final ITMQLRuntime runtime_ = runtime;
+		List<Association> list = new ArrayList<Association>(associations);
+		List<QueryMatches> partitions = runtime.getExecutionPool().execute(context, list, new IPartitionTask<Association, QueryMatches>() {
+			/**
+			 * {@inheritDoc}
+			 */
+			public QueryMatches call(List<Association> partition, int fromIndex) throws TMQLRuntimeException {
+				QueryMatches partitionMatches = new QueryMatches(runtime_);
+				for (Association association : partition) {
+					Set<Map<String, Object>> tuples = toTuples(association, strict, restrictions);
+					if (tuples != null) {
+						partitionMatches.add(tuples);
 					}
+				}
+				return partitionMatches;
+			}
+		});
+		for (QueryMatches partitionMatches : partitions) {
+			if (!partitionMatches.isEmpty()) {
+				matches.add(partitionMatches);
+			}
+		}
+		return matches;
+	}
 
-					/*
-					 * extract bindings
-					 */
-					Map<Restriction, Set<Role>> solutions = HashUtil.getHashMap();
-					for (Restriction restriction : restrictions) {
-						for (Role r : association.getRoles()) {
-							boolean playerIsSubject = TmdmSubjectIdentifier.isTmdmSubject(restriction.getPlayer());
-							boolean roleIsSubject = TmdmSubjectIdentifier.isTmdmSubject(restriction.getRoleType());
-							/*
-							 * check if player is restricted
-							 */
-							if (restriction.getPlayer() instanceof Topic && !playerIsSubject && !r.getPlayer().equals(restriction.getPlayer())) {
-								continue;
-							}
+	/**
+	 * Checks if the given association satisfies all restrictions and returns
+	 * the variable bindings of the association
+	 * 
+	 * @param association
+	 *            the association
+	 * @param strict
+	 *            <code>true</code> if the association must not contain other
+	 *            roles than the restricted ones
+	 * @param restrictions
+	 *            the restrictions
+	 * @return the variable bindings or <code>null</code> if the association
+	 *         does not satisfy
+	 */
+	private Set<Map<String, Object>> toTuples(Association association, boolean strict, Set<Restriction> restrictions) {
+		/*
+		 * check if predicate is strict
+		 */
+		if (strict && association.getRoles().size() != restrictions.size()) {
+			return null;
+		}
 
-							/*
-							 * check if role type is restricted
-							 */
-							if (restriction.getRoleType() instanceof Topic && !roleIsSubject && !r.getType().equals(restriction.getRoleType())) {
-								continue;
-							}
+		/*
+		 * check if association satisfies all restrictions
+		 */
+		for (Restriction restriction : restrictions) {
+			if (!restriction.satisfy(association)) {
+				return null;
+			}
+		}
 
-							Set<Role> set = solutions.get(restriction);
-							if (set == null) {
-								set = HashUtil.getHashSet();
-							}
-							set.add(r);
-							solutions.put(restriction, set);
-						}
-					}
+		/*
+		 * extract bindings
+		 */
+		Map<Restriction, Set<Role>> solutions = HashUtil.getHashMap();
+		for (Restriction restriction : restrictions) {
+			for (Role r : association.getRoles()) {
+				boolean playerIsSubject = TmdmSubjectIdentifier.isTmdmSubject(restriction.getPlayer());
+				boolean roleIsSubject = TmdmSubjectIdentifier.isTmdmSubject(restriction.getRoleType());
+				/*
+				 * check if player is restricted
+				 */
+				if (restriction.getPlayer() instanceof Topic && !playerIsSubject && !r.getPlayer().equals(restriction.getPlayer())) {
+					continue;
+				}
 
-					if (!solutions.isEmpty()) {
-						Map<String, Object> tuple = HashUtil.getHashMap();
-						Set<Role> blockedPlayers = HashUtil.getHashSet(), blockedTypes = HashUtil.getHashSet();
-						Set<Map<String, Object>> tuples = toTuples(association, solutions, tuple, blockedPlayers, blockedTypes);
-						synchronized (matches) {
-							matches.add(tuples);
-						}
-					}
+				/*
+				 * check if role type is restricted
+				 */
+				if (restriction.getRoleType() instanceof Topic && !roleIsSubject && !r.getType().equals(restriction.getRoleType())) {
+					continue;
 				}
 
-				private Set<Map<String, Object>> toTuples(Association association, Map<Restriction, Set<Role>> values, Map<String, Object> tuple, Set<Role> blockedPlayers, Set<Role> blockedTypes) {
-					Set<Map<String, Object>> tuples = HashUtil.getHashSet();
-					Map<Restriction, Set<Role>> values_ = HashUtil.getHashMap(values);
-					Restriction key = values.keySet().iterator().next();
-					values_.remove(key);
-					for (Role role : values.get(key)) {
-						boolean playerIsSubject = TmdmSubjectIdentifier.isTmdmSubject(key.getPlayer());
-						boolean roleIsSubject = TmdmSubjectIdentifier.isTmdmSubject(key.getRoleType());
-						Map<String, Object> tuple_ = HashUtil.getHashMap(tuple);
-						Set<Role> blockedPlayers_ = HashUtil.getHashSet(blockedPlayers);
-						Set<Role> blockedTypes_ = HashUtil.getHashSet(blockedTypes);
-						if (key.getRoleType() instanceof Topic && !roleIsSubject) {
-							if (blockedTypes_.contains(role) || !role.getType().equals(key.getRoleType())) {
-								continue;
-							} else {
-								blockedTypes_.add(role);
-							}
-						} else if (key.getRoleType() instanceof String && !roleIsSubject) {
-							if (blockedTypes_.contains(role)) {
-								continue;
-							}
-							tuple_.put((String) key.getRoleType(), role.getType());
-							blockedTypes_.add(role);
-						}
-						if (key.getPlayer() instanceof Topic && !playerIsSubject) {
-							if (blockedPlayers_.contains(role) || !role.getPlayer().equals(key.getPlayer())) {
-								continue;
-							} else {
-								blockedPlayers_.add(role);
-							}
-						} else if (key.getPlayer() instanceof String && !playerIsSubject) {
-							if (blockedPlayers_.contains(role)) {
-								continue;
-							}
-							tuple_.put((String) key.getPlayer(), role.getPlayer());
-							blockedPlayers_.add(role);
-						}
-						if (values_.isEmpty()) {
-							/*
-							 * add the association also if the parent is not a
-							 * filter
-							 */
-							if (!getExpression().isChildOf(FilterPostfix.class) && getVariables().isEmpty()) {
-								tuple_.put(QueryMatches.getNonScopedVariable(), association);
-							}
-							tuples.add(tuple_);
-						} else {
-							tuples.addAll(toTuples(association, values_, tuple_, blockedPlayers_, blockedTypes_));
-						}
-					}
-					return tuples;
+				Set<Role> set = solutions.get(restriction);
+				if (set == null) {
+					set = HashUtil.getHashSet();
 				}
-			};
-			threadPool.execute(thread);
+				set.add(r);
+				solutions.put(restriction, set);
+			}
 		}
-		try {
-			Thread.sleep(10);
-		} catch (InterruptedException e) {
-			e.printStackTrace();
+
+		if (!solutions.isEmpty()) {
+			Map<String, Object> tuple = HashUtil.getHashMap();
+			Set<Role> blockedPlayers = HashUtil.getHashSet(), blockedTypes = HashUtil.getHashSet();
+			return toTuples(association, solutions, tuple, blockedPlayers, blockedTypes);
 		}
+		return null;
+	}
 
-		/*
-		 * wait until all threads finished
-		 */
-		while (threadPool.getActiveCount() > 0) {
-			try {
-				Thread.sleep(1000);
-			} catch (InterruptedException e) {
-				e.printStackTrace();
+	/**
+	 * Builds the variable bindings of the given association recursively
+	 * 
+	 * @param association
+	 *            the association
+	 * @param values
+	 *            the roles satisfying each restriction
+	 * @param tuple
+	 *            the bindings of the previous restrictions
+	 * @param blockedPlayers
+	 *            the roles already bound by their player
+	 * @param blockedTypes
+	 *            the roles already bound by their type
+	 * @return the variable bindings
+	 */
+	private Set<Map<String, Object>> toTuples(Association association, Map<Restriction, Set<Role>> values, Map<String, Object> tuple, Set<Role> blockedPlayers, Set<Role> blockedTypes) {
+		Set<Map<String, Object>> tuples = HashUtil.getHashSet();
+		Map<Restriction, Set<Role>> values_ = HashUtil.getHashMap(values);
+		Restriction key = values.keySet().iterator().next();
+		values_.remove(key);
+		final boolean playerIsSubject = TmdmSubjectIdentifier.isTmdmSubject(key.getPlayer());
+		final boolean roleIsSubject = TmdmSubjectIdentifier.isTmdmSubject(key.getRoleType());
+		final boolean blockType = !roleIsSubject && (key.getRoleType() instanceof Topic || key.getRoleType() instanceof String);
+		final boolean blockPlayer = !playerIsSubject && (key.getPlayer() instanceof Topic || key.getPlayer() instanceof String);
+		for (Role role : values.get(key)) {
+			/*
+			 * check the role before copying the bindings
+			 */
+			if (blockType && (blockedTypes.contains(role) || (key.getRoleType() instanceof Topic && !role.getType().equals(key.getRoleType())))) {
+				continue;
+			}
+			if (blockPlayer && (blockedPlayers.contains(role) || (key.getPlayer() instanceof Topic && !role.getPlayer().equals(key.getPlayer())))) {
+				continue;
+			}
+			Map<String, Object> tuple_ = HashUtil.getHashMap(tuple);
+			Set<Role> blockedPlayers_ = blockedPlayers;
+			Set<Role> blockedTypes_ = blockedTypes;
+			if (blockType) {
+				blockedTypes_ = HashUtil.getHashSet(blockedTypes);
+				blockedTypes_.add(role);
+				if (key.getRoleType() instanceof String) {
+					tuple_.put((String) key.getRoleType(), role.getType());
+				}
+			}
+			if (blockPlayer) {
+				blockedPlayers_ = HashUtil.getHashSet(blockedPlayers);
+				blockedPlayers_.add(role);
+				if (key.getPlayer() instanceof String) {
+					tuple_.put((String) key.getPlayer(), role.getPlayer());
+				}
+			}
+			if (values_.isEmpty()) {
+				/*
+				 * add the association also if the parent is not a
+				 * filter
+				 */
+				if (!getExpression().isChildOf(FilterPostfix.class) && getVariables().isEmpty()) {
+					tuple_.put(QueryMatches.getNonScopedVariable(), association);
+				}
+				tuples.add(tuple_);
+			} else {
+				tuples.addAll(toTuples(association, values_, tuple_, blockedPlayers_, blockedTypes_));
 			}
 		}
-		threadPool.shutdown();
-		return matches;
+		return tuples;
 	}
 
 }
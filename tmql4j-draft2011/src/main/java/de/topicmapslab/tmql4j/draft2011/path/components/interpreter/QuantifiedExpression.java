@@ -12,29 +12,18 @@ package de.topicmapslab.tmql4j.draft2011.path.components.interpreter;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.UUID;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadPoolExecutor;
 
-import org.tmapi.core.Construct;
 import org.tmapi.core.TopicMap;
 
 import de.topicmapslab.tmql4j.components.interpreter.ExpressionInterpreterImpl;
 import de.topicmapslab.tmql4j.components.processor.core.Context;
 import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.components.processor.core.QueryMatches;
-import de.topicmapslab.tmql4j.components.processor.results.model.IResultSet;
 import de.topicmapslab.tmql4j.components.processor.runtime.ITMQLRuntime;
-import de.topicmapslab.tmql4j.components.processor.runtime.TMQLRuntimeFactory;
-import de.topicmapslab.tmql4j.draft2011.path.grammar.lexical.BracketSquareClose;
-import de.topicmapslab.tmql4j.draft2011.path.grammar.lexical.BracketSquareOpen;
-import de.topicmapslab.tmql4j.draft2011.path.grammar.lexical.Dot;
 import de.topicmapslab.tmql4j.draft2011.path.grammar.productions.BindingSet;
 import de.topicmapslab.tmql4j.draft2011.path.grammar.productions.BooleanExpression;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
 import de.topicmapslab.tmql4j.grammar.productions.IExpression;
-import de.topicmapslab.tmql4j.query.IQuery;
 
 /**
  * 
@@ -48,6 +37,15 @@ import de.topicmapslab.tmql4j.query.IQuery;
  */
 public abstract class QuantifiedExpression<T extends IExpression> extends ExpressionInterpreterImpl<T> {
 
+	/**
+	 * the number of inner bindings checked at first for each outer binding
+	 */
+	private static final int FIRST_CHUNK_SIZE = 8;
+	/**
+	 * the maximum number of inner bindings checked at once
+	 */
+	private static final int MAX_CHUNK_SIZE = 512;
+
 	/**
 	 * base constructor to create a new instance
 	 * 
@@ -106,31 +104,62 @@ public abstract class QuantifiedExpression<T extends IExpression> extends Expres
 	 *            the context of the quantified expression
 	 * @param results
 	 *            the query match to check
+	 * @param amount
+	 *            the numerical restriction of the quantifier
 	 * 
 	 * @return <code>true</code> if it satisfies, <code>false</code> otherwise.
 	 */
-	protected abstract boolean doSatisfy(QueryMatches context, QueryMatches results);
+	protected abstract boolean doSatisfy(QueryMatches context, QueryMatches results, long amount);
 
 	/**
-	 * Method checks if the given results of a sub runtime satisfying the
-	 * restriction of this quantified expression.
-	 * 
-	 * @param runtime
-	 *            the runtime
-	 * @param context
-	 *            the context
-	 * @param results
-	 *            the results to check
+	 * Method checks if the restriction of this quantified expression is
+	 * decided for one outer binding after the given number of its inner
+	 * bindings are checked. The inner bindings are checked in chunks, so the
+	 * evaluation stops as soon as the restriction is decided.
 	 * 
-	 * @return <code>true</code> if it satisfies, <code>false</code> otherwise.
+	 * @param amount
+	 *            the numerical restriction of the quantifier
+	 * @param bindings
+	 *            the number of all inner bindings
+	 * @param checked
+	 *            the number of inner bindings checked so far
+	 * @param satisfying
+	 *            the number of checked inner bindings satisfying the
+	 *            boolean-expression
+	 * @return {@link Boolean#TRUE} or {@link Boolean#FALSE} if the restriction
+	 *         is decided, <code>null</code> if further inner bindings has to
+	 *         be checked. If all inner bindings are checked, the method must
+	 *         not return <code>null</code>.
+	 * @since 3.2.0
 	 */
-	protected abstract boolean doSatisfy(ITMQLRuntime runtime, IContext context, IResultSet<?> results);
+	protected abstract Boolean isSatisfied(long amount, long bindings, long checked, long satisfying);
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@SuppressWarnings("unchecked")
 	public QueryMatches interpret(ITMQLRuntime runtime, IContext context, Object... optionalArguments) throws TMQLRuntimeException {
+		return interpretQuantified(runtime, context, 0);
+	}
+
+	/**
+	 * Interprets the quantified expression with the given numerical
+	 * restriction. The restriction is passed through all checks instead of
+	 * being stored by the interpreter, because the interpreter is shared by
+	 * all concurrent executions of the same parsing-tree.
+	 * 
+	 * @param runtime
+	 *            the runtime
+	 * @param context
+	 *            the querying context
+	 * @param amount
+	 *            the numerical restriction of the quantifier
+	 * @return the result of interpretation
+	 * @throws TMQLRuntimeException
+	 *             thrown if interpretation fails
+	 * @since 3.2.0
+	 */
+	protected QueryMatches interpretQuantified(ITMQLRuntime runtime, IContext context, long amount) throws TMQLRuntimeException {
 		QueryMatches results = new QueryMatches(runtime);
 
 		QueryMatches bindingsContext = getBindingsContext(runtime, context);
@@ -153,7 +182,7 @@ public abstract class QuantifiedExpression<T extends IExpression> extends Expres
 			/*
 			 * check if result satisfies
 			 */
-			if (doSatisfy(bindingSet, matches)) {
+			if (doSatisfy(bindingSet, matches, amount)) {
 				results.add(bindingSet);
 			} else {
 				results.getNegation().add(bindingSet);
@@ -163,152 +192,81 @@ public abstract class QuantifiedExpression<T extends IExpression> extends Expres
 		 * binding-set is dependent from any variable
 		 */
 		else {
-			final String query = buildQuery();
-			results = interpretQuantifiedExpression(runtime, context, bindingsContext, query, false);
+			results = interpretCorrelated(runtime, context, bindingsContext, amount);
 		}
 
 		return results;
 	}
 
 	/**
-	 * Method creates a query representing the quantified expression as
-	 * stand-alone query.
+	 * Special interpretation method of variable dependent quantified
+	 * expression. The already parsed binding-set and boolean-expression are
+	 * evaluated for each outer binding, which is used as current tuple of the
+	 * context.
 	 * 
-	 * @return the generated query
+	 * @param runtime
+	 *            the runtime
+	 * @param context
+	 *            the querying context
+	 * @param bindings
+	 *            the outer variable bindings
+	 * @param amount
+	 *            the numerical restriction of the quantifier
+	 * @return the result of interpretation
 	 * @throws TMQLRuntimeException
 	 *             thrown if interpretation fails
 	 */
-	protected String buildQuery() throws TMQLRuntimeException {
-		/*
-		 * create query string
-		 */
-		final StringBuilder sb = new StringBuilder();
-
-		BindingSet bindingSet = getExpression().getExpressionFilteredByType(BindingSet.class).get(0);
-		final String variable = bindingSet.getVariables().get(0);
-		for (int i = 2; i < bindingSet.getTokens().size(); i++) {
-			sb.append(bindingSet.getTokens().get(i));
-			sb.append(" ");
-		}
-		sb.append(BracketSquareOpen.TOKEN);
-		sb.append(" ");
-		for (String token : getExpression().getExpressionFilteredByType(BooleanExpression.class).get(0).getTokens()) {
-			if (token.equals(variable)) {
-				sb.append(Dot.TOKEN);
+	private QueryMatches interpretCorrelated(ITMQLRuntime runtime, IContext context, QueryMatches bindings, long amount) throws TMQLRuntimeException {
+		final QueryMatches results = new QueryMatches(runtime);
+		for (Map<String, Object> tuple : bindings) {
+			Context newContext = new Context(context);
+			newContext.setCurrentTuple(tuple);
+			newContext.setContextBindings(null);
+			if (isSatisfied(runtime, newContext, amount)) {
+				results.add(tuple);
 			} else {
-				sb.append(token);
+				results.getNegation().add(tuple);
 			}
-			sb.append(" ");
 		}
-		sb.append(" ");
-		sb.append(BracketSquareClose.TOKEN);
-		return sb.toString();
+		return results;
 	}
 
 	/**
-	 * Special interpretation method of variable dependent quantified
-	 * expression.
+	 * Checks the restriction of this quantified expression for the current
+	 * tuple of the given context. The inner bindings are extracted by the
+	 * binding-set and contain the current tuple. They are passed to the
+	 * boolean-expression in chunks of growing size, until the restriction is
+	 * decided.
 	 * 
-	 * @param parent
-	 *            the parent runtime
+	 * @param runtime
+	 *            the runtime
 	 * @param context
-	 *            the querying context
-	 * @param bindings
-	 *            the possible variable bindings
-	 * @param multiThreaded
-	 *            <code>true</code> if each binding should be executed by its
-	 *            own thread
-	 * @return the result of interpretation
+	 *            the context containing the outer binding as current tuple
+	 * @param amount
+	 *            the numerical restriction of the quantifier
+	 * @return <code>true</code> if it satisfies, <code>false</code> otherwise.
 	 * @throws TMQLRuntimeException
-	 *             thrown if at least one runtime fails
+	 *             thrown if interpretation fails
 	 */
-	private QueryMatches interpretQuantifiedExpression(final ITMQLRuntime parent, final IContext context, final QueryMatches bindings, final String query, final boolean multiThreaded)
-			throws TMQLRuntimeException {
-		final QueryMatches results = new QueryMatches(parent);
-
-		/*
-		 * create thread-group
-		 */
-		ThreadGroup group = new ThreadGroup("tmql4j-internal-" + UUID.randomUUID());
-		/*
-		 * set of all running threads
-		 */
-		ThreadPoolExecutor threadPool = (ThreadPoolExecutor) Executors.newFixedThreadPool(4 * Runtime.getRuntime().availableProcessors());
-		/*
-		 * iterate over all bindings
-		 */
-		for (final Map<String, Object> tuple : bindings) {
-			/*
-			 * create thread
-			 */
-			Thread thread = new Thread(group, "tmql4j-" + UUID.randomUUID()) {
-				public void run() {
-					try {
-
-						/*
-						 * create new embed runtime
-						 */
-						ITMQLRuntime runtime = TMQLRuntimeFactory.newFactory().newRuntime(parent.getTopicMapSystem());
-
-						/*
-						 * copy prefixes
-						 */
-						for (Entry<String, String> entry : parent.getLanguageContext().getPrefixHandler().getPrefixMap().entrySet()) {
-							runtime.getLanguageContext().getPrefixHandler().registerPrefix(entry.getKey(), entry.getValue());
-						}
-
-						String query_ = new String(query);
-						for (Entry<String, Object> entry : tuple.entrySet()) {
-							final String variable = "\\" + entry.getKey();
-							final String value;
-							if (entry.getValue() instanceof Construct) {
-								value = " \"" + ((Construct) entry.getValue()).getId() + "\" << id";
-							} else {
-								value = "\"" + entry.getValue().toString() + "\"";
-							}
-							query_ = query_.replaceAll(variable, value);
-
-						}
-
-						IQuery q = runtime.run(context.getQuery().getTopicMap(), query_);
-						IResultSet<?> set = q.getResults();
-
-						/*
-						 * satisfy?
-						 */
-						synchronized (results) {
-							Context newContext = new Context(context);
-							newContext.setCurrentTuple(tuple);
-							newContext.setContextBindings(null);
-							if (doSatisfy(parent, newContext, set)) {
-								results.add(tuple);
-							} else {
-								results.getNegation().add(tuple);
-							}
-						}
-					} catch (TMQLRuntimeException ex) {
-						ex.printStackTrace();
-					}
-				}
-			};
+	private boolean isSatisfied(ITMQLRuntime runtime, IContext context, long amount) throws TMQLRuntimeException {
+		QueryMatches bindingSet = extractArguments(runtime, BindingSet.class, 0, context);
+		final int size = bindingSet.size();
+		int checked = 0;
+		long satisfying = 0;
+		int chunk = FIRST_CHUNK_SIZE;
+		Boolean satisfied = isSatisfied(amount, size, checked, satisfying);
+		while (satisfied == null) {
+			int to = Math.min(size, checked + chunk);
+			Context newContext = new Context(context);
+			newContext.setContextBindings(bindingSet.select(checked, to));
 			/*
-			 * run thread
+			 * run boolean-expression
 			 */
-			if (multiThreaded) {
-				threadPool.execute(thread);
-			} else {
-				thread.run();
-			}
-
-		}
-
-		if (multiThreaded) {
-			while (threadPool.getActiveCount() > 0) {
-				// WAIT
-			}
-			threadPool.shutdown();
+			satisfying += extractArguments(runtime, BooleanExpression.class, 0, newContext).size();
+			checked = to;
+			chunk = Math.min(chunk * 2, MAX_CHUNK_SIZE);
+			satisfied = isSatisfied(amount, size, checked, satisfying);
 		}
-
-		return results;
+		return satisfied;
 	}
 }
@@ -12,7 +12,6 @@ import java.util.Collection;
 import java.util.LinkedList;
 
 import org.tmapi.core.Topic;
-import org.tmapi.index.TypeInstanceIndex;
 
 import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.draft2011.path.components.navigation.Axis;
@@ -43,7 +42,6 @@ public class InstancesAxis extends Axis {
 	/**
 	 * {@inheritDoc}
 	 */
-	@SuppressWarnings("unchecked")
 	@Override
 	public Collection<?> navigate(IContext context, Object source, Topic type) throws TMQLRuntimeException {
 		/*
@@ -71,19 +69,7 @@ public class InstancesAxis extends Axis {
 		/*
 		 * get instances by index
 		 */
-		TypeInstanceIndex index = context.getQuery().getTopicMap().getIndex(TypeInstanceIndex.class);
-		if (!index.isOpen()) {
-			index.open();
-		}
-		set.addAll(index.getTopics(topic));
-
-		if (context.isTransitive()) {
-			SubtypesAxis axis = new SubtypesAxis();
-			Collection<Topic> subtypes = (Collection<Topic>) axis.navigate(context, topic, null);
-			for (Topic subtype : subtypes) {
-				set.addAll(index.getTopics(subtype));
-			}
-		}
+		set.addAll(context.getTypeHierarchy().getInstances(topic, context.isTransitive()));
 
 		return set;
 	}
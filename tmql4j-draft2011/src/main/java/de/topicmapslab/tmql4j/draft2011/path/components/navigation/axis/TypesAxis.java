@@ -42,38 +42,31 @@ public class TypesAxis extends Axis {
 	/**
 	 * {@inheritDoc}
 	 */
-	@SuppressWarnings("unchecked")
 	@Override
 	public Collection<?> navigate(IContext context, Object source, Topic type) throws TMQLRuntimeException {
 		/*
 		 * create new instance of tuple-sequence
 		 */
-		Collection<Topic> topics = HashUtil.getHashSet();
+		Collection<Topic> set = HashUtil.getHashSet();
 		/*
 		 * check if construct is a topic
 		 */
 		if (source instanceof Topic) {
-			topics.addAll(((Topic) source).getTypes());
+			set.addAll(context.getTypeHierarchy().getTypes((Topic) source, context.isTransitive()));
 		}
 		/*
 		 * check if construct is a name, occurrence or association
 		 */
 		else if (source instanceof Typed) {
-			topics.add(((Typed) source).getType());
+			Topic t = ((Typed) source).getType();
+			set.add(t);
+			if (context.isTransitive()) {
+				set.addAll(context.getTypeHierarchy().getSupertypes(t, true));
+			}
 		} else {
 			throw new InvalidValueException();
 		}
 
-		Collection<Topic> set = HashUtil.getHashSet();
-		set.addAll(topics);
-
-		if (context.isTransitive()) {
-			SupertypesAxis axis = new SupertypesAxis();
-			for (Topic t : topics) {
-				set.addAll((Collection<Topic>) axis.navigate(context, t, null));
-			}
-		}
-
 		return set;
 
 	}
@@ -32,7 +32,6 @@ public class TmqlProcessor2011 extends TmqlProcessorImpl {
 	 */
 	public TmqlProcessor2011(ITMQLRuntime runtime) {
 		super(runtime);
-		getResultProcessor();
 	}
 
 	/**
@@ -36,6 +36,25 @@ public class PreparedStatement2011 extends PreparedStatement {
 		super(runtime, query, tree);
 	}
 
+	/**
+	 * constructor of a binding
+	 * 
+	 * @param statement
+	 *            the prepared statement
+	 * @since 3.2.0
+	 */
+	protected PreparedStatement2011(PreparedStatement2011 statement) {
+		super(statement);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected PreparedStatement createBinding() {
+		return new PreparedStatement2011(this);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -85,9 +85,13 @@ public class TmqlRuntime2011 extends TmqlRuntimeImpl {
 		if (query.getTopicMap() == null) {
 			throw new TMQLRuntimeException("Topic map not set to query instance!");
 		}
-		if (!query.getQueryString().isEmpty()) {
-			ITmqlProcessor processor = createTmqlProcessor();
-			IResultSet<?> results = processor.query(query, stream);
+		/*
+		 * preprocess the query and get its parser tree of the cache or parse it
+		 */
+		IParserTree tree = getQueryPlanCache().getParserTree(query);
+		if (tree != null) {
+			ITmqlProcessor processor = getTmqlProcessor();
+			IResultSet<?> results = processor.query(query, tree, stream);
 			query.setResults(results);
 		} else {
 			query.setResults(ResultSet.emptyResultSet());
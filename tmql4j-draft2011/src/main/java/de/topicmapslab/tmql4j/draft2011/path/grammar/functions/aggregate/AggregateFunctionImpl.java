@@ -12,7 +12,9 @@ import java.util.Collection;
 import java.util.List;
 
 import de.topicmapslab.tmql4j.components.interpreter.IExpressionInterpreter;
+import de.topicmapslab.tmql4j.components.processor.core.Aggregation;
 import de.topicmapslab.tmql4j.components.processor.core.Context;
+import de.topicmapslab.tmql4j.components.processor.core.IAggregator;
 import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.components.processor.core.QueryMatches;
 import de.topicmapslab.tmql4j.components.processor.runtime.ITMQLRuntime;
@@ -60,13 +62,13 @@ public abstract class AggregateFunctionImpl extends FunctionImpl {
 			/*
 			 * call first expression to get context of count
 			 */
-			interpreter = runtime.getLanguageContext().getInterpreterRegistry().interpreterInstance(tupleExpression.getExpressions().get(0));
+			interpreter = tupleExpression.getExpressions().get(0).getInterpreter(runtime);
 			QueryMatches matches = interpreter.interpret(runtime, context);
 			nodes = matches.getPossibleValuesForVariable();
 			/*
 			 * get values to aggregate
 			 */
-			interpreter = runtime.getLanguageContext().getInterpreterRegistry().interpreterInstance(tupleExpression.getExpressions().get(1));
+			interpreter = tupleExpression.getExpressions().get(1).getInterpreter(runtime);
 		}
 		/*
 		 * parameters given as parameters-pair
@@ -75,13 +77,13 @@ public abstract class AggregateFunctionImpl extends FunctionImpl {
 			/*
 			 * call first expression to get context of count
 			 */
-			interpreter = runtime.getLanguageContext().getInterpreterRegistry().interpreterInstance(parameters.getExpressions().get(0));
+			interpreter = parameters.getExpressions().get(0).getInterpreter(runtime);
 			QueryMatches matches = interpreter.interpret(runtime, context);
 			nodes = matches.getPossibleValuesForVariable();
 			/*
 			 * get values to aggregate
 			 */
-			interpreter = runtime.getLanguageContext().getInterpreterRegistry().interpreterInstance(parameters.getExpressions().get(1));
+			interpreter = parameters.getExpressions().get(1).getInterpreter(runtime);
 		}
 
 		/*
@@ -90,10 +92,29 @@ public abstract class AggregateFunctionImpl extends FunctionImpl {
 		Context newContext = new Context(context);
 //		newContext.setCurrentTuple(null);
 //		newContext.setContextBindings(null);
+		Aggregation aggregation = getAggregation();
+		IAggregator aggregator = aggregation == null ? null : aggregation.createAggregator();
+		boolean empty = true;
 		for (Object node : nodes) {
 			newContext.setCurrentNode(node);
 			QueryMatches results = interpreter.interpret(runtime, newContext);
-			values.addAll(results.getPossibleValuesForVariable());
+			/*
+			 * feed the aggregation incrementally if possible
+			 */
+			if (aggregator != null) {
+				for (Object value : results.getPossibleValuesForVariable()) {
+					aggregator.add(value);
+					empty = false;
+				}
+			} else {
+				values.addAll(results.getPossibleValuesForVariable());
+			}
+		}
+		if (aggregator != null) {
+			if (empty) {
+				return QueryMatches.emptyMatches();
+			}
+			return QueryMatches.asQueryMatchNS(runtime, aggregator.getResult());
 		}
 		if ( values.isEmpty()){
 			return QueryMatches.emptyMatches();
@@ -101,6 +122,19 @@ public abstract class AggregateFunctionImpl extends FunctionImpl {
 		return doAggregation(runtime, newContext, values);
 	}
 
+	/**
+	 * Returns the aggregation consuming the values incrementally. If the
+	 * function returns an aggregation, the values are not collected and
+	 * {@link #doAggregation(ITMQLRuntime, IContext, List)} is not called.
+	 * 
+	 * @return the aggregation or <code>null</code> if the function needs all
+	 *         values at once
+	 * @since 3.2.0
+	 */
+	protected Aggregation getAggregation() {
+		return null;
+	}
+
 	/**
 	 * Method called to handle the real aggregation after getting the values
 	 * 
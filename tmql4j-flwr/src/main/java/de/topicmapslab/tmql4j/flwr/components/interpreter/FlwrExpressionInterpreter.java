@@ -16,9 +16,11 @@ import java.util.Map.Entry;
 
 import de.topicmapslab.tmql4j.components.interpreter.ExpressionInterpreterImpl;
 import de.topicmapslab.tmql4j.components.interpreter.IExpressionInterpreter;
+import de.topicmapslab.tmql4j.components.processor.core.ColumnIndex;
 import de.topicmapslab.tmql4j.components.processor.core.Context;
 import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.components.processor.core.QueryMatches;
+import de.topicmapslab.tmql4j.components.processor.results.model.IResultStream;
 import de.topicmapslab.tmql4j.components.processor.runtime.ITMQLRuntime;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
 import de.topicmapslab.tmql4j.flwr.grammar.productions.FlwrExpression;
@@ -26,8 +28,11 @@ import de.topicmapslab.tmql4j.flwr.grammar.productions.ForClause;
 import de.topicmapslab.tmql4j.flwr.grammar.productions.GroupByClause;
 import de.topicmapslab.tmql4j.flwr.grammar.productions.LimitClause;
 import de.topicmapslab.tmql4j.flwr.grammar.productions.OffsetClause;
+import de.topicmapslab.tmql4j.flwr.grammar.productions.QueryExpression;
 import de.topicmapslab.tmql4j.flwr.grammar.productions.ReturnClause;
 import de.topicmapslab.tmql4j.flwr.grammar.productions.WhereClause;
+import de.topicmapslab.tmql4j.grammar.productions.IExpression;
+import de.topicmapslab.tmql4j.path.components.interpreter.OrderByClauseInterpreter;
 import de.topicmapslab.tmql4j.path.components.parser.ParserUtils;
 import de.topicmapslab.tmql4j.path.grammar.lexical.Unique;
 import de.topicmapslab.tmql4j.path.grammar.productions.OrderByClause;
@@ -84,24 +89,6 @@ public class FlwrExpressionInterpreter extends ExpressionInterpreterImpl<FlwrExp
 			}
 		}
 
-		/*
-		 * check if order-by clause exists and any variable is contained
-		 */
-		if (containsExpressionsType(OrderByClause.class)) {
-			QueryMatches results = interpreteOrderByClause(runtime, newContext, optionalArguments);
-			newContext.setContextBindings(results);
-			if (results.isEmpty()) {
-				return QueryMatches.emptyMatches();
-			}
-		}
-		/*
-		 * execute return clause
-		 */
-		QueryMatches matches = interpretReturnClause(runtime, newContext, optionalArguments);
-		if (matches.isEmpty()) {
-			return QueryMatches.emptyMatches();
-		}
-
 		/*
 		 * get limit value of limit-clause if exists
 		 */
@@ -118,6 +105,65 @@ public class FlwrExpressionInterpreter extends ExpressionInterpreterImpl<FlwrExp
 			offset = interpretOffsetClause(runtime, newContext, optionalArguments);
 		}
 
+		/*
+		 * number of results after that the evaluation can stop
+		 */
+		final long maximum = getMaximumNumberOfResults(limit, offset);
+
+		/*
+		 * emit the results to the cursor consuming the query results
+		 */
+		IResultStream stream = getResultStream(runtime, context, limit, maximum);
+		if (stream != null) {
+			if (containsExpressionsType(OrderByClause.class)) {
+				QueryMatches results = interpreteOrderByClause(runtime, newContext, -1, optionalArguments);
+				if (results.isEmpty()) {
+					return QueryMatches.emptyMatches();
+				}
+				newContext.setContextBindings(results);
+			}
+			if (!hasEmptyForClauseBindings(runtime, newContext)) {
+				IExpressionInterpreter<ReturnClause> returnClauseInterpreter = getInterpretersFilteredByEypressionType(runtime, ReturnClause.class).get(0);
+				((ReturnClauseInterpreter) returnClauseInterpreter).interpretToStream(runtime, newContext, Math.max(offset, 0), limit, stream, optionalArguments);
+			}
+			return QueryMatches.emptyMatches();
+		}
+
+		QueryMatches matches;
+		/*
+		 * check if order-by clause exists and any variable is contained
+		 */
+		if (containsExpressionsType(OrderByClause.class)) {
+			QueryMatches bindings = newContext.getContextBindings();
+			QueryMatches results = interpreteOrderByClause(runtime, newContext, maximum, optionalArguments);
+			if (results.isEmpty()) {
+				return QueryMatches.emptyMatches();
+			}
+			newContext.setContextBindings(results);
+			/*
+			 * execute return clause
+			 */
+			matches = interpretReturnClause(runtime, newContext, maximum, optionalArguments);
+			/*
+			 * the first ordered bindings do not produce enough results, so all
+			 * bindings has to be ordered
+			 */
+			if (maximum != -1 && matches.size() < maximum && results.size() < bindings.size()) {
+				newContext.setContextBindings(bindings);
+				results = interpreteOrderByClause(runtime, newContext, -1, optionalArguments);
+				newContext.setContextBindings(results);
+				matches = interpretReturnClause(runtime, newContext, maximum, optionalArguments);
+			}
+		} else {
+			/*
+			 * execute return clause
+			 */
+			matches = interpretReturnClause(runtime, newContext, maximum, optionalArguments);
+		}
+		if (matches.isEmpty()) {
+			return QueryMatches.emptyMatches();
+		}
+
 		/*
 		 * check if group-by clause exists
 		 */
@@ -151,13 +197,15 @@ public class FlwrExpressionInterpreter extends ExpressionInterpreterImpl<FlwrExp
 	 *            the runtime which contains all necessary information for querying process
 	 * @param context
 	 *            the current querying context
+	 * @param maximum
+	 *            the number of first bindings which are needed or <code>-1</code> if all bindings are needed
 	 * @param optionalArguments
 	 *            optional arguments
 	 * @return the query matches containing the results of the interpretation of the sub-expression
 	 * @throws TMQLRuntimeException
 	 *             thrown if interpretation fails
 	 */
-	private QueryMatches interpreteOrderByClause(ITMQLRuntime runtime, IContext context, Object... optionalArguments) throws TMQLRuntimeException {
+	private QueryMatches interpreteOrderByClause(ITMQLRuntime runtime, IContext context, long maximum, Object... optionalArguments) throws TMQLRuntimeException {
 		/*
 		 * check if order-by clause exists and any variable is contained
 		 */
@@ -170,6 +218,9 @@ public class FlwrExpressionInterpreter extends ExpressionInterpreterImpl<FlwrExp
 			/*
 			 * call order-by-clause
 			 */
+			if (maximum != -1 && orderByClause instanceof OrderByClauseInterpreter) {
+				return ((OrderByClauseInterpreter) orderByClause).interpretFirst(runtime, context, maximum, optionalArguments);
+			}
 			return orderByClause.interpret(runtime, context, optionalArguments);
 		}
 		return QueryMatches.emptyMatches();
@@ -187,13 +238,15 @@ public class FlwrExpressionInterpreter extends ExpressionInterpreterImpl<FlwrExp
 	 *            the runtime which contains all necessary information for querying process
 	 * @param context
 	 *            the current querying context
+	 * @param maximum
+	 *            the number of results after which the evaluation may stop or <code>-1</code>
 	 * @param optionalArguments
 	 *            optional arguments
 	 * @return the query matches containing the results of the interpretation of the sub-expression
 	 * @throws TMQLRuntimeException
 	 *             thrown if interpretation fails
 	 */
-	private QueryMatches interpretReturnClause(ITMQLRuntime runtime, IContext context, Object... optionalArguments) throws TMQLRuntimeException {
+	private QueryMatches interpretReturnClause(ITMQLRuntime runtime, IContext context, long maximum, Object... optionalArguments) throws TMQLRuntimeException {
 		/*
 		 * only one select clause has to be contained
 		 */
@@ -209,16 +262,76 @@ public class FlwrExpressionInterpreter extends ExpressionInterpreterImpl<FlwrExp
 		/*
 		 * check if return-clause is dependent from variables and results is not empty
 		 */
+		if (hasEmptyForClauseBindings(runtime, context)) {
+			return QueryMatches.emptyMatches();
+		}
+		/*
+		 * call sub expression
+		 */
+		if (maximum != -1 && returnClauseInterpreter instanceof ReturnClauseInterpreter) {
+			return ((ReturnClauseInterpreter) returnClauseInterpreter).interpretAtMost(runtime, context, maximum, optionalArguments);
+		}
+		return returnClauseInterpreter.interpret(runtime, context, optionalArguments);
+	}
+
+	/**
+	 * Checks if any variable of the for-clauses is not bound by the bindings of the given context
+	 * 
+	 * @param runtime
+	 *            the TMQL4J runtime
+	 * @param context
+	 *            the current querying context
+	 * @return <code>true</code> if the bindings of at least one variable are empty
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean hasEmptyForClauseBindings(ITMQLRuntime runtime, IContext context) {
 		for (IExpressionInterpreter<ForClause> interpreter : getInterpretersFilteredByEypressionType(runtime, ForClause.class)) {
 			if (context.getContextBindings().getPossibleValuesForVariable(interpreter.getTokens().get(1)).isEmpty()) {
-				return QueryMatches.emptyMatches();
+				return true;
 			}
+		}
+		return false;
+	}
 
+	/**
+	 * Returns the stream consuming the results of the query if the results of this expression can be emitted to the
+	 * stream. This is the case if the expression is the top-level expression of the query and the results are not
+	 * modified after the interpretation of the return-clause, i.e. the expression does not contain a group-by-clause or
+	 * the unique keyword. If the results are ordered and limited, the top-k ordering is used instead.
+	 * 
+	 * @param runtime
+	 *            the TMQL4J runtime
+	 * @param context
+	 *            the current querying context
+	 * @param limit
+	 *            the limit value defined by limit-clause
+	 * @param maximum
+	 *            the number of results needed or <code>-1</code>
+	 * @return the result stream or <code>null</code>
+	 */
+	private IResultStream getResultStream(ITMQLRuntime runtime, IContext context, long limit, long maximum) {
+		IResultStream stream = context.getResultStream();
+		if (stream == null || (limit != -1 && limit <= 0) || containsExpressionsType(GroupByClause.class)
+				|| ParserUtils.containsTokens(getTmqlTokens(), Unique.class)) {
+			return null;
+		}
+		if (maximum != -1 && containsExpressionsType(OrderByClause.class)) {
+			return null;
 		}
 		/*
-		 * call sub expression
+		 * the expression has to be a child of the query expressions only
 		 */
-		return returnClauseInterpreter.interpret(runtime, context, optionalArguments);
+		IExpression parent = getExpression().getParent();
+		while (parent != null) {
+			if (!(parent instanceof QueryExpression || parent instanceof de.topicmapslab.tmql4j.path.grammar.productions.QueryExpression)) {
+				return null;
+			}
+			parent = parent.getParent();
+		}
+		if (!(getInterpretersFilteredByEypressionType(runtime, ReturnClause.class).get(0) instanceof ReturnClauseInterpreter)) {
+			return null;
+		}
+		return stream;
 	}
 
 	/**
@@ -256,6 +369,10 @@ public class FlwrExpressionInterpreter extends ExpressionInterpreterImpl<FlwrExp
 		if (!matches.isEmpty()) {
 			if (context.getContextBindings() != null) {
 				QueryMatches results = new QueryMatches(runtime);
+				/*
+				 * index the for-clauses-bindings once
+				 */
+				ColumnIndex index = new ColumnIndex(context.getContextBindings());
 				/*
 				 * iterate over tuples
 				 */
@@ -268,8 +385,8 @@ public class FlwrExpressionInterpreter extends ExpressionInterpreterImpl<FlwrExp
 						/*
 						 * check if possible bindings of the where-clause are contained by the for-clauses-bindings
 						 */
-						if (context.getContextBindings().getOrderedKeys().contains(entry.getKey())) {
-							satisfy = context.getContextBindings().getPossibleValuesForVariable(entry.getKey()).contains(entry.getValue());
+						if (index.isBound(entry.getKey())) {
+							satisfy = index.contains(entry.getKey(), entry.getValue());
 						}
 						if (!satisfy) {
 							break;
@@ -350,6 +467,23 @@ public class FlwrExpressionInterpreter extends ExpressionInterpreterImpl<FlwrExp
 		return limit.longValue();
 	}
 
+	/**
+	 * Internal method to calculate the number of results which are needed to fill the selection window. The
+	 * evaluation can only stop early if the results are not modified by any group-by-clause or the unique keyword.
+	 * 
+	 * @param limit
+	 *            the limit value defined by limit-clause
+	 * @param offset
+	 *            the offset value defined by offset-clause
+	 * @return the number of results needed or <code>-1</code> if all results are needed
+	 */
+	private long getMaximumNumberOfResults(long limit, long offset) {
+		if (limit <= 0 || containsExpressionsType(GroupByClause.class) || ParserUtils.containsTokens(getTmqlTokens(), Unique.class)) {
+			return -1;
+		}
+		return Math.max(offset, 0) + limit;
+	}
+
 	/**
 	 * Internal method to extract the selection window from the over all results defined by the limit- and
 	 * offset-clause.
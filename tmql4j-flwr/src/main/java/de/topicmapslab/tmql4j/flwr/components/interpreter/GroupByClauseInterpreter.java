@@ -52,7 +52,7 @@ public class GroupByClauseInterpreter extends ExpressionInterpreterImpl<GroupByC
 		/*
 		 * disable auto reduction
 		 */
-		context.getTmqlProcessor().getResultProcessor().setAutoReduction(false);
+		context.getResultProcessor().setAutoReduction(false);
 		/*
 		 * call group by of query matches
 		 */
@@ -10,20 +10,19 @@
  */
 package de.topicmapslab.tmql4j.flwr.components.interpreter;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.ThreadPoolExecutor;
 
 import de.topicmapslab.tmql4j.components.interpreter.ExpressionInterpreterImpl;
 import de.topicmapslab.tmql4j.components.interpreter.IExpressionInterpreter;
 import de.topicmapslab.tmql4j.components.processor.core.Context;
 import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.components.processor.core.QueryMatches;
+import de.topicmapslab.tmql4j.components.processor.results.model.IResultStream;
+import de.topicmapslab.tmql4j.components.processor.runtime.ExecutionPool;
+import de.topicmapslab.tmql4j.components.processor.runtime.IPartitionTask;
 import de.topicmapslab.tmql4j.components.processor.runtime.ITMQLRuntime;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
 import de.topicmapslab.tmql4j.flwr.grammar.productions.ReturnClause;
@@ -63,8 +62,35 @@ public class ReturnClauseInterpreter extends ExpressionInterpreterImpl<ReturnCla
 	/**
 	 * {@inheritDoc}
 	 */
-	@SuppressWarnings("unchecked")
 	public QueryMatches interpret(final ITMQLRuntime runtime, final IContext context, final Object... optionalArguments) throws TMQLRuntimeException {
+		return interpretAtMost(runtime, context, -1, optionalArguments);
+	}
+
+	/**
+	 * Interprets the return-clause for the bindings of the given context, but
+	 * stops the evaluation of further bindings as soon as the given number of
+	 * results is reached. The bindings are processed in the order of the
+	 * context bindings, so the returned results are the first results of the
+	 * unbounded interpretation.
+	 * 
+	 * @param runtime
+	 *            the TMQL4J runtime
+	 * @param context
+	 *            the current querying context
+	 * @param maximum
+	 *            the number of results after which the evaluation may stop or
+	 *            <code>-1</code> if all bindings has to be evaluated
+	 * @param optionalArguments
+	 *            optional arguments
+	 * @return the results of the return-clause, containing at least the given
+	 *         number of tuples if there are enough results
+	 * @throws TMQLRuntimeException
+	 *             thrown if interpretation fails
+	 * @since 3.2.0
+	 */
+	@SuppressWarnings("unchecked")
+	public QueryMatches interpretAtMost(final ITMQLRuntime runtime, final IContext context, final long maximum, final Object... optionalArguments)
+			throws TMQLRuntimeException {
 		/*
 		 * get content-interpreter
 		 */
@@ -77,63 +103,18 @@ public class ReturnClauseInterpreter extends ExpressionInterpreterImpl<ReturnCla
 		if (context.getContextBindings() != null) {
 			results = new QueryMatches(runtime);
 			int index = 0;
-			List<Future<QueryMatches>> list = new LinkedList<Future<QueryMatches>>();
-			ThreadPoolExecutor threadPool = (ThreadPoolExecutor) Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 4);
-			/*
-			 * iterate over all tuples
-			 */
-			for (final Map<String, Object> tuple : context.getContextBindings()) {
-				final int index_ = index;
-				Callable<QueryMatches> callable = new Callable<QueryMatches>() {
-
-					/**
-					 * {@inheritDoc}
-					 */
-					public QueryMatches call() throws Exception {
-						Context newContext = new Context(context);
-						/*
-						 * get value of content
-						 */
-						String variable = QueryMatches.getNonScopedVariable();
-						if (!interpreter.getVariables().isEmpty()) {
-							variable = interpreter.getVariables().get(0);
-						}
-						Object match = tuple.get(variable);
-
-						newContext.setContextBindings(null);
-						newContext.setCurrentTuple(tuple);
-						newContext.setCurrentNode(match);
-						newContext.setCurrentIndexInSequence(index_);
-						/*
-						 * call sub-expression
-						 */
-						QueryMatches matches = interpreter.interpret(runtime, newContext, optionalArguments);
-						return matches;
-					}
-				};
-				index++;
-				list.add(threadPool.submit(callable));
+			final ExecutionPool pool = runtime.getExecutionPool();
+			Iterator<Map<String, Object>> iterator = context.getContextBindings().iterator();
+			while (iterator.hasNext() && (maximum == -1 || results.size() < maximum)) {
+				/*
+				 * interpret the next chunk of tuples, which is the whole
+				 * sequence if the evaluation is unbounded
+				 */
+				long chunk = maximum == -1 ? Long.MAX_VALUE : Math.max(maximum - results.size(), pool.getParallelism());
+				List<Map<String, Object>> tuples = next(iterator, chunk);
+				interpret(runtime, context, interpreter, tuples, index, results, optionalArguments);
+				index += tuples.size();
 			}
-
-			threadPool.shutdown();
-			/*
-			 * catch results
-			 */
-			for (Future<QueryMatches> future : list) {
-				try {
-					QueryMatches matches = future.get();
-					if (matches.isEmpty()) {
-						continue;
-					}
-					results.add(matches);
-				} catch (InterruptedException e) {
-					throw new TMQLRuntimeException(e);
-				} catch (ExecutionException e) {
-					throw new TMQLRuntimeException(e);
-				}
-
-			}
-
 		}
 		/*
 		 * no context given by FLWR-expression
@@ -150,6 +131,153 @@ public class ReturnClauseInterpreter extends ExpressionInterpreterImpl<ReturnCla
 		return clean(results);
 	}
 
+	/**
+	 * Interprets the return-clause for the bindings of the given context and
+	 * emits the results of the selection window in chunks to the given result
+	 * stream. The evaluation stops as soon as the selection window is filled
+	 * or the stream is closed.
+	 * 
+	 * @param runtime
+	 *            the TMQL4J runtime
+	 * @param context
+	 *            the current querying context
+	 * @param offset
+	 *            the number of results to skip
+	 * @param limit
+	 *            the number of results to emit or <code>-1</code> if all
+	 *            results has to be emitted
+	 * @param stream
+	 *            the result stream
+	 * @param optionalArguments
+	 *            optional arguments
+	 * @throws TMQLRuntimeException
+	 *             thrown if interpretation fails
+	 * @since 3.2.0
+	 */
+	public void interpretToStream(final ITMQLRuntime runtime, final IContext context, final long offset, final long limit, final IResultStream stream,
+			final Object... optionalArguments) throws TMQLRuntimeException {
+		final IExpressionInterpreter<?> interpreter = getInterpreters(runtime).get(0);
+		/*
+		 * no context given by FLWR-expression
+		 */
+		if (context.getContextBindings() == null) {
+			QueryMatches results = interpreter.interpret(runtime, context, optionalArguments);
+			if (!results.isEmpty()) {
+				results = clean(results);
+				stream.emit(context, results.select(offset, limit == -1 ? results.size() : offset + limit));
+			}
+			return;
+		}
+		long skip = offset;
+		long remaining = limit;
+		int index = 0;
+		/*
+		 * each chunk is large enough to use all workers of the pool
+		 */
+		final ExecutionPool pool = runtime.getExecutionPool();
+		final long chunk = (long) pool.getParallelism() * pool.getThreshold();
+		Iterator<Map<String, Object>> iterator = context.getContextBindings().iterator();
+		while (iterator.hasNext() && remaining != 0 && !stream.isClosed()) {
+			List<Map<String, Object>> tuples = next(iterator, chunk);
+			QueryMatches results = new QueryMatches(runtime);
+			interpret(runtime, context, interpreter, tuples, index, results, optionalArguments);
+			index += tuples.size();
+			if (results.isEmpty()) {
+				continue;
+			}
+			results = clean(results);
+			/*
+			 * extract the part of the selection window
+			 */
+			long from = Math.min(skip, results.size());
+			skip -= from;
+			long to = remaining == -1 ? results.size() : Math.min(results.size(), from + remaining);
+			if (to > from) {
+				stream.emit(context, results.select(from, to));
+				if (remaining != -1) {
+					remaining -= to - from;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the next bindings of the given iterator
+	 * 
+	 * @param iterator
+	 *            the iterator of the bindings
+	 * @param chunk
+	 *            the maximum number of bindings
+	 * @return the bindings
+	 */
+	private List<Map<String, Object>> next(Iterator<Map<String, Object>> iterator, long chunk) {
+		List<Map<String, Object>> tuples = new ArrayList<Map<String, Object>>((int) Math.min(chunk, 1024));
+		for (; chunk > 0 && iterator.hasNext(); chunk--) {
+			tuples.add(iterator.next());
+		}
+		return tuples;
+	}
+
+	/**
+	 * Interprets the content for the given bindings by the execution pool of
+	 * the runtime and adds the results to the given matches in the order of
+	 * the bindings
+	 * 
+	 * @param runtime
+	 *            the TMQL4J runtime
+	 * @param context
+	 *            the current querying context
+	 * @param interpreter
+	 *            the interpreter of the content
+	 * @param tuples
+	 *            the bindings
+	 * @param firstIndex
+	 *            the index of the first binding
+	 * @param results
+	 *            the matches to add the results to
+	 * @param optionalArguments
+	 *            optional arguments
+	 * @throws TMQLRuntimeException
+	 *             thrown if any interpretation fails
+	 */
+	private void interpret(final ITMQLRuntime runtime, final IContext context, final IExpressionInterpreter<?> interpreter, List<Map<String, Object>> tuples,
+			final int firstIndex, QueryMatches results, final Object... optionalArguments) throws TMQLRuntimeException {
+		/*
+		 * get variable of content
+		 */
+		final String variable = interpreter.getVariables().isEmpty() ? QueryMatches.getNonScopedVariable() : interpreter.getVariables().get(0);
+		List<QueryMatches> partitions = runtime.getExecutionPool().execute(context, tuples, new IPartitionTask<Map<String, Object>, QueryMatches>() {
+
+			/**
+			 * {@inheritDoc}
+			 */
+			public QueryMatches call(List<Map<String, Object>> partition, int fromIndex) throws TMQLRuntimeException {
+				QueryMatches matches = new QueryMatches(runtime);
+				int index = firstIndex + fromIndex;
+				for (Map<String, Object> tuple : partition) {
+					Context newContext = new Context(context);
+					newContext.setContextBindings(null);
+					newContext.setCurrentTuple(tuple);
+					newContext.setCurrentNode(tuple.get(variable));
+					newContext.setCurrentIndexInSequence(index++);
+					/*
+					 * call sub-expression
+					 */
+					QueryMatches result = interpreter.interpret(runtime, newContext, optionalArguments);
+					if (!result.isEmpty()) {
+						matches.add(result);
+					}
+				}
+				return matches;
+			}
+		});
+		for (QueryMatches matches : partitions) {
+			if (!matches.isEmpty()) {
+				results.add(matches);
+			}
+		}
+	}
+
 	/**
 	 * Method removes all other variables bindings than the non-scoped variable.
 	 * 
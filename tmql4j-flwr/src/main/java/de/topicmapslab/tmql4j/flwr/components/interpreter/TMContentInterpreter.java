@@ -106,7 +106,7 @@ public class TMContentInterpreter extends ExpressionInterpreterImpl<TMContent> {
 		/*
 		 * set result class
 		 */
-		context.getTmqlProcessor().getResultProcessor().setResultType(CTMResult.class);
+		context.getResultProcessor().setResultType(CTMResult.class);
 		return QueryMatches.asQueryMatch(runtime, "$0", builder.toString());
 	}
 }
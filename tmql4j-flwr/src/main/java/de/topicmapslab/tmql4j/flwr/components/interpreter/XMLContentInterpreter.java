@@ -105,7 +105,7 @@ public class XMLContentInterpreter extends ExpressionInterpreterImpl<XMLContent>
 		/*
 		 * set result class
 		 */
-		context.getTmqlProcessor().getResultProcessor().setResultType(XMLResult.class);
+		context.getResultProcessor().setResultType(XMLResult.class);
 		return QueryMatches.asQueryMatch(runtime, "$0", builder.toString().trim());		
 	}
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.flwr.tests;
+
+import static junit.framework.Assert.assertEquals;
+
+import java.util.Set;
+
+import org.junit.Ignore;
+import org.junit.Test;
+import org.tmapi.core.Locator;
+import org.tmapi.core.Topic;
+
+import de.topicmapslab.tmql4j.components.processor.results.model.IResult;
+import de.topicmapslab.tmql4j.components.processor.results.tmdm.SimpleResultSet;
+import de.topicmapslab.tmql4j.util.HashUtil;
+import de.topicmapslab.tmql4j.util.XmlSchemeDatatypes;
+
+/**
+ * Test class for the comparison of typed literals
+ *
+ * @author Sven Krosse
+ *
+ */
+public class TestLiteralComparison extends Tmql4JTestCase {
+
+	/**
+	 * Creates the given number of persons, each with a birth date occurrence
+	 * of the data-type xsd:date. The persons born after 2010-01-01 are added
+	 * to the given set.
+	 *
+	 * @param number
+	 *            the number of persons
+	 * @param youngsters
+	 *            the set to store the persons born after 2010-01-01
+	 */
+	private void createPersons(int number, Set<Topic> youngsters) {
+		Topic type = createTopicBySI("person");
+		Topic birthdate = createTopicBySI("birthdate");
+		Locator datatype = createLocator(XmlSchemeDatatypes.XSD_DATE);
+		for (int i = 0; i < number; i++) {
+			Topic topic = createTopic();
+			topic.addType(type);
+			int year = 2000 + i % 20;
+			topic.createOccurrence(birthdate, year + "-0" + (1 + i % 9) + "-1" + (i % 10), datatype);
+			if (year >= 2010) {
+				youngsters.add(topic);
+			}
+		}
+	}
+
+	@Test
+	public void testGreaterThanDate() throws Exception {
+		Set<Topic> youngsters = HashUtil.getHashSet();
+		createPersons(100, youngsters);
+		SimpleResultSet set = execute("FOR $p IN // person WHERE $p / birthdate > \"2010-01-01\" RETURN $p");
+		assertEquals(youngsters.size(), set.size());
+		for (IResult result : set) {
+			assertEquals(true, youngsters.contains(result.first()));
+		}
+	}
+
+	/**
+	 * Measures the comparison and ordering of one million typed literals.
+	 * Ignored by default because it is a performance measurement.
+	 */
+	@Ignore
+	@Test
+	public void testComparisonPerformance() throws Exception {
+		final int persons = 1000000;
+		Set<Topic> youngsters = HashUtil.getHashSet();
+		createPersons(persons, youngsters);
+
+		long time = System.currentTimeMillis();
+		SimpleResultSet set = execute("FOR $p IN // person WHERE $p / birthdate > \"2010-01-01\" RETURN $p");
+		System.out.println("Comparison of " + persons + " literals: " + (System.currentTimeMillis() - time) + " ms");
+		assertEquals(youngsters.size(), set.size());
+
+		time = System.currentTimeMillis();
+		set = execute("FOR $p IN // person ORDER BY $p / birthdate RETURN $p / birthdate");
+		System.out.println("Ordering of " + persons + " literals: " + (System.currentTimeMillis() - time) + " ms");
+		assertEquals(persons, set.size());
+	}
+}
@@ -130,5 +130,43 @@ public class TestOffsetLimitClause extends Tmql4JTestCase {
 			}
 		}
 	}
-	
+
+	@Test
+	public void testLimitClauseWithoutOrderBy() throws Exception {
+		Topic topic = createTopicBySI("myType");
+		for (int i = 0; i < 100; i++) {
+			Topic t = createTopic();
+			t.addType(topic);
+		}
+		SimpleResultSet set = execute("FOR $var IN // myType LIMIT 10 RETURN $var");
+		assertEquals(10, set.size());
+		set = execute("FOR $var IN // myType OFFSET 95 LIMIT 10 RETURN $var");
+		assertEquals(5, set.size());
+	}
+
+	@Test
+	public void testLimitClauseWithEmptyFirstResults() throws Exception {
+		Topic topic = createTopicBySI("myType");
+		Topic type = createTopicBySI("myOccurrenceType");
+		List<Topic> topics = new LinkedList<Topic>();
+		for (int i = 0; i < 100; i++) {
+			Topic t = createTopic();
+			addSupertype(t, topic);
+			t.createName("Name " + (i < 10 ? "0" : "") + Integer.toString(i));
+			/*
+			 * only the last topics has occurrences
+			 */
+			if (i >= 90) {
+				t.createOccurrence(type, "Value " + Integer.toString(i));
+			}
+			topics.add(t);
+		}
+		SimpleResultSet set = execute("WHERE $var AKO myType ORDER BY $var / tm:name [0] LIMIT 5 RETURN $var / myOccurrenceType");
+		assertEquals(5, set.size());
+		int index = 90;
+		for (IResult r : set.getResults()) {
+			assertEquals("Value " + Integer.toString(index++), r.first());
+		}
+	}
+
 }
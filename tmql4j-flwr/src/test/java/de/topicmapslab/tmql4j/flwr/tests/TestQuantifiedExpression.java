@@ -0,0 +1,146 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.flwr.tests;
+
+import static junit.framework.Assert.assertEquals;
+
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.junit.Ignore;
+import org.junit.Test;
+import org.tmapi.core.Topic;
+
+import de.topicmapslab.tmql4j.components.processor.results.model.IResult;
+import de.topicmapslab.tmql4j.components.processor.results.model.IResultSet;
+import de.topicmapslab.tmql4j.components.processor.results.tmdm.SimpleResultSet;
+import de.topicmapslab.tmql4j.components.processor.runtime.ITMQLRuntime;
+import de.topicmapslab.tmql4j.components.processor.runtime.TMQLRuntimeFactory;
+import de.topicmapslab.tmql4j.util.HashUtil;
+
+/**
+ * Test class for the correlated evaluation of quantified expressions
+ *
+ * @author Sven Krosse
+ *
+ */
+public class TestQuantifiedExpression extends Tmql4JTestCase {
+
+	/**
+	 * Creates the given number of persons. Each person has a name 'Name i',
+	 * each person with an even index has the second name 'John i'.
+	 *
+	 * @param number
+	 *            the number of persons
+	 * @param even
+	 *            the set to store the persons with an even index
+	 * @param odd
+	 *            the set to store the persons with an odd index
+	 */
+	private void createPersons(int number, Set<Topic> even, Set<Topic> odd) {
+		Topic type = createTopicBySI("person");
+		for (int i = 0; i < number; i++) {
+			Topic topic = createTopic();
+			topic.addType(type);
+			topic.createName("Name " + i);
+			if (i % 2 == 0) {
+				topic.createName("John " + i);
+				even.add(topic);
+			} else {
+				odd.add(topic);
+			}
+		}
+	}
+
+	private Set<Object> firstValues(IResultSet<?> set) {
+		Set<Object> values = HashUtil.getHashSet();
+		for (IResult r : set.getResults()) {
+			values.add(r.first());
+		}
+		return values;
+	}
+
+	@Test
+	public void testSomeClause() throws Exception {
+		Set<Topic> even = HashUtil.getHashSet();
+		Set<Topic> odd = HashUtil.getHashSet();
+		createPersons(20, even, odd);
+
+		String query = "FOR $p IN // person WHERE SOME $n IN $p / tm:name SATISFIES $n =~ \"^John.*\" RETURN $p";
+		SimpleResultSet set = execute(query);
+		assertEquals(even.size(), set.size());
+		assertEquals(even, firstValues(set));
+	}
+
+	@Test
+	public void testEveryClause() throws Exception {
+		Set<Topic> even = HashUtil.getHashSet();
+		Set<Topic> odd = HashUtil.getHashSet();
+		createPersons(20, even, odd);
+
+		String query = "FOR $p IN // person WHERE EVERY $n IN $p / tm:name SATISFIES $n =~ \"^Name.*\" RETURN $p";
+		SimpleResultSet set = execute(query);
+		assertEquals(odd.size(), set.size());
+		assertEquals(odd, firstValues(set));
+	}
+
+	@Test
+	public void testAtLeastAndAtMostClause() throws Exception {
+		Set<Topic> even = HashUtil.getHashSet();
+		Set<Topic> odd = HashUtil.getHashSet();
+		createPersons(20, even, odd);
+
+		String query = "FOR $p IN // person WHERE AT LEAST 2 $n IN $p / tm:name SATISFIES $n =~ \".*\" RETURN $p";
+		SimpleResultSet set = execute(query);
+		assertEquals(even, firstValues(set));
+
+		query = "FOR $p IN // person WHERE AT MOST 1 $n IN $p / tm:name SATISFIES $n =~ \".*\" RETURN $p";
+		set = execute(query);
+		assertEquals(odd, firstValues(set));
+	}
+
+	/**
+	 * Compares the correlated evaluation with the former evaluation by a new
+	 * runtime and a substituted query string for each binding. Ignored by
+	 * default because it is a performance measurement.
+	 */
+	@Ignore
+	@Test
+	public void testCorrelatedVersusSubQueryPerformance() throws Exception {
+		final int persons = 5000;
+		Set<Topic> even = HashUtil.getHashSet();
+		Set<Topic> odd = HashUtil.getHashSet();
+		createPersons(persons, even, odd);
+
+		long time = System.currentTimeMillis();
+		SimpleResultSet set = execute("FOR $p IN // person WHERE SOME $n IN $p / tm:name SATISFIES $n =~ \"^John.*\" RETURN $p");
+		System.out.println("Correlated evaluation of " + persons + " bindings: " + (System.currentTimeMillis() - time) + " ms");
+		assertEquals(even.size(), set.size());
+
+		time = System.currentTimeMillis();
+		int satisfying = 0;
+		for (Topic topic : topicMap.getTopics()) {
+			if (!topic.getTypes().isEmpty() && !topic.getNames().isEmpty()) {
+				/*
+				 * former evaluation of each binding
+				 */
+				ITMQLRuntime subRuntime = TMQLRuntimeFactory.newFactory().newRuntime(topicMapSystem);
+				for (Entry<String, String> entry : runtime.getLanguageContext().getPrefixHandler().getPrefixMap().entrySet()) {
+					subRuntime.getLanguageContext().getPrefixHandler().registerPrefix(entry.getKey(), entry.getValue());
+				}
+				String query = "$p / tm:name [ . =~ \"^John.*\" ]".replaceAll("\\$p", " \"" + topic.getId() + "\" << id");
+				if (!subRuntime.run(topicMap, query).getResults().isEmpty()) {
+					satisfying++;
+				}
+			}
+		}
+		System.out.println("Sub-query evaluation of " + persons + " bindings: " + (System.currentTimeMillis() - time) + " ms");
+		assertEquals(even.size(), satisfying);
+	}
+}
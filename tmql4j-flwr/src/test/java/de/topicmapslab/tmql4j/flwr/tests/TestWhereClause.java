@@ -99,6 +99,41 @@ public class TestWhereClause extends Tmql4JTestCase {
 		}
 	}
 
+	@Test
+	public void testPredicateWithKnownPlayer() throws Exception {
+		Topic topic = createTopicBySI("myTopic");
+		Topic roleType = createTopicBySI("roleType");
+		Topic otherRoleType = createTopicBySI("otherRoleType");
+		Topic player = createTopicBySI("myPlayer");
+		Set<Topic> topics = HashUtil.getHashSet();
+		for (int i = 0; i < 100; i++) {
+			Topic t = createTopic();
+			Association assocaition = createAssociation(topic);
+			assocaition.createRole(roleType, t);
+			if (i % 2 == 0) {
+				assocaition.createRole(otherRoleType, player);
+				topics.add(t);
+			} else {
+				assocaition.createRole(otherRoleType, createTopic());
+			}
+			/*
+			 * associations of another type played by the player
+			 */
+			assocaition = createAssociation(createTopic());
+			assocaition.createRole(roleType, createTopic());
+			assocaition.createRole(otherRoleType, player);
+		}
+		String query = null;
+		SimpleResultSet set = null;
+
+		query = "FOR $var IN // tm:subject WHERE myTopic ( roleType : $var , otherRoleType : myPlayer ) RETURN $var";
+		set = execute(query);
+		assertEquals(topics.size(), set.size());
+		for (IResult r : set.getResults()) {
+			assertTrue(topics.contains(r.first()));
+		}
+	}
+
 	@Test
 	public void testAkoNCL() throws Exception {
 		String query = null;
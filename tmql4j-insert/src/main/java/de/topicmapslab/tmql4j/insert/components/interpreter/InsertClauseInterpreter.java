@@ -78,12 +78,12 @@ public class InsertClauseInterpreter extends ExpressionInterpreterImpl<InsertCla
 				newContext.setCurrentTuple(tuple);
 				newContext.setCurrentNode(match);
 				/*
-				 * call TM-content
+				 * call TM-content and keep the CTM fragment of the tuple
 				 */
 				QueryMatches matches = interpreter.interpret(runtime, newContext, optionalArguments);
-				results.add(matches.getMatches());
+				results.addAll(matches.getPossibleValuesForVariable());
 			}
-			context.getTmqlProcessor().getResultProcessor().setResultType(SimpleResultSet.class);
+			context.getResultProcessor().setResultType(SimpleResultSet.class);
 			return QueryMatches.asQueryMatchNS(runtime, results.toArray());
 		}
 		/*
@@ -65,26 +65,57 @@ public class CTMConverter {
 	 *             thrown if CTM parsing fails
 	 */
 	public static TopicMap toTopicMap(final String ctm, final TopicMapSystem tms) throws TMQLRuntimeException {
+		TopicMap map = createTopicMap(tms);
+		read(ctm, map);
+		return map;
+	}
+
+	/**
+	 * Method creates a new temporary topic map to parse CTM fragments into.
+	 * The caller has to remove the topic map if it is not used anymore.
+	 * 
+	 * @param tms
+	 *            the topic map system used to create a new topic map
+	 * @return the new topic map
+	 * @throws TMQLRuntimeException
+	 *             thrown if the topic map cannot be created
+	 * @since 3.2.0
+	 */
+	public static TopicMap createTopicMap(final TopicMapSystem tms) throws TMQLRuntimeException {
+		try {
+			return tms.createTopicMap("file://ctm-snippet-" + UUID.randomUUID().toString());
+		} catch (Exception ex) {
+			throw new TMQLRuntimeException("Cannot create temporary topic map", ex);
+		}
+	}
+
+	/**
+	 * Method parses the given CTM fragment with the {@link CTMTopicMapReader}
+	 * and adds its content to the given topic map. Relative references are
+	 * resolved against the locator of the topic map. Topics of the fragment
+	 * are merged with existing topics of the same identity.
+	 * 
+	 * @param ctm
+	 *            the CTM fragment
+	 * @param map
+	 *            the topic map to add the content to
+	 * @throws TMQLRuntimeException
+	 *             thrown if CTM parsing fails
+	 * @since 3.2.0
+	 */
+	public static void read(final String ctm, final TopicMap map) throws TMQLRuntimeException {
 		try {
 			/*
 			 * create a byte stream containing the CTM fragment
 			 */
 			ByteArrayInputStream stream = new ByteArrayInputStream(ctm.getBytes());
-
-			/*
-			 * create a new topic map
-			 */
-			final String baseLocator = "file://ctm-snippet-" + UUID.randomUUID().toString();
-			TopicMap map = tms.createTopicMap(baseLocator);
 			/*
 			 * parse the CTM fragment
 			 */
-			CTMTopicMapReader reader = new CTMTopicMapReader(map, stream, baseLocator);
+			CTMTopicMapReader reader = new CTMTopicMapReader(map, stream, map.getLocator().getReference());
 			reader.read();
-
-			return map;
 		} catch (Exception ex) {
-			throw new TMQLRuntimeException("Cannot convert construct to CTM", ex);
+			throw new TMQLRuntimeException("Cannot parse CTM fragment", ex);
 		}
 	}
 
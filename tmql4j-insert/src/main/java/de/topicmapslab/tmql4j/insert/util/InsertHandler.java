@@ -10,6 +10,7 @@
  */
 package de.topicmapslab.tmql4j.insert.util;
 
+import java.util.Collections;
 import java.util.List;
 
 import org.tmapi.core.ModelConstraintException;
@@ -17,6 +18,9 @@ import org.tmapi.core.TopicMap;
 import org.tmapi.core.TopicMapSystem;
 
 import de.topicmapslab.tmql4j.components.processor.core.IContext;
+import de.topicmapslab.tmql4j.components.processor.runtime.ConstructResolutionCache;
+import de.topicmapslab.tmql4j.components.processor.runtime.LiteralRangeIndex;
+import de.topicmapslab.tmql4j.components.processor.runtime.TypeHierarchyIndex;
 import de.topicmapslab.tmql4j.components.processor.runtime.ITMQLRuntime;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
 import de.topicmapslab.tmql4j.insert.exceptions.InsertException;
@@ -40,6 +44,18 @@ public class InsertHandler {
 	 * a reference of the topic maps system to create temporary instances
 	 */
 	private final TopicMapSystem topicMapSystem;
+	/**
+	 * the resolution cache of the query execution
+	 */
+	private final ConstructResolutionCache resolutionCache;
+	/**
+	 * the type hierarchy index of the query execution
+	 */
+	private final TypeHierarchyIndex typeHierarchy;
+	/**
+	 * the literal range index of the runtime
+	 */
+	private final LiteralRangeIndex literalRangeIndex;
 
 	/**
 	 * base constructor to create a new instance
@@ -55,6 +71,9 @@ public class InsertHandler {
 		try {
 			this.topicMap = context.getQuery().getTopicMap();
 			this.topicMapSystem = runtime.getTopicMapSystem();
+			this.resolutionCache = context.getResolutionCache();
+			this.typeHierarchy = context.getTypeHierarchy();
+			this.literalRangeIndex = runtime.getLiteralRangeIndex();
 		} catch (TMQLRuntimeException e) {
 			throw new InsertException(e);
 		}
@@ -64,24 +83,55 @@ public class InsertHandler {
 	 * Method insert new content in the internal topic map instance. The new
 	 * content is specified as CTM fragments which containing topic definitions
 	 * or association definitions.
+	 * <p>
+	 * All fragments are parsed into one temporary topic map, which is merged
+	 * into the internal topic map once and removed afterwards. Topics defined
+	 * by more than one fragment are merged before they are inserted. If any
+	 * fragment cannot be parsed, nothing is inserted. The merge itself is not
+	 * atomic, so a failure during the merge may leave a part of the batch in
+	 * the internal topic map.
+	 * </p>
 	 * 
 	 * @param ctmFragments
 	 *            a set of CTM fragments
-	 * @return a number of new content which was inserted.
+	 * @return the number of topics and associations of the batch
 	 * @throws InsertException
 	 *             thrown if CTM parsing or the merging process of the topic map
 	 *             fragments fails.
 	 */
 	public long insert(List<Object> ctmFragments) throws InsertException {
-		long count = 0;
-
-		for (Object obj : ctmFragments) {
-			if (obj instanceof String) {
-				count += insert((String) obj);
+		TopicMap inserts = null;
+		try {
+			for (Object obj : ctmFragments) {
+				if (obj instanceof String) {
+					if (inserts == null) {
+						inserts = CTMConverter.createTopicMap(topicMapSystem);
+					}
+					/*
+					 * parse the CTM to the topic map fragment of the batch
+					 */
+					CTMConverter.read((String) obj, inserts);
+				}
+			}
+			if (inserts == null) {
+				return 0;
+			}
+			long count = inserts.getTopics().size() + inserts.getAssociations().size();
+			/*
+			 * insert the new topic map
+			 */
+			insert(inserts);
+			return count;
+		} catch (TMQLRuntimeException e) {
+			throw new InsertException("Cannot insert new values", e);
+		} finally {
+			/*
+			 * the temporary topic map is not used anymore
+			 */
+			if (inserts != null) {
+				inserts.remove();
 			}
 		}
-
-		return count;
 	}
 
 	/**
@@ -97,23 +147,7 @@ public class InsertHandler {
 	 *             fragments fails.
 	 */
 	public long insert(String ctmFragment) throws InsertException {
-		try {
-			/*
-			 * parse the CTM to a topic map fragment
-			 */
-			TopicMap inserts = CTMConverter.toTopicMap(ctmFragment, topicMapSystem);
-			/*
-			 * insert the new topic map
-			 */
-			insert(inserts);
-			/*
-			 * fire events
-			 */
-			// TODO handle partial merge
-			return inserts.getTopics().size() + inserts.getAssociations().size();
-		} catch (TMQLRuntimeException e) {
-			throw new InsertException("Cannot insert new values", e);
-		}
+		return insert(Collections.<Object> singletonList(ctmFragment));
 	}
 
 	/**
@@ -133,6 +167,14 @@ public class InsertHandler {
 			this.topicMap.mergeIn(inserts);
 		} catch (ModelConstraintException e) {
 			throw new InsertException("Cannot insert new values", e);
+		} finally {
+			/*
+			 * new content may be merged with resolved constructs or define
+			 * new supertype-subtype relations
+			 */
+			resolutionCache.invalidate();
+			typeHierarchy.invalidate();
+			literalRangeIndex.invalidate();
 		}
 	}
 }
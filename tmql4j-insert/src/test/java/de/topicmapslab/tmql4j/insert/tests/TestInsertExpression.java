@@ -11,7 +11,9 @@ package de.topicmapslab.tmql4j.insert.tests;
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertNotNull;
 import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
 
+import org.junit.Ignore;
 import org.junit.Test;
 import org.tmapi.core.Topic;
 
@@ -89,6 +91,50 @@ public class TestInsertExpression extends Tmql4JTestCase {
 
 	}
 
+	@Test
+	public void testInsertWithBindings() throws Exception {
+		Topic person = createTopicBySI("person");
+		Topic[] persons = new Topic[100];
+		for (int i = 0; i < persons.length; i++) {
+			persons[i] = createTopicBySI("person" + i);
+			persons[i].addType(person);
+		}
+		int topicMaps = topicMapSystem.getLocators().size();
+
+		String query = " INSERT ''' { $p >> indicators >> atomify } isa " + base + "tagged . ''' WHERE $p ISA person ";
+		execute(new TMQLQuery(topicMap, query));
+
+		Topic tagged = topicMap.getTopicBySubjectIdentifier(topicMap.createLocator(base + "tagged"));
+		assertNotNull(tagged);
+		for (Topic p : persons) {
+			assertTrue(p.getTypes().contains(tagged));
+		}
+		/*
+		 * the temporary topic map of the batch is removed
+		 */
+		assertEquals(topicMaps, topicMapSystem.getLocators().size());
+	}
+
+	/**
+	 * Measures the throughput of an insert with ten thousand bindings. Ignored
+	 * by default because it is a performance measurement.
+	 */
+	@Ignore
+	@Test
+	public void testInsertThroughput() throws Exception {
+		Topic person = createTopicBySI("person");
+		final int number = 10000;
+		for (int i = 0; i < number; i++) {
+			createTopicBySI("person" + i).addType(person);
+		}
+		String query = " INSERT ''' { $p >> indicators >> atomify } isa " + base + "tagged . ''' WHERE $p ISA person ";
+		long time = System.currentTimeMillis();
+		execute(new TMQLQuery(topicMap, query));
+		time = Math.max(1, System.currentTimeMillis() - time);
+		System.out.println("Insert of " + number + " bindings: " + time + " ms, " + (number * 1000L / time) + " bindings/s");
+		assertNotNull(topicMap.getTopicBySubjectIdentifier(topicMap.createLocator(base + "tagged")));
+	}
+
 	@Test
 	public void testTemplateDef() throws Exception {
 		String query = "INSERT ''' %prefix tmcl http://psi.topicmaps.org/tmcl/  %prefix tmdm http://psi.topicmaps.org/iso13250/model  def overlaps($tt1, $tt2) ?c isa tmcl:overlap-declaration. tmcl:overlaps(tmcl:allows : ?c, tmcl:allowed : $tt1) tmcl:overlaps(tmcl:allows : ?c, tmcl:allowed : $tt2) end  overlaps( <http://en.wikipedia.org/wiki/State_(administrative_division)>, <http://en.wikipedia.org/wiki/City>) '''";
@@ -44,6 +44,11 @@ import de.topicmapslab.tmql4j.path.exception.NavigationException;
  */
 public class RatomifyNavigationAxis extends BaseNavigationAxisImpl {
 
+	/**
+	 * instance of redirected axis
+	 */
+	private final AtomifyNavigationAxis atomify = new AtomifyNavigationAxis();
+
 	/**
 	 * base constructor to create an new instance
 	 */
@@ -68,9 +73,9 @@ public class RatomifyNavigationAxis extends BaseNavigationAxisImpl {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigateBackward(Object construct, Object optional) throws NavigationException {
+	public Collection<?> navigateBackward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
 		if (construct instanceof Object) {
-			TopicMap map = getTopicMap();
+			TopicMap map = getTopicMap(topicMap);
 			/*
 			 * create new instance of tuple-sequence
 			 */
@@ -94,8 +99,8 @@ public class RatomifyNavigationAxis extends BaseNavigationAxisImpl {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigateForward(Object construct, Object optional) throws NavigationException {
-		return new AtomifyNavigationAxis().navigateForward(construct, optional);
+	public Collection<?> navigateForward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
+		return atomify.navigateForward(topicMap, construct, optional);
 	}
 
 	/**
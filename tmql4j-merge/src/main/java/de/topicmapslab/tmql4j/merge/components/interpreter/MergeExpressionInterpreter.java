@@ -169,6 +169,13 @@ public class MergeExpressionInterpreter extends ExpressionInterpreterImpl<MergeE
 		} catch (ModelConstraintException e) {
 			logger.warn("Merging of topics failed!");
 			throw new TMQLRuntimeException(e);
+		} finally {
+			/*
+			 * resolved item references and types may be merged
+			 */
+			context.getResolutionCache().invalidate();
+			context.getTypeHierarchy().invalidate();
+			runtime.getLiteralRangeIndex().invalidate();
 		}
 	}
 
@@ -199,7 +206,7 @@ public class MergeExpressionInterpreter extends ExpressionInterpreterImpl<MergeE
 		 */
 		if (iteration.isEmpty()) {
 			QueryMatches arguments[] = extractArguments(runtime, ValueExpression.class, context, optionalArguments);
-			long count = merge(runtime, arguments, alreadyMerged);
+			long count = merge(runtime, context, arguments, alreadyMerged);
 			if (count > 0) {
 				values.add(count);
 			}
@@ -213,7 +220,7 @@ public class MergeExpressionInterpreter extends ExpressionInterpreterImpl<MergeE
 				newContext.setCurrentTuple(tuple);
 				newContext.setContextBindings(null);
 				QueryMatches arguments[] = extractArguments(runtime, ValueExpression.class, newContext, optionalArguments);
-				long count = merge(runtime, arguments, alreadyMerged);
+				long count = merge(runtime, newContext, arguments, alreadyMerged);
 				if (count > 0) {
 					values.add(count);
 				}
@@ -228,6 +235,8 @@ public class MergeExpressionInterpreter extends ExpressionInterpreterImpl<MergeE
 	 * 
 	 * @param runtime
 	 *            the runtime
+	 * @param context
+	 *            the current context
 	 * @param arguments
 	 *            the query matches containing the topics or associations to
 	 *            merge
@@ -237,7 +246,7 @@ public class MergeExpressionInterpreter extends ExpressionInterpreterImpl<MergeE
 	 * @throws TMQLRuntimeException
 	 *             thrown if operation fails
 	 */
-	private long merge(ITMQLRuntime runtime, QueryMatches[] arguments, Collection<Construct> alreadyMerged) throws TMQLRuntimeException {
+	private long merge(ITMQLRuntime runtime, IContext context, QueryMatches[] arguments, Collection<Construct> alreadyMerged) throws TMQLRuntimeException {
 		Set<Construct> candidates = HashUtil.getHashSet();
 		for (QueryMatches match : arguments) {
 			for (Object obj : match.getPossibleValuesForVariable()) {
@@ -250,6 +259,12 @@ public class MergeExpressionInterpreter extends ExpressionInterpreterImpl<MergeE
 		}
 
 		long count = MergeHandler.doMerge(candidates, alreadyMerged);
+		/*
+		 * resolved item references and types may be merged
+		 */
+		context.getResolutionCache().invalidate();
+		context.getTypeHierarchy().invalidate();
+		runtime.getLiteralRangeIndex().invalidate();
 		return count;
 	}
 
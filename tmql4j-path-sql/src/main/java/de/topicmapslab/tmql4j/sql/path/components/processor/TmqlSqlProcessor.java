@@ -22,9 +22,10 @@ import de.topicmapslab.tmql4j.components.parser.IParserTree;
 import de.topicmapslab.tmql4j.components.processor.core.Context;
 import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.components.processor.core.QueryMatches;
+import de.topicmapslab.tmql4j.components.processor.results.ResultCursor;
+import de.topicmapslab.tmql4j.components.processor.results.model.IResultCursor;
 import de.topicmapslab.tmql4j.components.processor.results.model.IResultProcessor;
 import de.topicmapslab.tmql4j.components.processor.results.model.IResultSet;
-import de.topicmapslab.tmql4j.components.processor.results.model.ResultSet;
 import de.topicmapslab.tmql4j.components.processor.runtime.ITMQLRuntime;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
 import de.topicmapslab.tmql4j.path.components.processor.TmqlProcessor2007;
@@ -58,26 +59,34 @@ public class TmqlSqlProcessor extends TmqlProcessor2007 {
 	 * {@inheritDoc}
 	 */
 	@Override
-	public IResultSet<?> query(IQuery query, OutputStream os) {
-		IParserTree tree = parse(query);
-		if (tree != null) {
-			IContext context = new Context(this, query);
-			try {
-				ISqlDefinition definition = new SqlDefinition();
-				definition = TranslatorRegistry.getTranslator(tree.root().getClass()).toSql(getRuntime(), context, tree.root(), definition);
-				return executeSql(query, definition);
-			} catch (TMQLRuntimeException e) {
-				logger.warn("Cannot translate query to SQL, at least one expression not supported by translator!", e);
-				/*
-				 * try normal runtime over TMAPI
-				 */
-				QueryMatches results = tree.root().interpret(getRuntime(), context);
-				IResultProcessor resultProcessor = getResultProcessor();
-				resultProcessor.proceed(context, results);
-				return resultProcessor.getResultSet();
-			}
+	public IResultSet<?> query(IQuery query, IParserTree tree, OutputStream os) {
+		IContext context = new Context(this, query);
+		try {
+			ISqlDefinition definition = new SqlDefinition();
+			definition = TranslatorRegistry.getTranslator(tree.root().getClass()).toSql(getRuntime(), context, tree.root(), definition);
+			return executeSql(query, definition);
+		} catch (TMQLRuntimeException e) {
+			logger.warn("Cannot translate query to SQL, at least one expression not supported by translator!", e);
+			/*
+			 * try normal runtime over TMAPI
+			 */
+			QueryMatches results = tree.root().interpret(getRuntime(), context);
+			IResultProcessor resultProcessor = context.getResultProcessor();
+			resultProcessor.proceed(context, results);
+			return resultProcessor.getResultSet();
 		}
-		return ResultSet.emptyResultSet();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The SQL result is read at once, so the cursor iterates over the
+	 * materialized result set.
+	 * </p>
+	 */
+	@Override
+	public IResultCursor cursor(IQuery query, IParserTree tree, int prefetch) {
+		return new ResultCursor(getRuntime(), query, query(query, tree, null));
 	}
 
 	/**
@@ -95,7 +104,7 @@ public class TmqlSqlProcessor extends TmqlProcessor2007 {
 		ISession session = store.openSession();
 		try {
 			java.sql.ResultSet rs = session.getConnection().createStatement().executeQuery(definition.toString());
-			SqlResultProcessor processor = (SqlResultProcessor) getResultProcessor();
+			SqlResultProcessor processor = (SqlResultProcessor) createResultProcessor();
 			processor.proceed(definition, query, session, rs);
 			return processor.getResultSet();
 		} catch (SQLException e) {
@@ -114,7 +123,7 @@ public class TmqlSqlProcessor extends TmqlProcessor2007 {
 	 * {@inheritDoc}
 	 */
 	@Override
-	protected IResultProcessor createResultProcessor() {
+	public IResultProcessor createResultProcessor() {
 		return new SqlResultProcessor(getRuntime());
 	}
 
@@ -21,11 +21,8 @@ import de.topicmapslab.tmql4j.components.interpreter.ExpressionInterpreterImpl;
 import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.components.processor.core.QueryMatches;
 import de.topicmapslab.tmql4j.components.processor.runtime.ITMQLRuntime;
+import de.topicmapslab.tmql4j.components.processor.runtime.TypeHierarchyIndex;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
-import de.topicmapslab.tmql4j.path.components.navigation.NavigationRegistry;
-import de.topicmapslab.tmql4j.path.components.navigation.model.INavigationAxis;
-import de.topicmapslab.tmql4j.path.exception.NavigationException;
-import de.topicmapslab.tmql4j.path.grammar.lexical.AxisSubtypes;
 import de.topicmapslab.tmql4j.path.grammar.lexical.Variable;
 import de.topicmapslab.tmql4j.path.grammar.productions.AKOExpression;
 import de.topicmapslab.tmql4j.path.grammar.productions.SimpleContent;
@@ -103,28 +100,23 @@ public class AKOExpressionInterpreter extends ExpressionInterpreterImpl<AKOExpre
 		 */
 		QueryMatches matches = new QueryMatches(runtime);
 		/*
-		 * get navigation axis
+		 * get type hierarchy of the query execution
 		 */
-		INavigationAxis axis;
-		try {
-			axis = NavigationRegistry.buildHandler().lookup(AxisSubtypes.class);
+		TypeHierarchyIndex hierarchy = context.getTypeHierarchy();
+		/*
+		 * iterate over all topics
+		 */
+		for (Object o : simpleContent2.getPossibleValuesForVariable()) {
 			/*
-			 * iterate over all topics
+			 * get all sub-types of the current topic
 			 */
-			for (Object o : simpleContent2.getPossibleValuesForVariable()) {
-				/*
-				 * get all sub-types of the current topic
-				 */
-				if (o instanceof Topic) {
-					for (Object obj_ : axis.navigateForward(o)) {
-						Map<String, Object> map = HashUtil.getHashMap();
-						map.put(variable, obj_);
-						matches.add(map);
-					}
+			if (o instanceof Topic) {
+				for (Topic subtype : hierarchy.getSubtypes((Topic) o, context.isTransitive())) {
+					Map<String, Object> map = HashUtil.getHashMap();
+					map.put(variable, subtype);
+					matches.add(map);
 				}
 			}
-		} catch (NavigationException e) {
-			throw new TMQLRuntimeException("Interpretation fails because of failing navigation.", e);
 		}
 
 		/*
@@ -22,6 +22,7 @@ import org.tmapi.core.Scoped;
 
 import de.topicmapslab.tmql4j.components.interpreter.ExpressionInterpreterImpl;
 import de.topicmapslab.tmql4j.components.interpreter.IExpressionInterpreter;
+import de.topicmapslab.tmql4j.components.processor.core.ColumnIndex;
 import de.topicmapslab.tmql4j.components.processor.core.Context;
 import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.components.processor.core.QueryMatches;
@@ -196,10 +197,11 @@ public class BooleanPrimitiveInterpreter extends ExpressionInterpreterImpl<Boole
 			 * iterate over pre-proceeded results and remove matches of
 			 * contained boolean-expression
 			 */
+			ColumnIndex index = new ColumnIndex(results);
 			for (Map<String, Object> tuple : context.getContextBindings()) {
 				boolean satisfy = true;
 				for (Entry<String, Object> entry : tuple.entrySet()) {
-					if (results.getPossibleValuesForVariable(entry.getKey()).contains(entry.getValue())) {
+					if (index.contains(entry.getKey(), entry.getValue())) {
 						satisfy = false;
 						break;
 					}
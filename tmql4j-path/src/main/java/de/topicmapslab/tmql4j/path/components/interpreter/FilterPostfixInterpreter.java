@@ -27,6 +27,7 @@ import java.util.Map;
 
 import org.tmapi.core.Scoped;
 import org.tmapi.core.Topic;
+import org.tmapi.core.TopicMap;
 
 import de.topicmapslab.tmql4j.components.interpreter.ExpressionInterpreterImpl;
 import de.topicmapslab.tmql4j.components.interpreter.IExpressionInterpreter;
@@ -36,7 +37,7 @@ import de.topicmapslab.tmql4j.components.processor.core.QueryMatches;
 import de.topicmapslab.tmql4j.components.processor.runtime.ITMQLRuntime;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
 import de.topicmapslab.tmql4j.path.components.navigation.NavigationRegistry;
-import de.topicmapslab.tmql4j.path.components.navigation.model.INavigationAxis;
+import de.topicmapslab.tmql4j.path.components.navigation.model.ITypeHierarchyNavigationAxis;
 import de.topicmapslab.tmql4j.path.exception.NavigationException;
 import de.topicmapslab.tmql4j.path.grammar.lexical.AxisTypes;
 import de.topicmapslab.tmql4j.path.grammar.productions.Anchor;
@@ -165,14 +166,16 @@ public class FilterPostfixInterpreter extends ExpressionInterpreterImpl<FilterPo
 		 * Iterate over all tuple of current sequence
 		 */
 		QueryMatches storedMatches = context.getContextBindings();
-		QueryMatches filteredMatches = new QueryMatches(runtime);
+		QueryMatches filteredMatches = new QueryMatches(runtime, storedMatches.size());
+		final List<String> variables = storedMatches.getOrderedKeys();
 
-		for (int index = 0; index < storedMatches.getMatches().size(); index++) {
+		int index = 0;
+		for (Map<String, Object> tuple : storedMatches) {
 
 			Map<String, Object> filteredTuple = HashUtil.getHashMap();
 
-			for (final String variable : storedMatches.getOrderedKeys()) {
-				Object object = storedMatches.getMatches().get(index).get(variable);
+			for (final String variable : variables) {
+				Object object = tuple.get(variable);
 				List<Object> results = HashUtil.getList();
 				Context newContext = new Context(context);
 				newContext.setCurrentIndexInSequence(index);
@@ -222,6 +225,7 @@ public class FilterPostfixInterpreter extends ExpressionInterpreterImpl<FilterPo
 			if (!filteredTuple.isEmpty()) {
 				filteredMatches.add(filteredTuple);
 			}
+			index++;
 		}
 		return filteredMatches;
 	}
@@ -268,7 +272,8 @@ public class FilterPostfixInterpreter extends ExpressionInterpreterImpl<FilterPo
 		 */
 		if (context.getContextBindings() != null) {
 			try {
-				INavigationAxis axis = NavigationRegistry.buildHandler().lookup(AxisTypes.class);
+				ITypeHierarchyNavigationAxis axis = (ITypeHierarchyNavigationAxis) NavigationRegistry.buildHandler().lookup(AxisTypes.class);
+				TopicMap topicMap = getQueriedTopicMap(context);
 				List<Object> values = HashUtil.getList();
 				/*
 				 * iterate over all values of non-scoped variable
@@ -277,7 +282,7 @@ public class FilterPostfixInterpreter extends ExpressionInterpreterImpl<FilterPo
 					/*
 					 * check if value is a topic and a type of the current item
 					 */
-					if (axis.navigateForward(object).contains(type)) {
+					if (axis.navigateForward(topicMap, object, null, false, context.getTypeHierarchy()).contains(type)) {
 						values.add(object);
 					}
 				}
@@ -12,10 +12,8 @@ package de.topicmapslab.tmql4j.path.components.interpreter;
 
 import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.components.processor.core.QueryMatches;
-import de.topicmapslab.tmql4j.components.processor.results.model.IResultSet;
 import de.topicmapslab.tmql4j.components.processor.runtime.ITMQLRuntime;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
-import de.topicmapslab.tmql4j.path.grammar.productions.BindingSet;
 import de.topicmapslab.tmql4j.path.grammar.productions.ForAllClause;
 
 /**
@@ -51,29 +49,25 @@ public class ForAllClauseInterpreter extends QuantifiedExpression<ForAllClause>
 	/**
 	 * {@inheritDoc}
 	 */
-	protected boolean doSatisfy(ITMQLRuntime runtime, IContext context, IResultSet<?> results) {
-		try {
-			/*
-			 * call iteration bindings to extract all possible values
-			 */
-			QueryMatches matches = extractArguments(runtime, BindingSet.class, 0, context);
-			/*
-			 * check if count of possible values are equals than the count of
-			 * satisfying values
-			 */
-			return results.size() == matches.size() && !matches.isEmpty();
-		} catch (TMQLRuntimeException e) {
-			e.printStackTrace();
-			return false;
+	@Override
+	protected Boolean isSatisfied(long amount, long bindings, long checked, long satisfying) {
+		/*
+		 * stop at the first binding which does not satisfy, an empty
+		 * binding-set of an outer binding does not satisfy
+		 */
+		if (bindings == 0 || satisfying < checked) {
+			return Boolean.FALSE;
+		} else if (checked == bindings) {
+			return Boolean.TRUE;
 		}
-
+		return null;
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	protected boolean doSatisfy(QueryMatches context, QueryMatches results) {
+	protected boolean doSatisfy(QueryMatches context, QueryMatches results, long amount) {
 		/*
 		 * check if count of possible values are equals than the count of
 		 * satisfying values
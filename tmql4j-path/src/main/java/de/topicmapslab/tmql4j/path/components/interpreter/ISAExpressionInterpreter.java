@@ -23,7 +23,7 @@ import de.topicmapslab.tmql4j.components.processor.core.QueryMatches;
 import de.topicmapslab.tmql4j.components.processor.runtime.ITMQLRuntime;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
 import de.topicmapslab.tmql4j.path.components.navigation.NavigationRegistry;
-import de.topicmapslab.tmql4j.path.components.navigation.model.INavigationAxis;
+import de.topicmapslab.tmql4j.path.components.navigation.model.ITypeHierarchyNavigationAxis;
 import de.topicmapslab.tmql4j.path.exception.NavigationException;
 import de.topicmapslab.tmql4j.path.grammar.lexical.AxisInstances;
 import de.topicmapslab.tmql4j.path.grammar.lexical.Variable;
@@ -101,8 +101,7 @@ public class ISAExpressionInterpreter extends ExpressionInterpreterImpl<ISAExpre
 		 * simple-content-1 is variable
 		 */
 		try {
-			INavigationAxis axis = NavigationRegistry.buildHandler().lookup(AxisInstances.class);
-			axis.setTopicMap(topicMap);
+			ITypeHierarchyNavigationAxis axis = (ITypeHierarchyNavigationAxis) NavigationRegistry.buildHandler().lookup(AxisInstances.class);
 			/*
 			 * create query-matches containing the results
 			 */
@@ -116,7 +115,7 @@ public class ISAExpressionInterpreter extends ExpressionInterpreterImpl<ISAExpre
 				 */
 				if (o instanceof Topic) {
 
-					for (Object obj_ : axis.navigateForward(o)) {
+					for (Object obj_ : axis.navigateForward(topicMap, o, null, context.isTransitive(), context.getTypeHierarchy())) {
 						Map<String, Object> map = HashUtil.getHashMap();
 						map.put(variable, obj_);
 						matches.add(map);
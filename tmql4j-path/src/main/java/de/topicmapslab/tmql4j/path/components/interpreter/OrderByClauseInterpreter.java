@@ -10,10 +10,6 @@
  */
 package de.topicmapslab.tmql4j.path.components.interpreter;
 
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -22,14 +18,13 @@ import de.topicmapslab.tmql4j.components.interpreter.IExpressionInterpreter;
 import de.topicmapslab.tmql4j.components.processor.core.Context;
 import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.components.processor.core.QueryMatches;
+import de.topicmapslab.tmql4j.components.processor.core.TupleSorter;
 import de.topicmapslab.tmql4j.components.processor.runtime.ITMQLRuntime;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
 import de.topicmapslab.tmql4j.path.components.parser.ParserUtils;
 import de.topicmapslab.tmql4j.path.grammar.lexical.Desc;
 import de.topicmapslab.tmql4j.path.grammar.productions.OrderByClause;
 import de.topicmapslab.tmql4j.path.grammar.productions.ValueExpression;
-import de.topicmapslab.tmql4j.util.HashUtil;
-import de.topicmapslab.tmql4j.util.IndexTuple;
 
 /**
  * 
@@ -61,120 +56,65 @@ public class OrderByClauseInterpreter extends ExpressionInterpreterImpl<OrderByC
 	/**
 	 * {@inheritDoc}
 	 */
-	@SuppressWarnings("unchecked")
 	public QueryMatches interpret(ITMQLRuntime runtime, IContext context, Object... optionalArguments) throws TMQLRuntimeException {
-		Iterator<IExpressionInterpreter<ValueExpression>> iterator = getInterpretersFilteredByEypressionType(runtime, ValueExpression.class).iterator();
-
-		List<IndexTuple> iteration = sort(runtime, context, iterator.next(), 0, context.getContextBindings().size());
-
-		while (iterator.hasNext()) {
-			boolean cancel = true;
-			IExpressionInterpreter<ValueExpression> interpreter = iterator.next();
-			List<IndexTuple> results = new LinkedList<IndexTuple>();
-			results.addAll(iteration);
-			iteration.clear();
-
-			/*
-			 * add ordered bindings
-			 */
-			QueryMatches orderedMatches = new QueryMatches(runtime);
-			for (IndexTuple tuple : results) {
-				orderedMatches.add(tuple.origin);
-			}
-
-			int from = 0;
-			IndexTuple tuple = results.get(0);
-			for (int index = 1; index < results.size(); index++) {
-				IndexTuple t = results.get(index);
-				if (tuple.compareTo(t) != 0) {
-					if (index - from > 1) {
-						Context newContext = new Context(context);
-						newContext.setContextBindings(orderedMatches);
-						List<IndexTuple> tuples = sort(runtime, newContext, interpreter, from, index);
-						iteration.addAll(tuples);
-						cancel = false;
-					} else {
-						iteration.add(tuple);
-					}
-					from = index;
-				}
-				tuple = t;
-			}
-
-			if (results.size() - from > 1) {
-				Context newContext = new Context(context);
-				newContext.setContextBindings(orderedMatches);
-				List<IndexTuple> tuples = sort(runtime, newContext, interpreter, from, results.size());
-				iteration.addAll(tuples);
-				cancel = false;
-			}
-
-			if (cancel) {
-				break;
-			}
-		}
-
-		/*
-		 * add ordered bindings
-		 */
-		QueryMatches orderedMatches = new QueryMatches(runtime);
-		for (IndexTuple tuple : iteration) {
-			orderedMatches.add(tuple.origin);
-		}
-		return orderedMatches;
+		return interpretFirst(runtime, context, -1, optionalArguments);
 	}
 
-	@SuppressWarnings("unchecked")
-	private final List<IndexTuple> sort(final ITMQLRuntime runtime, final IContext context, IExpressionInterpreter<ValueExpression> interpreter, int from, int to) throws TMQLRuntimeException {
+	/**
+	 * Orders the bindings of the given context, but only keeps the first
+	 * bindings of the ordered sequence. All value-expressions are evaluated
+	 * once for each binding and the bindings are sorted once by all keys.
+	 * Bindings with equal keys keep their origin order, so the result is
+	 * always a prefix of the completely ordered sequence.
+	 * 
+	 * @param runtime
+	 *            the TMQL4J runtime
+	 * @param context
+	 *            the current querying context
+	 * @param number
+	 *            the number of bindings to keep or <code>-1</code> to order
+	 *            all bindings
+	 * @param optionalArguments
+	 *            optional arguments
+	 * @return the first ordered bindings
+	 * @throws TMQLRuntimeException
+	 *             thrown if interpretation fails
+	 * @since 3.2.0
+	 */
+	public QueryMatches interpretFirst(final ITMQLRuntime runtime, final IContext context, long number, Object... optionalArguments) throws TMQLRuntimeException {
+		final List<IExpressionInterpreter<ValueExpression>> interpreters = getInterpretersFilteredByEypressionType(runtime, ValueExpression.class);
 
 		/*
-		 * initialize the cache of results of value-expression
+		 * extract sorting directions
 		 */
-		List<IndexTuple> results = new LinkedList<IndexTuple>();
+		boolean[] ascending = new boolean[interpreters.size()];
+		for (int i = 0; i < ascending.length; i++) {
+			ascending[i] = !ParserUtils.containsTokens(interpreters.get(i).getTmqlTokens(), Desc.class);
+		}
 
-		/*
-		 * iterate over possible bindings
-		 */
-		for (int index = from; index < to; index++) {
-			/*
-			 * get binding at current index
-			 */
-			Map<String, Object> binding = context.getContextBindings().get(index);
-			Context newContext = new Context(context);
-			newContext.setCurrentTuple(binding);
-			newContext.setContextBindings(null);
-			/*
-			 * create special tuple saving their index
-			 */
-			IndexTuple indexTuple = new IndexTuple();
-			indexTuple.origin = binding;
-			/*
-			 * call value-expression
+		TupleSorter sorter = new TupleSorter(ascending) {
+			/**
+			 * {@inheritDoc}
 			 */
-			QueryMatches matches = interpreter.interpret(runtime, newContext);
-			if (matches.isEmpty()) {
-				indexTuple.tuple = HashUtil.getHashMap();
-			} else {
-				indexTuple.tuple = matches.getMatches().get(0);
+			protected Object getValue(int key, Map<String, Object> tuple) throws TMQLRuntimeException {
+				Context newContext = new Context(context);
+				newContext.setCurrentTuple(tuple);
+				newContext.setContextBindings(null);
+				/*
+				 * call value-expression
+				 */
+				QueryMatches matches = interpreters.get(key).interpret(runtime, newContext);
+				if (matches.isEmpty()) {
+					return null;
+				}
+				return matches.get(0).get(QueryMatches.getNonScopedVariable());
 			}
-			results.add(indexTuple);
-		}
+		};
 
 		/*
-		 * extract sorting direction
-		 */
-		final boolean ascending = !ParserUtils.containsTokens(interpreter.getTmqlTokens(), Desc.class);
-
-		/*
-		 * sort the tuples
+		 * add ordered bindings
 		 */
-		Collections.sort(results, new Comparator<IndexTuple>() {
-			public int compare(IndexTuple o1, IndexTuple o2) {
-				int compare = o1.compareTo(o2);
-				return ascending ?  compare : -1 * compare;
-			}
-		});
-
-		return results;
+		List<Map<String, Object>> tuples = sorter.sort(runtime.getExecutionPool(), context, context.getContextBindings().getMatches(), number);
+		return new QueryMatches(runtime, tuples);
 	}
 }
@@ -14,6 +14,7 @@ import java.util.Collection;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.tmapi.core.TopicMap;
 
 import de.topicmapslab.tmql4j.components.interpreter.ExpressionInterpreterImpl;
 import de.topicmapslab.tmql4j.components.processor.core.IContext;
@@ -180,21 +181,22 @@ public class StepInterpreter extends ExpressionInterpreterImpl<Step> {
 				logger.warn("Anchor is missing!");
 				return QueryMatches.emptyMatches();
 			}
-			/*
-			 * set topic map to navigation axis
-			 */
-			axis.setTopicMap(context.getQuery().getTopicMap());
-			if (axis instanceof ITypeHierarchyNavigationAxis) {
-				((ITypeHierarchyNavigationAxis) axis).setTransitivity(context.isTransitive());
-			}
 			/*
 			 * execute navigation by calling navigation API
 			 */
+			TopicMap topicMap = context.getQuery().getTopicMap();
 			Collection<?> navigationResults;
-			if (forward) {
-				navigationResults = axis.navigateForward(anchor, optional);
+			if (axis instanceof ITypeHierarchyNavigationAxis) {
+				ITypeHierarchyNavigationAxis hierarchyAxis = (ITypeHierarchyNavigationAxis) axis;
+				if (forward) {
+					navigationResults = hierarchyAxis.navigateForward(topicMap, anchor, optional, context.isTransitive(), context.getTypeHierarchy());
+				} else {
+					navigationResults = hierarchyAxis.navigateBackward(topicMap, anchor, optional, context.isTransitive(), context.getTypeHierarchy());
+				}
+			} else if (forward) {
+				navigationResults = axis.navigateForward(topicMap, anchor, optional);
 			} else {
-				navigationResults = axis.navigateBackward(anchor, optional);
+				navigationResults = axis.navigateBackward(topicMap, anchor, optional);
 			}
 			/*
 			 * convert navigation results to tuple-sequence and store
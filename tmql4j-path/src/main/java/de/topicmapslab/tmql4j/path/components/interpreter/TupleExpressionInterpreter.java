@@ -10,21 +10,17 @@
  */
 package de.topicmapslab.tmql4j.path.components.interpreter;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.ThreadPoolExecutor;
 
 import de.topicmapslab.tmql4j.components.interpreter.ExpressionInterpreterImpl;
 import de.topicmapslab.tmql4j.components.interpreter.IExpressionInterpreter;
 import de.topicmapslab.tmql4j.components.processor.core.Context;
 import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.components.processor.core.QueryMatches;
+import de.topicmapslab.tmql4j.components.processor.runtime.IPartitionTask;
 import de.topicmapslab.tmql4j.components.processor.runtime.ITMQLRuntime;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
 import de.topicmapslab.tmql4j.path.grammar.productions.AliasValueExpression;
@@ -106,98 +102,38 @@ public class TupleExpressionInterpreter extends ExpressionInterpreterImpl<TupleE
 	 */
 	private QueryMatches interpretAliasValueExpression(final ITMQLRuntime runtime, final IContext context, final Object... optionalArguments)
 			throws TMQLRuntimeException {
-		List<Future<Object>> tasks = new LinkedList<Future<Object>>();
-		ThreadPoolExecutor threadPool = (ThreadPoolExecutor) Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 4);
-
 		final List<String> variables = getVariables();
 
 		final List<IExpressionInterpreter<AliasValueExpression>> interpreters = getInterpretersFilteredByEypressionType(runtime,
 				AliasValueExpression.class);
-		int index = 0;
-		for (final IExpressionInterpreter<AliasValueExpression> interpreter : interpreters) {
-			final int index_ = index;
-			Callable<Object> callable = new Callable<Object>() {
-				/**
-				 * {@inheritDoc}
-				 */
-				public Object call() throws Exception {
-					Context newContext = new Context(context);
-					newContext.setCurrentIndexInTuple(index_);
-					QueryMatches result = interpreter.interpret(runtime, newContext, optionalArguments);
-					final List<String> keys = result.getOrderedKeys();
-					if (result.isEmpty()) {
-						return null;
-					}
-					/*
-					 * check if expression contains variables
+		final int size = interpreters.size();
+		List<List<Object>> partitions = runtime.getExecutionPool().execute(context, interpreters,
+				new IPartitionTask<IExpressionInterpreter<AliasValueExpression>, List<Object>>() {
+					/**
+					 * {@inheritDoc}
 					 */
-					if (!variables.isEmpty()) {
-						/*
-						 * variable name of the expression
-						 */
-						final String variable = variables.get(0);
-						/*
-						 * contains non-scoped stuff
-						 */
-						if (keys.contains(QueryMatches.getNonScopedVariable())) {
-							List<Object> possibleValuesForVariable = result.getPossibleValuesForVariable();
-							return possibleValuesForVariable.size() == 1 ? possibleValuesForVariable.get(0) : possibleValuesForVariable;
-						}
-						/*
-						 * contains value stuff
-						 */
-						else if (keys.contains(variable)) {
-							List<Object> possibleValuesForVariable = result.getPossibleValuesForVariable(variable);
-							return possibleValuesForVariable.size() == 1 ? possibleValuesForVariable.get(0) : possibleValuesForVariable;
-						}
-						/*
-						 * is index variable
-						 */
-						/*
-						 * contains value stuff $0
-						 */
-						else if (keys.contains("$0")) {
-							List<Object> possibleValuesForVariable = result.getPossibleValuesForVariable("$0");
-							return possibleValuesForVariable.size() == 1 ? possibleValuesForVariable.get(0) : possibleValuesForVariable;
-						}
-						/*
-						 * no results
-						 */
-						else if (interpreters.size() != 1) {
-							return null;
+					public List<Object> call(List<IExpressionInterpreter<AliasValueExpression>> partition, int fromIndex)
+							throws TMQLRuntimeException {
+						List<Object> values = new ArrayList<Object>(partition.size());
+						int index = fromIndex;
+						for (IExpressionInterpreter<AliasValueExpression> interpreter : partition) {
+							values.add(interpretAliasValue(runtime, context, interpreter, index++, variables, size, optionalArguments));
 						}
+						return values;
 					}
-					/*
-					 * variable independent
-					 */
-					else {
-						List<Object> possibleValuesForVariable = result.getPossibleValuesForVariable();
-						if (possibleValuesForVariable.isEmpty()) {
-							return result;
-						}
-						return possibleValuesForVariable.size() == 1 ? possibleValuesForVariable.get(0) : possibleValuesForVariable;
-					}
-					return null;
-				}
-			};
-			tasks.add(threadPool.submit(callable));
-			index++;
-		}
-
-		threadPool.shutdown();
+				});
 
 		/*
 		 * create result
 		 */
 		QueryMatches results = new QueryMatches(runtime);
-		index = 0;
+		int index = 0;
 		Map<String, Object> tuple = HashUtil.getHashMap();
-		for (Future<Object> task : tasks) {
-			try {
-				Object result = task.get();
-				if (result == null && tasks.size() == 1) {
+		for (List<Object> partition : partitions) {
+			for (Object result : partition) {
+				if (result == null && size == 1) {
 					return QueryMatches.emptyMatches();
-				} else if (tasks.size() == 1 && result instanceof Collection<?>) {
+				} else if (size == 1 && result instanceof Collection<?>) {
 					QueryMatches matches = QueryMatches.asQueryMatch(runtime, "$0", result);
 					matches.addOrigin(QueryMatches.getNonScopedVariable(), "$0");
 					return matches;
@@ -205,16 +141,95 @@ public class TupleExpressionInterpreter extends ExpressionInterpreterImpl<TupleE
 					return (QueryMatches) result;
 				}
 				tuple.put("$" + index++, result);
-			} catch (InterruptedException e) {
-				throw new TMQLRuntimeException(e);
-			} catch (ExecutionException e) {
-				throw new TMQLRuntimeException(e);
 			}
 		}
 		results.add(tuple);
 		return results;
 	}
 
+	/**
+	 * Interprets the alias-value-expression at the given index of the tuple
+	 * 
+	 * @param runtime
+	 *            the runtime which contains all necessary information for querying process
+	 * @param context
+	 *            the current querying context
+	 * @param interpreter
+	 *            the interpreter of the alias-value-expression
+	 * @param index
+	 *            the index of the alias-value-expression within the tuple
+	 * @param variables
+	 *            the variables of the tuple-expression
+	 * @param size
+	 *            the number of alias-value-expressions of the tuple
+	 * @param optionalArguments
+	 *            optional arguments
+	 * @return the value of the alias-value-expression, which may be a single
+	 *         value, a list of values, the query matches or <code>null</code>
+	 * @throws TMQLRuntimeException
+	 *             thrown if interpretation fails
+	 */
+	private Object interpretAliasValue(ITMQLRuntime runtime, IContext context, IExpressionInterpreter<AliasValueExpression> interpreter, int index,
+			List<String> variables, int size, Object... optionalArguments) throws TMQLRuntimeException {
+		Context newContext = new Context(context);
+		newContext.setCurrentIndexInTuple(index);
+		QueryMatches result = interpreter.interpret(runtime, newContext, optionalArguments);
+		final List<String> keys = result.getOrderedKeys();
+		if (result.isEmpty()) {
+			return null;
+		}
+		/*
+		 * check if expression contains variables
+		 */
+		if (!variables.isEmpty()) {
+			/*
+			 * variable name of the expression
+			 */
+			final String variable = variables.get(0);
+			/*
+			 * contains non-scoped stuff
+			 */
+			if (keys.contains(QueryMatches.getNonScopedVariable())) {
+				List<Object> possibleValuesForVariable = result.getPossibleValuesForVariable();
+				return possibleValuesForVariable.size() == 1 ? possibleValuesForVariable.get(0) : possibleValuesForVariable;
+			}
+			/*
+			 * contains value stuff
+			 */
+			else if (keys.contains(variable)) {
+				List<Object> possibleValuesForVariable = result.getPossibleValuesForVariable(variable);
+				return possibleValuesForVariable.size() == 1 ? possibleValuesForVariable.get(0) : possibleValuesForVariable;
+			}
+			/*
+			 * is index variable
+			 */
+			/*
+			 * contains value stuff $0
+			 */
+			else if (keys.contains("$0")) {
+				List<Object> possibleValuesForVariable = result.getPossibleValuesForVariable("$0");
+				return possibleValuesForVariable.size() == 1 ? possibleValuesForVariable.get(0) : possibleValuesForVariable;
+			}
+			/*
+			 * no results
+			 */
+			else if (size != 1) {
+				return null;
+			}
+		}
+		/*
+		 * variable independent
+		 */
+		else {
+			List<Object> possibleValuesForVariable = result.getPossibleValuesForVariable();
+			if (possibleValuesForVariable.isEmpty()) {
+				return result;
+			}
+			return possibleValuesForVariable.size() == 1 ? possibleValuesForVariable.get(0) : possibleValuesForVariable;
+		}
+		return null;
+	}
+
 	/**
 	 * The method is called to interpret the given sub-expression by using the given runtime. The interpretation will
 	 * call the sub-expression if the given expression isn't a leaf in parsing-tree.
@@ -15,18 +15,41 @@ import static de.topicmapslab.tmql4j.path.grammar.productions.ValueExpression.TY
 import static de.topicmapslab.tmql4j.path.grammar.productions.ValueExpression.TYPE_FUNCTION_INVOCATION;
 import static de.topicmapslab.tmql4j.path.grammar.productions.ValueExpression.TYPE_INFIX_OPERATOR;
 import static de.topicmapslab.tmql4j.path.grammar.productions.ValueExpression.TYPE_PREFIX_OPERATOR;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.tmapi.core.Construct;
+import org.tmapi.core.Topic;
+
 import de.topicmapslab.tmql4j.components.interpreter.ExpressionInterpreterImpl;
 import de.topicmapslab.tmql4j.components.interpreter.IExpressionInterpreter;
 import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.components.processor.core.QueryMatches;
 import de.topicmapslab.tmql4j.components.processor.runtime.ITMQLRuntime;
+import de.topicmapslab.tmql4j.components.processor.runtime.LiteralRangeIndex;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
+import de.topicmapslab.tmql4j.grammar.lexical.IToken;
+import de.topicmapslab.tmql4j.grammar.productions.IExpression;
 import de.topicmapslab.tmql4j.path.grammar.lexical.Asc;
+import de.topicmapslab.tmql4j.path.grammar.lexical.AxisAtomify;
+import de.topicmapslab.tmql4j.path.grammar.lexical.AxisCharacteristics;
+import de.topicmapslab.tmql4j.path.grammar.lexical.Dot;
+import de.topicmapslab.tmql4j.path.grammar.lexical.Element;
+import de.topicmapslab.tmql4j.path.grammar.lexical.GreaterEquals;
+import de.topicmapslab.tmql4j.path.grammar.lexical.GreaterThan;
+import de.topicmapslab.tmql4j.path.grammar.lexical.LowerEquals;
+import de.topicmapslab.tmql4j.path.grammar.lexical.LowerThan;
+import de.topicmapslab.tmql4j.path.grammar.lexical.MoveForward;
+import de.topicmapslab.tmql4j.path.grammar.lexical.ShortcutAxisAtomifyMoveForward;
 import de.topicmapslab.tmql4j.path.grammar.productions.BooleanExpression;
 import de.topicmapslab.tmql4j.path.grammar.productions.Content;
 import de.topicmapslab.tmql4j.path.grammar.productions.FunctionInvocation;
 import de.topicmapslab.tmql4j.path.grammar.productions.ValueExpression;
 import de.topicmapslab.tmql4j.path.util.QueryMatchUtils;
+import de.topicmapslab.tmql4j.util.HashUtil;
+import de.topicmapslab.tmql4j.util.TmdmSubjectIdentifier;
 
 /**
  * 
@@ -60,12 +83,37 @@ import de.topicmapslab.tmql4j.path.util.QueryMatchUtils;
  */
 public class ValueExpressionInterpreter extends ExpressionInterpreterImpl<ValueExpression> {
 
+	/**
+	 * the tokens of the atomified characteristics of the current node, e.g.
+	 * <code>. / age</code>
+	 */
+	@SuppressWarnings("unchecked")
+	private static final List<Class<? extends IToken>> ATOMIFIED_CHARACTERISTICS = Arrays.<Class<? extends IToken>> asList(Dot.class,
+			ShortcutAxisAtomifyMoveForward.class, Element.class);
+	/**
+	 * the tokens of the canonical form of the atomified characteristics of the
+	 * current node, e.g. <code>. >> characteristics age >> atomify</code>
+	 */
+	@SuppressWarnings("unchecked")
+	private static final List<Class<? extends IToken>> ATOMIFIED_CHARACTERISTICS_CANONICAL = Arrays.<Class<? extends IToken>> asList(Dot.class,
+			MoveForward.class, AxisCharacteristics.class, Element.class, MoveForward.class, AxisAtomify.class);
+
 	/**
 	 * index of operator of value-expression is of an
 	 * {@link ValueExpression#TYPE_INFIX_OPERATOR} or
 	 * {@link ValueExpression#TYPE_PREFIX_OPERATOR}
 	 */
 	private final int indexOfOperator;
+	/**
+	 * the name of the range comparison if the expression compares the
+	 * atomified characteristics of the current node, <code>null</code>
+	 * otherwise
+	 */
+	private final String rangeComparison;
+	/**
+	 * the reference of the type of the compared characteristics
+	 */
+	private final String characteristicType;
 
 	/**
 	 * base constructor to create a new instance
@@ -76,6 +124,64 @@ public class ValueExpressionInterpreter extends ExpressionInterpreterImpl<ValueE
 	public ValueExpressionInterpreter(ValueExpression ex) {
 		super(ex);
 		indexOfOperator = ((ValueExpression) ex).getIndexOfOperator();
+		/*
+		 * check if the characteristics of the current node are compared
+		 */
+		String type = null;
+		String comparison = null;
+		if (getGrammarTypeOfExpression() == TYPE_INFIX_OPERATOR && ex.getExpressions().size() == 2) {
+			comparison = getRangeComparison(getTmqlTokens().get(indexOfOperator));
+			if (comparison != null) {
+				type = getCharacteristicType(ex.getExpressions().get(0));
+			}
+		}
+		characteristicType = type;
+		rangeComparison = type == null ? null : comparison;
+	}
+
+	/**
+	 * Returns the name of the comparison realized by the given operator
+	 * 
+	 * @param operator
+	 *            the operator
+	 * @return the name of the comparison or <code>null</code> if the operator
+	 *         is not a range comparison
+	 */
+	private static String getRangeComparison(Class<? extends IToken> operator) {
+		if (operator.equals(LowerThan.class)) {
+			return "isLowerThan";
+		} else if (operator.equals(LowerEquals.class)) {
+			return "isLowerOrEquals";
+		} else if (operator.equals(GreaterThan.class)) {
+			return "isGreaterThan";
+		} else if (operator.equals(GreaterEquals.class)) {
+			return "isGreaterOrEquals";
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the type of the characteristics if the given expression
+	 * atomifies the characteristics of the current node
+	 * 
+	 * @param ex
+	 *            the left hand expression
+	 * @return the reference of the type or <code>null</code>
+	 */
+	private static String getCharacteristicType(IExpression ex) {
+		String type = null;
+		if (ATOMIFIED_CHARACTERISTICS.equals(ex.getTmqlTokens())) {
+			type = ex.getTokens().get(2);
+		} else if (ATOMIFIED_CHARACTERISTICS_CANONICAL.equals(ex.getTmqlTokens())) {
+			type = ex.getTokens().get(3);
+		}
+		/*
+		 * all names or occurrences are not indexed by type
+		 */
+		if (type == null || TmdmSubjectIdentifier.isTmdmName(type) || TmdmSubjectIdentifier.isTmdmOccurrence(type) || "undef".equalsIgnoreCase(type)) {
+			return null;
+		}
+		return type;
 	}
 
 	/**
@@ -170,6 +276,15 @@ public class ValueExpressionInterpreter extends ExpressionInterpreterImpl<ValueE
 	 *             thrown if interpretation fails
 	 */
 	private QueryMatches interpretInfixOpertor(ITMQLRuntime runtime, IContext context, Object... optionalArguments) throws TMQLRuntimeException {
+		/*
+		 * compare the characteristics of the current topic by a range scan
+		 */
+		if (rangeComparison != null && runtime.getLiteralRangeIndex().isEnabled() && context.getCurrentNode() instanceof Topic) {
+			Topic type = getCharacteristicType(runtime, context);
+			if (type != null) {
+				return interpretRangeComparison(runtime, context, type, optionalArguments);
+			}
+		}
 		/*
 		 * call value expressions
 		 */
@@ -181,6 +296,64 @@ public class ValueExpressionInterpreter extends ExpressionInterpreterImpl<ValueE
 		return QueryMatchUtils.operation(runtime, getTmqlTokens().get(indexOfOperator), arguments[0], arguments[1]);
 	}
 
+	/**
+	 * Resolves the type of the compared characteristics
+	 * 
+	 * @param runtime
+	 *            the runtime
+	 * @param context
+	 *            the current querying context
+	 * @return the type or <code>null</code> if the reference is not a topic
+	 */
+	private Topic getCharacteristicType(ITMQLRuntime runtime, IContext context) {
+		try {
+			Construct type = runtime.getConstructResolver().getConstructByIdentifier(context, characteristicType);
+			if (type instanceof Topic) {
+				return (Topic) type;
+			}
+		} catch (Exception e) {
+			/*
+			 * the reference is handled by the navigation
+			 */
+		}
+		return null;
+	}
+
+	/**
+	 * Interprets the comparison of the atomified characteristics of the
+	 * current topic by the {@link LiteralRangeIndex} of the runtime. The index
+	 * is scanned once for all topics compared with the same value, the result
+	 * contains one tuple for each satisfying characteristic of the topic, like
+	 * the comparison of the navigation results.
+	 * 
+	 * @param runtime
+	 *            the runtime
+	 * @param context
+	 *            the current querying context
+	 * @param type
+	 *            the type of the characteristics
+	 * @param optionalArguments
+	 *            optional arguments
+	 * @return the query matches
+	 * @throws TMQLRuntimeException
+	 *             thrown if interpretation fails
+	 */
+	private QueryMatches interpretRangeComparison(ITMQLRuntime runtime, IContext context, Topic type, Object... optionalArguments) throws TMQLRuntimeException {
+		QueryMatches rightHand = extractArguments(runtime, ValueExpression.class, 1, context, optionalArguments);
+		QueryMatches result = new QueryMatches(runtime);
+		if (!rightHand.isEmpty() && rightHand.getOrderedKeys().contains(QueryMatches.getNonScopedVariable())) {
+			Topic topic = (Topic) context.getCurrentNode();
+			Object bound = rightHand.getPossibleValuesForVariable().get(0);
+			Integer count = runtime.getLiteralRangeIndex().getCounts(topic.getTopicMap(), type, rangeComparison, bound).get(topic);
+			for (int i = 0; count != null && i < count; i++) {
+				Map<String, Object> tuple = HashUtil.getHashMap();
+				tuple.put(QueryMatches.getNonScopedVariable(), Boolean.TRUE);
+				result.add(tuple);
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * The method is called to interpret the given sub-expression by using the
 	 * given runtime. The interpretation will call the sub-expression if the
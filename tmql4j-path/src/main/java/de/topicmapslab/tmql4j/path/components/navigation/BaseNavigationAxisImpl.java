@@ -18,7 +18,8 @@ import de.topicmapslab.tmql4j.path.exception.NavigationException;
 
 /**
  * Base implementation of a navigation axis to implement some core functionality
- * of each TMQL axis.
+ * of each TMQL axis. Implementations have to be stateless, because one
+ * instance of each axis is shared by all queries.
  * 
  * @author Sven Krosse
  * @email krosse@informatik.uni-leipzig.de
@@ -30,10 +31,6 @@ public abstract class BaseNavigationAxisImpl implements INavigationAxis {
 	 * the internal enumeration value representing the axis type
 	 */
 	private final Class<? extends IToken> axisToken;
-	/**
-	 * the internal topic map instance
-	 */
-	private TopicMap topicMap;
 
 	/**
 	 * constructor
@@ -55,15 +52,15 @@ public abstract class BaseNavigationAxisImpl implements INavigationAxis {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigateBackward(Object construct) throws NavigationException {
-		return navigateBackward(construct, null);
+	public Collection<?> navigateBackward(TopicMap topicMap, Object construct) throws NavigationException {
+		return navigateBackward(topicMap, construct, null);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigateForward(Object construct) throws NavigationException {
-		return navigateForward(construct, null);
+	public Collection<?> navigateForward(TopicMap topicMap, Object construct) throws NavigationException {
+		return navigateForward(topicMap, construct, null);
 	}
 
 	/**
@@ -81,20 +78,19 @@ public abstract class BaseNavigationAxisImpl implements INavigationAxis {
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Checks the topic map given as argument of the navigation.
+	 * 
+	 * @param topicMap
+	 *            the topic map
+	 * @return the topic map and never <code>null</code>
+	 * @throws NavigationException
+	 *             thrown if topic map reference is <code>null</code>
 	 */
-	public TopicMap getTopicMap() throws NavigationException {
+	protected final TopicMap getTopicMap(TopicMap topicMap) throws NavigationException {
 		if (topicMap == null) {
 			throw new NavigationException("topic map not set!");
 		}
 		return topicMap;
 	}
 
-	/**
-	 * {@inheritDoc}
-	 */
-	public void setTopicMap(TopicMap topicMap) {
-		this.topicMap = topicMap;
-	}
-
 }
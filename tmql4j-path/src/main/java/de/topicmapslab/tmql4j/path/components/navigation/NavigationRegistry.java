@@ -8,14 +8,11 @@
  */
 package de.topicmapslab.tmql4j.path.components.navigation;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.tmapi.core.Construct;
 
@@ -76,37 +73,38 @@ public class NavigationRegistry implements INavigationHandler {
 	/**
 	 * singleton instance
 	 */
-	private static NavigationRegistry instance = null;
+	private static final NavigationRegistry instance = new NavigationRegistry();
 
 	/**
-	 * the internal map containing axis-classes of each axis type
+	 * the dispatch table containing the shared axis instance of each axis
+	 * type
 	 */
-	private final Map<Class<? extends IToken>, Class<? extends INavigationAxis>> axis;
+	private final Map<Class<? extends IToken>, INavigationAxis> axis;
 
 	/**
 	 * invisible private constructor of singleton implementation.
 	 */
 	private NavigationRegistry() {
-		axis = new HashMap<Class<? extends IToken>, Class<? extends INavigationAxis>>();
-		axis.put(AxisTypes.class, TypesNavigationAxis.class);
-		axis.put(AxisInstances.class, InstancesNavigationAxis.class);
-		axis.put(AxisSupertypes.class, SupertypesNavigationAxis.class);
-		axis.put(AxisSubtypes.class, SubtypesNavigationAxis.class);
-		axis.put(AxisPlayers.class, PlayersNavigationAxis.class);
-		axis.put(AxisRoles.class, RolesNavigationAxis.class);
-		axis.put(AxisRoleTypes.class, RoleTypesNavigationAxis.class);
-		axis.put(AxisTraverse.class, TraverseNavigationAxis.class);
-		axis.put(AxisCharacteristics.class, CharacteristicsNavigationAxis.class);
-		axis.put(AxisScope.class, ScopeNavigationAxis.class);
-		axis.put(AxisLocators.class, LocatorsNavigationAxis.class);
-		axis.put(AxisIndicators.class, IndicatorsNavigationAxis.class);
-		axis.put(AxisItem.class, ItemNavigationAxis.class);
-		axis.put(AxisReifier.class, ReifierNavigationAxis.class);
-		axis.put(AxisAtomify.class, AtomifyNavigationAxis.class);
-		axis.put(AxisTyped.class, TypedNavigationAxis.class);
-		axis.put(AxisId.class, IdNavigationAxis.class);
-		axis.put(AxisVariants.class, VariantsNavigationAxis.class);
-		axis.put(AxisDatatype.class, DatatypeNavigationAxis.class);
+		axis = new ConcurrentHashMap<Class<? extends IToken>, INavigationAxis>();
+		axis.put(AxisTypes.class, new TypesNavigationAxis());
+		axis.put(AxisInstances.class, new InstancesNavigationAxis());
+		axis.put(AxisSupertypes.class, new SupertypesNavigationAxis());
+		axis.put(AxisSubtypes.class, new SubtypesNavigationAxis());
+		axis.put(AxisPlayers.class, new PlayersNavigationAxis());
+		axis.put(AxisRoles.class, new RolesNavigationAxis());
+		axis.put(AxisRoleTypes.class, new RoleTypesNavigationAxis());
+		axis.put(AxisTraverse.class, new TraverseNavigationAxis());
+		axis.put(AxisCharacteristics.class, new CharacteristicsNavigationAxis());
+		axis.put(AxisScope.class, new ScopeNavigationAxis());
+		axis.put(AxisLocators.class, new LocatorsNavigationAxis());
+		axis.put(AxisIndicators.class, new IndicatorsNavigationAxis());
+		axis.put(AxisItem.class, new ItemNavigationAxis());
+		axis.put(AxisReifier.class, new ReifierNavigationAxis());
+		axis.put(AxisAtomify.class, new AtomifyNavigationAxis());
+		axis.put(AxisTyped.class, new TypedNavigationAxis());
+		axis.put(AxisId.class, new IdNavigationAxis());
+		axis.put(AxisVariants.class, new VariantsNavigationAxis());
+		axis.put(AxisDatatype.class, new DatatypeNavigationAxis());
 	}
 
 	/**
@@ -114,14 +112,9 @@ public class NavigationRegistry implements INavigationHandler {
 	 */
 	public Collection<INavigationAxis> getSupportedNavigationAxis(Construct construct) throws NavigationException {
 		Set<INavigationAxis> set = new HashSet<INavigationAxis>();
-		for (Entry<Class<? extends IToken>, Class<? extends INavigationAxis>> entry : axis.entrySet()) {
-			try {
-				INavigationAxis axis = lookup(entry.getKey());
-				if (axis.supportsBackwardNavigation(construct) || axis.supportsForwardNavigation(construct)) {
-					set.add(axis);
-				}
-			} catch (UnsupportedNavigationTypeException e) {
-				throw new NavigationException("Navigation error for axis " + entry.getKey().toString(), e);
+		for (INavigationAxis axis : this.axis.values()) {
+			if (axis.supportsBackwardNavigation(construct) || axis.supportsForwardNavigation(construct)) {
+				set.add(axis);
 			}
 		}
 		return set;
@@ -132,14 +125,9 @@ public class NavigationRegistry implements INavigationHandler {
 	 */
 	public Collection<INavigationAxis> getSupportedNavigationAxis(Construct construct, final Construct optional) throws NavigationException {
 		Set<INavigationAxis> set = new HashSet<INavigationAxis>();
-		for (Entry<Class<? extends IToken>, Class<? extends INavigationAxis>> entry : axis.entrySet()) {
-			try {
-				INavigationAxis axis = lookup(entry.getKey());
-				if (axis.supportsBackwardNavigation(construct) || axis.supportsForwardNavigation(construct)) {
-					set.add(axis);
-				}
-			} catch (UnsupportedNavigationTypeException e) {
-				throw new NavigationException("Navigation error for axis " + entry.getKey().toString(), e);
+		for (INavigationAxis axis : this.axis.values()) {
+			if (axis.supportsBackwardNavigation(construct) || axis.supportsForwardNavigation(construct)) {
+				set.add(axis);
 			}
 		}
 		return set;
@@ -157,29 +145,11 @@ public class NavigationRegistry implements INavigationHandler {
 	 * {@inheritDoc}
 	 */
 	public INavigationAxis lookup(Class<? extends IToken> token) throws UnsupportedNavigationTypeException {
-		if (axis.containsKey(token)) {
-			Class<? extends INavigationAxis> clazz = axis.get(token);
-			try {
-				Constructor<? extends INavigationAxis> constructor = clazz.getConstructor();
-				INavigationAxis axis = constructor.newInstance();
-				return axis;
-			} catch (NoSuchMethodError e) {
-				throw new UnsupportedNavigationTypeException("Initialization error of " + token.getName(), e);
-			} catch (IllegalArgumentException e) {
-				throw new UnsupportedNavigationTypeException("Initialization error of " + token.getName(), e);
-			} catch (InstantiationException e) {
-				throw new UnsupportedNavigationTypeException("Initialization error of " + token.getName(), e);
-			} catch (IllegalAccessException e) {
-				throw new UnsupportedNavigationTypeException("Initialization error of " + token.getName(), e);
-			} catch (InvocationTargetException e) {
-				throw new UnsupportedNavigationTypeException("Initialization error of " + token.getName(), e);
-			} catch (SecurityException e) {
-				throw new UnsupportedNavigationTypeException("Initialization error of " + token.getName(), e);
-			} catch (NoSuchMethodException e) {
-				throw new UnsupportedNavigationTypeException("Initialization error of " + token.getName(), e);
-			}
+		INavigationAxis axis = this.axis.get(token);
+		if (axis == null) {
+			throw new UnsupportedNavigationTypeException("Unknown type " + token.getName());
 		}
-		throw new UnsupportedNavigationTypeException("Unknown type " + token.getName());
+		return axis;
 	}
 
 	/**
@@ -190,22 +160,28 @@ public class NavigationRegistry implements INavigationHandler {
 	 * @throws NavigationException
 	 */
 	public static final NavigationRegistry buildHandler() throws NavigationException {
-		if (instance == null) {
-			instance = new NavigationRegistry();
-		}
-
 		return instance;
 	}
 
 	/**
-	 * Register a new navigation axis
+	 * Register a new navigation axis. The axis class is instantiated once and
+	 * the instance is shared by all navigation steps, so the axis has to be
+	 * stateless.
 	 * 
 	 * @param token
 	 *            the token
 	 * @param clazz
 	 *            the class of navigation axis
+	 * @throws UnsupportedNavigationTypeException
+	 *             thrown if the axis class cannot be instantiated
 	 */
-	public final void registryAxis(Class<? extends IToken> token, Class<? extends INavigationAxis> clazz) {
-		axis.put(token, clazz);
+	public final void registryAxis(Class<? extends IToken> token, Class<? extends INavigationAxis> clazz) throws UnsupportedNavigationTypeException {
+		try {
+			axis.put(token, clazz.newInstance());
+		} catch (InstantiationException e) {
+			throw new UnsupportedNavigationTypeException("Initialization error of " + token.getName(), e);
+		} catch (IllegalAccessException e) {
+			throw new UnsupportedNavigationTypeException("Initialization error of " + token.getName(), e);
+		}
 	}
 }
@@ -70,10 +70,10 @@ public class AtomifyNavigationAxis extends BaseNavigationAxisImpl {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigateBackward(Object construct, Object optional)
+	public Collection<?> navigateBackward(TopicMap topicMap, Object construct, Object optional)
 			throws NavigationException {
 		if (construct instanceof Object) {
-			TopicMap map = getTopicMap();
+			TopicMap map = getTopicMap(topicMap);
 			/*
 			 * create new instance of tuple-sequence
 			 */
@@ -135,7 +135,7 @@ public class AtomifyNavigationAxis extends BaseNavigationAxisImpl {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigateForward(Object construct, Object optional)
+	public Collection<?> navigateForward(TopicMap topicMap, Object construct, Object optional)
 			throws NavigationException {
 		/*
 		 * create new instance of tuple-sequence
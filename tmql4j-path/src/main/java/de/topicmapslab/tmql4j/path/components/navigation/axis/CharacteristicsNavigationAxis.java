@@ -15,6 +15,7 @@ import org.tmapi.core.Construct;
 import org.tmapi.core.Name;
 import org.tmapi.core.Occurrence;
 import org.tmapi.core.Topic;
+import org.tmapi.core.TopicMap;
 
 import de.topicmapslab.tmql4j.path.components.navigation.BaseNavigationAxisImpl;
 import de.topicmapslab.tmql4j.path.exception.InvalidValueException;
@@ -66,7 +67,7 @@ public class CharacteristicsNavigationAxis extends BaseNavigationAxisImpl {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigateBackward(Object construct, Object optional) throws NavigationException {
+	public Collection<?> navigateBackward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
 		/*
 		 * create new instance of tuple-sequence
 		 */
@@ -106,7 +107,7 @@ public class CharacteristicsNavigationAxis extends BaseNavigationAxisImpl {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigateForward(Object construct, Object optional) throws NavigationException {
+	public Collection<?> navigateForward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
 		if (construct instanceof Topic) {
 			Topic topic = (Topic) construct;
 			/*
@@ -72,14 +72,14 @@ public class DatatypeNavigationAxis extends BaseNavigationAxisImpl {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigateBackward(Object construct, Object optional) throws NavigationException {
+	public Collection<?> navigateBackward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
 		Locator loc;
 		/*
 		 * value is a string -> convert to locator
 		 */
 		if (construct instanceof String) {
 			try {
-				loc = getTopicMap().createLocator((String) construct);
+				loc = getTopicMap(topicMap).createLocator((String) construct);
 			} catch (MalformedIRIException e) {
 				throw new InvalidValueException("Given value is not a valid IRI", e);
 			}
@@ -96,7 +96,7 @@ public class DatatypeNavigationAxis extends BaseNavigationAxisImpl {
 		else {
 			throw new InvalidValueException();
 		}
-		Collection<DatatypeAware> set = tryMajortomIndex(loc);
+		Collection<DatatypeAware> set = tryMajortomIndex(topicMap, loc);
 		/*
 		 * is MaJorToM engine
 		 */
@@ -105,7 +105,7 @@ public class DatatypeNavigationAxis extends BaseNavigationAxisImpl {
 			/*
 			 * get all topics
 			 */
-			for (Topic t : getTopicMap().getTopics()) {
+			for (Topic t : getTopicMap(topicMap).getTopics()) {
 				/*
 				 * get occurrences
 				 */
@@ -157,12 +157,14 @@ public class DatatypeNavigationAxis extends BaseNavigationAxisImpl {
 	/**
 	 * Internal method try to access special ILiteralIndex of majortom
 	 * 
+	 * @param topicMap
+	 *            the topic map
 	 * @param datatype
 	 *            the datatype
 	 * @return the result
 	 */
 	@SuppressWarnings("unchecked")
-	private Collection<DatatypeAware> tryMajortomIndex(Locator datatype) {
+	private Collection<DatatypeAware> tryMajortomIndex(TopicMap topicMap, Locator datatype) {
 		try {
 			/*
 			 * get index class
@@ -171,7 +173,7 @@ public class DatatypeNavigationAxis extends BaseNavigationAxisImpl {
 			/*
 			 * get index instance
 			 */
-			Index index = getTopicMap().getIndex(clazz);
+			Index index = getTopicMap(topicMap).getIndex(clazz);
 			/*
 			 * get method
 			 */
@@ -190,7 +192,7 @@ public class DatatypeNavigationAxis extends BaseNavigationAxisImpl {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigateForward(Object construct, Object optional) throws NavigationException {
+	public Collection<?> navigateForward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
 		/*
 		 * create new instance of tuple-sequence
 		 */
@@ -60,9 +60,9 @@ public class IdNavigationAxis extends BaseNavigationAxisImpl {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigateBackward(Object construct, Object optional) throws NavigationException {
+	public Collection<?> navigateBackward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
 		Collection<Object> set = new LinkedList<Object>();
-		Construct c = getTopicMap().getConstructById(construct.toString());
+		Construct c = getTopicMap(topicMap).getConstructById(construct.toString());
 		if (c != null) {
 			set.add(c);
 		}
@@ -72,7 +72,7 @@ public class IdNavigationAxis extends BaseNavigationAxisImpl {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigateForward(Object construct, Object optional) throws NavigationException {
+	public Collection<?> navigateForward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
 
 		/*
 		 * check if anchor is a construct
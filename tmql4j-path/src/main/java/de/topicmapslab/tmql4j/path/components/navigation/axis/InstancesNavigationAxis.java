@@ -15,6 +15,7 @@ import org.tmapi.core.Construct;
 import org.tmapi.core.Topic;
 import org.tmapi.core.TopicMap;
 
+import de.topicmapslab.tmql4j.components.processor.runtime.TypeHierarchyIndex;
 import de.topicmapslab.tmql4j.path.components.navigation.BaseNavigationAxisImpl;
 import de.topicmapslab.tmql4j.path.components.navigation.model.ITypeHierarchyNavigationAxis;
 import de.topicmapslab.tmql4j.path.exception.NavigationException;
@@ -69,9 +70,16 @@ public class InstancesNavigationAxis extends BaseNavigationAxisImpl implements I
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigateBackward(Object construct, Object optional) throws NavigationException {
+	public Collection<?> navigateBackward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
+		return navigateBackward(topicMap, construct, optional, false);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<?> navigateBackward(TopicMap topicMap, Object construct, Object optional, boolean transitivity) throws NavigationException {
 		if (optional == null || optional instanceof Construct) {
-			return axis.navigateForward(construct, (Construct) optional);
+			return axis.navigateForward(topicMap, construct, (Construct) optional, transitivity);
 		} else {
 			return new LinkedList<Topic>();
 		}
@@ -80,9 +88,9 @@ public class InstancesNavigationAxis extends BaseNavigationAxisImpl implements I
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigateForward(Object construct, Object optional) throws NavigationException {
+	public Collection<?> navigateBackward(TopicMap topicMap, Object construct, Object optional, boolean transitivity, TypeHierarchyIndex hierarchy) throws NavigationException {
 		if (optional == null || optional instanceof Construct) {
-			return axis.navigateBackward(construct, (Construct) optional);
+			return axis.navigateForward(topicMap, construct, (Construct) optional, transitivity, hierarchy);
 		} else {
 			return new LinkedList<Topic>();
 		}
@@ -91,37 +99,51 @@ public class InstancesNavigationAxis extends BaseNavigationAxisImpl implements I
 	/**
 	 * {@inheritDoc}
 	 */
-	public boolean supportsBackwardNavigation(Object construct, Construct optional) throws NavigationException {
+	public Collection<?> navigateForward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
+		return navigateForward(topicMap, construct, optional, false);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<?> navigateForward(TopicMap topicMap, Object construct, Object optional, boolean transitivity) throws NavigationException {
 		if (optional == null || optional instanceof Construct) {
-			return axis.supportsForwardNavigation(construct, (Construct) optional);
+			return axis.navigateBackward(topicMap, construct, (Construct) optional, transitivity);
 		} else {
-			return false;
+			return new LinkedList<Topic>();
 		}
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
-	public boolean supportsForwardNavigation(Object construct, Object optional) throws NavigationException {
+	public Collection<?> navigateForward(TopicMap topicMap, Object construct, Object optional, boolean transitivity, TypeHierarchyIndex hierarchy) throws NavigationException {
 		if (optional == null || optional instanceof Construct) {
-			return axis.supportsBackwardNavigation(construct, (Construct) optional);
+			return axis.navigateBackward(topicMap, construct, (Construct) optional, transitivity, hierarchy);
 		} else {
-			return false;
+			return new LinkedList<Topic>();
 		}
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
-	public void setTransitivity(boolean transitivity) {
-		this.axis.setTransitivity(transitivity);
+	public boolean supportsBackwardNavigation(Object construct, Construct optional) throws NavigationException {
+		if (optional == null || optional instanceof Construct) {
+			return axis.supportsForwardNavigation(construct, (Construct) optional);
+		} else {
+			return false;
+		}
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
-	public void setTopicMap(TopicMap topicMap) {
-		super.setTopicMap(topicMap);
-		axis.setTopicMap(topicMap);
+	public boolean supportsForwardNavigation(Object construct, Object optional) throws NavigationException {
+		if (optional == null || optional instanceof Construct) {
+			return axis.supportsBackwardNavigation(construct, (Construct) optional);
+		} else {
+			return false;
+		}
 	}
 }
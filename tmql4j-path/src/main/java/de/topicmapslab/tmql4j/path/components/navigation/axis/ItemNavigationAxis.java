@@ -58,7 +58,7 @@ public class ItemNavigationAxis extends BaseNavigationAxisImpl {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigateBackward(Object construct, Object optional) throws NavigationException {
+	public Collection<?> navigateBackward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
 		/*
 		 * create new instance of tuple-sequence
 		 */
@@ -67,7 +67,7 @@ public class ItemNavigationAxis extends BaseNavigationAxisImpl {
 		 * check if construct is a string
 		 */
 		if (construct instanceof String) {
-			TopicMap map = (TopicMap) getTopicMap();
+			TopicMap map = getTopicMap(topicMap);
 			Locator locator = map.createLocator((String) construct);
 			Construct c = map.getConstructByItemIdentifier(locator);
 			if (c != null) {
@@ -86,7 +86,7 @@ public class ItemNavigationAxis extends BaseNavigationAxisImpl {
 		 * check if construct is a locator
 		 */
 		else if (construct instanceof Locator) {
-			TopicMap map = (TopicMap) getTopicMap();
+			TopicMap map = getTopicMap(topicMap);
 			Locator locator = (Locator) construct;
 			Construct c = map.getConstructByItemIdentifier(locator);
 			if (c != null) {
@@ -100,7 +100,7 @@ public class ItemNavigationAxis extends BaseNavigationAxisImpl {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigateForward(Object construct, Object optional) throws NavigationException {
+	public Collection<?> navigateForward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
 		if (construct instanceof Construct) {
 			Construct topic = (Construct) construct;
 			/*
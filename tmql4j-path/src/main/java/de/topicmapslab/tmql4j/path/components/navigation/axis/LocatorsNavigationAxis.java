@@ -60,7 +60,7 @@ public class LocatorsNavigationAxis extends BaseNavigationAxisImpl {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigateBackward(Object construct, Object optional) throws NavigationException {
+	public Collection<?> navigateBackward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
 		/*
 		 * create new instance of tuple-sequence
 		 */
@@ -69,7 +69,7 @@ public class LocatorsNavigationAxis extends BaseNavigationAxisImpl {
 		 * check if constructor is a locator
 		 */
 		if (construct instanceof Locator) {
-			TopicMap map = getTopicMap();
+			TopicMap map = getTopicMap(topicMap);
 			Locator locator = (Locator) construct;
 			Construct c = map.getTopicBySubjectLocator(locator);
 			if (c != null) {
@@ -88,7 +88,7 @@ public class LocatorsNavigationAxis extends BaseNavigationAxisImpl {
 		 * check if construct is a string
 		 */
 		else if (construct instanceof String) {
-			TopicMap map = getTopicMap();
+			TopicMap map = getTopicMap(topicMap);
 			Locator locator = map.createLocator((String) construct);
 			Construct c = map.getTopicBySubjectLocator(locator);
 			if (c != null) {
@@ -102,7 +102,7 @@ public class LocatorsNavigationAxis extends BaseNavigationAxisImpl {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigateForward(Object construct, Object optional) throws NavigationException {
+	public Collection<?> navigateForward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
 		if (construct instanceof Topic) {
 			Topic topic = (Topic) construct;
 			/*
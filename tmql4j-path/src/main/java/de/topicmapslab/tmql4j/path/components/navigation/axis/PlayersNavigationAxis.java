@@ -16,6 +16,7 @@ import org.tmapi.core.Association;
 import org.tmapi.core.Construct;
 import org.tmapi.core.Role;
 import org.tmapi.core.Topic;
+import org.tmapi.core.TopicMap;
 
 import de.topicmapslab.tmql4j.path.components.navigation.BaseNavigationAxisImpl;
 import de.topicmapslab.tmql4j.path.exception.InvalidValueException;
@@ -70,7 +71,7 @@ public class PlayersNavigationAxis extends BaseNavigationAxisImpl {
 	 * {@inheritDoc}
 	 */
 	@Override
-	public Collection<?> navigateBackward(Object construct, Object optional) throws NavigationException {
+	public Collection<?> navigateBackward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
 		/*
 		 * check if construct is a topic
 		 */
@@ -92,7 +93,7 @@ public class PlayersNavigationAxis extends BaseNavigationAxisImpl {
 	 * {@inheritDoc}
 	 */
 	@Override
-	public Collection<?> navigateForward(Object construct, Object optional) throws NavigationException {
+	public Collection<?> navigateForward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
 		Set<Role> roles = null;
 		if (construct instanceof Association) {
 			Association association = (Association) construct;
@@ -14,6 +14,7 @@ import java.util.LinkedList;
 import org.tmapi.core.Construct;
 import org.tmapi.core.Reifiable;
 import org.tmapi.core.Topic;
+import org.tmapi.core.TopicMap;
 
 import de.topicmapslab.tmql4j.path.components.navigation.BaseNavigationAxisImpl;
 import de.topicmapslab.tmql4j.path.exception.InvalidValueException;
@@ -64,7 +65,7 @@ public class ReifierNavigationAxis extends BaseNavigationAxisImpl {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigateBackward(Object construct, Object optional) throws NavigationException {
+	public Collection<?> navigateBackward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
 		if (construct instanceof Reifiable) {
 			/*
 			 * create new instance of tuple-sequence
@@ -85,7 +86,7 @@ public class ReifierNavigationAxis extends BaseNavigationAxisImpl {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigateForward(Object construct, Object optional) throws NavigationException {
+	public Collection<?> navigateForward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
 		if (construct instanceof Topic) {
 			Topic reifier = (Topic) construct;
 			/*
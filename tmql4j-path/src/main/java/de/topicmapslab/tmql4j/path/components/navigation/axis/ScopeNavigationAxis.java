@@ -14,6 +14,7 @@ import java.util.LinkedList;
 import org.tmapi.core.Construct;
 import org.tmapi.core.Scoped;
 import org.tmapi.core.Topic;
+import org.tmapi.core.TopicMap;
 import org.tmapi.index.ScopedIndex;
 
 import de.topicmapslab.tmql4j.path.components.navigation.BaseNavigationAxisImpl;
@@ -62,7 +63,7 @@ public class ScopeNavigationAxis extends BaseNavigationAxisImpl {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigateBackward(Object construct, Object optional) throws NavigationException {
+	public Collection<?> navigateBackward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
 		/*
 		 * check if construct is a topic
 		 */
@@ -73,7 +74,7 @@ public class ScopeNavigationAxis extends BaseNavigationAxisImpl {
 			 */
 			Collection<Object> set = new LinkedList<Object>();
 
-			ScopedIndex index = getTopicMap().getIndex(ScopedIndex.class);
+			ScopedIndex index = getTopicMap(topicMap).getIndex(ScopedIndex.class);
 			if (!index.isOpen()) {
 				index.open();
 			}
@@ -102,7 +103,7 @@ public class ScopeNavigationAxis extends BaseNavigationAxisImpl {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigateForward(Object construct, Object optional) throws NavigationException {
+	public Collection<?> navigateForward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
 		/*
 		 * check if construct is scoped
 		 */
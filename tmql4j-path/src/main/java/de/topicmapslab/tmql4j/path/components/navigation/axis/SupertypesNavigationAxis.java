@@ -8,18 +8,15 @@
  */
 package de.topicmapslab.tmql4j.path.components.navigation.axis;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.LinkedList;
 
-import org.tmapi.core.Association;
 import org.tmapi.core.Construct;
 import org.tmapi.core.Role;
 import org.tmapi.core.Topic;
 import org.tmapi.core.TopicMap;
-import org.tmapi.index.TypeInstanceIndex;
 
-import de.topicmapslab.tmql4j.util.HashUtil;
+import de.topicmapslab.tmql4j.components.processor.runtime.TypeHierarchyIndex;
 import de.topicmapslab.tmql4j.path.components.navigation.BaseNavigationAxisImpl;
 import de.topicmapslab.tmql4j.path.components.navigation.model.ITypeHierarchyNavigationAxis;
 import de.topicmapslab.tmql4j.path.exception.InvalidValueException;
@@ -46,8 +43,6 @@ import de.topicmapslab.tmql4j.path.grammar.lexical.AxisSupertypes;
  */
 public class SupertypesNavigationAxis extends BaseNavigationAxisImpl implements ITypeHierarchyNavigationAxis {
 
-	private boolean transitivity;
-
 	/**
 	 * base constructor to create an new instance
 	 */
@@ -72,7 +67,21 @@ public class SupertypesNavigationAxis extends BaseNavigationAxisImpl implements
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigateBackward(Object construct, Object optional) throws NavigationException {
+	public Collection<?> navigateBackward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
+		return navigateBackward(topicMap, construct, optional, false);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<?> navigateBackward(TopicMap topicMap, Object construct, Object optional, boolean transitivity) throws NavigationException {
+		return navigateBackward(topicMap, construct, optional, transitivity, new TypeHierarchyIndex());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<?> navigateBackward(TopicMap topicMap, Object construct, Object optional, boolean transitivity, TypeHierarchyIndex hierarchy) throws NavigationException {
 		/*
 		 * check if construct is a topic
 		 */
@@ -80,7 +89,7 @@ public class SupertypesNavigationAxis extends BaseNavigationAxisImpl implements
 			/*
 			 * extract all sub-types
 			 */
-			return lookup(((Topic) construct).getTopicMap(), (Topic) construct, false);
+			return new ArrayList<Topic>(hierarchy.getSubtypes((Topic) construct, transitivity));
 		}
 		/*
 		 * check if topic is a role
@@ -89,7 +98,7 @@ public class SupertypesNavigationAxis extends BaseNavigationAxisImpl implements
 			/*
 			 * extract all sub-types of the role-type
 			 */
-			return lookup(((Role) construct).getTopicMap(), ((Role) construct).getType(), false);
+			return new ArrayList<Topic>(hierarchy.getSubtypes(((Role) construct).getType(), transitivity));
 		}
 		throw new InvalidValueException();
 	}
@@ -97,7 +106,21 @@ public class SupertypesNavigationAxis extends BaseNavigationAxisImpl implements
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigateForward(Object construct, Object optional) throws NavigationException {
+	public Collection<?> navigateForward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
+		return navigateForward(topicMap, construct, optional, false);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<?> navigateForward(TopicMap topicMap, Object construct, Object optional, boolean transitivity) throws NavigationException {
+		return navigateForward(topicMap, construct, optional, transitivity, new TypeHierarchyIndex());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<?> navigateForward(TopicMap topicMap, Object construct, Object optional, boolean transitivity, TypeHierarchyIndex hierarchy) throws NavigationException {
 		/*
 		 * check if construct is a topic
 		 */
@@ -105,7 +128,7 @@ public class SupertypesNavigationAxis extends BaseNavigationAxisImpl implements
 			/*
 			 * extract all super-types
 			 */
-			return lookup(((Topic) construct).getTopicMap(), (Topic) construct, true);
+			return new ArrayList<Topic>(hierarchy.getSupertypes((Topic) construct, transitivity));
 		}
 		/*
 		 * check if topic is a role
@@ -114,7 +137,7 @@ public class SupertypesNavigationAxis extends BaseNavigationAxisImpl implements
 			/*
 			 * extract all super-types of the role-type
 			 */
-			return lookup(((Role) construct).getTopicMap(), ((Role) construct).getType(), true);
+			return new ArrayList<Topic>(hierarchy.getSupertypes(((Role) construct).getType(), transitivity));
 		}
 		throw new InvalidValueException();
 	}
@@ -138,111 +161,4 @@ public class SupertypesNavigationAxis extends BaseNavigationAxisImpl implements
 		}
 		return false;
 	}
-
-	/**
-	 * Internal method to extract all super- or sub-types of the given topic
-	 * type by using the {@link SupertypeSubtypeIndex} of the TMAPI-extension.
-	 * 
-	 * @param map
-	 *            the topic map
-	 * @param topic
-	 *            the topic type
-	 * @param extractSupertypes
-	 *            flag which has to be <code>true</code> if super-types shall be
-	 *            extracted, <code>false</code> if sub-types are expected.
-	 * @return a tuple sequence containing the topic types
-	 */
-	private Collection<?> lookup(TopicMap map, Topic topic, boolean extractSupertypes) {
-		/*
-		 * create new instance of tuple-sequence
-		 */
-		Collection<Object> set = new LinkedList<Object>();
-
-		/**
-		 * look at TMDM association items for super-type-sub-type
-		 */
-		/*
-		 * get association type
-		 */
-		Topic type = map.getTopicBySubjectIdentifier(map.createLocator("http://psi.topicmaps.org/iso13250/model/supertype-subtype"));
-		/*
-		 * get super-type role-type
-		 */
-		Topic supertype = map.getTopicBySubjectIdentifier(map.createLocator("http://psi.topicmaps.org/iso13250/model/supertype"));
-
-		/*
-		 * get sub-type role-type
-		 */
-		Topic subtype = map.getTopicBySubjectIdentifier(map.createLocator("http://psi.topicmaps.org/iso13250/model/subtype"));
-		/*
-		 * check if topics defined
-		 */
-		if (type != null && supertype != null && subtype != null) {
-
-			/*
-			 * get association items
-			 */
-			TypeInstanceIndex index = (TypeInstanceIndex) map.getIndex(TypeInstanceIndex.class);
-			if (!index.isOpen()) {
-				index.open();
-			}
-			Collection<Association> associations = index.getAssociations(type);
-
-			Collection<Topic> subset = new HashSet<Topic>();
-			subset.add(topic);
-			boolean newAdded = true;
-			while (newAdded) {
-				newAdded = false;
-				for (Topic t : HashUtil.getHashSet(subset)) {
-					Collection<Topic> cache = new HashSet<Topic>();
-					for (Association association : associations) {
-						Collection<Role> roles = null;
-						if (extractSupertypes) {
-							roles = association.getRoles(subtype);
-						} else {
-							roles = association.getRoles(supertype);
-						}
-						for (Role r : roles) {
-							if (r.getPlayer().equals(t)) {
-								if (extractSupertypes) {
-									for (Role _r : association.getRoles(supertype)) {
-										Topic t_ = _r.getPlayer();
-										if (!set.contains(t_)) {
-											cache.add(_r.getPlayer());
-											newAdded = true;
-										}
-									}
-								} else {
-									for (Role _r : association.getRoles(subtype)) {
-										Topic t_ = _r.getPlayer();
-										if (!set.contains(t_)) {
-											cache.add(_r.getPlayer());
-											newAdded = true;
-										}
-									}
-								}
-							}
-						}
-					}
-					set.addAll(cache);
-					subset.clear();
-					subset.addAll(cache);
-					cache.clear();
-
-					if (!transitivity) {
-						newAdded = false;
-						break;
-					}
-				}
-			}
-		}
-		return set;
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 */
-	public void setTransitivity(boolean transitivity) {
-		this.transitivity = transitivity;
-	}
 }
@@ -10,7 +10,6 @@ package de.topicmapslab.tmql4j.path.components.navigation.axis;
 
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.Set;
 
 import org.tmapi.core.Association;
@@ -18,12 +17,13 @@ import org.tmapi.core.Construct;
 import org.tmapi.core.Role;
 import org.tmapi.core.Topic;
 import org.tmapi.core.TopicMap;
-import org.tmapi.index.TypeInstanceIndex;
 
 import de.topicmapslab.tmql4j.path.components.navigation.BaseNavigationAxisImpl;
 import de.topicmapslab.tmql4j.path.exception.InvalidValueException;
 import de.topicmapslab.tmql4j.path.exception.NavigationException;
 import de.topicmapslab.tmql4j.path.grammar.lexical.AxisTraverse;
+import de.topicmapslab.tmql4j.util.AssociationUtils;
+import de.topicmapslab.tmql4j.util.HashUtil;
 
 /**
  * Class definition representing the traverse axis.
@@ -74,9 +74,9 @@ public class TraverseNavigationAxis extends BaseNavigationAxisImpl {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigateBackward(Object construct, Object optional) throws NavigationException {
+	public Collection<?> navigateBackward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
 
-		Set<Association> associations = new HashSet<Association>();
+		Set<Association> associations = HashUtil.getHashSet();
 		/*
 		 * check if construct is an association
 		 */
@@ -87,22 +87,7 @@ public class TraverseNavigationAxis extends BaseNavigationAxisImpl {
 		 * check if construct is a topic type of associations
 		 */
 		else if (construct instanceof Topic) {
-			try {
-				TypeInstanceIndex index = getTopicMap().getIndex(TypeInstanceIndex.class);
-				if (!index.isOpen()) {
-					index.open();
-				}
-				associations.addAll(index.getAssociations((Topic) construct));
-			} catch (UnsupportedOperationException e) {
-				/*
-				 * index is not supported
-				 */
-				for (Association association : getTopicMap().getAssociations()) {
-					if (association.getType().equals((Topic) construct)) {
-						associations.add(association);
-					}
-				}
-			}
+			associations.addAll(AssociationUtils.getAssociations(getTopicMap(topicMap), (Topic) construct));
 		} else {
 			throw new InvalidValueException();
 		}
@@ -132,38 +117,18 @@ public class TraverseNavigationAxis extends BaseNavigationAxisImpl {
 			}
 		}
 
-		Set<Association> temp_ = new HashSet<Association>();
-		for (Association association : ((Construct) construct).getTopicMap().getAssociations()) {
-			if (!associations.contains(association)) {
-				temp_.add(association);
-			}
-		}
-
-		associations = temp_;
 		/*
 		 * create new instance of tuple-sequence
 		 */
-		Collection<Object> set = new LinkedList<Object>();
+		Collection<Object> set = HashUtil.getList();
 
 		/*
-		 * iterate over associations
+		 * add the other associations once for each role played by any of the
+		 * co-players, only the associations adjacent to the co-players are
+		 * visited
 		 */
-		for (Association association : associations) {
-			/*
-			 * iterate over all roles
-			 */
-			for (Role role : association.getRoles()) {
-				/*
-				 * check if players contains role-player
-				 */
-				for (Topic player : players) {
-					if (player.equals(role.getPlayer())) {
-						set.add(association);
-						break;
-					}
-				}
-			}
-
+		for (Role role : AssociationUtils.getRolesPlayed(players, associations)) {
+			set.add(role.getParent());
 		}
 		return set;
 	}
@@ -171,15 +136,13 @@ public class TraverseNavigationAxis extends BaseNavigationAxisImpl {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigateForward(Object construct, Object optional) throws NavigationException {
+	public Collection<?> navigateForward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
 		/*
 		 * check if construct is a topic
 		 */
 		if (construct instanceof Topic) {
 			Topic topic = (Topic) construct;
-			TopicMap map = topic.getTopicMap();
-			Set<Association> associations = new HashSet<Association>();
-			Set<Association> associations_ = new HashSet<Association>();
+			Set<Association> associations = HashUtil.getHashSet();
 			/*
 			 * check optional type
 			 */
@@ -188,39 +151,29 @@ public class TraverseNavigationAxis extends BaseNavigationAxisImpl {
 				 * optional type is an association
 				 */
 				if (optional instanceof Association) {
-					associations_.add((Association) optional);
+					for (Role role : ((Association) optional).getRoles()) {
+						if (role.getPlayer().equals(topic)) {
+							associations.add((Association) optional);
+							break;
+						}
+					}
 				}
 				/*
 				 * optional type is a topic type
 				 */
 				else if (optional instanceof Topic) {
-					Topic type = (Topic) optional;
-					TypeInstanceIndex index = type.getTopicMap().getIndex(TypeInstanceIndex.class);
-					if (!index.isOpen()) {
-						index.open();
-					}
-					associations_.addAll(index.getAssociations(type));
+					associations = AssociationUtils.getPlayedAssociations(topic, (Topic) optional);
 				}
 			} else {
-				associations_.addAll(map.getAssociations());
-			}
-
-			/*
-			 * iterate over all associations and extract associations played by
-			 * given topic
-			 */
-			for (Association a : associations_) {
-				for (Role role : a.getRoles()) {
-					if (role.getPlayer().equals(topic)) {
-						associations.add(a);
-						break;
-					}
-				}
+				/*
+				 * only the associations played by the given topic are visited
+				 */
+				associations = AssociationUtils.getPlayedAssociations(topic, null);
 			}
 			/*
 			 * create new instance of tuple-sequence
 			 */
-			Collection<Object> set = new LinkedList<Object>();
+			Collection<Object> set = HashUtil.getList();
 
 			/*
 			 * iterate over all associations and extract players
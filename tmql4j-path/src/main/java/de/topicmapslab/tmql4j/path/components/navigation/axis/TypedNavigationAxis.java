@@ -12,6 +12,7 @@ import java.util.Collection;
 
 import org.tmapi.core.Construct;
 import org.tmapi.core.Topic;
+import org.tmapi.core.TopicMap;
 import org.tmapi.core.Typed;
 import org.tmapi.index.TypeInstanceIndex;
 
@@ -37,6 +38,11 @@ import de.topicmapslab.tmql4j.util.TmdmSubjectIdentifier;
  */
 public class TypedNavigationAxis extends BaseNavigationAxisImpl {
 
+	/**
+	 * instance of redirected axis
+	 */
+	private final TypesNavigationAxis types = new TypesNavigationAxis();
+
 	/**
 	 * base constructor to create an new instance
 	 */
@@ -64,18 +70,18 @@ public class TypedNavigationAxis extends BaseNavigationAxisImpl {
 	 * {@inheritDoc}
 	 */
 	@Override
-	public Collection<?> navigateBackward(Object construct, Object optional) throws NavigationException {
-		return new TypesNavigationAxis().navigateForward(construct, optional);
+	public Collection<?> navigateBackward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
+		return types.navigateForward(topicMap, construct, optional);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public Collection<?> navigateForward(Object construct, Object optional) throws NavigationException {
+	public Collection<?> navigateForward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
 		if (construct instanceof Topic) {
 			Topic topic = (Topic) construct;
-			TypeInstanceIndex index = getTopicMap().getIndex(TypeInstanceIndex.class);
+			TypeInstanceIndex index = getTopicMap(topicMap).getIndex(TypeInstanceIndex.class);
 			if (!index.isOpen()) {
 				index.open();
 			}
@@ -14,9 +14,10 @@ import java.util.LinkedList;
 import org.tmapi.core.Construct;
 import org.tmapi.core.Locator;
 import org.tmapi.core.Topic;
+import org.tmapi.core.TopicMap;
 import org.tmapi.core.Typed;
-import org.tmapi.index.TypeInstanceIndex;
 
+import de.topicmapslab.tmql4j.components.processor.runtime.TypeHierarchyIndex;
 import de.topicmapslab.tmql4j.path.components.navigation.BaseNavigationAxisImpl;
 import de.topicmapslab.tmql4j.path.components.navigation.model.ITypeHierarchyNavigationAxis;
 import de.topicmapslab.tmql4j.path.exception.InvalidValueException;
@@ -43,8 +44,6 @@ import de.topicmapslab.tmql4j.path.grammar.lexical.AxisTypes;
  */
 public class TypesNavigationAxis extends BaseNavigationAxisImpl implements ITypeHierarchyNavigationAxis {
 
-	private boolean transitivity;
-
 	/**
 	 * base constructor to create an new instance
 	 */
@@ -69,8 +68,21 @@ public class TypesNavigationAxis extends BaseNavigationAxisImpl implements IType
 	/**
 	 * {@inheritDoc}
 	 */
-	@SuppressWarnings("unchecked")
-	public Collection<?> navigateBackward(Object construct, Object optional) throws NavigationException {
+	public Collection<?> navigateBackward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
+		return navigateBackward(topicMap, construct, optional, false);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<?> navigateBackward(TopicMap topicMap, Object construct, Object optional, boolean transitivity) throws NavigationException {
+		return navigateBackward(topicMap, construct, optional, transitivity, new TypeHierarchyIndex());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<?> navigateBackward(TopicMap topicMap, Object construct, Object optional, boolean transitivity, TypeHierarchyIndex hierarchy) throws NavigationException {
 		/*
 		 * create new instance of tuple-sequence
 		 */
@@ -87,7 +99,7 @@ public class TypesNavigationAxis extends BaseNavigationAxisImpl implements IType
 		 * check if it is special string tm:subject
 		 */
 		else if ("tmdm:subject".equalsIgnoreCase(construct.toString()) || "tm:subject".equalsIgnoreCase(construct.toString())) {
-			set.addAll(getTopicMap().getTopics());
+			set.addAll(getTopicMap(topicMap).getTopics());
 			return set;
 		} else {
 			throw new InvalidValueException();
@@ -109,28 +121,13 @@ public class TypesNavigationAxis extends BaseNavigationAxisImpl implements IType
 		 * get all topics
 		 */
 		if (tmdmSubject) {
-			set.addAll(getTopicMap().getTopics());
+			set.addAll(getTopicMap(topicMap).getTopics());
 		}
 		/*
 		 * get instances by index
 		 */
 		else {
-
-			TypeInstanceIndex index = getTopicMap().getIndex(TypeInstanceIndex.class);
-			if (!index.isOpen()) {
-				index.open();
-			}
-			set.addAll(index.getTopics(topic));
-
-			if (transitivity) {
-				SupertypesNavigationAxis axis = new SupertypesNavigationAxis();
-				axis.setTopicMap(getTopicMap());
-				axis.setTransitivity(transitivity);
-				Collection<Topic> subtypes = (Collection<Topic>) axis.navigateBackward(topic);
-				for (Topic subtype : subtypes) {
-					set.addAll(index.getTopics(subtype));
-				}
-			}
+			set.addAll(hierarchy.getInstances(topic, transitivity));
 		}
 		return set;
 	}
@@ -138,8 +135,21 @@ public class TypesNavigationAxis extends BaseNavigationAxisImpl implements IType
 	/**
 	 * {@inheritDoc}
 	 */
-	@SuppressWarnings("unchecked")
-	public Collection<?> navigateForward(Object construct, Object optional) throws NavigationException {
+	public Collection<?> navigateForward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
+		return navigateForward(topicMap, construct, optional, false);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<?> navigateForward(TopicMap topicMap, Object construct, Object optional, boolean transitivity) throws NavigationException {
+		return navigateForward(topicMap, construct, optional, transitivity, new TypeHierarchyIndex());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<?> navigateForward(TopicMap topicMap, Object construct, Object optional, boolean transitivity, TypeHierarchyIndex hierarchy) throws NavigationException {
 		/*
 		 * create new instance of tuple-sequence
 		 */
@@ -161,16 +171,7 @@ public class TypesNavigationAxis extends BaseNavigationAxisImpl implements IType
 			throw new InvalidValueException();
 		}
 
-		set.addAll(topic.getTypes());
-
-		if (transitivity) {
-			SupertypesNavigationAxis axis = new SupertypesNavigationAxis();
-			axis.setTopicMap(getTopicMap());
-			axis.setTransitivity(transitivity);
-			for (Topic type : topic.getTypes()) {
-				set.addAll((Collection<Topic>) axis.navigateForward(type));
-			}
-		}
+		set.addAll(hierarchy.getTypes(topic, transitivity));
 
 		return set;
 
@@ -196,11 +197,4 @@ public class TypesNavigationAxis extends BaseNavigationAxisImpl implements IType
 		return false;
 	}
 
-	/**
-	 * {@inheritDoc}
-	 */
-	public void setTransitivity(boolean transitivity) {
-		this.transitivity = transitivity;
-	}
-
 }
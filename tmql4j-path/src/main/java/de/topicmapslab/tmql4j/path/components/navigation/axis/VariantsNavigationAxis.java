@@ -14,6 +14,7 @@ import java.util.LinkedList;
 import org.tmapi.core.Construct;
 import org.tmapi.core.Name;
 import org.tmapi.core.Topic;
+import org.tmapi.core.TopicMap;
 import org.tmapi.core.Variant;
 
 import de.topicmapslab.tmql4j.path.components.navigation.BaseNavigationAxisImpl;
@@ -65,7 +66,7 @@ public class VariantsNavigationAxis extends BaseNavigationAxisImpl {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigateBackward(Object construct, Object optional) throws NavigationException {
+	public Collection<?> navigateBackward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
 		/*
 		 * create new instance of tuple-sequence
 		 */
@@ -91,7 +92,7 @@ public class VariantsNavigationAxis extends BaseNavigationAxisImpl {
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<?> navigateForward(Object construct, Object optional) throws NavigationException {
+	public Collection<?> navigateForward(TopicMap topicMap, Object construct, Object optional) throws NavigationException {
 		if (construct instanceof Name) {
 			Name name = (Name) construct;
 			/*
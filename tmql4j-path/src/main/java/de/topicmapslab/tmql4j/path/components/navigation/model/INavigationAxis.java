@@ -19,6 +19,10 @@ import de.topicmapslab.tmql4j.path.exception.NavigationException;
 /**
  * Interface definition of a TMQL axis specified by the current TMQL draft.
  * <p>
+ * Implementations are stateless and shared by all queries, every information
+ * of the current navigation is given as argument.
+ * </p>
+ * <p>
  * Each navigation step is interpreted within the effective map . Navigational
  * axes are derived from the structure of a Topic Map instance [TMDM] and can
  * either be followed in forward (>>) or in backward (<<) direction:
@@ -38,26 +42,6 @@ import de.topicmapslab.tmql4j.path.exception.NavigationException;
  */
 public interface INavigationAxis {
 
-	/**
-	 * Method returns the internal stored instance of the topic map. The topic
-	 * map instance will be used during the navigation process.
-	 * 
-	 * @return the internal topic map instance and never <code>null</code>
-	 * @throws NavigationException
-	 *             thrown if topic map reference is <code>null</code>
-	 */
-	TopicMap getTopicMap() throws NavigationException;
-
-	/**
-	 * Method changes the internal instance of the topic map and set it to the
-	 * given value. The topic map instance will be used during the navigation
-	 * process.
-	 * 
-	 * @param topicMap
-	 *            the new topic map reference
-	 */
-	void setTopicMap(TopicMap topicMap);
-
 	/**
 	 * Method returns a token representing the type of the TMQL axis.
 	 * 
@@ -138,13 +122,15 @@ public interface INavigationAxis {
 	 * Method navigate through the abstract topic map graph over the axis in
 	 * backward direction defined by the current instance.
 	 * 
+	 * @param topicMap
+	 *            the queried topic map
 	 * @param construct
 	 *            the construct used as anchor or start node for navigation
 	 * @return the result of navigation
 	 * @throws NavigationException
 	 *             thrown if navigation fails, because of unsupported types
 	 */
-	Collection<?> navigateBackward(final Object construct) throws NavigationException;
+	Collection<?> navigateBackward(final TopicMap topicMap, final Object construct) throws NavigationException;
 
 	/**
 	 * Method navigate through the abstract topic map graph over the axis in
@@ -155,6 +141,8 @@ public interface INavigationAxis {
 	 * ignored.
 	 * </p>
 	 * 
+	 * @param topicMap
+	 *            the queried topic map
 	 * @param construct
 	 *            the construct used as anchor or start node for navigation
 	 * @param optional
@@ -163,19 +151,21 @@ public interface INavigationAxis {
 	 * @throws NavigationException
 	 *             thrown if navigation fails, because of unsupported types
 	 */
-	Collection<?> navigateBackward(final Object construct, final Object optional) throws NavigationException;
+	Collection<?> navigateBackward(final TopicMap topicMap, final Object construct, final Object optional) throws NavigationException;
 
 	/**
 	 * Method navigate through the abstract topic map graph over the axis in
 	 * forward direction defined by the current instance.
 	 * 
+	 * @param topicMap
+	 *            the queried topic map
 	 * @param construct
 	 *            the construct used as anchor or start node for navigation
 	 * @return the result of navigation
 	 * @throws NavigationException
 	 *             thrown if navigation fails, because of unsupported types
 	 */
-	Collection<?> navigateForward(final Object construct) throws NavigationException;
+	Collection<?> navigateForward(final TopicMap topicMap, final Object construct) throws NavigationException;
 
 	/**
 	 * Method navigate through the abstract topic map graph over the axis in
@@ -186,6 +176,8 @@ public interface INavigationAxis {
 	 * ignored.
 	 * </p>
 	 * 
+	 * @param topicMap
+	 *            the queried topic map
 	 * @param construct
 	 *            the construct used as anchor or start node for navigation
 	 * @param optional
@@ -194,7 +186,7 @@ public interface INavigationAxis {
 	 * @throws NavigationException
 	 *             thrown if navigation fails, because of unsupported types
 	 */
-	Collection<?> navigateForward(final Object construct, final Object optional) throws NavigationException;
+	Collection<?> navigateForward(final TopicMap topicMap, final Object construct, final Object optional) throws NavigationException;
 
 	/**
 	 * Method returns a class object representing the type of the results which
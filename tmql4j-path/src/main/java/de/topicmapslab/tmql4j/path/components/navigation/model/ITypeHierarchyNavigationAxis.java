@@ -8,6 +8,13 @@
  */
 package de.topicmapslab.tmql4j.path.components.navigation.model;
 
+import java.util.Collection;
+
+import org.tmapi.core.TopicMap;
+
+import de.topicmapslab.tmql4j.components.processor.runtime.TypeHierarchyIndex;
+import de.topicmapslab.tmql4j.path.exception.NavigationException;
+
 /**
  * Interface definition of a TMQL axis specified by the current TMQL draft.
  * <p>
@@ -31,10 +38,86 @@ package de.topicmapslab.tmql4j.path.components.navigation.model;
 public interface ITypeHierarchyNavigationAxis extends INavigationAxis {
 
 	/**
-	 * Set the transitivity handling for the given axis.
+	 * Method navigate through the abstract topic map graph over the axis in
+	 * backward direction defined by the current instance.
+	 * 
+	 * @param topicMap
+	 *            the queried topic map
+	 * @param construct
+	 *            the construct used as anchor or start node for navigation
+	 * @param optional
+	 *            the optional type parameter of the axis
+	 * @param transitivity
+	 *            flag indicates if the type hierarchy is handled transitive
+	 * @return the result of navigation
+	 * @throws NavigationException
+	 *             thrown if navigation fails, because of unsupported types
+	 * @since 3.2.0
+	 */
+	public Collection<?> navigateBackward(final TopicMap topicMap, final Object construct, final Object optional, boolean transitivity) throws NavigationException;
+
+	/**
+	 * Method navigate through the abstract topic map graph over the axis in
+	 * forward direction defined by the current instance.
+	 * 
+	 * @param topicMap
+	 *            the queried topic map
+	 * @param construct
+	 *            the construct used as anchor or start node for navigation
+	 * @param optional
+	 *            the optional type parameter of the axis
+	 * @param transitivity
+	 *            flag indicates if the type hierarchy is handled transitive
+	 * @return the result of navigation
+	 * @throws NavigationException
+	 *             thrown if navigation fails, because of unsupported types
+	 * @since 3.2.0
+	 */
+	public Collection<?> navigateForward(final TopicMap topicMap, final Object construct, final Object optional, boolean transitivity) throws NavigationException;
+
+	/**
+	 * Method navigate through the abstract topic map graph over the axis in
+	 * backward direction defined by the current instance. The type hierarchy
+	 * is read from the given index.
+	 * 
+	 * @param topicMap
+	 *            the queried topic map
+	 * @param construct
+	 *            the construct used as anchor or start node for navigation
+	 * @param optional
+	 *            the optional type parameter of the axis
+	 * @param transitivity
+	 *            flag indicates if the type hierarchy is handled transitive
+	 * @param hierarchy
+	 *            the type hierarchy index of the query execution
+	 * @return the result of navigation
+	 * @throws NavigationException
+	 *             thrown if navigation fails, because of unsupported types
+	 * @since 3.2.0
+	 */
+	public Collection<?> navigateBackward(final TopicMap topicMap, final Object construct, final Object optional, boolean transitivity, final TypeHierarchyIndex hierarchy)
+			throws NavigationException;
+
+	/**
+	 * Method navigate through the abstract topic map graph over the axis in
+	 * forward direction defined by the current instance. The type hierarchy is
+	 * read from the given index.
 	 * 
+	 * @param topicMap
+	 *            the queried topic map
+	 * @param construct
+	 *            the construct used as anchor or start node for navigation
+	 * @param optional
+	 *            the optional type parameter of the axis
 	 * @param transitivity
-	 *            the transitivity to set
+	 *            flag indicates if the type hierarchy is handled transitive
+	 * @param hierarchy
+	 *            the type hierarchy index of the query execution
+	 * @return the result of navigation
+	 * @throws NavigationException
+	 *             thrown if navigation fails, because of unsupported types
+	 * @since 3.2.0
 	 */
-	public void setTransitivity(boolean transitivity);
+	public Collection<?> navigateForward(final TopicMap topicMap, final Object construct, final Object optional, boolean transitivity, final TypeHierarchyIndex hierarchy)
+			throws NavigationException;
 }
@@ -32,7 +32,6 @@ public class TmqlProcessor2007 extends TmqlProcessorImpl {
 	 */
 	public TmqlProcessor2007(ITMQLRuntime runtime) {
 		super(runtime);
-		getResultProcessor();
 	}
 
 	/**
@@ -36,6 +36,25 @@ public class PreparedStatement2007 extends PreparedStatement {
 		super(runtime, query, tree);
 	}
 
+	/**
+	 * constructor of a binding
+	 * 
+	 * @param statement
+	 *            the prepared statement
+	 * @since 3.2.0
+	 */
+	protected PreparedStatement2007(PreparedStatement2007 statement) {
+		super(statement);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected PreparedStatement createBinding() {
+		return new PreparedStatement2007(this);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
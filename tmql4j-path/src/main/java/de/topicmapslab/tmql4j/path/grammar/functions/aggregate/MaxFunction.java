@@ -8,10 +8,10 @@
  */
 package de.topicmapslab.tmql4j.path.grammar.functions.aggregate;
 
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 
+import de.topicmapslab.tmql4j.components.processor.core.Aggregation;
+import de.topicmapslab.tmql4j.components.processor.core.IAggregator;
 import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.components.processor.core.QueryMatches;
 import de.topicmapslab.tmql4j.components.processor.runtime.ITMQLRuntime;
@@ -32,26 +32,22 @@ public class MaxFunction extends AggregateFunctionImpl {
 		return IDENTIFIER;
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 */
+	protected Aggregation getAggregation() {
+		return Aggregation.MAX;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	protected QueryMatches doAggregation(ITMQLRuntime runtime, IContext context, List<Object> values) throws TMQLRuntimeException {
-		Collections.sort(values, new Comparator<Object>(){
-			/**
-			 * {@inheritDoc}
-			 */
-			@SuppressWarnings({ "rawtypes", "unchecked" })
-			public int compare(Object arg0, Object arg1) {
-				if ( arg0 instanceof Comparable<?> && arg1 instanceof Comparable<?> ){
-					return ((Comparable)arg0).compareTo((Comparable)arg1);
-				}
-				throw new TMQLRuntimeException("The values cannot be compared");
-			}
-		});		
-		/*
-		 * get last value as max
-		 */
-		return QueryMatches.asQueryMatchNS(runtime, values.get(values.size()-1));
+		IAggregator aggregator = getAggregation().createAggregator();
+		for (Object value : values) {
+			aggregator.add(value);
+		}
+		return QueryMatches.asQueryMatchNS(runtime, aggregator.getResult());
 	}
 
 }
@@ -46,6 +46,11 @@ public class RegExpFunction extends FunctionImpl {
 	 */
 	public static final String IDENTIFIER = "fn:regexp";
 
+	/**
+	 * pattern of case-insensitive regular expressions
+	 */
+	private static final Pattern CASE_INSENSITIVE = Pattern.compile("/(.*)/i");
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -64,7 +69,10 @@ public class RegExpFunction extends FunctionImpl {
 			throw new TMQLRuntimeException(getItemIdentifier() + "() requieres 2 parameters.");
 		}
 
-		Pattern ci = Pattern.compile("/(.*)/i");
+		/*
+		 * the compiled regular expressions, which are constant in most cases
+		 */
+		Map<String, Pattern> patterns = HashUtil.getHashMap();
 
 		/*
 		 * iterate over parameters
@@ -82,12 +90,15 @@ public class RegExpFunction extends FunctionImpl {
 			if (re instanceof Collection<?> && !((Collection<?>) re).isEmpty()) {
 				regexp = ((Collection<?>) re).iterator().next().toString();
 			}
-			Pattern p;
-			Matcher m = ci.matcher(regexp);
-			if (m.matches()) {
-				p = Pattern.compile(m.group(1), Pattern.CASE_INSENSITIVE);
-			} else {
-				p = Pattern.compile(regexp);
+			Pattern p = patterns.get(regexp);
+			if (p == null) {
+				Matcher m = CASE_INSENSITIVE.matcher(regexp);
+				if (m.matches()) {
+					p = Pattern.compile(m.group(1), Pattern.CASE_INSENSITIVE);
+				} else {
+					p = Pattern.compile(regexp);
+				}
+				patterns.put(regexp, p);
 			}
 
 			Map<String, Object> result = HashUtil.getHashMap();
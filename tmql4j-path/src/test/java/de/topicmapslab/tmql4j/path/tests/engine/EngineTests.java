@@ -17,7 +17,7 @@ import org.junit.runners.Suite.SuiteClasses;
  * 
  */
 @RunWith(Suite.class)
-@SuiteClasses({ TestResultSets.class })
+@SuiteClasses({ TestResultSets.class, TestInterpreterTree.class, TestConcurrentExecution.class, TestLexer.class, TestQueryPlanCache.class, TestConstructResolution.class })
 public class EngineTests {
 
 }
@@ -0,0 +1,183 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.path.tests.engine;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Ignore;
+import org.junit.Test;
+import org.tmapi.core.Topic;
+
+import de.topicmapslab.tmql4j.components.processor.results.tmdm.SimpleResultSet;
+import de.topicmapslab.tmql4j.path.tests.Tmql4JTestCase;
+
+/**
+ * Test class for the concurrent execution of queries on one shared runtime
+ *
+ * @author Sven Krosse
+ *
+ */
+public class TestConcurrentExecution extends Tmql4JTestCase {
+
+	private static final int THREADS = 8;
+
+	private static final String ALIAS_QUERY = "// myType ( . AS \"topic\" , . / tm:name AS \"name\" )";
+
+	private static final String PLAIN_QUERY = "// myType / tm:name";
+
+	/**
+	 * Creates the given number of instances of the type 'myType', each with
+	 * the name 'Topic i'.
+	 *
+	 * @param number
+	 *            the number of instances
+	 */
+	private void createInstances(int number) {
+		Topic type = createTopicBySI("myType");
+		for (int i = 0; i < number; i++) {
+			Topic topic = createTopic();
+			topic.addType(type);
+			topic.createName("Topic " + i);
+		}
+	}
+
+	/**
+	 * Runs the given number of queries on each thread alternating the query
+	 * with aliases and the query without aliases
+	 *
+	 * @param iterations
+	 *            the number of queries per thread
+	 * @param expected
+	 *            the expected number of results
+	 * @return the number of executed queries
+	 */
+	private int runConcurrently(final int iterations, final int expected) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<Integer>> futures = new LinkedList<Future<Integer>>();
+			for (int i = 0; i < THREADS; i++) {
+				final int offset = i;
+				futures.add(executor.submit(new Callable<Integer>() {
+					public Integer call() throws Exception {
+						for (int j = 0; j < iterations; j++) {
+							if ((j + offset) % 2 == 0) {
+								SimpleResultSet set = execute(ALIAS_QUERY);
+								assertEquals(expected, set.size());
+								assertTrue(set.getAliases().contains("topic"));
+								assertTrue(set.getAliases().contains("name"));
+							} else {
+								SimpleResultSet set = execute(PLAIN_QUERY);
+								assertEquals(expected, set.size());
+								assertTrue(set.getAliases().isEmpty());
+							}
+						}
+						return iterations;
+					}
+				}));
+			}
+			int count = 0;
+			for (Future<Integer> future : futures) {
+				/*
+				 * rethrows any assertion error of the thread
+				 */
+				count += future.get();
+			}
+			return count;
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Runs the given queries alternating on each thread
+	 *
+	 * @param iterations
+	 *            the number of queries per thread
+	 * @param queries
+	 *            the queries
+	 * @param expected
+	 *            the expected number of results of each query
+	 * @return the number of executed queries
+	 */
+	private int runConcurrently(final int iterations, final String[] queries, final int[] expected) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<Integer>> futures = new LinkedList<Future<Integer>>();
+			for (int i = 0; i < THREADS; i++) {
+				final int offset = i;
+				futures.add(executor.submit(new Callable<Integer>() {
+					public Integer call() throws Exception {
+						for (int j = 0; j < iterations; j++) {
+							int index = (j + offset) % queries.length;
+							SimpleResultSet set = execute(queries[index]);
+							assertEquals(queries[index], expected[index], set.size());
+						}
+						return iterations;
+					}
+				}));
+			}
+			int count = 0;
+			for (Future<Integer> future : futures) {
+				count += future.get();
+			}
+			return count;
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testResultsAreBoundToTheQuery() throws Exception {
+		createInstances(10);
+		SimpleResultSet set = execute(ALIAS_QUERY);
+		assertEquals(2, set.getAliases().size());
+		/*
+		 * the aliases of the former query are not visible
+		 */
+		set = execute(PLAIN_QUERY);
+		assertTrue(set.getAliases().isEmpty());
+	}
+
+	@Test
+	public void testConcurrentQueries() throws Exception {
+		createInstances(50);
+		assertEquals(THREADS * 20, runConcurrently(20, 50));
+	}
+
+	@Test
+	public void testConcurrentQuantifiedQueries() throws Exception {
+		createInstances(50);
+		String[] queries = new String[] { "// myType [ AT LEAST 1 $n IN . / tm:name SATISFIES $n ]", "// myType [ AT LEAST 2 $n IN . / tm:name SATISFIES $n ]",
+				"// myType [ AT MOST 1 $n IN . / tm:name SATISFIES $n ]", "fn:length ( \"Topic\" )" };
+		int[] expected = new int[] { 50, 0, 50, 1 };
+		assertEquals(THREADS * 20, runConcurrently(20, queries, expected));
+	}
+
+	/**
+	 * Measures the throughput of concurrent queries on one runtime. Ignored by
+	 * default because it is a performance measurement.
+	 */
+	@Ignore
+	@Test
+	public void testConcurrentThroughput() throws Exception {
+		createInstances(1000);
+		long time = System.currentTimeMillis();
+		int count = runConcurrently(100, 1000);
+		long duration = Math.max(1, System.currentTimeMillis() - time);
+		System.out.println(count + " queries on " + THREADS + " threads: " + duration + " ms, " + (count * 1000L / duration) + " queries/s");
+	}
+}
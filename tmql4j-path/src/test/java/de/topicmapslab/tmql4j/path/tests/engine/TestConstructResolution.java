@@ -0,0 +1,89 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.path.tests.engine;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+import org.junit.Test;
+import org.tmapi.core.Topic;
+
+import de.topicmapslab.tmql4j.components.processor.results.tmdm.SimpleResultSet;
+import de.topicmapslab.tmql4j.components.processor.runtime.TmqlConstructResolver;
+import de.topicmapslab.tmql4j.path.tests.Tmql4JTestCase;
+
+/**
+ * Test class for the caches of the construct resolver
+ *
+ * @author Sven Krosse
+ *
+ */
+public class TestConstructResolution extends Tmql4JTestCase {
+
+	/**
+	 * Creates the given number of instances of the type 'myType'
+	 *
+	 * @param number
+	 *            the number of instances
+	 */
+	private void createInstances(int number) {
+		Topic type = createTopicBySI("myType");
+		for (int i = 0; i < number; i++) {
+			Topic topic = createTopic();
+			topic.addType(type);
+		}
+	}
+
+	@Test
+	public void testAnchorResolvedOncePerQuery() throws Exception {
+		createInstances(10);
+		TmqlConstructResolver resolver = (TmqlConstructResolver) runtime.getConstructResolver();
+		resolver.resetStatistics();
+		SimpleResultSet set = execute("// myType [ . >> types == myType ]");
+		assertEquals(10, set.size());
+		long misses = resolver.getMissCount();
+		long identifierMisses = resolver.getIdentifierMissCount();
+		assertEquals(1, misses);
+		assertTrue(resolver.getHitCount() >= 9);
+		/*
+		 * the next query resolves the anchor again but reuses the IRI
+		 */
+		set = execute("// myType [ . >> types == myType ]");
+		assertEquals(10, set.size());
+		assertEquals(misses + 1, resolver.getMissCount());
+		assertEquals(identifierMisses, resolver.getIdentifierMissCount());
+	}
+
+	@Test
+	public void testRuntimePrefixModification() throws Exception {
+		createInstances(10);
+		TmqlConstructResolver resolver = (TmqlConstructResolver) runtime.getConstructResolver();
+		execute("// myType");
+		resolver.resetStatistics();
+		runtime.getLanguageContext().getPrefixHandler().registerPrefix("ex", "http://psi.example.org/");
+		SimpleResultSet set = execute("// myType");
+		assertEquals(10, set.size());
+		assertEquals(1, resolver.getIdentifierMissCount());
+	}
+
+	@Test
+	public void testQueryPrefix() throws Exception {
+		createTopic().addType(createTopicBySI("http://psi.example.org/myType"));
+		Topic other = createTopicBySI("http://psi.example.org/other/myType");
+		createTopic().addType(other);
+		createTopic().addType(other);
+		/*
+		 * the same item reference identifies different topics
+		 */
+		SimpleResultSet set = execute("%prefix ex http://psi.example.org/ // ex:myType");
+		assertEquals(1, set.size());
+		set = execute("%prefix ex http://psi.example.org/other/ // ex:myType");
+		assertEquals(2, set.size());
+	}
+}
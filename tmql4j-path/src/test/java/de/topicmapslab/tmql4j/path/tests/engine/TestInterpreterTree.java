@@ -0,0 +1,71 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.path.tests.engine;
+
+import static junit.framework.Assert.assertEquals;
+
+import org.junit.Ignore;
+import org.junit.Test;
+import org.tmapi.core.Topic;
+
+import de.topicmapslab.tmql4j.components.processor.results.tmdm.SimpleResultSet;
+import de.topicmapslab.tmql4j.path.tests.Tmql4JTestCase;
+
+/**
+ * Test class for the interpreter tree bound to the parser tree
+ *
+ * @author Sven Krosse
+ *
+ */
+public class TestInterpreterTree extends Tmql4JTestCase {
+
+	/**
+	 * Creates the given number of instances of the type 'myType', each with
+	 * the name 'Topic i'.
+	 *
+	 * @param number
+	 *            the number of instances
+	 */
+	private void createInstances(int number) {
+		Topic type = createTopicBySI("myType");
+		for (int i = 0; i < number; i++) {
+			Topic topic = createTopic();
+			topic.addType(type);
+			topic.createName("Topic " + i);
+		}
+	}
+
+	@Test
+	public void testFilterPerTuple() throws Exception {
+		createInstances(1000);
+		String query = "// myType [ . / tm:name == \"Topic 42\" ]";
+		SimpleResultSet set = execute(query);
+		assertEquals(1, set.size());
+		/*
+		 * repeated execution has to return the same result
+		 */
+		set = execute(query);
+		assertEquals(1, set.size());
+	}
+
+	/**
+	 * Measures a filter query evaluated for each of 100.000 topics. Ignored by
+	 * default because it is a performance measurement.
+	 */
+	@Ignore
+	@Test
+	public void testFilterPerTuplePerformance() throws Exception {
+		createInstances(100000);
+		String query = "// myType [ . / tm:name == \"Topic 42\" ]";
+		long time = System.currentTimeMillis();
+		SimpleResultSet set = execute(query);
+		System.out.println("Filter over 100000 topics: " + (System.currentTimeMillis() - time) + " ms");
+		assertEquals(1, set.size());
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.path.tests.engine;
+
+import static junit.framework.Assert.assertEquals;
+
+import java.util.List;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import de.topicmapslab.tmql4j.components.lexer.TMQLLexer;
+import de.topicmapslab.tmql4j.grammar.lexical.IToken;
+import de.topicmapslab.tmql4j.path.grammar.lexical.BracketSquareClose;
+import de.topicmapslab.tmql4j.path.grammar.lexical.BracketSquareOpen;
+import de.topicmapslab.tmql4j.path.grammar.lexical.Dot;
+import de.topicmapslab.tmql4j.path.grammar.lexical.Element;
+import de.topicmapslab.tmql4j.path.grammar.lexical.Equality;
+import de.topicmapslab.tmql4j.path.grammar.lexical.Exists;
+import de.topicmapslab.tmql4j.path.grammar.lexical.Literal;
+import de.topicmapslab.tmql4j.path.grammar.lexical.ShortcutAxisAtomifyMoveForward;
+import de.topicmapslab.tmql4j.path.grammar.lexical.ShortcutAxisInstances;
+import de.topicmapslab.tmql4j.path.grammar.lexical.Variable;
+import de.topicmapslab.tmql4j.path.query.TMQLQuery;
+import de.topicmapslab.tmql4j.path.tests.Tmql4JTestCase;
+
+/**
+ * Test class for the lexical scanner and the token registry
+ *
+ * @author Sven Krosse
+ *
+ */
+public class TestLexer extends Tmql4JTestCase {
+
+	/**
+	 * representative queries of the test suite
+	 */
+	private static final String[] QUERIES = { "// myType [ . / tm:name == \"Topic 42\" ]", "// myType ( . AS \"topic\" , . / tm:name AS \"name\" )",
+			"%prefix o http://psi.ontopedia.net/ // o:Composer [ . >> characteristics o:date_of_birth >> atomify > \"1800\" ] >> indicators >> atomify",
+			"// tm:subject [ fn:has-datatype ( . >> characteristics tm:occurrence ) == \"xsd:string\" ] [ 0 .. 10 ]",
+			"exists $p in // person satisfies $p / name =~ \"^J.*\"" };
+
+	/**
+	 * Lexes the given query
+	 *
+	 * @param query
+	 *            the query
+	 * @return the lexer
+	 */
+	private TMQLLexer lex(String query) throws Exception {
+		TMQLQuery q = new TMQLQuery(topicMap, query);
+		q.beforeQuery(runtime);
+		TMQLLexer lexer = new TMQLLexer(runtime, q);
+		lexer.execute();
+		return lexer;
+	}
+
+	@Test
+	public void testTokenClasses() throws Exception {
+		TMQLLexer lexer = lex("// myType [ . / tm:name == \"Topic 42\" ]");
+		List<Class<? extends IToken>> tokens = lexer.getTmqlTokens();
+		assertEquals(9, tokens.size());
+		assertEquals(ShortcutAxisInstances.class, tokens.get(0));
+		assertEquals(Element.class, tokens.get(1));
+		assertEquals(BracketSquareOpen.class, tokens.get(2));
+		assertEquals(Dot.class, tokens.get(3));
+		assertEquals(ShortcutAxisAtomifyMoveForward.class, tokens.get(4));
+		assertEquals(Element.class, tokens.get(5));
+		assertEquals(Equality.class, tokens.get(6));
+		assertEquals(Literal.class, tokens.get(7));
+		assertEquals("\"Topic 42\"", lexer.getTokens().get(7));
+		assertEquals(BracketSquareClose.class, tokens.get(8));
+	}
+
+	@Test
+	public void testKeywordsAreCaseInsensitive() throws Exception {
+		TMQLLexer upper = lex("EXISTS $p");
+		TMQLLexer lower = lex("exists $p");
+		assertEquals(Exists.class, upper.getTmqlTokens().get(0));
+		assertEquals(Exists.class, lower.getTmqlTokens().get(0));
+		assertEquals(Variable.class, upper.getTmqlTokens().get(1));
+		assertEquals(Variable.class, lower.getTmqlTokens().get(1));
+	}
+
+	@Test
+	public void testRepeatedLexing() throws Exception {
+		for (String query : QUERIES) {
+			TMQLLexer first = lex(query);
+			TMQLLexer second = lex(query);
+			assertEquals(first.getTokens(), second.getTokens());
+			assertEquals(first.getTmqlTokens(), second.getTmqlTokens());
+		}
+	}
+
+	/**
+	 * Measures the lexical scanning of representative queries. Ignored by
+	 * default because it is a performance measurement.
+	 */
+	@Ignore
+	@Test
+	public void testLexerPerformance() throws Exception {
+		final int iterations = 20000;
+		/*
+		 * warm up
+		 */
+		for (int i = 0; i < 1000; i++) {
+			for (String query : QUERIES) {
+				lex(query);
+			}
+		}
+		long tokens = 0;
+		long time = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			for (String query : QUERIES) {
+				tokens += lex(query).getTokens().size();
+			}
+		}
+		long duration = Math.max(1, (System.nanoTime() - time) / 1000000);
+		System.out.println("Lexed " + iterations * QUERIES.length + " queries (" + tokens + " tokens): " + duration + " ms, " + (tokens * 1000L / duration)
+				+ " tokens/s");
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright: Copyright 2010 Topic Maps Lab, University of Leipzig. http://www.topicmapslab.de/
+ * License:   Apache License, Version 2.0 http://www.apache.org/licenses/LICENSE-2.0.html
+ *
+ * @author Sven Krosse
+ * @email krosse@informatik.uni-leipzig.de
+ *
+ */
+package de.topicmapslab.tmql4j.path.tests.engine;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+import org.junit.Ignore;
+import org.junit.Test;
+import org.tmapi.core.Topic;
+
+import de.topicmapslab.tmql4j.components.processor.results.tmdm.SimpleResultSet;
+import de.topicmapslab.tmql4j.components.processor.runtime.QueryPlanCache;
+import de.topicmapslab.tmql4j.path.tests.Tmql4JTestCase;
+import de.topicmapslab.tmql4j.query.IQuery;
+
+/**
+ * Test class for the query plan cache of the runtime
+ *
+ * @author Sven Krosse
+ *
+ */
+public class TestQueryPlanCache extends Tmql4JTestCase {
+
+	private static final String QUERY = "// myType / tm:name";
+
+	/**
+	 * Creates the given number of instances of the type 'myType', each with
+	 * the name 'Topic i'.
+	 *
+	 * @param number
+	 *            the number of instances
+	 */
+	private void createInstances(int number) {
+		Topic type = createTopicBySI("myType");
+		for (int i = 0; i < number; i++) {
+			Topic topic = createTopic();
+			topic.addType(type);
+			topic.createName("Topic " + i);
+		}
+	}
+
+	@Test
+	public void testRepeatedQueryIsCached() throws Exception {
+		createInstances(10);
+		QueryPlanCache cache = runtime.getQueryPlanCache();
+		cache.resetStatistics();
+		SimpleResultSet set = execute(QUERY);
+		assertEquals(10, set.size());
+		assertEquals(0, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+		for (int i = 0; i < 5; i++) {
+			set = execute(QUERY);
+			assertEquals(10, set.size());
+		}
+		assertEquals(5, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+	}
+
+	@Test
+	public void testNormalizedQueryIsShared() throws Exception {
+		createInstances(10);
+		QueryPlanCache cache = runtime.getQueryPlanCache();
+		execute(QUERY);
+		int size = cache.size();
+		/*
+		 * only differs in white spaces, so the parser tree is reused
+		 */
+		SimpleResultSet set = execute("  //   myType    /  tm:name ");
+		assertEquals(10, set.size());
+		assertEquals(size, cache.size());
+	}
+
+	@Test
+	public void testCachedQueryIsPreprocessed() throws Exception {
+		createInstances(10);
+		final String query = "  //   myType    /  tm:name ";
+		IQuery first = runtime.run(topicMap, query);
+		IQuery second = runtime.run(topicMap, query);
+		assertEquals(first.getQueryString(), second.getQueryString());
+		assertFalse(query.equals(second.getQueryString()));
+	}
+
+	@Test
+	public void testPrefixModificationInvalidates() throws Exception {
+		createInstances(10);
+		QueryPlanCache cache = runtime.getQueryPlanCache();
+		execute(QUERY);
+		runtime.getLanguageContext().getPrefixHandler().registerPrefix("ex", "http://example.org/");
+		cache.resetStatistics();
+		execute(QUERY);
+		assertEquals(0, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+		assertEquals(1, cache.getInvalidationCount());
+	}
+
+	@Test
+	public void testCapacity() throws Exception {
+		createInstances(3);
+		QueryPlanCache cache = runtime.getQueryPlanCache();
+		cache.setCapacity(4);
+		for (int i = 0; i < 10; i++) {
+			execute("// myType [ . / tm:name == \"Topic " + i + "\" ]");
+		}
+		assertEquals(4, cache.size());
+		assertTrue(cache.getEvictionCount() > 0);
+		/*
+		 * disabled cache
+		 */
+		cache.setCapacity(0);
+		cache.resetStatistics();
+		execute(QUERY);
+		execute(QUERY);
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.getHitCount());
+	}
+
+	/**
+	 * Measures the repeated execution of a query with and without the query
+	 * plan cache. Ignored by default because it is a performance measurement.
+	 */
+	@Ignore
+	@Test
+	public void testQueryPlanCachePerformance() throws Exception {
+		createInstances(10);
+		final String query = "// myType [ . / tm:name == \"Topic 5\" ] ( . / tm:name , . >> indicators )";
+		QueryPlanCache cache = runtime.getQueryPlanCache();
+		for (int capacity : new int[] { 0, QueryPlanCache.DEFAULT_CAPACITY }) {
+			cache.setCapacity(capacity);
+			cache.resetStatistics();
+			long time = System.currentTimeMillis();
+			for (int i = 0; i < 10000; i++) {
+				execute(query);
+			}
+			System.out.println("10000 queries with capacity " + capacity + ": " + (System.currentTimeMillis() - time) + " ms, " + cache);
+		}
+	}
+}
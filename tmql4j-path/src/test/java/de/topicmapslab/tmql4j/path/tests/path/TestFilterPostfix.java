@@ -13,6 +13,7 @@ import static junit.framework.Assert.assertTrue;
 
 import java.util.Set;
 
+import org.junit.Ignore;
 import org.junit.Test;
 import org.tmapi.core.Construct;
 import org.tmapi.core.Occurrence;
@@ -481,4 +482,79 @@ public class TestFilterPostfix extends Tmql4JTestCase {
 		}
 	}
 
+	private Set<Object> executeFilter(String query, boolean indexed) throws Exception {
+		runtime.getLiteralRangeIndex().setEnabled(indexed);
+		Set<Object> results = HashUtil.getHashSet();
+		IResultSet<?> rs = execute(query);
+		for (IResult r : rs) {
+			results.add(r.first());
+		}
+		return results;
+	}
+
+	@Test
+	public void testRangeComparisonByIndex() throws Exception {
+		Topic person = createTopicBySI("person");
+		Topic age = createTopicBySI("age");
+		Topic other = createTopicBySI("other");
+		for (int i = 0; i < 100; i++) {
+			Topic topic = createTopic();
+			topic.addType(person);
+			topic.createOccurrence(age, Integer.toString(i));
+			topic.createOccurrence(other, "100");
+			if (i % 10 == 0) {
+				topic.createName(age, "unknown");
+			}
+		}
+		String[] queries = new String[] { "// person [ . / age > 30 ]", "// person [ . / age <= 30 ]", "// person [ . / age >= 10 AND . / age < 20 ]",
+				"// person [ . / age < \"5\" ]", "// person [ . / age > 15.5 ]", "// person [ . / age >= \"2010-01-01\" ]" };
+		for (String query : queries) {
+			assertEquals(query, executeFilter(query, false), executeFilter(query, true));
+		}
+		assertEquals(73, executeFilter(queries[0], true).size());
+		assertEquals(10, executeFilter(queries[2], true).size());
+		assertTrue(runtime.getLiteralRangeIndex().getScanCount() > 0);
+		assertEquals(1, runtime.getLiteralRangeIndex().getBuildCount());
+
+		/*
+		 * modifications outside of TMQL have to invalidate the index
+		 */
+		Topic topic = createTopic();
+		topic.addType(person);
+		topic.createOccurrence(age, "1000");
+		runtime.getLiteralRangeIndex().invalidate();
+		assertEquals(74, executeFilter(queries[0], true).size());
+		assertEquals(1, runtime.getLiteralRangeIndex().getInvalidationCount());
+	}
+
+	/**
+	 * Compares the range filters with and without the literal range index on
+	 * a topic map containing one million occurrences. Ignored by default
+	 * because it is a performance measurement.
+	 */
+	@Ignore
+	@Test
+	public void testRangeComparisonPerformance() throws Exception {
+		Topic person = createTopicBySI("person");
+		Topic value = createTopicBySI("value");
+		final int topics = 250000;
+		for (int i = 0; i < topics; i++) {
+			Topic topic = createTopic();
+			topic.addType(person);
+			for (int j = 0; j < 4; j++) {
+				topic.createOccurrence(value, Integer.toString(i * 4 + j));
+			}
+		}
+		String[] queries = new String[] { "// person [ . / value < 1000 ]", "// person [ . / value >= 999000 ]",
+				"// person [ . / value >= 500000 AND . / value < 501000 ]" };
+		for (String query : queries) {
+			long time = System.currentTimeMillis();
+			int expected = executeFilter(query, false).size();
+			System.out.println("Filter " + query + " by comparison: " + (System.currentTimeMillis() - time) + " ms");
+			time = System.currentTimeMillis();
+			assertEquals(expected, executeFilter(query, true).size());
+			System.out.println("Filter " + query + " by index: " + (System.currentTimeMillis() - time) + " ms");
+		}
+	}
+
 }
@@ -9,6 +9,8 @@
 package de.topicmapslab.tmql4j.path.tests.path;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertSame;
 import static junit.framework.Assert.assertTrue;
 
 import java.util.HashSet;
@@ -33,6 +35,11 @@ import de.topicmapslab.majortom.model.index.ILiteralIndex;
 import de.topicmapslab.majortom.model.namespace.Namespaces;
 import de.topicmapslab.tmql4j.components.processor.results.model.IResult;
 import de.topicmapslab.tmql4j.components.processor.results.tmdm.SimpleResultSet;
+import de.topicmapslab.tmql4j.components.processor.runtime.TypeHierarchyIndex;
+import de.topicmapslab.tmql4j.path.components.navigation.NavigationRegistry;
+import de.topicmapslab.tmql4j.path.components.navigation.model.INavigationAxis;
+import de.topicmapslab.tmql4j.path.components.navigation.model.ITypeHierarchyNavigationAxis;
+import de.topicmapslab.tmql4j.path.grammar.lexical.AxisTypes;
 import de.topicmapslab.tmql4j.path.tests.Tmql4JTestCase;
 import de.topicmapslab.tmql4j.util.HashUtil;
 
@@ -1732,4 +1739,71 @@ public class TestNavigationAxis extends Tmql4JTestCase {
 		}
 	}
 
+	@Test
+	public void testSharedAxisInstances() throws Exception {
+		NavigationRegistry registry = NavigationRegistry.buildHandler();
+		INavigationAxis axis = registry.lookup(AxisTypes.class);
+		assertSame(axis, registry.lookup(AxisTypes.class));
+
+		Topic type = createTopicBySI("type");
+		Topic supertype = createTopicBySI("supertype");
+		Topic topic = createTopicBySI("topic");
+		topic.addType(type);
+		addSupertype(type, supertype);
+
+		ITypeHierarchyNavigationAxis hierarchyAxis = (ITypeHierarchyNavigationAxis) axis;
+		assertEquals(1, hierarchyAxis.navigateForward(topicMap, topic, null, false).size());
+		assertEquals(2, hierarchyAxis.navigateForward(topicMap, topic, null, true).size());
+		assertEquals(1, axis.navigateForward(topicMap, topic).size());
+	}
+
+	@Test
+	public void testTypeHierarchyIndex() throws Exception {
+		Topic a = createTopicBySI("a");
+		Topic b = createTopicBySI("b");
+		Topic c = createTopicBySI("c");
+		Topic d = createTopicBySI("d");
+		Topic topic = createTopicBySI("topic");
+		topic.addType(c);
+		addSupertype(b, a);
+		addSupertype(c, b);
+
+		TypeHierarchyIndex index = new TypeHierarchyIndex();
+		assertEquals(1, index.getSupertypes(c, false).size());
+		assertEquals(2, index.getSupertypes(c, true).size());
+		assertEquals(2, index.getSubtypes(a, true).size());
+		assertTrue(index.isSubtypeOf(c, a, true));
+		assertFalse(index.isSubtypeOf(c, a, false));
+		assertTrue(index.isInstanceOf(topic, a, true));
+		assertFalse(index.isInstanceOf(topic, a, false));
+		assertEquals(1, index.getInstances(a, true).size());
+		assertEquals(0, index.getInstances(a, false).size());
+		assertEquals(3, index.getTypes(topic, true).size());
+		assertEquals(1, index.getBuildCount());
+
+		/*
+		 * a cyclic hierarchy contains the type itself
+		 */
+		addSupertype(a, c);
+		addSupertype(d, c);
+		assertEquals(2, index.getSupertypes(c, true).size());
+		index.invalidate();
+		assertEquals(3, index.getSupertypes(c, true).size());
+		assertTrue(index.getSupertypes(c, true).contains(c));
+		assertEquals(4, index.getSubtypes(c, true).size());
+		assertEquals(2, index.getBuildCount());
+		assertEquals(1, index.getInvalidationCount());
+
+		ITypeHierarchyNavigationAxis axis = (ITypeHierarchyNavigationAxis) NavigationRegistry.buildHandler().lookup(AxisTypes.class);
+		assertEquals(3, axis.navigateForward(topicMap, topic, null, true, index).size());
+		assertEquals(1, axis.navigateBackward(topicMap, c, null, false, index).size());
+
+		/*
+		 * navigations without context read the current topic map
+		 */
+		assertEquals(3, axis.navigateForward(topicMap, topic, null, true).size());
+		assertEquals(2, axis.navigateBackward(topicMap, c, null, true).size());
+		createTopicBySI("other").addType(d);
+		assertEquals(3, axis.navigateBackward(topicMap, c, null, true).size());
+	}
 }
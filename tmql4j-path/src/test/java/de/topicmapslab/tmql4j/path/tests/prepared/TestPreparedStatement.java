@@ -9,10 +9,12 @@
 package de.topicmapslab.tmql4j.path.tests.prepared;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
 import static junit.framework.Assert.assertTrue;
 
 import java.math.BigInteger;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -26,6 +28,7 @@ import org.tmapi.core.Topic;
 import de.topicmapslab.tmql4j.components.processor.prepared.IPreparedStatement;
 import de.topicmapslab.tmql4j.components.processor.results.model.IResult;
 import de.topicmapslab.tmql4j.components.processor.results.model.IResultSet;
+import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
 import de.topicmapslab.tmql4j.path.tests.Tmql4JTestCase;
 import de.topicmapslab.tmql4j.query.IQuery;
 import de.topicmapslab.tmql4j.util.HashUtil;
@@ -317,4 +320,67 @@ public class TestPreparedStatement extends Tmql4JTestCase {
 		}
 	}
 
+	@Test
+	public void testBindings() {
+		IPreparedStatement statement = runtime.preparedStatement(" ? >> characteristics");
+		statement.setTopicMap(topicMap);
+		Topic topic = createTopic();
+		topic.createName("Name");
+		Topic other = createTopic();
+		other.createName("Name");
+		other.createName("Other");
+
+		IPreparedStatement binding = statement.bind(topic);
+		IPreparedStatement otherBinding = statement.bind();
+		otherBinding.setTopic(0, other);
+		assertEquals(topic, binding.get(0));
+		assertEquals(other, otherBinding.get(0));
+		assertNull(statement.get(0));
+
+		binding.run();
+		otherBinding.run();
+		assertEquals(1, binding.getResults().size());
+		assertEquals(2, otherBinding.getResults().size());
+		assertEquals(2, statement.execute(other).size());
+		assertEquals(1, binding.getResults().size());
+		assertEquals("\"" + topic.getItemIdentifiers().iterator().next().getReference() + "\" << item >> characteristics", binding.getNonParameterizedQueryString());
+	}
+
+	@Test
+	public void testExecuteBatch() {
+		IPreparedStatement statement = runtime.preparedStatement(" ? >> characteristics");
+		statement.setTopicMap(topicMap);
+
+		List<Topic> topics = HashUtil.getList();
+		List<Object[]> parameters = HashUtil.getList();
+		for (int i = 0; i < 1000; i++) {
+			Topic topic = createTopic();
+			for (int j = 0; j <= i % 5; j++) {
+				topic.createName("Name");
+			}
+			topics.add(topic);
+			parameters.add(new Object[] { topic });
+		}
+
+		List<IResultSet<?>> results = statement.executeBatch(parameters);
+		assertEquals(topics.size(), results.size());
+		for (int i = 0; i < topics.size(); i++) {
+			IResultSet<?> set = results.get(i);
+			assertEquals(i % 5 + 1, set.size());
+			for (IResult result : set) {
+				assertEquals(topics.get(i), ((Name) result.first()).getParent());
+			}
+		}
+	}
+
+	@Test(expected = TMQLRuntimeException.class)
+	public void testExecuteBatchWithMissingParameter() {
+		IPreparedStatement statement = runtime.preparedStatement(" ? >> characteristics");
+		statement.setTopicMap(topicMap);
+		List<Object[]> parameters = HashUtil.getList();
+		parameters.add(new Object[] { createTopic() });
+		parameters.add(new Object[0]);
+		statement.executeBatch(parameters);
+	}
+
 }
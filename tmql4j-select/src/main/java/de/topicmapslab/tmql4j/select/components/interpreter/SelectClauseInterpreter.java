@@ -55,9 +55,32 @@ public class SelectClauseInterpreter extends ExpressionInterpreterImpl<SelectCla
 	/**
 	 * {@inheritDoc}
 	 */
+	public QueryMatches interpret(ITMQLRuntime runtime, IContext context, Object... optionalArguments) throws TMQLRuntimeException {
+		return interpretAtMost(runtime, context, -1, optionalArguments);
+	}
+
+	/**
+	 * Interprets the select-clause for the bindings of the given context, but
+	 * stops the evaluation of further bindings as soon as the given number of
+	 * results is reached.
+	 * 
+	 * @param runtime
+	 *            the TMQL4J runtime
+	 * @param context
+	 *            the current querying context
+	 * @param maximum
+	 *            the number of results after which the evaluation may stop or
+	 *            <code>-1</code> if all bindings has to be evaluated
+	 * @param optionalArguments
+	 *            optional arguments
+	 * @return the results of the select-clause
+	 * @throws TMQLRuntimeException
+	 *             thrown if interpretation fails
+	 * @since 3.2.0
+	 */
 	// TODO refactor
 	@SuppressWarnings("unchecked")
-	public QueryMatches interpret(ITMQLRuntime runtime, IContext context, Object... optionalArguments) throws TMQLRuntimeException {
+	public QueryMatches interpretAtMost(ITMQLRuntime runtime, IContext context, long maximum, Object... optionalArguments) throws TMQLRuntimeException {
 		/*
 		 * variable mapping cache
 		 */
@@ -77,6 +100,12 @@ public class SelectClauseInterpreter extends ExpressionInterpreterImpl<SelectCla
 			 * iterate over all tuples
 			 */
 			for (Map<String, Object> tuple : context.getContextBindings()) {
+				/*
+				 * stop if enough results are available
+				 */
+				if (maximum != -1 && results.size() >= maximum) {
+					break;
+				}
 				Map<String, Object> resultTuple = HashUtil.getHashMap();
 				Map<String, Object> countableTuple = HashUtil.getHashMap();
 				int index = 0;
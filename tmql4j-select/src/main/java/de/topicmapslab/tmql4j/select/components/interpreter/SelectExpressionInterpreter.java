@@ -12,19 +12,21 @@ package de.topicmapslab.tmql4j.select.components.interpreter;
 
 import java.math.BigInteger;
 import java.util.Collection;
-import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import de.topicmapslab.tmql4j.components.interpreter.ExpressionInterpreterImpl;
 import de.topicmapslab.tmql4j.components.interpreter.IExpressionInterpreter;
+import de.topicmapslab.tmql4j.components.processor.core.ColumnIndex;
 import de.topicmapslab.tmql4j.components.processor.core.Context;
 import de.topicmapslab.tmql4j.components.processor.core.IContext;
 import de.topicmapslab.tmql4j.components.processor.core.QueryMatches;
 import de.topicmapslab.tmql4j.components.processor.runtime.ITMQLRuntime;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
+import de.topicmapslab.tmql4j.path.components.interpreter.OrderByClauseInterpreter;
 import de.topicmapslab.tmql4j.path.components.parser.ParserUtils;
 import de.topicmapslab.tmql4j.path.grammar.lexical.Unique;
 import de.topicmapslab.tmql4j.path.grammar.productions.OrderByClause;
@@ -116,21 +118,43 @@ public class SelectExpressionInterpreter extends ExpressionInterpreterImpl<Selec
 			newContext.setContextBindings(matches);
 		}
 
+		/*
+		 * number of results after that the evaluation can stop
+		 */
+		final long maximum = getMaximumNumberOfResults(limit, offset, fromResults);
+
+		QueryMatches matches;
 		/*
 		 * interpret order-by-clause if exists
 		 */
 		if (containsExpressionsType(OrderByClause.class)) {
-			QueryMatches matches = interpreteOrderByClause(runtime, newContext, optionalArguments);
-			if (matches.isEmpty()) {
+			QueryMatches bindings = newContext.getContextBindings();
+			QueryMatches ordered = interpreteOrderByClause(runtime, newContext, maximum, optionalArguments);
+			if (ordered.isEmpty()) {
 				logger.warn("Interpretation of order-by clause return no results!");
 				return QueryMatches.emptyMatches();
 			}
-			newContext.setContextBindings(matches);
+			newContext.setContextBindings(ordered);
+			/*
+			 * interpret select-clause if exists
+			 */
+			matches = interpretSelectClause(runtime, newContext, maximum, optionalArguments);
+			/*
+			 * the first ordered bindings do not produce enough results, so
+			 * all bindings has to be ordered
+			 */
+			if (maximum != -1 && matches.size() < maximum && ordered.size() < bindings.size()) {
+				newContext.setContextBindings(bindings);
+				ordered = interpreteOrderByClause(runtime, newContext, -1, optionalArguments);
+				newContext.setContextBindings(ordered);
+				matches = interpretSelectClause(runtime, newContext, maximum, optionalArguments);
+			}
+		} else {
+			/*
+			 * interpret select-clause if exists
+			 */
+			matches = interpretSelectClause(runtime, newContext, maximum, optionalArguments);
 		}
-		/*
-		 * interpret select-clause if exists
-		 */
-		QueryMatches matches = interpretSelectClause(runtime, newContext, optionalArguments);
 		/*
 		 * remove non valid content defined by from-clause
 		 */
@@ -138,7 +162,7 @@ public class SelectExpressionInterpreter extends ExpressionInterpreterImpl<Selec
 			/*
 			 * create new temporary sequence to store cleared matches
 			 */
-			List<Object> context_ = fromResults.getPossibleValuesForVariable();
+			Set<Object> context_ = new ColumnIndex(fromResults).getValues(QueryMatches.getNonScopedVariable());
 			QueryMatches cleaned = new QueryMatches(runtime);
 			/*
 			 * iterate over all tuples
@@ -315,17 +339,24 @@ public class SelectExpressionInterpreter extends ExpressionInterpreterImpl<Selec
 	 *            the TMQL4J runtime
 	 * @param context
 	 *            the current querying context
+	 * @param maximum
+	 *            the number of first bindings which are needed or
+	 *            <code>-1</code> if all bindings are needed
 	 * @param optionalArguments
 	 *            optional arguments
 	 * @return the order tuple sequence
 	 * @throws TMQLRuntimeException
 	 *             thrown if ordering fails
 	 */
-	private QueryMatches interpreteOrderByClause(ITMQLRuntime runtime, IContext context, Object... optionalArguments) throws TMQLRuntimeException {
+	private QueryMatches interpreteOrderByClause(ITMQLRuntime runtime, IContext context, long maximum, Object... optionalArguments) throws TMQLRuntimeException {
+		IExpressionInterpreter<OrderByClause> orderByClause = getInterpretersFilteredByEypressionType(runtime, OrderByClause.class).get(0);
 		/*
 		 * call order by clause
 		 */
-		return extractArguments(runtime, OrderByClause.class, 0, context, optionalArguments);
+		if (maximum != -1 && orderByClause instanceof OrderByClauseInterpreter) {
+			return ((OrderByClauseInterpreter) orderByClause).interpretFirst(runtime, context, maximum, optionalArguments);
+		}
+		return orderByClause.interpret(runtime, context, optionalArguments);
 	}
 
 	/**
@@ -337,13 +368,16 @@ public class SelectExpressionInterpreter extends ExpressionInterpreterImpl<Selec
 	 *            the TMQL4J runtime
 	 * @param context
 	 *            the current querying context
+	 * @param maximum
+	 *            the number of results after which the evaluation may stop or
+	 *            <code>-1</code>
 	 * @param optionalArguments
 	 *            optional arguments
 	 * @return the over all result of the select-clause
 	 * @throws TMQLRuntimeException
 	 *             thrown if interpretation fails
 	 */
-	private QueryMatches interpretSelectClause(ITMQLRuntime runtime, IContext context, Object... optionalArguments) throws TMQLRuntimeException {
+	private QueryMatches interpretSelectClause(ITMQLRuntime runtime, IContext context, long maximum, Object... optionalArguments) throws TMQLRuntimeException {
 		/*
 		 * only one select clause has to be contained
 		 */
@@ -357,9 +391,35 @@ public class SelectExpressionInterpreter extends ExpressionInterpreterImpl<Selec
 		/*
 		 * call sub expression
 		 */
+		if (maximum != -1 && selectClause instanceof SelectClauseInterpreter) {
+			return ((SelectClauseInterpreter) selectClause).interpretAtMost(runtime, context, maximum, optionalArguments);
+		}
 		return selectClause.interpret(runtime, context, optionalArguments);
 	}
 
+	/**
+	 * Internal method to calculate the number of results which are needed to
+	 * fill the selection window. The evaluation can only stop early if the
+	 * results are not filtered by the from-clause afterwards or modified by
+	 * any group-by-clause or the unique keyword.
+	 * 
+	 * @param limit
+	 *            the limit value defined by limit-clause
+	 * @param offset
+	 *            the offset value defined by offset-clause
+	 * @param fromResults
+	 *            the results of the from-clause, which are used to filter the
+	 *            results of the select-clause
+	 * @return the number of results needed or <code>-1</code> if all results
+	 *         are needed
+	 */
+	private long getMaximumNumberOfResults(long limit, long offset, QueryMatches fromResults) {
+		if (limit <= 0 || fromResults != null || containsExpressionsType(GroupByClause.class) || ParserUtils.containsTokens(getTmqlTokens(), Unique.class)) {
+			return -1;
+		}
+		return Math.max(offset, 0) + limit;
+	}
+
 	/**
 	 * Internal method to extract the selection window from the over all results
 	 * defined by the limit- and offset-clause.
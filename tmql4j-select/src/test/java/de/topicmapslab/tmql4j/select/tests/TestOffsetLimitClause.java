@@ -130,5 +130,28 @@ public class TestOffsetLimitClause extends Tmql4JTestCase {
 			}
 		}
 	}
-	
+
+	@Test
+	public void testLimitClauseWithEmptyFirstResults() throws Exception {
+		Topic topic = createTopicBySI("myType");
+		Topic type = createTopicBySI("myOccurrenceType");
+		for (int i = 0; i < 100; i++) {
+			Topic t = createTopic();
+			addSupertype(t, topic);
+			t.createName("Name " + (i < 10 ? "0" : "") + Integer.toString(i));
+			/*
+			 * only the last topics has occurrences
+			 */
+			if (i >= 90) {
+				t.createOccurrence(type, "Value " + Integer.toString(i));
+			}
+		}
+		SimpleResultSet set = execute("SELECT $var / myOccurrenceType WHERE $var AKO myType ORDER BY $var / tm:name [0] LIMIT 5");
+		assertEquals(5, set.size());
+		int index = 90;
+		for (IResult r : set.getResults()) {
+			assertEquals("Value " + Integer.toString(index++), r.first());
+		}
+	}
+
 }
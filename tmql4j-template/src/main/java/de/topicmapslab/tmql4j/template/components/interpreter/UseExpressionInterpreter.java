@@ -107,7 +107,7 @@ public class UseExpressionInterpreter extends ExpressionInterpreterImpl<UseExpre
 	 * @return the query matches containing the JTMQR
 	 */
 	private QueryMatches useCTM(ITMQLRuntime runtime, IContext context, Object... optionalArguments) throws TMQLRuntimeException {
-		context.getTmqlProcessor().getResultProcessor().setResultType(CTMResult.class);
+		context.getResultProcessor().setResultType(CTMResult.class);
 		/*
 		 * extract values
 		 */
@@ -161,7 +161,7 @@ public class UseExpressionInterpreter extends ExpressionInterpreterImpl<UseExpre
 	 * @return the query matches containing the JTMQR
 	 */
 	private QueryMatches useJTMQR(ITMQLRuntime runtime, IContext context, Object... optionalArguments) throws TMQLRuntimeException {
-		context.getTmqlProcessor().getResultProcessor().setResultType(JTMQRResult.class);
+		context.getResultProcessor().setResultType(JTMQRResult.class);
 		/*
 		 * check if output stream is provided
 		 */
@@ -170,7 +170,7 @@ public class UseExpressionInterpreter extends ExpressionInterpreterImpl<UseExpre
 				/*
 				 * set alias for serializer
 				 */
-				context.getContextBindings().setColumnAlias(context.getTmqlProcessor().getResultProcessor().getAliases());
+				context.getContextBindings().setColumnAlias(context.getResultProcessor().getAliases());
 				JTMQRWriter.getJsonAsStream(context.getOutputStream(), context.getContextBindings());
 			} else {
 				JTMQRWriter.getJsonAsStream(context.getOutputStream(), QueryMatches.emptyMatches());
@@ -199,7 +199,7 @@ public class UseExpressionInterpreter extends ExpressionInterpreterImpl<UseExpre
 	 * @return the query matches containing the template snippets
 	 */
 	private QueryMatches useTemplate(ITMQLRuntime runtime, IContext context, Object... optionalArguments) throws TMQLRuntimeException {
-		context.getTmqlProcessor().getResultProcessor().setResultType(TemplateResult.class);
+		context.getResultProcessor().setResultType(TemplateResult.class);
 		/*
 		 * extract template name
 		 */
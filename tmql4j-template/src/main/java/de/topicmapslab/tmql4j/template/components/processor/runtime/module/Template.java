@@ -165,7 +165,7 @@ public class Template {
 		/*
 		 * check alias
 		 */
-		IResultProcessor processor = context.getTmqlProcessor().getResultProcessor();
+		IResultProcessor processor = context.getResultProcessor();
 		if (!processor.isKnownAlias(wildcard)) {
 			throw new TMQLRuntimeException(MessageFormat.format(MISSING_ALIAS_FOR_TEMPLATE_PROCESSING, wildcard));
 		}
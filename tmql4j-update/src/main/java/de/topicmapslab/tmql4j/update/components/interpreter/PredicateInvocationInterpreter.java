@@ -209,10 +209,10 @@ public class PredicateInvocationInterpreter extends ExpressionInterpreterImpl<Pr
 			}
 		}
 
-		context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.ASSOCIATIONS);
-		context.getTmqlProcessor().getResultProcessor().setColumnAlias(1, IUpdateAlias.ROLES);
-		context.getTmqlProcessor().getResultProcessor().setColumnAlias(2, IUpdateAlias.TOPICS);
-		context.getTmqlProcessor().getResultProcessor().setAutoReduction(false);
+		context.getResultProcessor().setColumnAlias(0, IUpdateAlias.ASSOCIATIONS);
+		context.getResultProcessor().setColumnAlias(1, IUpdateAlias.ROLES);
+		context.getResultProcessor().setColumnAlias(2, IUpdateAlias.TOPICS);
+		context.getResultProcessor().setAutoReduction(false);
 	}
 
 	/**
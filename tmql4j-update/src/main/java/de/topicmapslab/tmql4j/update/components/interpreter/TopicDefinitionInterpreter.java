@@ -100,9 +100,9 @@ public class TopicDefinitionInterpreter extends ExpressionInterpreterImpl<TopicD
 				return QueryMatches.emptyMatches();
 			}
 
-			context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.TOPICS);
-			context.getTmqlProcessor().getResultProcessor().setColumnAlias(1, IUpdateAlias.IS_NEW);
-			context.getTmqlProcessor().getResultProcessor().setAutoReduction(false);
+			context.getResultProcessor().setColumnAlias(0, IUpdateAlias.TOPICS);
+			context.getResultProcessor().setColumnAlias(1, IUpdateAlias.IS_NEW);
+			context.getResultProcessor().setAutoReduction(false);
 
 			return QueryMatches.asQueryMatchNS(runtime, tuple);
 		}
@@ -115,8 +115,8 @@ public class TopicDefinitionInterpreter extends ExpressionInterpreterImpl<TopicD
 			if (tuple.isEmpty()) {
 				return QueryMatches.emptyMatches();
 			}
-			context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.TOPICS);
-			context.getTmqlProcessor().getResultProcessor().setAutoReduction(false);
+			context.getResultProcessor().setColumnAlias(0, IUpdateAlias.TOPICS);
+			context.getResultProcessor().setAutoReduction(false);
 			return QueryMatches.asQueryMatchNS(runtime, tuple);
 		}
 		throw new TMQLRuntimeException("The given optional arguments are invalid for interpretation of topic-definition!");
@@ -11,10 +11,8 @@
 package de.topicmapslab.tmql4j.update.components.interpreter;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.StringTokenizer;
 
 import org.slf4j.Logger;
@@ -31,11 +29,17 @@ import de.topicmapslab.tmql4j.components.processor.runtime.ITMQLRuntime;
 import de.topicmapslab.tmql4j.exception.TMQLRuntimeException;
 import de.topicmapslab.tmql4j.grammar.lexical.IToken;
 import de.topicmapslab.tmql4j.path.components.parser.ParserUtils;
+import de.topicmapslab.tmql4j.path.grammar.lexical.AxisIndicators;
+import de.topicmapslab.tmql4j.path.grammar.lexical.AxisInstances;
+import de.topicmapslab.tmql4j.path.grammar.lexical.AxisItem;
+import de.topicmapslab.tmql4j.path.grammar.lexical.AxisLocators;
 import de.topicmapslab.tmql4j.path.grammar.lexical.AxisReifier;
+import de.topicmapslab.tmql4j.path.grammar.lexical.AxisSubtypes;
+import de.topicmapslab.tmql4j.path.grammar.lexical.AxisSupertypes;
+import de.topicmapslab.tmql4j.path.grammar.lexical.AxisTypes;
 import de.topicmapslab.tmql4j.path.grammar.lexical.Datatype;
 import de.topicmapslab.tmql4j.path.grammar.lexical.DatatypedElement;
 import de.topicmapslab.tmql4j.path.grammar.lexical.Null;
-import de.topicmapslab.tmql4j.update.components.results.IUpdateAlias;
 import de.topicmapslab.tmql4j.update.grammar.productions.PredicateInvocation;
 import de.topicmapslab.tmql4j.update.grammar.productions.TopicDefinition;
 import de.topicmapslab.tmql4j.update.grammar.productions.UpdateClause;
@@ -176,8 +180,12 @@ public class UpdateClauseInterpreter extends ExpressionInterpreterImpl<UpdateCla
 	 * of a topic or an association definition.
 	 * 
 	 * <p>
-	 * The interpretation will transform the value on top of the stack and put
-	 * its results also on top.
+	 * The modification is executed set-oriented. At first the modifications of
+	 * all tuples returned by the where-clause are collected and afterwards all
+	 * modifications are applied in one pass. Duplicate modifications are kept,
+	 * so each tuple is counted like before. The values are interpreted before
+	 * the first modification, so each tuple sees the topic map as it was
+	 * before the update-clause.
 	 * </p>
 	 * 
 	 * @param runtime
@@ -192,18 +200,24 @@ public class UpdateClauseInterpreter extends ExpressionInterpreterImpl<UpdateCla
 	 * @throws TMQLRuntimeException
 	 *             thrown if interpretation fails
 	 */
-	@SuppressWarnings("unchecked")
 	private QueryMatches interpretContentModification(ITMQLRuntime runtime, IContext context, Object... optionalArguments) throws TMQLRuntimeException {
 		if (context.getContextBindings() == null) {
 			logger.warn("Context of modification is missing!");
 			return QueryMatches.emptyMatches();
 		}
-		QueryMatches results = new QueryMatches(runtime);
+		/*
+		 * check if optional type value expression is set to interpret
+		 */
+		List<IExpressionInterpreter<ValueExpression>> interpreters = getInterpretersFilteredByEypressionType(runtime, ValueExpression.class);
+		Class<? extends IToken> anchor = getExpression().getAnchor();
+		/*
+		 * the modifications of all tuples in order of their occurrence
+		 */
+		List<Modification> modifications = HashUtil.getList();
 		/*
 		 * iterate over all tuple sequences returned by the where-clause
 		 */
 		for (Map<String, Object> tuple : context.getContextBindings()) {
-			Set<String> topicIds = HashUtil.getHashSet();
 			/*
 			 * get modification context
 			 */
@@ -220,15 +234,10 @@ public class UpdateClauseInterpreter extends ExpressionInterpreterImpl<UpdateCla
 					return QueryMatches.emptyMatches();
 				}
 			}
-			/*
-			 * check if optional type value expression is set to interpret
-			 */
-			List<IExpressionInterpreter<ValueExpression>> interpreters = getInterpretersFilteredByEypressionType(runtime, ValueExpression.class);
 			IExpressionInterpreter<ValueExpression> valueInterpreter;
 			List<Object> optionalTypes;
 			if (interpreters.size() == 2) {
 				Context newContext = new Context(context);
-				newContext = new Context(context);
 				newContext.setContextBindings(null);
 				newContext.setCurrentTuple(tuple);
 				newContext.setCurrentNode(node);
@@ -252,40 +261,17 @@ public class UpdateClauseInterpreter extends ExpressionInterpreterImpl<UpdateCla
 			 * get values to add or set
 			 */
 			Context newContext = new Context(context);
-			newContext = new Context(context);
 			newContext.setContextBindings(null);
 			newContext.setCurrentTuple(tuple);
 			newContext.setCurrentNode(node);
 			QueryMatches values = interpretValueExpression(runtime, newContext, valueInterpreter, optionalArguments);
-			Class<? extends IToken> anchor = getExpression().getAnchor();
 
 			/*
 			 * special handling for NULL as reifier
 			 */
 			if (AxisReifier.class.equals(anchor) && values.isEmpty()) {
 				if (interpreters.get(0).getTmqlTokens().contains(Null.class)) {
-					/*
-					 * perform update
-					 */
-					QueryMatches result = new UpdateHandler(runtime, context).update(node, null, anchor, null, getExpression().getOperator(), null);
-					if (!result.isEmpty()) {
-						if (!topicIds.isEmpty()) {
-							for (Map<String, Object> match : result) {
-								if (match.containsKey(IUpdateAlias.TOPICS)) {
-									if (match.get(IUpdateAlias.TOPICS) instanceof String) {
-										Set<String> set = HashUtil.getHashSet(topicIds);
-										set.add(match.get(IUpdateAlias.TOPICS).toString());
-										match.put(IUpdateAlias.TOPICS, set);
-									} else if (match.get(IUpdateAlias.TOPICS) instanceof Collection<?>) {
-										Set<String> set = HashUtil.getHashSet(topicIds);
-										set.addAll((Collection<String>) match.get(IUpdateAlias.TOPICS));
-										match.put(IUpdateAlias.TOPICS, set);
-									}
-								}
-							}
-						}
-						results.add(result.getMatches());
-					}
+					modifications.add(new Modification(node, null, null, null));
 				}
 			}
 			/*
@@ -321,34 +307,86 @@ public class UpdateClauseInterpreter extends ExpressionInterpreterImpl<UpdateCla
 							throw new TMQLRuntimeException("Cannot generate the datatype reference for " + ref + ".");
 						}
 					}
-					/*
-					 * perform update
-					 */
-					QueryMatches result = new UpdateHandler(runtime, context).update(node, value, anchor, optionalType, getExpression().getOperator(), optionalDatatype);
-					if (!result.isEmpty()) {
-						if (!topicIds.isEmpty()) {
-							for (Map<String, Object> match : result) {
-								if (match.containsKey(IUpdateAlias.TOPICS)) {
-									if (match.get(IUpdateAlias.TOPICS) instanceof String) {
-										Set<String> set = HashUtil.getHashSet(topicIds);
-										set.add(match.get(IUpdateAlias.TOPICS).toString());
-										match.put(IUpdateAlias.TOPICS, set);
-									} else if (match.get(IUpdateAlias.TOPICS) instanceof Collection<?>) {
-										Set<String> set = HashUtil.getHashSet(topicIds);
-										set.addAll((Collection<String>) match.get(IUpdateAlias.TOPICS));
-										match.put(IUpdateAlias.TOPICS, set);
-									}
-								}
-							}
-						}
-						results.add(result.getMatches());
-					}
+					modifications.add(new Modification(node, value, optionalType, optionalDatatype));
 				}
 			}
 		}
+		return applyModifications(runtime, context, anchor, modifications);
+	}
+
+	/**
+	 * Applies the collected modifications of the update-clause in one pass.
+	 * All modifications share the anchor and the operator of the update-clause
+	 * and are executed by the same {@link UpdateHandler}, so each topic
+	 * referenced as type, theme or player is resolved only once. The resolved
+	 * topics, the cached identifiers and the type hierarchy are invalidated
+	 * after each modification of identities or types, the cached literals are
+	 * invalidated after the last modification.
+	 * 
+	 * @param runtime
+	 *            the runtime which contains all necessary information for
+	 *            querying process
+	 * @param context
+	 *            the querying context
+	 * @param anchor
+	 *            the anchor of the update-clause
+	 * @param modifications
+	 *            the modifications
+	 * @return the query matches containing one result for each modification
+	 * @throws TMQLRuntimeException
+	 *             thrown if any modification fails
+	 */
+	private QueryMatches applyModifications(ITMQLRuntime runtime, IContext context, Class<? extends IToken> anchor, List<Modification> modifications)
+			throws TMQLRuntimeException {
+		QueryMatches results = new QueryMatches(runtime);
+		if (modifications.isEmpty()) {
+			return results;
+		}
+		UpdateHandler handler = new UpdateHandler(runtime, context);
+		boolean modifiesIdentities = modifiesIdentities(anchor);
+		try {
+			for (Modification modification : modifications) {
+				/*
+				 * perform update
+				 */
+				QueryMatches result = handler.update(modification.node, modification.value, anchor, modification.optionalType, getExpression().getOperator(),
+						modification.optionalDatatype);
+				if (!result.isEmpty()) {
+					results.add(result.getMatches());
+				}
+				/*
+				 * identities or types are modified and topics may be merged
+				 */
+				if (modifiesIdentities) {
+					handler.invalidate();
+					context.getResolutionCache().invalidate();
+					context.getTypeHierarchy().invalidate();
+				}
+			}
+		} finally {
+			/*
+			 * resolved item references and types may be modified
+			 */
+			context.getResolutionCache().invalidate();
+			context.getTypeHierarchy().invalidate();
+			runtime.getLiteralRangeIndex().invalidate();
+		}
 		return results;
 	}
 
+	/**
+	 * Checks if a modification of the given anchor may change the identity or
+	 * the types of a topic or merge two topics
+	 * 
+	 * @param anchor
+	 *            the anchor of the update-clause
+	 * @return <code>true</code> if identities or types may be changed
+	 */
+	private static boolean modifiesIdentities(Class<? extends IToken> anchor) {
+		return AxisLocators.class.equals(anchor) || AxisIndicators.class.equals(anchor) || AxisItem.class.equals(anchor) || AxisTypes.class.equals(anchor)
+				|| AxisInstances.class.equals(anchor) || AxisSupertypes.class.equals(anchor) || AxisSubtypes.class.equals(anchor);
+	}
+
 	/**
 	 * The method is called to interpret the given sub-expression by using the
 	 * given runtime. The interpretation will call the sub-expression if the
@@ -413,4 +451,46 @@ public class UpdateClauseInterpreter extends ExpressionInterpreterImpl<UpdateCla
 		return matches;
 	}
 
+	/**
+	 * A single modification of the update-clause
+	 * 
+	 * @since 3.2.0
+	 */
+	private static class Modification {
+		/**
+		 * the modified construct
+		 */
+		private final Object node;
+		/**
+		 * the value to set, add or remove
+		 */
+		private final Object value;
+		/**
+		 * the optional type
+		 */
+		private final Object optionalType;
+		/**
+		 * the optional datatype
+		 */
+		private final Locator optionalDatatype;
+
+		/**
+		 * constructor
+		 * 
+		 * @param node
+		 *            the modified construct
+		 * @param value
+		 *            the value to set, add or remove
+		 * @param optionalType
+		 *            the optional type or <code>null</code>
+		 * @param optionalDatatype
+		 *            the optional datatype or <code>null</code>
+		 */
+		private Modification(Object node, Object value, Object optionalType, Locator optionalDatatype) {
+			this.node = node;
+			this.value = value;
+			this.optionalType = optionalType;
+			this.optionalDatatype = optionalDatatype;
+		}
+	}
 }
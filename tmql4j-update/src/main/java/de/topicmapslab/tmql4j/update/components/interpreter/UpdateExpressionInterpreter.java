@@ -69,7 +69,11 @@ public class UpdateExpressionInterpreter extends ExpressionInterpreterImpl<Updat
 		}
 
 		QueryMatches results = new QueryMatches(runtime);
-		IResultProcessor resultProcessor = context.getTmqlProcessor().getResultProcessor();
+		IResultProcessor resultProcessor = context.getResultProcessor();
+		/*
+		 * the new indexes by alias, looked up once for each alias
+		 */
+		Map<String, String> indexes = HashUtil.getHashMap();
 		/*
 		 * iterate over update-clauses
 		 */
@@ -84,16 +88,21 @@ public class UpdateExpressionInterpreter extends ExpressionInterpreterImpl<Updat
 			for (Map<String, Object> tuple : matches) {
 				Map<String, Object> tuple_ = HashUtil.getHashMap();
 				for (Entry<String, Object> entry : tuple.entrySet()) {
-					int index = resultProcessor.getIndexOfAlias(entry.getKey());
-					if (index == -1) {
-						throw new TMQLRuntimeException("The update clause may define an alias index!");
+					String index = indexes.get(entry.getKey());
+					if (index == null) {
+						int i = resultProcessor.getIndexOfAlias(entry.getKey());
+						if (i == -1) {
+							throw new TMQLRuntimeException("The update clause may define an alias index!");
+						}
+						index = "$" + i;
+						indexes.put(entry.getKey(), index);
 					}
-					tuple_.put("$" + index, entry.getValue());
+					tuple_.put(index, entry.getValue());
 				}
 				results.add(tuple_);
 			}
 		}
-		context.getTmqlProcessor().getResultProcessor().setAutoReduction(false);
+		context.getResultProcessor().setAutoReduction(false);
 		return results;
 	}
 
@@ -40,7 +40,7 @@ public class ValueExpressionInterpreter extends ExpressionInterpreterImpl<ValueE
 	/**
 	 * The interpreter called to perform first interpretation task
 	 */
-	private de.topicmapslab.tmql4j.path.components.interpreter.ValueExpressionInterpreter redirectionInterpreter;
+	private final de.topicmapslab.tmql4j.path.components.interpreter.ValueExpressionInterpreter redirectionInterpreter;
 
 	public ValueExpressionInterpreter(ValueExpression ex) {
 		super(ex);
@@ -87,6 +87,10 @@ public class UpdateHandler {
 	 * the context
 	 */
 	private final IContext context;
+	/**
+	 * the topics resolved by this handler
+	 */
+	private final Map<Object, Topic> topics = HashUtil.getHashMap();
 
 	/**
 	 * base constructor to create a new instance
@@ -108,6 +112,17 @@ public class UpdateHandler {
 		}
 	}
 
+	/**
+	 * Removes all topics resolved by this handler. The method has to be called
+	 * after each modification which may change the identity or the types of a
+	 * topic or merge two topics.
+	 * 
+	 * @since 3.2.0
+	 */
+	public void invalidate() {
+		topics.clear();
+	}
+
 	public QueryMatches update(Object entry, Object value, Class<? extends IToken> anchor, Object optionalType, Class<? extends IToken> operator, Locator optionalDatatype) throws UpdateException {
 		if (anchor.equals(AxisLocators.class)) {
 			return updateLocators(entry, value, optionalType, operator);
@@ -191,8 +206,8 @@ public class UpdateHandler {
 		/*
 		 * modify result processor
 		 */
-		context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.TOPICS);
-		context.getTmqlProcessor().getResultProcessor().setAutoReduction(false);
+		context.getResultProcessor().setColumnAlias(0, IUpdateAlias.TOPICS);
+		context.getResultProcessor().setAutoReduction(false);
 		/*
 		 * create result
 		 */
@@ -202,7 +217,10 @@ public class UpdateHandler {
 	}
 
 	/**
-	 * Utility method to extract a topic from given entry
+	 * Utility method to extract a topic from given entry. Each topic is
+	 * resolved or created only once by the same handler, so a handler applying
+	 * a set of modifications looks up a type or theme referenced by many of
+	 * them only once.
 	 * 
 	 * @param entry
 	 *            the entry
@@ -222,7 +240,34 @@ public class UpdateHandler {
 		 */
 		if (entry instanceof Topic) {
 			return (Topic) entry;
-		} else if (entry instanceof Locator) {
+		}
+		Topic topic = topics.get(entry);
+		if (topic == null) {
+			topic = resolveTopic(entry, createNonExisting, topicIds);
+			if (topic != null) {
+				topics.put(entry, topic);
+			}
+		}
+		return topic;
+	}
+
+	/**
+	 * Utility method to resolve a topic by the given locator or string
+	 * 
+	 * @param entry
+	 *            the entry
+	 * @param createNonExisting
+	 *            flag indicates if the topic should be created by given locator
+	 *            or string if not exists
+	 * @param topicIds
+	 *            a collection to add the new topic id or <code>null</code>
+	 * @return the topic or <code>null</code> if the topic does not exists and
+	 *         should not created.
+	 * @throws TMQLRuntimeException
+	 *             thrown if the given string is not a valid IRI
+	 */
+	private Topic resolveTopic(Object entry, boolean createNonExisting, Collection<String> topicIds) throws TMQLRuntimeException {
+		if (entry instanceof Locator) {
 			Topic t = (Topic) runtime.getConstructResolver().getConstructByIdentifier(context, (((Locator) entry).getReference()));
 			if (t == null && createNonExisting) {
 				t = topicMap.createTopicBySubjectIdentifier((Locator) entry);
@@ -331,29 +376,29 @@ public class UpdateHandler {
 		/*
 		 * modify result processor
 		 */
-		context.getTmqlProcessor().getResultProcessor().setAutoReduction(false);
+		context.getResultProcessor().setAutoReduction(false);
 		/*
 		 * create result
 		 */
 		Map<String, Object> tuple = HashUtil.getHashMap();
 		if (construct instanceof Topic) {
 			tuple.put(IUpdateAlias.TOPICS, construct.getId());
-			context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.TOPICS);
+			context.getResultProcessor().setColumnAlias(0, IUpdateAlias.TOPICS);
 		} else if (construct instanceof Association) {
 			tuple.put(IUpdateAlias.ASSOCIATIONS, construct.getId());
-			context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.ASSOCIATIONS);
+			context.getResultProcessor().setColumnAlias(0, IUpdateAlias.ASSOCIATIONS);
 		} else if (construct instanceof Name) {
 			tuple.put(IUpdateAlias.NAMES, construct.getId());
-			context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.NAMES);
+			context.getResultProcessor().setColumnAlias(0, IUpdateAlias.NAMES);
 		} else if (construct instanceof Occurrence) {
 			tuple.put(IUpdateAlias.OCCURRENCES, construct.getId());
-			context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.OCCURRENCES);
+			context.getResultProcessor().setColumnAlias(0, IUpdateAlias.OCCURRENCES);
 		} else if (construct instanceof Variant) {
 			tuple.put(IUpdateAlias.VARIANTS, construct.getId());
-			context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.VARIANTS);
+			context.getResultProcessor().setColumnAlias(0, IUpdateAlias.VARIANTS);
 		} else if (construct instanceof Role) {
 			tuple.put(IUpdateAlias.ROLES, construct.getId());
-			context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.ROLES);
+			context.getResultProcessor().setColumnAlias(0, IUpdateAlias.ROLES);
 		}
 		return QueryMatches.asQueryMatchNS(runtime, tuple);
 	}
@@ -368,8 +413,8 @@ public class UpdateHandler {
 				/*
 				 * modify result processor
 				 */
-				context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.NAMES);
-				context.getTmqlProcessor().getResultProcessor().setAutoReduction(false);
+				context.getResultProcessor().setColumnAlias(0, IUpdateAlias.NAMES);
+				context.getResultProcessor().setAutoReduction(false);
 				/*
 				 * create result
 				 */
@@ -389,8 +434,8 @@ public class UpdateHandler {
 				/*
 				 * modify result processor
 				 */
-				context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.NAMES);
-				context.getTmqlProcessor().getResultProcessor().setAutoReduction(false);
+				context.getResultProcessor().setColumnAlias(0, IUpdateAlias.NAMES);
+				context.getResultProcessor().setAutoReduction(false);
 				/*
 				 * create result
 				 */
@@ -414,9 +459,9 @@ public class UpdateHandler {
 				/*
 				 * modify result processor
 				 */
-				context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.NAMES);
-				context.getTmqlProcessor().getResultProcessor().setColumnAlias(1, IUpdateAlias.TOPICS);
-				context.getTmqlProcessor().getResultProcessor().setAutoReduction(false);
+				context.getResultProcessor().setColumnAlias(0, IUpdateAlias.NAMES);
+				context.getResultProcessor().setColumnAlias(1, IUpdateAlias.TOPICS);
+				context.getResultProcessor().setAutoReduction(false);
 				/*
 				 * create result
 				 */
@@ -448,8 +493,8 @@ public class UpdateHandler {
 				/*
 				 * modify result processor
 				 */
-				context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.VARIANTS);
-				context.getTmqlProcessor().getResultProcessor().setAutoReduction(false);
+				context.getResultProcessor().setColumnAlias(0, IUpdateAlias.VARIANTS);
+				context.getResultProcessor().setAutoReduction(false);
 				/*
 				 * create result
 				 */
@@ -469,8 +514,8 @@ public class UpdateHandler {
 				/*
 				 * modify result processor
 				 */
-				context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.VARIANTS);
-				context.getTmqlProcessor().getResultProcessor().setAutoReduction(false);
+				context.getResultProcessor().setColumnAlias(0, IUpdateAlias.VARIANTS);
+				context.getResultProcessor().setAutoReduction(false);
 				/*
 				 * create result
 				 */
@@ -502,12 +547,12 @@ public class UpdateHandler {
 				/*
 				 * modify result processor
 				 */
-				context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.VARIANTS);
-				context.getTmqlProcessor().getResultProcessor().setColumnAlias(1, IUpdateAlias.NAMES);
+				context.getResultProcessor().setColumnAlias(0, IUpdateAlias.VARIANTS);
+				context.getResultProcessor().setColumnAlias(1, IUpdateAlias.NAMES);
 				if (!topicIds.isEmpty()) {
-					context.getTmqlProcessor().getResultProcessor().setColumnAlias(2, IUpdateAlias.TOPICS);
+					context.getResultProcessor().setColumnAlias(2, IUpdateAlias.TOPICS);
 				}
-				context.getTmqlProcessor().getResultProcessor().setAutoReduction(false);
+				context.getResultProcessor().setAutoReduction(false);
 				/*
 				 * create result
 				 */
@@ -591,8 +636,8 @@ public class UpdateHandler {
 				/*
 				 * modify result processor
 				 */
-				context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.OCCURRENCES);
-				context.getTmqlProcessor().getResultProcessor().setAutoReduction(false);
+				context.getResultProcessor().setColumnAlias(0, IUpdateAlias.OCCURRENCES);
+				context.getResultProcessor().setAutoReduction(false);
 				/*
 				 * create result
 				 */
@@ -612,8 +657,8 @@ public class UpdateHandler {
 				/*
 				 * modify result processor
 				 */
-				context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.OCCURRENCES);
-				context.getTmqlProcessor().getResultProcessor().setAutoReduction(false);
+				context.getResultProcessor().setColumnAlias(0, IUpdateAlias.OCCURRENCES);
+				context.getResultProcessor().setAutoReduction(false);
 				/*
 				 * create result
 				 */
@@ -644,9 +689,9 @@ public class UpdateHandler {
 				/*
 				 * modify result processor
 				 */
-				context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.OCCURRENCES);
-				context.getTmqlProcessor().getResultProcessor().setColumnAlias(1, IUpdateAlias.TOPICS);
-				context.getTmqlProcessor().getResultProcessor().setAutoReduction(false);
+				context.getResultProcessor().setColumnAlias(0, IUpdateAlias.OCCURRENCES);
+				context.getResultProcessor().setColumnAlias(1, IUpdateAlias.TOPICS);
+				context.getResultProcessor().setAutoReduction(false);
 				/*
 				 * create result
 				 */
@@ -704,27 +749,27 @@ public class UpdateHandler {
 		/*
 		 * modify result processor
 		 */
-		context.getTmqlProcessor().getResultProcessor().setAutoReduction(false);
+		context.getResultProcessor().setAutoReduction(false);
 		/*
 		 * create result
 		 */
 		Map<String, Object> tuple = HashUtil.getHashMap();
 		if (scoped instanceof Association) {
 			tuple.put(IUpdateAlias.ASSOCIATIONS, scoped.getId());
-			context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.ASSOCIATIONS);
+			context.getResultProcessor().setColumnAlias(0, IUpdateAlias.ASSOCIATIONS);
 		} else if (scoped instanceof Name) {
 			tuple.put(IUpdateAlias.NAMES, scoped.getId());
-			context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.NAMES);
+			context.getResultProcessor().setColumnAlias(0, IUpdateAlias.NAMES);
 		} else if (scoped instanceof Occurrence) {
 			tuple.put(IUpdateAlias.OCCURRENCES, scoped.getId());
-			context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.OCCURRENCES);
+			context.getResultProcessor().setColumnAlias(0, IUpdateAlias.OCCURRENCES);
 		} else if (scoped instanceof Variant) {
 			tuple.put(IUpdateAlias.VARIANTS, scoped.getId());
-			context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.VARIANTS);
+			context.getResultProcessor().setColumnAlias(0, IUpdateAlias.VARIANTS);
 		}
 		if (!topicIds.isEmpty()) {
 			tuple.put(IUpdateAlias.TOPICS, topicIds);
-			context.getTmqlProcessor().getResultProcessor().setColumnAlias(1, IUpdateAlias.TOPICS);
+			context.getResultProcessor().setColumnAlias(1, IUpdateAlias.TOPICS);
 		}
 		return QueryMatches.asQueryMatchNS(runtime, tuple);
 	}
@@ -739,27 +784,27 @@ public class UpdateHandler {
 				/*
 				 * modify result processor
 				 */
-				context.getTmqlProcessor().getResultProcessor().setAutoReduction(false);
+				context.getResultProcessor().setAutoReduction(false);
 				/*
 				 * create result
 				 */
 				Map<String, Object> tuple = HashUtil.getHashMap();
 				if (typed instanceof Association) {
 					tuple.put(IUpdateAlias.ASSOCIATIONS, typed.getId());
-					context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.ASSOCIATIONS);
+					context.getResultProcessor().setColumnAlias(0, IUpdateAlias.ASSOCIATIONS);
 				} else if (typed instanceof Name) {
 					tuple.put(IUpdateAlias.NAMES, typed.getId());
-					context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.NAMES);
+					context.getResultProcessor().setColumnAlias(0, IUpdateAlias.NAMES);
 				} else if (typed instanceof Occurrence) {
 					tuple.put(IUpdateAlias.OCCURRENCES, typed.getId());
-					context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.OCCURRENCES);
+					context.getResultProcessor().setColumnAlias(0, IUpdateAlias.OCCURRENCES);
 				} else if (typed instanceof Role) {
 					tuple.put(IUpdateAlias.ROLES, typed.getId());
-					context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.ROLES);
+					context.getResultProcessor().setColumnAlias(0, IUpdateAlias.ROLES);
 				}
 				if (!topicIds.isEmpty()) {
 					tuple.put(IUpdateAlias.TOPICS, topicIds);
-					context.getTmqlProcessor().getResultProcessor().setColumnAlias(1, IUpdateAlias.TOPICS);
+					context.getResultProcessor().setColumnAlias(1, IUpdateAlias.TOPICS);
 				}
 				return QueryMatches.asQueryMatchNS(runtime, tuple);
 			}
@@ -783,8 +828,8 @@ public class UpdateHandler {
 			/*
 			 * modify result processor
 			 */
-			context.getTmqlProcessor().getResultProcessor().setAutoReduction(false);
-			context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.TOPICS);
+			context.getResultProcessor().setAutoReduction(false);
+			context.getResultProcessor().setColumnAlias(0, IUpdateAlias.TOPICS);
 			/*
 			 * create result
 			 */
@@ -828,11 +873,11 @@ public class UpdateHandler {
 		/*
 		 * modify result processor
 		 */
-		context.getTmqlProcessor().getResultProcessor().setAutoReduction(false);
-		context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.TOPICS);
+		context.getResultProcessor().setAutoReduction(false);
+		context.getResultProcessor().setColumnAlias(0, IUpdateAlias.TOPICS);
 		if (tuple.containsKey(IUpdateAlias.ASSOCIATIONS)) {
-			context.getTmqlProcessor().getResultProcessor().setColumnAlias(1, IUpdateAlias.ASSOCIATIONS);
-			context.getTmqlProcessor().getResultProcessor().setColumnAlias(2, IUpdateAlias.ROLES);
+			context.getResultProcessor().setColumnAlias(1, IUpdateAlias.ASSOCIATIONS);
+			context.getResultProcessor().setColumnAlias(2, IUpdateAlias.ROLES);
 		}
 		/*
 		 * create result
@@ -874,18 +919,18 @@ public class UpdateHandler {
 			/*
 			 * modify result processor
 			 */
-			context.getTmqlProcessor().getResultProcessor().setAutoReduction(false);
+			context.getResultProcessor().setAutoReduction(false);
 			/*
 			 * create result
 			 */
 			Map<String, Object> tuple = HashUtil.getHashMap();
 			if (!topicIds.isEmpty()) {
 				tuple.put(IUpdateAlias.TOPICS, topicIds);
-				context.getTmqlProcessor().getResultProcessor().setColumnAlias(1, IUpdateAlias.TOPICS);
+				context.getResultProcessor().setColumnAlias(1, IUpdateAlias.TOPICS);
 			}
 			if (!roleIds.isEmpty()) {
 				tuple.put(IUpdateAlias.ROLES, roleIds);
-				context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.ROLES);
+				context.getResultProcessor().setColumnAlias(0, IUpdateAlias.ROLES);
 			}
 			if (tuple.isEmpty()) {
 				return QueryMatches.emptyMatches();
@@ -926,8 +971,8 @@ public class UpdateHandler {
 				/*
 				 * modify result processor
 				 */
-				context.getTmqlProcessor().getResultProcessor().setAutoReduction(false);
-				context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.ROLES);
+				context.getResultProcessor().setAutoReduction(false);
+				context.getResultProcessor().setColumnAlias(0, IUpdateAlias.ROLES);
 
 				/*
 				 * create results
@@ -973,30 +1018,30 @@ public class UpdateHandler {
 		/*
 		 * modify result processor
 		 */
-		context.getTmqlProcessor().getResultProcessor().setAutoReduction(false);
+		context.getResultProcessor().setAutoReduction(false);
 		/*
 		 * create results
 		 */
 		Map<String, Object> tuple = HashUtil.getHashMap();
 		if (reifiable instanceof Name) {
 			tuple.put(IUpdateAlias.NAMES, reifiable.getId());
-			context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.NAMES);
+			context.getResultProcessor().setColumnAlias(0, IUpdateAlias.NAMES);
 		} else if (reifiable instanceof Occurrence) {
 			tuple.put(IUpdateAlias.OCCURRENCES, reifiable.getId());
-			context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.OCCURRENCES);
+			context.getResultProcessor().setColumnAlias(0, IUpdateAlias.OCCURRENCES);
 		} else if (reifiable instanceof Variant) {
 			tuple.put(IUpdateAlias.VARIANTS, reifiable.getId());
-			context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.VARIANTS);
+			context.getResultProcessor().setColumnAlias(0, IUpdateAlias.VARIANTS);
 		} else if (reifiable instanceof Association) {
 			tuple.put(IUpdateAlias.ASSOCIATIONS, reifiable.getId());
-			context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.ASSOCIATIONS);
+			context.getResultProcessor().setColumnAlias(0, IUpdateAlias.ASSOCIATIONS);
 		} else if (reifiable instanceof Role) {
 			tuple.put(IUpdateAlias.ROLES, reifiable.getId());
-			context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.ROLES);
+			context.getResultProcessor().setColumnAlias(0, IUpdateAlias.ROLES);
 		}
 		if (!topicIds.isEmpty()) {
 			tuple.put(IUpdateAlias.TOPICS, topicIds);
-			context.getTmqlProcessor().getResultProcessor().setColumnAlias(1, IUpdateAlias.TOPICS);
+			context.getResultProcessor().setColumnAlias(1, IUpdateAlias.TOPICS);
 		}
 		QueryMatches matches = new QueryMatches(runtime);
 		matches.add(tuple);
@@ -1021,7 +1066,7 @@ public class UpdateHandler {
 		/*
 		 * modify result processor
 		 */
-		context.getTmqlProcessor().getResultProcessor().setAutoReduction(false);
+		context.getResultProcessor().setAutoReduction(false);
 
 		/*
 		 * create results
@@ -1029,12 +1074,12 @@ public class UpdateHandler {
 		Map<String, Object> tuple = HashUtil.getHashMap();
 		Role role = association.createRole(roleType_, player_);
 		tuple.put(IUpdateAlias.ROLES, role.getId());
-		context.getTmqlProcessor().getResultProcessor().setColumnAlias(1, IUpdateAlias.ROLES);
+		context.getResultProcessor().setColumnAlias(1, IUpdateAlias.ROLES);
 		tuple.put(IUpdateAlias.ASSOCIATIONS, association.getId());
-		context.getTmqlProcessor().getResultProcessor().setColumnAlias(0, IUpdateAlias.ASSOCIATIONS);
+		context.getResultProcessor().setColumnAlias(0, IUpdateAlias.ASSOCIATIONS);
 		if (!topicIds.isEmpty()) {
 			tuple.put(IUpdateAlias.TOPICS, topicIds);
-			context.getTmqlProcessor().getResultProcessor().setColumnAlias(2, IUpdateAlias.TOPICS);
+			context.getResultProcessor().setColumnAlias(2, IUpdateAlias.TOPICS);
 		}
 		QueryMatches matches = new QueryMatches(runtime);
 		matches.add(tuple);
@@ -13,9 +13,12 @@ import static junit.framework.Assert.assertNotNull;
 import static junit.framework.Assert.assertNull;
 import static junit.framework.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 
+import org.junit.Ignore;
 import org.junit.Test;
 import org.tmapi.core.Association;
 import org.tmapi.core.Locator;
@@ -1232,4 +1235,60 @@ public class TestUpdateExpression extends Tmql4JTestCase {
 		assertEquals(1, a.getRoles().size());
 		assertEquals(t, a.getRoles().iterator().next().getPlayer());
 	}
+
+	@Test
+	public void testAddOccurrenceToAllInstances() throws Exception {
+		Topic type = createTopicBySI("myType");
+		List<Topic> topics = new ArrayList<Topic>();
+		for (int i = 0; i < 100; i++) {
+			Topic topic = createTopic();
+			topic.addType(type);
+			topics.add(topic);
+		}
+		int numberOfTopics = topicMap.getTopics().size();
+
+		String query = " UPDATE occurrences myOccurrenceType ADD \"Value\" WHERE myType >> instances ";
+		SimpleResultSet set = execute(new TMQLQuery(topicMap, query));
+		assertEquals(100, set.size());
+		/*
+		 * the new occurrence type is created once
+		 */
+		Topic occurrenceType = topicMap.getTopicBySubjectIdentifier(createLocator("myOccurrenceType"));
+		assertNotNull(occurrenceType);
+		assertEquals(numberOfTopics + 1, topicMap.getTopics().size());
+		for (Topic topic : topics) {
+			assertEquals(1, topic.getOccurrences().size());
+			assertEquals("Value", topic.getOccurrences().iterator().next().getValue());
+			assertEquals(occurrenceType, topic.getOccurrences().iterator().next().getType());
+		}
+
+		query = " UPDATE occurrences SET \"New Value\" WHERE myType >> instances >> characteristics myOccurrenceType ";
+		set = execute(new TMQLQuery(topicMap, query));
+		assertEquals(100, set.size());
+		for (Topic topic : topics) {
+			assertEquals("New Value", topic.getOccurrences().iterator().next().getValue());
+		}
+	}
+
+	/**
+	 * Measures the update of one occurrence of many topics. Ignored by default
+	 * because it is a performance measurement.
+	 */
+	@Ignore
+	@Test
+	public void testSetOccurrencesThroughput() throws Exception {
+		final int number = 200000;
+		Topic type = createTopicBySI("myType");
+		Topic occurrenceType = createTopicBySI("myOccurrenceType");
+		for (int i = 0; i < number; i++) {
+			Topic topic = createTopic();
+			topic.addType(type);
+			topic.createOccurrence(occurrenceType, "Value");
+		}
+		long time = System.currentTimeMillis();
+		String query = " UPDATE occurrences SET \"New Value\" WHERE myType >> instances >> characteristics myOccurrenceType ";
+		SimpleResultSet set = execute(new TMQLQuery(topicMap, query));
+		System.out.println("Update of " + number + " occurrences: " + (System.currentTimeMillis() - time) + " ms");
+		assertEquals(number, set.size());
+	}
 }